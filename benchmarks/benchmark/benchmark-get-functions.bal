@@ -1,6 +1,8 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkregexp;
+import benchmarkcalls;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +19,8 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addRegexpFunctions();
+    addFunctionCallFunctions();
 }
 
 function addJSONFunctions() {
@@ -140,3 +144,20 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addRegexpFunctions() {
+    functions["benchmarkRegexpFind"] = benchmarkregexp:benchmarkRegexpFind;
+    functions["benchmarkRegexpFindAll"] = benchmarkregexp:benchmarkRegexpFindAll;
+    functions["benchmarkRegexpMatchAt"] = benchmarkregexp:benchmarkRegexpMatchAt;
+    functions["benchmarkRegexpReplaceAll"] = benchmarkregexp:benchmarkRegexpReplaceAll;
+    functions["benchmarkRegexpSplit"] = benchmarkregexp:benchmarkRegexpSplit;
+    functions["benchmarkRegexpFromStringFind"] = benchmarkregexp:benchmarkRegexpFromStringFind;
+}
+
+function addFunctionCallFunctions() {
+    functions["benchmarkIntHelperCalls"] = benchmarkcalls:benchmarkIntHelperCalls;
+    functions["benchmarkFloatHelperCalls"] = benchmarkcalls:benchmarkFloatHelperCalls;
+    functions["benchmarkGetterCalls"] = benchmarkcalls:benchmarkGetterCalls;
+    functions["benchmarkConditionHelperCalls"] = benchmarkcalls:benchmarkConditionHelperCalls;
+    functions["benchmarkGlobalUpdateCalls"] = benchmarkcalls:benchmarkGlobalUpdateCalls;
+}
@@ -0,0 +1,65 @@
+type Point record {|
+    int x;
+    int y;
+|};
+
+const int CALL_COUNT = 1000;
+
+int callCounter = 0;
+
+function add(int a, int b) returns int {
+    return a + b;
+}
+
+function scale(float value, float factor) returns float {
+    return value * factor;
+}
+
+function getX(Point p) returns int {
+    return p.x;
+}
+
+function isPositive(int value) returns boolean {
+    return value > 0;
+}
+
+function incrementCounter() {
+    callCounter += 1;
+}
+
+public function benchmarkIntHelperCalls() {
+    int sum = 0;
+    foreach int i in 0 ..< CALL_COUNT {
+        sum = add(sum, i);
+    }
+}
+
+public function benchmarkFloatHelperCalls() {
+    float value = 1.0;
+    foreach int i in 0 ..< CALL_COUNT {
+        value = scale(value, 1.0001);
+    }
+}
+
+public function benchmarkGetterCalls() {
+    Point p = {x: 3, y: 4};
+    int sum = 0;
+    foreach int i in 0 ..< CALL_COUNT {
+        sum = add(sum, getX(p));
+    }
+}
+
+public function benchmarkConditionHelperCalls() {
+    int count = 0;
+    foreach int i in 0 ..< CALL_COUNT {
+        if isPositive(i) {
+            count += 1;
+        }
+    }
+}
+
+public function benchmarkGlobalUpdateCalls() {
+    foreach int i in 0 ..< CALL_COUNT {
+        incrementCounter();
+    }
+}
@@ -0,0 +1,33 @@
+import ballerina/lang.regexp;
+
+public function benchmarkRegexpFind() {
+    string s = "GET /orders/1234/items?limit=20 HTTP/1.1";
+    regexp:Span? result = re `[0-9]+`.find(s);
+}
+
+public function benchmarkRegexpFindAll() {
+    string s = "id=10, id=20, id=30, id=40, id=50";
+    regexp:Span[] result = re `id=[0-9]+`.findAll(s);
+}
+
+public function benchmarkRegexpMatchAt() {
+    string s = "2023-06-15T10:15:30Z";
+    regexp:Span? result = re `[0-9]{4}-[0-9]{2}-[0-9]{2}`.matchAt(s);
+}
+
+public function benchmarkRegexpReplaceAll() {
+    string s = "This   is  a   test for   string   with extra spaces.";
+    string result = re `\s+`.replaceAll(s, " ");
+}
+
+public function benchmarkRegexpSplit() {
+    string s = "name,age;city , country;zip";
+    string[] result = re `\s*[,;]\s*`.split(s);
+}
+
+public function benchmarkRegexpFromStringFind() {
+    string:RegExp|error regExp = regexp:fromString("[A-Z][a-z]+");
+    if regExp is string:RegExp {
+        regexp:Span? result = regExp.find("the Ballerina language");
+    }
+}
@@ -68,6 +68,7 @@ public class Profiler {
     private final List<String> utilPaths = new ArrayList<>();
     private int balFunctionCount = 0;
     private int moduleCount = 0;
+    private int samplingInterval = 0;
     private final ProfilerMethodWrapper profilerMethodWrapper;
 
     public Profiler(long profilerStartTime) {
@@ -159,6 +160,10 @@ public class Profiler {
                     this.targetDir = args[i + 1];
                     addToUsedArgs(args, usedArgs, i);
                 }
+                case "--sampling-interval" -> {
+                    this.samplingInterval = extractSamplingInterval(args[i + 1]);
+                    addToUsedArgs(args, usedArgs, i);
+                }
                 default -> handleUnrecognizedArgument(args[i], usedArgs);
             }
         }
@@ -185,6 +190,18 @@ public class Profiler {
         return value.substring(1, value.length() - 1);
     }
 
+    private int extractSamplingInterval(String value) {
+        try {
+            int interval = Integer.parseInt(value);
+            if (interval > 0) {
+                return interval;
+            }
+        } catch (NumberFormatException ignored) {
+            // Handled below
+        }
+        throw new ProfilerException("Invalid sampling interval found: " + value);
+    }
+
     private void handleUnrecognizedArgument(String argument, List<String> usedArgs) {
         if (!usedArgs.contains(argument)) {
             throw new ProfilerException("Unrecognized argument found: " + argument);
@@ -199,7 +216,7 @@ public class Profiler {
     private void extractProfiler() throws ProfilerException {
         OUT_STREAM.printf("%s[1/6] Initializing...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
         try {
-            new ProcessBuilder("jar", "xvf", "Profiler.jar", "io/ballerina/runtime/profiler/runtime").start().waitFor();
+            new ProcessBuilder("jar", "xvf", "Profiler.jar", Constants.PROFILER_RUNTIME_PATH).start().waitFor();
         } catch (IOException | InterruptedException exception) {
             throw new ProfilerException(exception);
         }
@@ -225,6 +242,10 @@ public class Profiler {
         } catch (Exception e) {
             throw new ProfilerException("error occurred while performing analysis", e);
         }
+        if (samplingInterval > 0) {
+            initializeSampling(classNames);
+            return;
+        }
         OUT_STREAM.printf("%s[4/6] Instrumenting functions...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
         try (JarFile jarFile = new JarFile(balJarName)) {
             String mainClassPackage = profilerMethodWrapper.mainClassFinder(new URLClassLoader(new URL[]{
@@ -236,7 +257,7 @@ public class Profiler {
                 if (mainClassPackage == null) {
                     continue;
                 }
-                if (className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className)) {
+                if (isProfiledClass(className, mainClassPackage)) {
                     try (InputStream inputStream = jarFile.getInputStream(jarFile.getJarEntry(className))) {
                         byte[] code = profilerMethodWrapper.modifyMethods(inputStream);
                         profilerClassLoader.loadClass(code);
@@ -249,9 +270,7 @@ public class Profiler {
                 }
             }
             OUT_STREAM.printf(" ○ Instrumented module count: %d%n", moduleCount);
-            try (PrintWriter printWriter = new PrintWriter("usedPathsList.txt", StandardCharsets.UTF_8)) {
-                printWriter.println(String.join(", ", usedPaths));
-            }
+            writeUsedPaths(usedPaths);
             OUT_STREAM.printf(" ○ Instrumented function count: %d%n", balFunctionCount);
             modifyJar();
         } catch (Throwable throwable) {
@@ -259,6 +278,49 @@ public class Profiler {
         }
     }
 
+    // Runs the program without instrumentation, while the stack sampler samples the stacks of its threads
+    private void initializeSampling(List<String> classNames) {
+        OUT_STREAM.printf("%s[4/6] Preparing stack sampling...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
+        try {
+            String mainClassPackage = profilerMethodWrapper.mainClassFinder(new URLClassLoader(new URL[]{
+                    new File(balJarName).toURI().toURL()}));
+            if (mainClassPackage == null) {
+                throw new ProfilerException("Main class not found in: " + balJarName);
+            }
+            Set<String> usedPaths = new HashSet<>();
+            for (String className : classNames) {
+                if (isProfiledClass(className, mainClassPackage)) {
+                    usedPaths.add(className.replace(Constants.CLASS_SUFFIX, "").replace("/", "."));
+                }
+                if (className.endsWith("/$_init.class")) {
+                    moduleCount++;
+                }
+            }
+            OUT_STREAM.printf(" ○ Sampled module count: %d%n", moduleCount);
+            writeUsedPaths(usedPaths);
+            OUT_STREAM.printf(" ○ Sampling interval: %d ms%n", samplingInterval);
+            try {
+                loadDirectories(List.of(Constants.PROFILER_RUNTIME_PATH));
+            } finally {
+                FileUtils.deleteDirectory(new File(Constants.PROFILER_RUNTIME_PATH));
+            }
+            profilerMethodWrapper.invokeMethodsWithSampling(mainClassPackage.replace("/", ".") + ".$_init",
+                    samplingInterval);
+        } catch (Throwable throwable) {
+            throw new ProfilerException(throwable);
+        }
+    }
+
+    private boolean isProfiledClass(String className, String mainClassPackage) {
+        return className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className);
+    }
+
+    private void writeUsedPaths(Set<String> usedPaths) throws IOException {
+        try (PrintWriter printWriter = new PrintWriter("usedPathsList.txt", StandardCharsets.UTF_8)) {
+            printWriter.println(String.join(", ", usedPaths));
+        }
+    }
+
     private void modifyJar() throws InterruptedException, IOException {
         try {
             final File userDirectory = new File(System.getProperty("user.dir")); // Get the user directory
@@ -270,7 +332,7 @@ public class Profiler {
             for (String instrumentedFilePath : instrumentedPaths) {
                 FileUtils.deleteDirectory(new File(instrumentedFilePath));
             }
-            FileUtils.deleteDirectory(new File("io/ballerina/runtime/profiler/runtime"));
+            FileUtils.deleteDirectory(new File(Constants.PROFILER_RUNTIME_PATH));
             profilerMethodWrapper.invokeMethods();
         }
     }
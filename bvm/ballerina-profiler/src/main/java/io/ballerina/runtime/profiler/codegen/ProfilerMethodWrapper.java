@@ -49,11 +49,21 @@ import static io.ballerina.runtime.profiler.util.Constants.OUT_STREAM;
 public class ProfilerMethodWrapper extends ClassLoader {
 
     public void invokeMethods() throws IOException, InterruptedException {
+        runExecutable(new String[]{"java", "-jar", Constants.TEMP_JAR_FILE_NAME});
+    }
+
+    // Runs the executable through the stack sampler, which samples the stacks instead of instrumented functions
+    public void invokeMethodsWithSampling(String mainClassName, int samplingInterval)
+            throws IOException, InterruptedException {
+        runExecutable(new String[]{"java", "-cp", Constants.TEMP_JAR_FILE_NAME, Constants.STACK_SAMPLER,
+                String.valueOf(samplingInterval), mainClassName});
+    }
+
+    private void runExecutable(String[] command) throws IOException, InterruptedException {
         String balJarArgs = Main.getBalJarArgs();
-        String[] command = {"java", "-jar", Constants.TEMP_JAR_FILE_NAME};
         if (balJarArgs != null) {
             command = Arrays.copyOf(command, command.length + 1);
-            command[3] = balJarArgs;
+            command[command.length - 1] = balJarArgs;
         }
         ProcessBuilder processBuilder = new ProcessBuilder(command);
         processBuilder.redirectErrorStream(true);
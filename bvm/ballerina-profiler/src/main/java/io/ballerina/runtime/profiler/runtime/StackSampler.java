@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import io.ballerina.identifier.Utils;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class is used as the sampling profiler of the Ballerina profiler. Instead of instrumenting the functions, it
+ * launches the program and periodically samples the stacks of the running threads. The Ballerina frames of the
+ * samples are merged into a call tree, and the time of each call path is estimated from the number of samples it
+ * appeared in. The call paths are written in the same format as the {@link ProfileAnalyzer}.
+ *
+ * @since 2201.8.0
+ */
+public class StackSampler implements Runnable {
+
+    private static final String ROOT_FRAME = "Root";
+    private static final String CONFIGURE_INIT_METHOD = "$configureInit";
+
+    private final long samplingInterval;
+    private final Set<String> profiledClasses;
+    private final SampleNode root = new SampleNode(ROOT_FRAME);
+    private final Map<StackTraceElement, String> frameNames = new HashMap<>();
+    private final List<String> stackFrames = new ArrayList<>();
+    private boolean stopped = false;
+
+    StackSampler(long samplingInterval, Set<String> profiledClasses) {
+        this.samplingInterval = samplingInterval;
+        this.profiledClasses = profiledClasses;
+    }
+
+    /**
+     * Starts sampling and runs the main method of the program.
+     *
+     * @param args sampling interval in milliseconds, main class of the program and the program arguments
+     * @throws Throwable the error thrown by the program
+     */
+    public static void main(String[] args) throws Throwable {
+        long samplingInterval = Long.parseLong(args[0]);
+        Method mainMethod = Class.forName(args[1]).getMethod("main", String[].class);
+        StackSampler sampler = new StackSampler(samplingInterval, readProfiledClasses());
+        Runtime.getRuntime().addShutdownHook(new Thread(sampler::stopAndWriteProfile));
+        Thread samplerThread = new Thread(sampler, "ballerina-profiler-sampler");
+        samplerThread.setDaemon(true);
+        samplerThread.start();
+        try {
+            mainMethod.invoke(null, (Object) Arrays.copyOfRange(args, 2, args.length));
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Set<String> readProfiledClasses() {
+        try {
+            String content = Files.readString(Paths.get("usedPathsList.txt"));
+            return new HashSet<>(Arrays.asList(content.trim().split(", ")));
+        } catch (IOException e) {
+            throw new ProfilerRuntimeException("Error occurred while reading the usedPathsList.txt file");
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            try {
+                Thread.sleep(samplingInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (!sample(Thread.getAllStackTraces())) {
+                return;
+            }
+        }
+    }
+
+    synchronized boolean sample(Map<Thread, StackTraceElement[]> threadStacks) {
+        if (stopped) {
+            return false;
+        }
+        Thread samplerThread = Thread.currentThread();
+        for (Map.Entry<Thread, StackTraceElement[]> threadStack : threadStacks.entrySet()) {
+            Thread thread = threadStack.getKey();
+            if (thread != samplerThread && thread.getState() == Thread.State.RUNNABLE) {
+                addSample(threadStack.getValue());
+            }
+        }
+        return true;
+    }
+
+    private void addSample(StackTraceElement[] stack) {
+        stackFrames.clear();
+        // Stack traces start from the top most frame, whereas the call paths start from the bottom most frame
+        for (int i = stack.length - 1; i >= 0; i--) {
+            StackTraceElement element = stack[i];
+            if (!profiledClasses.contains(element.getClassName())) {
+                continue;
+            }
+            if (element.getMethodName().equals(CONFIGURE_INIT_METHOD)) {
+                return;
+            }
+            stackFrames.add(frameNames.computeIfAbsent(element, StackSampler::getFrameName));
+        }
+        if (stackFrames.isEmpty()) {
+            return;
+        }
+
+        SampleNode node = root;
+        node.samples++;
+        for (String frame : stackFrames) {
+            node = node.children.computeIfAbsent(frame, SampleNode::new);
+            node.samples++;
+        }
+    }
+
+    // Returns the frame name in the format used by the ProfileAnalyzer, along with the source location of the frame,
+    // e.g. "org/app/0/main.foo(main.bal:12)"
+    private static String getFrameName(StackTraceElement element) {
+        String frameName = element.getClassName().replace('.', '/') + "." + element.getMethodName();
+        if (element.getFileName() != null && element.getLineNumber() > 0) {
+            frameName += "(" + element.getFileName() + ":" + element.getLineNumber() + ")";
+        } else {
+            frameName += "()";
+        }
+        return Utils.decodeIdentifier(frameName);
+    }
+
+    synchronized String getProfileStackString() {
+        StringBuilder sb = new StringBuilder("[");
+        List<String> path = new ArrayList<>();
+        appendCallPaths(sb, root, path);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    private void appendCallPaths(StringBuilder sb, SampleNode node, List<String> path) {
+        path.add(node.frame);
+        sb.append("{\"time\": \"").append(node.samples * samplingInterval).append("\", \"stackTrace\": [");
+        for (int i = 0; i < path.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            appendJsonString(sb, path.get(i));
+        }
+        sb.append("]},\n");
+        for (SampleNode child : node.children.values()) {
+            appendCallPaths(sb, child, path);
+        }
+        path.remove(path.size() - 1);
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    private void stopAndWriteProfile() {
+        String profile;
+        synchronized (this) {
+            stopped = true;
+            profile = getProfileStackString();
+        }
+        try (Writer writer = new FileWriter("CpuPre.json", StandardCharsets.UTF_8)) {
+            writer.write(profile);
+        } catch (IOException e) {
+            throw new ProfilerRuntimeException("Error occurred while writing to the CpuPre.json file");
+        }
+    }
+
+    /**
+     * A frame of the call tree built from the samples.
+     */
+    private static class SampleNode {
+
+        private final String frame;
+        private final Map<String, SampleNode> children = new LinkedHashMap<>();
+        private long samples;
+
+        SampleNode(String frame) {
+            this.frame = frame;
+        }
+    }
+}
@@ -22,6 +22,8 @@ public class Constants {
     public static final String CLASS_SUFFIX = ".class";
     public   static final String PROFILE_ANALYZER = "io/ballerina/runtime/profiler/runtime/ProfileAnalyzer";
     public   static final String GET_INSTANCE_DESCRIPTOR = "()L" + PROFILE_ANALYZER + ";";
+    public static final String PROFILER_RUNTIME_PATH = "io/ballerina/runtime/profiler/runtime";
+    public static final String STACK_SAMPLER = "io.ballerina.runtime.profiler.runtime.StackSampler";
 
     private Constants() {
     }
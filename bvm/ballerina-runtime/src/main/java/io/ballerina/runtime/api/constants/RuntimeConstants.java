@@ -60,6 +60,10 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_WORK_STEALING_ENV_VAR = "BALLERINA_WORK_STEALING";
+    public static final String BALLERINA_VIRTUAL_THREADS_ENV_VAR = "BALLERINA_VIRTUAL_THREADS";
+    public static final String BALLERINA_PARALLEL_THRESHOLD_ENV_VAR = "BALLERINA_PARALLEL_THRESHOLD";
+    public static final String BALLERINA_TYPE_CHECK_CACHE_STATS_ENV_VAR = "BALLERINA_TYPE_CHECK_CACHE_STATS";
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                         "lang.error", "0");
 
@@ -37,6 +37,7 @@ import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonInternalUtils;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.JsonStreamParser;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.commons.TypeValuePair;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
@@ -48,8 +49,10 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -146,6 +149,62 @@ public class JsonUtils {
         return JsonParser.parse(reader, mode);
     }
 
+    /**
+     * Parses the UTF-8 encoded contents in the remaining bytes of the given {@link ByteBuffer} and returns a json.
+     * The bytes are parsed directly, without decoding them into characters first.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     * @since 2201.8.0
+     */
+    public static Object parse(ByteBuffer buffer) throws BError {
+        return JsonStreamParser.parse(buffer);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given {@link InputStream} into a value of the given type. Mappings and
+     * lists are bound to the target type while they are parsed, without creating an intermediate json value.
+     *
+     * @param in         input stream which contains the JSON content
+     * @param targetType type of the value to be created
+     * @return value of the target type
+     * @throws BError for any parsing error or if the content cannot be converted to the target type
+     * @since 2201.8.0
+     */
+    public static Object parseAsType(InputStream in, Type targetType) throws BError {
+        return JsonStreamParser.parse(in, targetType);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the remaining bytes of the given {@link ByteBuffer} into a value of the
+     * given type. Mappings and lists are bound to the target type while they are parsed, without creating an
+     * intermediate json value.
+     *
+     * @param buffer     buffer which contains the JSON content
+     * @param targetType type of the value to be created
+     * @return value of the target type
+     * @throws BError for any parsing error or if the content cannot be converted to the target type
+     * @since 2201.8.0
+     */
+    public static Object parseAsType(ByteBuffer buffer, Type targetType) throws BError {
+        return JsonStreamParser.parse(buffer, targetType);
+    }
+
+    /**
+     * Returns an iterator over the members of the UTF-8 encoded JSON array in the given {@link InputStream}. Each
+     * member is parsed and converted to the given type only when it is requested, hence processing can start before
+     * the whole array is read and the array is never held in memory.
+     *
+     * @param in          input stream which contains a JSON array
+     * @param elementType type of the values to be created for the members of the array
+     * @return iterator over the members of the array, which throws a {@link BError} for any parsing error
+     * @since 2201.8.0
+     */
+    public static Iterator<Object> parseArrayElements(InputStream in, Type elementType) {
+        return JsonStreamParser.parseArrayElements(in, elementType);
+    }
+
     /**
      * Parses {@link BTable} to JSON.
      *
@@ -21,6 +21,7 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
@@ -33,33 +34,46 @@ public class BLock {
 
     private ArrayDeque<Strand> waitingForLock;
 
+    // not using synchronized, since it pins the carrier thread when strands run on virtual threads
+    private final ReentrantLock monitor = new ReentrantLock();
+
     public BLock() {
         this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
-            strand.acquiredLockCount++;
-            return true;
-        }
+    public boolean lock(Strand strand) {
+        monitor.lock();
+        try {
+            if (isLockFree() || lockedBySameContext(strand)) {
+                this.current.offerLast(strand);
+                strand.acquiredLockCount++;
+                return true;
+            }
 
-        this.waitingForLock.offerLast(strand);
+            this.waitingForLock.offerLast(strand);
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
-        return false;
+            // Strand state change
+            strand.setState(State.BLOCK_AND_YIELD);
+            strand.blockedOnExtern = false;
+            return false;
+        } finally {
+            monitor.unlock();
+        }
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        Strand removedStrand = this.current.removeLast();
-        removedStrand.acquiredLockCount--;
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    public void unlock() {
+        monitor.lock();
+        try {
+            //current cannot be empty as unlock cannot be called without lock being called first.
+            Strand removedStrand = this.current.removeLast();
+            removedStrand.acquiredLockCount--;
+            if (!waitingForLock.isEmpty()) {
+                Strand strand = this.waitingForLock.removeFirst();
+                strand.scheduler.unblockStrand(strand);
+            }
+        } finally {
+            monitor.unlock();
         }
     }
 
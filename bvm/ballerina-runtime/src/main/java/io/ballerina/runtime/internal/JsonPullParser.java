@@ -0,0 +1,504 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A pull parser which reads a UTF-8 encoded JSON document directly from bytes, one token at a time.
+ * <p>
+ * Unlike {@link JsonParser}, the input is not decoded into characters up front and no value is created unless the
+ * caller asks for it, hence the caller decides what to build from the tokens and can start processing them before
+ * the whole document is read. Numbers are interpreted the same way as {@link JsonParser} does.
+ *
+ * @since 2201.8.0
+ */
+public class JsonPullParser {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+
+    private static final byte IN_OBJECT = 1;
+    private static final byte IN_ARRAY = 2;
+
+    /**
+     * What the parser expects to read next.
+     */
+    private enum Expect {
+        VALUE,
+        FIRST_FIELD,
+        FIRST_ELEMENT,
+        SEPARATOR,
+        DOCUMENT_END
+    }
+
+    /**
+     * Tokens of a JSON document.
+     */
+    public enum Token {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        FIELD_NAME,
+        STRING,
+        NUMBER,
+        TRUE,
+        FALSE,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private final InputStream in;
+    private final ByteBuffer source;
+    private final JsonUtils.NonStringValueProcessingMode mode;
+
+    private byte[] buff;
+    private int pos;
+    private int limit;
+
+    private char[] text = new char[64];
+    private int textLength;
+
+    private byte[] containers = new byte[16];
+    private int depth;
+    private Expect expect = Expect.VALUE;
+
+    private long consumed;
+    private int line = 1;
+    private long lineStart;
+
+    public JsonPullParser(InputStream in) {
+        this(in, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    public JsonPullParser(InputStream in, JsonUtils.NonStringValueProcessingMode mode) {
+        this.in = in;
+        this.source = null;
+        this.mode = mode;
+        this.buff = new byte[BUFFER_SIZE];
+    }
+
+    public JsonPullParser(ByteBuffer source) {
+        this(source, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    public JsonPullParser(ByteBuffer source, JsonUtils.NonStringValueProcessingMode mode) {
+        this.in = null;
+        this.mode = mode;
+        if (source.hasArray()) {
+            // read the backing array in place, without copying it
+            this.source = null;
+            this.buff = source.array();
+            this.pos = source.arrayOffset() + source.position();
+            this.limit = source.arrayOffset() + source.limit();
+            // positions are counted from the start of the buffer's content
+            this.consumed = -this.pos;
+            source.position(source.limit());
+        } else {
+            this.source = source;
+            this.buff = new byte[Math.min(BUFFER_SIZE, Math.max(1, source.remaining()))];
+        }
+    }
+
+    /**
+     * Reads the next token of the document. Once the document is fully read, {@link Token#END_DOCUMENT} is returned.
+     *
+     * @return the next token
+     * @throws BError if the document is not valid JSON or could not be read
+     */
+    public Token next() throws BError {
+        try {
+            int ch = skipWhitespace();
+            if (ch == EOF && expect != Expect.DOCUMENT_END) {
+                throw error("unexpected end of JSON document");
+            }
+            switch (expect) {
+                case SEPARATOR:
+                    if (ch == ',') {
+                        ch = skipWhitespace();
+                        return containers[depth - 1] == IN_OBJECT ? readFieldName(ch) : readValue(ch);
+                    }
+                    if (containers[depth - 1] == IN_OBJECT) {
+                        if (ch != '}') {
+                            throw error("expected ',' or '}'");
+                        }
+                        return endContainer(Token.END_OBJECT);
+                    }
+                    if (ch != ']') {
+                        throw error("expected ',' or ']'");
+                    }
+                    return endContainer(Token.END_ARRAY);
+                case FIRST_FIELD:
+                    if (ch == '}') {
+                        return endContainer(Token.END_OBJECT);
+                    }
+                    return readFieldName(ch);
+                case FIRST_ELEMENT:
+                    if (ch == ']') {
+                        return endContainer(Token.END_ARRAY);
+                    }
+                    return readValue(ch);
+                case DOCUMENT_END:
+                    if (ch != EOF) {
+                        throw error("JSON document has already ended");
+                    }
+                    return Token.END_DOCUMENT;
+                default:
+                    return readValue(ch);
+            }
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the text of the current field name, string or number token.
+     *
+     * @return text of the token
+     */
+    public String getText() {
+        return new String(text, 0, textLength);
+    }
+
+    public BString getBString() {
+        return StringUtils.fromString(getText());
+    }
+
+    /**
+     * Returns the value of the current number token, as {@link JsonParser} would create it in the same mode.
+     *
+     * @return the number value
+     * @throws BError if the number is not valid
+     */
+    public Object getNumber() throws BError {
+        String str = getText();
+        try {
+            switch (mode) {
+                case FROM_JSON_FLOAT_STRING:
+                    return Double.parseDouble(str);
+                case FROM_JSON_DECIMAL_STRING:
+                    return new DecimalValue(str);
+                default:
+                    if (str.charAt(0) == '-' && Double.parseDouble(str) == 0) {
+                        return Double.parseDouble(str);
+                    }
+                    return str.indexOf('.') >= 0 ? new DecimalValue(str) : (Object) Long.parseLong(str);
+            }
+        } catch (NumberFormatException e) {
+            throw error("unrecognized token '" + str + "'");
+        }
+    }
+
+    /**
+     * Returns the value of the current leaf token, as {@link JsonParser} would create it in the same mode.
+     *
+     * @param token current token, which must be a string, number, boolean or null token
+     * @return the leaf value
+     */
+    public Object getLeafValue(Token token) throws BError {
+        switch (token) {
+            case STRING:
+                return getBString();
+            case NUMBER:
+                return getNumber();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case NULL:
+                return null;
+            default:
+                throw error("unexpected token '" + token + "'");
+        }
+    }
+
+    BError error(String message) {
+        long column = consumed + pos - lineStart;
+        return ErrorCreator.createError(StringUtils.fromString(message + " at line: " + line + " column: " +
+                column));
+    }
+
+    private Token readValue(int ch) throws IOException {
+        switch (ch) {
+            case '{':
+                pushContainer(IN_OBJECT);
+                expect = Expect.FIRST_FIELD;
+                return Token.START_OBJECT;
+            case '[':
+                pushContainer(IN_ARRAY);
+                expect = Expect.FIRST_ELEMENT;
+                return Token.START_ARRAY;
+            case '"':
+                readString();
+                endValue();
+                return Token.STRING;
+            default:
+                Token token = readLiteral(ch);
+                endValue();
+                return token;
+        }
+    }
+
+    private Token readFieldName(int ch) throws IOException {
+        if (ch != '"') {
+            throw error("expected '\"'");
+        }
+        readString();
+        if (skipWhitespace() != ':') {
+            throw error("expected ':'");
+        }
+        expect = Expect.VALUE;
+        return Token.FIELD_NAME;
+    }
+
+    private Token endContainer(Token token) {
+        depth--;
+        endValue();
+        return token;
+    }
+
+    private void endValue() {
+        expect = depth == 0 ? Expect.DOCUMENT_END : Expect.SEPARATOR;
+    }
+
+    private void pushContainer(byte container) {
+        if (depth == containers.length) {
+            byte[] newContainers = new byte[depth * 2];
+            System.arraycopy(containers, 0, newContainers, 0, depth);
+            containers = newContainers;
+        }
+        containers[depth++] = container;
+    }
+
+    private Token readLiteral(int first) throws IOException {
+        textLength = 0;
+        append((char) first);
+        while (true) {
+            if (pos == limit && !fill()) {
+                break;
+            }
+            int ch = buff[pos] & 0xFF;
+            if (ch == ',' || ch == '}' || ch == ']' || ch == ' ' || ch == '\n' || ch == '\r' || ch == '\t') {
+                break;
+            }
+            append((char) ch);
+            pos++;
+        }
+        if (first == 't' && matches("true")) {
+            return Token.TRUE;
+        }
+        if (first == 'f' && matches("false")) {
+            return Token.FALSE;
+        }
+        if (first == 'n' && matches("null")) {
+            return Token.NULL;
+        }
+        if (first != '-' && (first < '0' || first > '9')) {
+            throw error("unrecognized token '" + getText() + "'");
+        }
+        return Token.NUMBER;
+    }
+
+    private boolean matches(String literal) {
+        if (textLength != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < textLength; i++) {
+            if (text[i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void readString() throws IOException {
+        textLength = 0;
+        while (true) {
+            if (pos == limit && !fill()) {
+                throw error("unexpected end of JSON document");
+            }
+            // copy runs of ASCII characters directly
+            byte[] bytes = buff;
+            int end = limit;
+            int i = pos;
+            while (i < end) {
+                byte b = bytes[i];
+                if (b == '"' || b == '\\' || b < 0) {
+                    break;
+                }
+                if (b == '\n') {
+                    line++;
+                    lineStart = consumed + i + 1;
+                }
+                append((char) b);
+                i++;
+            }
+            pos = i;
+            if (i == end) {
+                continue;
+            }
+            int b = bytes[pos++];
+            if (b == '"') {
+                return;
+            }
+            if (b == '\\') {
+                readEscapedChar();
+            } else {
+                readMultiByteChar(b & 0xFF);
+            }
+        }
+    }
+
+    private void readEscapedChar() throws IOException {
+        int ch = read();
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                append((char) ch);
+                break;
+            case 'b':
+                append('\b');
+                break;
+            case 'f':
+                append('\f');
+                break;
+            case 'n':
+                append('\n');
+                break;
+            case 'r':
+                append('\r');
+                break;
+            case 't':
+                append('\t');
+                break;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw error("expected the hexadecimal value of a unicode character");
+                    }
+                    value = (value << 4) | digit;
+                }
+                append((char) value);
+                break;
+            default:
+                throw error("expected escaped characters");
+        }
+    }
+
+    private void readMultiByteChar(int lead) throws IOException {
+        int codePoint;
+        int continuationBytes;
+        if ((lead & 0xE0) == 0xC0) {
+            codePoint = lead & 0x1F;
+            continuationBytes = 1;
+        } else if ((lead & 0xF0) == 0xE0) {
+            codePoint = lead & 0x0F;
+            continuationBytes = 2;
+        } else if ((lead & 0xF8) == 0xF0) {
+            codePoint = lead & 0x07;
+            continuationBytes = 3;
+        } else {
+            throw error("invalid UTF-8 byte sequence");
+        }
+        for (int i = 0; i < continuationBytes; i++) {
+            int b = read();
+            if ((b & 0xC0) != 0x80) {
+                throw error("invalid UTF-8 byte sequence");
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        if (!Character.isValidCodePoint(codePoint)) {
+            throw error("invalid UTF-8 byte sequence");
+        }
+        if (Character.isBmpCodePoint(codePoint)) {
+            append((char) codePoint);
+        } else {
+            append(Character.highSurrogate(codePoint));
+            append(Character.lowSurrogate(codePoint));
+        }
+    }
+
+    private void append(char ch) {
+        if (textLength == text.length) {
+            char[] newText = new char[textLength * 2];
+            System.arraycopy(text, 0, newText, 0, textLength);
+            text = newText;
+        }
+        text[textLength++] = ch;
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            if (pos == limit && !fill()) {
+                return EOF;
+            }
+            int ch = buff[pos++] & 0xFF;
+            switch (ch) {
+                case '\n':
+                    line++;
+                    lineStart = consumed + pos;
+                    break;
+                case ' ':
+                case '\t':
+                case '\r':
+                    break;
+                default:
+                    return ch;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pos == limit && !fill()) {
+            return EOF;
+        }
+        return buff[pos++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int count;
+        if (in != null) {
+            count = in.read(buff, 0, buff.length);
+        } else if (source != null && source.hasRemaining()) {
+            count = Math.min(buff.length, source.remaining());
+            source.get(buff, 0, count);
+        } else {
+            return false;
+        }
+        if (count <= 0) {
+            return false;
+        }
+        consumed += limit;
+        pos = 0;
+        limit = count;
+        return true;
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BListInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.errors.ErrorHelper;
+import io.ballerina.runtime.internal.errors.ErrorReasons;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static io.ballerina.runtime.api.creators.ErrorCreator.createError;
+import static io.ballerina.runtime.internal.errors.ErrorCodes.INCOMPATIBLE_CONVERT_OPERATION;
+
+/**
+ * Parses UTF-8 encoded JSON documents from bytes using a {@link JsonPullParser}.
+ * <p>
+ * Besides parsing into a json value, a document can be bound directly into a target type in a single pass. Mappings
+ * and lists are created as values of the target type while they are read, instead of creating a json value first
+ * and converting it afterwards. Values of the other target types (e.g. unions) are parsed as json and converted the
+ * same way as {@code value:fromJsonWithType} does. Large top level arrays can also be read one element at a time.
+ *
+ * @since 2201.8.0
+ */
+public class JsonStreamParser {
+
+    private static final Type JSON_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_JSON);
+    private static final BArrayType JSON_ARRAY_TYPE = new BArrayType(PredefinedTypes.TYPE_JSON);
+
+    private final JsonPullParser parser;
+
+    private JsonStreamParser(JsonPullParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON document in the given {@link InputStream} and returns a json.
+     *
+     * @param in input stream which contains the JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(InputStream in) throws BError {
+        return new JsonStreamParser(new JsonPullParser(in)).readDocument(null);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON document in the remaining bytes of the given {@link ByteBuffer} and returns a json.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer) throws BError {
+        return new JsonStreamParser(new JsonPullParser(buffer)).readDocument(null);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON document in the given {@link InputStream} into a value of the given type.
+     *
+     * @param in         input stream which contains the JSON content
+     * @param targetType type of the value to be created
+     * @return value of the target type
+     * @throws BError for any parsing error or if the document cannot be converted to the target type
+     */
+    public static Object parse(InputStream in, Type targetType) throws BError {
+        return new JsonStreamParser(new JsonPullParser(in)).readDocument(targetType);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON document in the remaining bytes of the given {@link ByteBuffer} into a value of
+     * the given type.
+     *
+     * @param buffer     buffer which contains the JSON content
+     * @param targetType type of the value to be created
+     * @return value of the target type
+     * @throws BError for any parsing error or if the document cannot be converted to the target type
+     */
+    public static Object parse(ByteBuffer buffer, Type targetType) throws BError {
+        return new JsonStreamParser(new JsonPullParser(buffer)).readDocument(targetType);
+    }
+
+    /**
+     * Returns an iterator over the members of the JSON array in the given {@link InputStream}. Each member is read
+     * from the stream and converted to the given type only when it is requested, hence the whole array is never held
+     * in memory. Parsing and conversion errors are thrown as {@link BError}s by the iterator.
+     *
+     * @param in          input stream which contains a JSON array
+     * @param elementType type of the values to be created for the members of the array
+     * @return iterator over the members of the array
+     */
+    public static Iterator<Object> parseArrayElements(InputStream in, Type elementType) {
+        return new ArrayElementIterator(new JsonStreamParser(new JsonPullParser(in)), elementType);
+    }
+
+    private Object readDocument(Type targetType) {
+        Object value = readValue(parser.next(), targetType);
+        readDocumentEnd();
+        return value;
+    }
+
+    private void readDocumentEnd() {
+        if (parser.next() != JsonPullParser.Token.END_DOCUMENT) {
+            throw parser.error("JSON document has already ended");
+        }
+    }
+
+    private Object readValue(JsonPullParser.Token token, Type targetType) {
+        Type type = targetType == null ? null : TypeUtils.getImpliedType(targetType);
+        switch (token) {
+            case START_OBJECT:
+                if (isJson(type)) {
+                    return readJsonObject();
+                }
+                if (type.getTag() == TypeTags.MAP_TAG && !type.isReadOnly()) {
+                    return readMap(targetType, (MapType) type);
+                }
+                if (type.getTag() == TypeTags.RECORD_TYPE_TAG && !type.isReadOnly()) {
+                    return readRecord(targetType, (RecordType) type);
+                }
+                return ValueConverter.convert(readJsonObject(), targetType);
+            case START_ARRAY:
+                if (isJson(type)) {
+                    return readJsonArray();
+                }
+                if (type.getTag() == TypeTags.ARRAY_TAG && !type.isReadOnly() &&
+                        ((ArrayType) type).getState() == ArrayType.ArrayState.OPEN) {
+                    return readArray(targetType, (ArrayType) type);
+                }
+                return ValueConverter.convert(readJsonArray(), targetType);
+            case END_DOCUMENT:
+                throw parser.error("unexpected end of JSON document");
+            default:
+                Object value = parser.getLeafValue(token);
+                return isJson(type) ? value : ValueConverter.convert(value, targetType);
+        }
+    }
+
+    private static boolean isJson(Type type) {
+        return type == null || (type.getTag() == TypeTags.JSON_TAG && !type.isReadOnly());
+    }
+
+    private MapValueImpl<BString, Object> readJsonObject() {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(JSON_MAP_TYPE);
+        while (parser.next() == JsonPullParser.Token.FIELD_NAME) {
+            BString key = parser.getBString();
+            map.put(key, readValue(parser.next(), null));
+        }
+        return map;
+    }
+
+    private ArrayValueImpl readJsonArray() {
+        ArrayValueImpl array = new ArrayValueImpl(JSON_ARRAY_TYPE);
+        JsonPullParser.Token token;
+        while ((token = parser.next()) != JsonPullParser.Token.END_ARRAY) {
+            array.append(readValue(token, null));
+        }
+        return array;
+    }
+
+    private MapValueImpl<BString, Object> readMap(Type targetType, MapType mapType) {
+        Type constraintType = mapType.getConstrainedType();
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(targetType);
+        while (parser.next() == JsonPullParser.Token.FIELD_NAME) {
+            BString key = parser.getBString();
+            map.put(key, readValue(parser.next(), constraintType));
+        }
+        return map;
+    }
+
+    private Object readRecord(Type targetType, RecordType recordType) {
+        Map<String, Field> fields = recordType.getFields();
+        Map<String, Object> values = new HashMap<>();
+        while (parser.next() == JsonPullParser.Token.FIELD_NAME) {
+            String fieldName = parser.getText();
+            Field field = fields.get(fieldName);
+            Type fieldType;
+            if (field != null) {
+                fieldType = field.getFieldType();
+            } else if (!recordType.isSealed()) {
+                fieldType = recordType.getRestFieldType();
+            } else {
+                throw createConversionError(targetType, "field '" + fieldName +
+                        "' cannot be added to the closed record '" + targetType + "'");
+            }
+            values.put(fieldName, readValue(parser.next(), fieldType));
+        }
+
+        for (Field field : fields.values()) {
+            if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED) &&
+                    !values.containsKey(field.getFieldName())) {
+                throw createConversionError(targetType, "missing required field '" + field.getFieldName() +
+                        "' of type '" + field.getFieldType() + "' in record '" + targetType + "'");
+            }
+        }
+        return ValueUtils.createRecordValue(targetType.getPackage(), targetType.getName(), values);
+    }
+
+    private ArrayValueImpl readArray(Type targetType, ArrayType arrayType) {
+        Type elementType = arrayType.getElementType();
+        List<BListInitialValueEntry> elements = new ArrayList<>();
+        JsonPullParser.Token token;
+        while ((token = parser.next()) != JsonPullParser.Token.END_ARRAY) {
+            elements.add(ValueCreator.createListInitialValueEntry(readValue(token, elementType)));
+        }
+        return new ArrayValueImpl(targetType, elements.size(),
+                elements.toArray(new BListInitialValueEntry[0]));
+    }
+
+    private static BError createConversionError(Type targetType, String detailMessage) {
+        return createError(ErrorReasons.BALLERINA_PREFIXED_CONVERSION_ERROR,
+                ErrorHelper.getErrorMessage(INCOMPATIBLE_CONVERT_OPERATION, JSON_MAP_TYPE, targetType)
+                        .concat(StringUtils.fromString(": " + detailMessage)));
+    }
+
+    /**
+     * Iterator over the members of a top level JSON array, which reads each member only when it is requested.
+     */
+    private static class ArrayElementIterator implements Iterator<Object> {
+
+        private final JsonStreamParser streamParser;
+        private final Type elementType;
+        private JsonPullParser.Token nextToken;
+        private boolean started;
+
+        ArrayElementIterator(JsonStreamParser streamParser, Type elementType) {
+            this.streamParser = streamParser;
+            this.elementType = elementType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextToken == null) {
+                JsonPullParser parser = streamParser.parser;
+                if (!started) {
+                    if (parser.next() != JsonPullParser.Token.START_ARRAY) {
+                        throw parser.error("expected '['");
+                    }
+                    started = true;
+                }
+                nextToken = parser.next();
+                if (nextToken == JsonPullParser.Token.END_ARRAY) {
+                    streamParser.readDocumentEnd();
+                }
+            }
+            return nextToken != JsonPullParser.Token.END_ARRAY;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object element = streamParser.readValue(nextToken, elementType);
+            nextToken = null;
+            return element;
+        }
+    }
+}
@@ -90,9 +90,9 @@ public class MapUtils {
                     && !containsNilType(recFieldType)) {
                 return false;
             }
-        } else if (recType.restFieldType != null) {
+        } else if (recType.getRestFieldType() != null) {
             // If there isn't a corresponding field, but there is a rest field, use it
-            recFieldType = recType.restFieldType;
+            recFieldType = recType.getRestFieldType();
         } else {
             // If both of the above conditions fail, the implication is that this is an attempt to insert a
             // value to a non-existent field in a closed record.
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BErrorType;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.types.BFutureType;
+import io.ballerina.runtime.internal.types.BIntersectionType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BObjectType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BStreamType;
+import io.ballerina.runtime.internal.types.BTableType;
+import io.ballerina.runtime.internal.types.BTupleType;
+import io.ballerina.runtime.internal.types.BType;
+import io.ballerina.runtime.internal.types.BTypeReferenceType;
+import io.ballerina.runtime.internal.types.BTypedescType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.types.BXmlType;
+
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the results of the type relation checks done by the {@link TypeChecker}, i.e. whether a source type is a
+ * subtype of a target type.
+ * <p>
+ * Only the relations between two types, which do not depend on a value, are cached. Types are compared by identity.
+ * Types are mutated while they are being defined (e.g. the fields of a record type are set after the type is
+ * created). A type is published, together with all the types it is made of, once it takes part in a type check, and
+ * only the mutation of a published type invalidates all the results cached so far. Hence the types created and
+ * defined at runtime, e.g. while converting values, and the record types populated when they are first used do not
+ * invalidate the cache. The cache is bounded and is cleared once it is full.
+ * <p>
+ * Hit and miss counts are printed at exit when the {@code BALLERINA_TYPE_CHECK_CACHE_STATS} environment variable is
+ * set to {@code true}.
+ *
+ * @since 2201.8.0
+ */
+public final class TypeCheckCache {
+
+    static final int MAX_CACHE_SIZE = 4096;
+
+    private static final PrintStream err = System.err;
+
+    private static final Map<TypePairKey, CachedResult> RESULTS = new ConcurrentHashMap<>();
+    private static final AtomicInteger generation = new AtomicInteger();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    static {
+        if (Boolean.parseBoolean(System.getenv(RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_STATS_ENV_VAR))) {
+            Runtime.getRuntime().addShutdownHook(new Thread(TypeCheckCache::printStats));
+        }
+    }
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Invalidates all the cached results if the given type is published. Must be called after mutating a type in a
+     * way that may change its relations to other types.
+     *
+     * @param type mutated type
+     */
+    public static void invalidate(Type type) {
+        if (type instanceof BType && ((BType) type).isTypeCheckPublished()) {
+            // the types added to a published type by the mutation are published too, since they may be mutated later
+            Deque<Type> types = new ArrayDeque<>();
+            addMemberTypes(type, types);
+            publish(types);
+            generation.incrementAndGet();
+        }
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    public static void clear() {
+        RESULTS.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Checks whether the relation between the given types is worth caching, i.e. at least one of them is a type
+     * which requires a structural check.
+     */
+    static boolean isCacheable(Type sourceType, Type targetType) {
+        return isStructuredType(sourceType.getTag()) || isStructuredType(targetType.getTag());
+    }
+
+    /**
+     * Publishes the given types, since the results which are about to be computed may depend on them.
+     */
+    static void publish(Type sourceType, Type targetType) {
+        publish(sourceType);
+        publish(targetType);
+    }
+
+    /**
+     * Publishes the given type and the types it is made of, e.g. the types of the fields of a record type, since a
+     * result may depend on a member type, even if the check did not visit it.
+     */
+    private static void publish(Type type) {
+        if (!isUnpublished(type)) {
+            return;
+        }
+        Deque<Type> types = new ArrayDeque<>();
+        types.push(type);
+        publish(types);
+    }
+
+    private static void publish(Deque<Type> types) {
+        while (!types.isEmpty()) {
+            Type currentType = types.pop();
+            if (isUnpublished(currentType)) {
+                // the member types are read before the type is published, since reading them populates a record type
+                // which is not populated yet, and populating it must not invalidate the cached results
+                addMemberTypes(currentType, types);
+                ((BType) currentType).setTypeCheckPublished();
+            }
+        }
+    }
+
+    private static boolean isUnpublished(Type type) {
+        return type instanceof BType && !((BType) type).isTypeCheckPublished();
+    }
+
+    private static void addMemberTypes(Type type, Deque<Type> types) {
+        if (type instanceof BRecordType) {
+            BRecordType recordType = (BRecordType) type;
+            addFieldTypes(recordType.getFields(), types);
+            addType(recordType.getRestFieldType(), types);
+        } else if (type instanceof BObjectType) {
+            BObjectType objectType = (BObjectType) type;
+            addFieldTypes(objectType.getFields(), types);
+            MethodType[] methods = objectType.getMethods();
+            if (methods != null) {
+                for (MethodType method : methods) {
+                    addType(method.getType(), types);
+                }
+            }
+        } else if (type instanceof BUnionType) {
+            addTypes(((BUnionType) type).getMemberTypes(), types);
+        } else if (type instanceof BIntersectionType) {
+            BIntersectionType intersectionType = (BIntersectionType) type;
+            addTypes(intersectionType.getConstituentTypes(), types);
+            addType(intersectionType.getEffectiveType(), types);
+        } else if (type instanceof BTypeReferenceType) {
+            addType(((BTypeReferenceType) type).getReferredType(), types);
+        } else if (type instanceof BTupleType) {
+            BTupleType tupleType = (BTupleType) type;
+            addTypes(tupleType.getTupleTypes(), types);
+            addType(tupleType.getRestType(), types);
+        } else if (type instanceof BArrayType) {
+            addType(((BArrayType) type).getElementType(), types);
+        } else if (type instanceof BMapType) {
+            addType(((BMapType) type).getConstrainedType(), types);
+        } else if (type instanceof BTableType) {
+            addType(((BTableType) type).getConstrainedType(), types);
+            addType(((BTableType) type).getKeyType(), types);
+        } else if (type instanceof BStreamType) {
+            addType(((BStreamType) type).getConstrainedType(), types);
+            addType(((BStreamType) type).getCompletionType(), types);
+        } else if (type instanceof BErrorType) {
+            addType(((BErrorType) type).getDetailType(), types);
+        } else if (type instanceof BFunctionType) {
+            BFunctionType functionType = (BFunctionType) type;
+            Parameter[] parameters = functionType.getParameters();
+            if (parameters != null) {
+                for (Parameter parameter : parameters) {
+                    addType(parameter.type, types);
+                }
+            }
+            addType(functionType.getRestType(), types);
+            addType(functionType.getReturnType(), types);
+        } else if (type instanceof BTypedescType) {
+            addType(((BTypedescType) type).getConstraint(), types);
+        } else if (type instanceof BFutureType) {
+            addType(((BFutureType) type).getConstrainedType(), types);
+        } else if (type instanceof BXmlType) {
+            addType(((BXmlType) type).constraint, types);
+        }
+    }
+
+    private static void addFieldTypes(Map<String, Field> fields, Deque<Type> types) {
+        if (fields != null) {
+            for (Field field : fields.values()) {
+                addType(field.getFieldType(), types);
+            }
+        }
+    }
+
+    private static void addTypes(Collection<Type> memberTypes, Deque<Type> types) {
+        if (memberTypes != null) {
+            for (Type memberType : memberTypes) {
+                addType(memberType, types);
+            }
+        }
+    }
+
+    private static void addType(Type type, Deque<Type> types) {
+        if (isUnpublished(type)) {
+            types.push(type);
+        }
+    }
+
+    /**
+     * Returns the current generation of the cache. It has to be read before computing a result to be cached, so
+     * that a result computed while a type is being mutated is not used afterwards.
+     */
+    static int getGeneration() {
+        return generation.get();
+    }
+
+    static Boolean get(Type sourceType, Type targetType) {
+        CachedResult result = RESULTS.get(new TypePairKey(sourceType, targetType));
+        if (result == null || result.generation != generation.get()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return result.isSubType;
+    }
+
+    static void put(Type sourceType, Type targetType, int resultGeneration, boolean isSubType) {
+        if (RESULTS.size() >= MAX_CACHE_SIZE) {
+            RESULTS.clear();
+        }
+        RESULTS.put(new TypePairKey(sourceType, targetType), new CachedResult(resultGeneration, isSubType));
+    }
+
+    private static boolean isStructuredType(int typeTag) {
+        switch (typeTag) {
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.SERVICE_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.INTERSECTION_TAG:
+            case TypeTags.TYPE_REFERENCED_TYPE_TAG:
+            case TypeTags.FINITE_TYPE_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.ERROR_TAG:
+            case TypeTags.FUNCTION_POINTER_TAG:
+            case TypeTags.XML_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void printStats() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        err.printf("ballerina: type check cache hits: %d, misses: %d, hit rate: %.2f%%%n", hitCount,
+                total - hitCount, total == 0 ? 0.0 : hitCount * 100.0 / total);
+    }
+
+    /**
+     * Source and target type pair, compared by the identity of the types.
+     */
+    private static final class TypePairKey {
+
+        private final Type sourceType;
+        private final Type targetType;
+
+        TypePairKey(Type sourceType, Type targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypePairKey)) {
+                return false;
+            }
+            TypePairKey other = (TypePairKey) obj;
+            return sourceType == other.sourceType && targetType == other.targetType;
+        }
+    }
+
+    private static final class CachedResult {
+
+        private final int generation;
+        private final boolean isSubType;
+
+        CachedResult(int generation, boolean isSubType) {
+            this.generation = generation;
+            this.isSubType = isSubType;
+        }
+    }
+}
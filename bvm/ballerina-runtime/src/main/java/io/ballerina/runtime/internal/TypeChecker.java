@@ -565,6 +565,30 @@ public class TypeChecker {
             return true;
         }
 
+        if (!TypeCheckCache.isCacheable(sourceType, targetType)) {
+            return checkIsTypeUncached(sourceType, targetType, unresolvedTypes);
+        }
+
+        // The types are published before they are checked, so that a later mutation of them invalidates the results
+        // which depend on them.
+        TypeCheckCache.publish(sourceType, targetType);
+
+        // Results are cached only for the top level checks, since a nested check may depend on the pairs assumed to
+        // be related while resolving a recursive type.
+        if (unresolvedTypes == null || unresolvedTypes.isEmpty()) {
+            Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+            if (cachedResult != null) {
+                return cachedResult;
+            }
+            int generation = TypeCheckCache.getGeneration();
+            boolean isSubType = checkIsTypeUncached(sourceType, targetType, unresolvedTypes);
+            TypeCheckCache.put(sourceType, targetType, generation, isSubType);
+            return isSubType;
+        }
+        return checkIsTypeUncached(sourceType, targetType, unresolvedTypes);
+    }
+
+    private static boolean checkIsTypeUncached(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
         if (checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(sourceType)) {
             return true;
         }
@@ -894,7 +918,7 @@ public class TypeChecker {
             return true;
         }
 
-        return checkIsType(sourceType.restFieldType, targetConstrainedType, unresolvedTypes);
+        return checkIsType(sourceType.getRestFieldType(), targetConstrainedType, unresolvedTypes);
     }
 
     private static boolean checkIsXMLType(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
@@ -939,7 +963,7 @@ public class TypeChecker {
             types.add(f.getFieldType());
         }
         if (!recType.sealed) {
-            types.add(recType.restFieldType);
+            types.add(recType.getRestFieldType());
         }
         return types;
     }
@@ -1072,7 +1096,7 @@ public class TypeChecker {
                 }
 
                 if (!recordType.sealed) {
-                    return checkIsJSONType(recordType.restFieldType, unresolvedTypes);
+                    return checkIsJSONType(recordType.getRestFieldType(), unresolvedTypes);
                 }
                 return true;
             case TypeTags.TUPLE_TAG:
@@ -1123,14 +1147,14 @@ public class TypeChecker {
 
         // Unsealed records are not equivalent to sealed records, unless their rest field type is 'never'. But
         // vice-versa is allowed.
-        if (targetType.sealed && !sourceRecordType.sealed && (sourceRecordType.restFieldType == null ||
-                getImpliedType(sourceRecordType.restFieldType).getTag() != TypeTags.NEVER_TAG)) {
+        if (targetType.sealed && !sourceRecordType.sealed && (sourceRecordType.getRestFieldType() == null ||
+                getImpliedType(sourceRecordType.getRestFieldType()).getTag() != TypeTags.NEVER_TAG)) {
             return false;
         }
 
         // If both are sealed check the rest field type
         if (!sourceRecordType.sealed && !targetType.sealed &&
-                !checkIsType(sourceRecordType.restFieldType, targetType.restFieldType, unresolvedTypes)) {
+                !checkIsType(sourceRecordType.getRestFieldType(), targetType.getRestFieldType(), unresolvedTypes)) {
             return false;
         }
 
@@ -1146,8 +1170,8 @@ public class TypeChecker {
                     return false;
                 }
 
-                if (!sourceRecordType.sealed && !checkIsType(sourceRecordType.restFieldType, targetField.getFieldType(),
-                                                             unresolvedTypes)) {
+                if (!sourceRecordType.sealed && !checkIsType(sourceRecordType.getRestFieldType(),
+                                                             targetField.getFieldType(), unresolvedTypes)) {
                     return false;
                 }
 
@@ -1181,7 +1205,8 @@ public class TypeChecker {
                 continue;
             }
 
-            if (!checkIsType(sourceFieldEntry.getValue().getFieldType(), targetType.restFieldType, unresolvedTypes)) {
+            if (!checkIsType(sourceFieldEntry.getValue().getFieldType(), targetType.getRestFieldType(),
+                             unresolvedTypes)) {
                 return false;
             }
         }
@@ -1219,7 +1244,7 @@ public class TypeChecker {
             }
         }
 
-        return checkIsType(constraintType, targetType.restFieldType, unresolvedTypes);
+        return checkIsType(constraintType, targetType.getRestFieldType(), unresolvedTypes);
     }
 
     private static boolean checkRecordBelongsToAnydataType(MapValue sourceVal, BRecordType recordType,
@@ -1259,7 +1284,7 @@ public class TypeChecker {
             return true;
         }
 
-        return checkIsType(recordType.restFieldType, targetType, unresolvedTypes);
+        return checkIsType(recordType.getRestFieldType(), targetType, unresolvedTypes);
     }
 
     private static boolean checkIsRecordType(Object sourceVal, Type sourceType, BRecordType targetType,
@@ -1285,14 +1310,14 @@ public class TypeChecker {
 
         // Unsealed records are not equivalent to sealed records, unless their rest field type is 'never'. But
         // vice-versa is allowed.
-        if (targetType.sealed && !sourceRecordType.sealed && (sourceRecordType.restFieldType == null ||
-                getImpliedType(sourceRecordType.restFieldType).getTag() != TypeTags.NEVER_TAG)) {
+        if (targetType.sealed && !sourceRecordType.sealed && (sourceRecordType.getRestFieldType() == null ||
+                getImpliedType(sourceRecordType.getRestFieldType()).getTag() != TypeTags.NEVER_TAG)) {
             return false;
         }
 
         // If both are sealed check the rest field type
         if (!sourceRecordType.sealed && !targetType.sealed &&
-                !checkIsType(sourceRecordType.restFieldType, targetType.restFieldType, unresolvedTypes)) {
+                !checkIsType(sourceRecordType.getRestFieldType(), targetType.getRestFieldType(), unresolvedTypes)) {
             return false;
         }
 
@@ -1314,8 +1339,8 @@ public class TypeChecker {
                     return false;
                 }
 
-                if (!sourceRecordType.sealed && !checkIsType(sourceRecordType.restFieldType, targetField.getFieldType(),
-                                                             unresolvedTypes)) {
+                if (!sourceRecordType.sealed && !checkIsType(sourceRecordType.getRestFieldType(),
+                                                             targetField.getFieldType(), unresolvedTypes)) {
                     return false;
                 }
 
@@ -1376,10 +1401,10 @@ public class TypeChecker {
 
             if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY)) {
                 if (!checkIsLikeType(sourceRecordValue.get(StringUtils.fromString(fieldName)),
-                                     targetType.restFieldType)) {
+                                     targetType.getRestFieldType())) {
                     return false;
                 }
-            } else if (!checkIsType(field.getFieldType(), targetType.restFieldType, unresolvedTypes)) {
+            } else if (!checkIsType(field.getFieldType(), targetType.getRestFieldType(), unresolvedTypes)) {
                 return false;
             }
         }
@@ -2007,7 +2032,7 @@ public class TypeChecker {
                     }
                 }
 
-                Type recordRestType = recordType.restFieldType;
+                Type recordRestType = recordType.getRestFieldType();
                 if (recordRestType == null) {
                     return true;
                 }
@@ -2699,7 +2724,7 @@ public class TypeChecker {
         unresolvedValues.add(typeValuePair);
 
         Map<String, Type> targetFieldTypes = new HashMap<>();
-        Type restFieldType = targetType.restFieldType;
+        Type restFieldType = targetType.getRestFieldType();
         boolean returnVal = true;
 
         for (Field field : targetType.getFields().values()) {
@@ -458,7 +458,7 @@ public class TypeConverter {
         unresolvedValues.add(typeValuePair);
 
         Map<String, Type> targetFieldTypes = new HashMap<>();
-        Type restFieldType = targetType.restFieldType;
+        Type restFieldType = targetType.getRestFieldType();
         boolean returnVal = true;
 
         for (Map.Entry<String, Field> field : targetType.getFields().entrySet()) {
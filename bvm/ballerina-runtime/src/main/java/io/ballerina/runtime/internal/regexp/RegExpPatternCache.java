@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.runtime.internal.regexp;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.values.RegExpValue;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Cache of the Java patterns translated from Ballerina regular expressions.
+ * <p>
+ * The compiled pattern is kept on the {@link RegExpValue} itself, so that a regexp used repeatedly is translated and
+ * compiled only once. Regexp values created at runtime (e.g. from templates or {@code fromString}) are backed by a
+ * bounded cache keyed by the regexp string. Lookups do not lock; when the cache is full, an arbitrary batch of
+ * entries is evicted by the thread that inserts the next pattern.
+ *
+ * @since 2201.8.0
+ */
+public class RegExpPatternCache {
+
+    public static final int MAX_CACHE_SIZE = 512;
+    private static final int EVICTION_BATCH_SIZE = MAX_CACHE_SIZE / 8;
+
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private RegExpPatternCache() {
+    }
+
+    /**
+     * Returns the Java pattern for the given Ballerina regexp, translating and compiling it only if it is not
+     * already cached.
+     *
+     * @param regExpValue Ballerina regexp
+     * @return compiled Java pattern
+     */
+    public static Pattern getPattern(RegExpValue regExpValue) {
+        Pattern pattern = regExpValue.getCompiledPattern();
+        if (pattern != null) {
+            hits.increment();
+            return pattern;
+        }
+
+        String key = regExpValue.stringValue(null);
+        pattern = PATTERNS.get(key);
+        if (pattern != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            pattern = compile(regExpValue);
+            if (PATTERNS.size() >= MAX_CACHE_SIZE) {
+                evict();
+            }
+            PATTERNS.put(key, pattern);
+        }
+        regExpValue.setCompiledPattern(pattern);
+        return pattern;
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    public static int getSize() {
+        return PATTERNS.size();
+    }
+
+    public static void clear() {
+        PATTERNS.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    // The iteration order of the map is effectively random, hence this evicts a sample of the cached patterns
+    private static void evict() {
+        Iterator<String> keys = PATTERNS.keySet().iterator();
+        for (int i = 0; i < EVICTION_BATCH_SIZE && keys.hasNext(); i++) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static Pattern compile(RegExpValue regExpValue) {
+        // Map the required ballerina regexp constructs to java.
+        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs(regExpValue);
+        String patternStr = StringUtils.getStringValue(translatedRegExpVal);
+        return Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
+    }
+}
@@ -19,26 +19,33 @@
 package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.FunctionType;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.Parameter;
 import io.ballerina.runtime.api.types.RemoteMethodType;
 import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.types.BFunctionType;
 import io.ballerina.runtime.internal.types.BServiceType;
+import io.ballerina.runtime.internal.values.FPValue;
 import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.ValueCreator;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -47,6 +54,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -54,6 +63,16 @@ import java.util.function.Supplier;
  */
 public class AsyncUtils {
 
+    private static final PrintStream err = System.err;
+
+    /**
+     * The default number of items of a collection from which it is processed in parallel. A threshold which is not
+     * positive disables processing collections in parallel.
+     */
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+    private static final int PARALLEL_THRESHOLD = getParallelThreshold();
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 1000;
+
     /**
      * Block the current strand to execute asynchronously.
      *
@@ -116,7 +135,8 @@ public class AsyncUtils {
     /**
      * Invoke Function Pointer asynchronously given number of times. This will schedule the function and block the
      * strand. This method can be used with collection of data where we need to invoke the function pointer for each
-     * item of the collection.
+     * item of the collection. A function pointer which the compiler found to never yield is instead called directly
+     * on the current strand, which is not blocked.
      *
      * @param func                 Function Pointer to be invoked.
      * @param strandName           Name for newly creating strand which is used to execute the function pointer. This is
@@ -139,6 +159,11 @@ public class AsyncUtils {
             return;
         }
         Strand parent = Scheduler.getStrand();
+        if (isDirectlyCallable(func)) {
+            invokeFunctionPointerIteratively((FPValue<?, ?>) func, parent, noOfIterations, argsSupplier,
+                    futureResultConsumer);
+            return;
+        }
         blockStrand(parent);
         AtomicInteger callCount = new AtomicInteger(0);
         BFunctionType funcType = (BFunctionType) TypeUtils.getImpliedType(func.getType());
@@ -147,6 +172,58 @@ public class AsyncUtils {
 
     }
 
+    /**
+     * Invoke Function Pointer for each item of a collection. The function is invoked in parallel over the threads of
+     * the scheduler when it is isolated and never yields, it cannot mutate the items, i.e. the items are immutable or
+     * its parameters are subtypes of readonly, and the collection has at least as many items as the parallel
+     * threshold, which can be changed by setting the BALLERINA_PARALLEL_THRESHOLD system variable. Else the function
+     * is invoked iteratively. Such a function has no side effects, since it can neither mutate its arguments nor
+     * call a function of another module, hence the items after an item it panics for can be evaluated too. Either
+     * way, the results are consumed in the order of the items, and if the function panics for an item, the results
+     * of the items before it are consumed and the strand panics.
+     *
+     * @param func                Function Pointer to be invoked.
+     * @param strandName          Name for newly creating strands which are used to execute the function pointer. This
+     *                            is optional and can be null.
+     * @param metadata            Meta data of new strands.
+     * @param noOfItems           Number of items of the collection.
+     * @param readOnlyItems       Whether the items of the collection are immutable.
+     * @param argsSupplier        Provides the arguments to function pointer execution for the index of an item. It
+     *                            may be called from multiple threads.
+     * @param resultConsumer      Consumer used to process the result of the function pointer for the index of an
+     *                            item.
+     * @param returnValueSupplier Suppler used to set the final return value for the parent function invocation.
+     * @param scheduler           The scheduler for invoking functions
+     */
+    public static void invokeFunctionPointerForEachItem(BFunctionPointer<?, ?> func, String strandName,
+                                                        StrandMetadata metadata, int noOfItems,
+                                                        boolean readOnlyItems, IntFunction<Object[]> argsSupplier,
+                                                        ObjIntConsumer<Object> resultConsumer,
+                                                        Supplier<Object> returnValueSupplier, Scheduler scheduler) {
+        int noOfChunks = getNoOfParallelChunks(func, noOfItems, readOnlyItems, scheduler);
+        if (noOfChunks > 1) {
+            Strand parent = Scheduler.getStrand();
+            blockStrand(parent);
+            new ParallelInvocation((FPValue<?, ?>) func, parent, noOfItems, argsSupplier, resultConsumer,
+                    returnValueSupplier).schedule(strandName, metadata, noOfChunks, scheduler);
+            return;
+        }
+        AtomicInteger index = new AtomicInteger(-1);
+        invokeFunctionPointerAsyncIteratively(func, strandName, metadata, noOfItems,
+                () -> argsSupplier.apply(index.incrementAndGet()), result -> resultConsumer.accept(result, index.get()),
+                returnValueSupplier, scheduler);
+    }
+
+    /**
+     * Checks whether a collection has enough items to process it in parallel.
+     *
+     * @param noOfItems number of items of the collection
+     * @return true if the collection has at least as many items as the parallel threshold
+     */
+    public static boolean isAboveParallelThreshold(int noOfItems) {
+        return PARALLEL_THRESHOLD > 0 && noOfItems >= PARALLEL_THRESHOLD;
+    }
+
     public static void getArgsWithDefaultValues(Scheduler scheduler, BObject object,
                                                 String methodName, Callback callback, Object... args) {
         ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getType());
@@ -288,6 +365,87 @@ public class AsyncUtils {
         }, argsSupplier.get());
     }
 
+    private static int getNoOfParallelChunks(BFunctionPointer<?, ?> func, int noOfItems, boolean readOnlyItems,
+                                             Scheduler scheduler) {
+        if (!isAboveParallelThreshold(noOfItems) || !isDirectlyCallable(func) ||
+                !SymbolFlags.isFlagOn(TypeUtils.getImpliedType(func.getType()).getFlags(), SymbolFlags.ISOLATED)) {
+            return 1;
+        }
+        // an isolated function may still mutate its arguments, which are not safe to mutate from several threads
+        if (!readOnlyItems && !hasReadOnlyParameters(func)) {
+            return 1;
+        }
+        return Math.min(scheduler.getParallelism(), noOfItems / MIN_PARALLEL_CHUNK_SIZE);
+    }
+
+    private static boolean hasReadOnlyParameters(BFunctionPointer<?, ?> func) {
+        FunctionType functionType = (FunctionType) TypeUtils.getImpliedType(func.getType());
+        for (Parameter parameter : functionType.getParameters()) {
+            if (!TypeChecker.checkIsType(parameter.type, PredefinedTypes.TYPE_READONLY)) {
+                return false;
+            }
+        }
+        Type restType = functionType.getRestType();
+        return restType == null || TypeChecker.checkIsType(restType, PredefinedTypes.TYPE_READONLY);
+    }
+
+    private static int getParallelThreshold() {
+        String thresholdConf = System.getenv(RuntimeConstants.BALLERINA_PARALLEL_THRESHOLD_ENV_VAR);
+        try {
+            if (thresholdConf != null) {
+                return Integer.parseInt(thresholdConf);
+            }
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred while reading system variable:" +
+                    RuntimeConstants.BALLERINA_PARALLEL_THRESHOLD_ENV_VAR + ", " + e.getMessage());
+        }
+        return DEFAULT_PARALLEL_THRESHOLD;
+    }
+
+    private static boolean isDirectlyCallable(BFunctionPointer<?, ?> func) {
+        if (!(func instanceof FPValue) || !((FPValue<?, ?>) func).isNonYielding) {
+            return false;
+        }
+        FunctionType functionType = (FunctionType) TypeUtils.getImpliedType(func.getType());
+        if (functionType.getPackage() == null) {
+            return false;
+        }
+        // the default values of the parameters are computed by functions which may yield
+        for (Parameter parameter : functionType.getParameters()) {
+            if (parameter.isDefault) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calls a function pointer which never yields on the strand of the caller, for each item of a collection. Since
+     * the function never yields, it returns its result without scheduling a new strand and a future for each call, and
+     * the caller is not blocked. A panic of the function is a panic of the caller.
+     */
+    @SuppressWarnings("unchecked")
+    private static void invokeFunctionPointerIteratively(FPValue<?, ?> func, Strand parent, int noOfIterations,
+                                                         Supplier<Object[]> argsSupplier,
+                                                         Consumer<Object> resultConsumer) {
+        Function<Object[], Object> function = (Function<Object[], Object>) func.getFunction();
+        Object[] argsWithStrand = null;
+        for (int i = 0; i < noOfIterations; i++) {
+            // the arguments are given along with whether each of them is provided, which they all are
+            Object[] args = argsSupplier.get();
+            int argCount = args.length / 2;
+            if (argsWithStrand == null || argsWithStrand.length != argCount + 1) {
+                argsWithStrand = new Object[argCount + 1];
+                argsWithStrand[0] = parent;
+            }
+            for (int arg = 0; arg < argCount; arg++) {
+                argsWithStrand[arg + 1] = args[arg * 2];
+            }
+            resultConsumer.accept(function.apply(argsWithStrand));
+        }
+    }
+
     private static void invokeFunctionPointerAsync(BFunctionPointer<?, ?> func, Strand parent,
                                                    FutureValue future, Object[] args,
                                                    AsyncFunctionCallback callback, Scheduler scheduler) {
@@ -312,6 +470,121 @@ public class AsyncUtils {
         parent.scheduler.unblockStrand(parent);
     }
 
+    /**
+     * Invokes an isolated function pointer which never yields for the items of a collection, over a number of strands
+     * which each invoke it for a contiguous chunk of the items. Since the function never yields, each chunk runs to
+     * completion once its strand is scheduled. The results are kept by the index of the item, and the last chunk to
+     * complete consumes them in order and unblocks the parent strand.
+     */
+    private static class ParallelInvocation {
+
+        private final Function<Object[], Object> function;
+        private final Strand parent;
+        private final int noOfItems;
+        private final IntFunction<Object[]> argsSupplier;
+        private final ObjIntConsumer<Object> resultConsumer;
+        private final Supplier<Object> returnValueSupplier;
+        private final Object[] results;
+        private final AtomicInteger remainingChunks = new AtomicInteger();
+
+        // the first item the function panicked for, and the panic
+        private int failedIndex;
+        private Throwable failure;
+
+        @SuppressWarnings("unchecked")
+        ParallelInvocation(FPValue<?, ?> func, Strand parent, int noOfItems, IntFunction<Object[]> argsSupplier,
+                           ObjIntConsumer<Object> resultConsumer, Supplier<Object> returnValueSupplier) {
+            this.function = (Function<Object[], Object>) func.getFunction();
+            this.parent = parent;
+            this.noOfItems = noOfItems;
+            this.argsSupplier = argsSupplier;
+            this.resultConsumer = resultConsumer;
+            this.returnValueSupplier = returnValueSupplier;
+            this.results = new Object[noOfItems];
+            this.failedIndex = noOfItems;
+        }
+
+        void schedule(String strandName, StrandMetadata metadata, int noOfChunks, Scheduler scheduler) {
+            remainingChunks.set(noOfChunks);
+            Callback callback = new Callback() {
+                @Override
+                public void notifySuccess(Object result) {
+                    completeChunk();
+                }
+
+                @Override
+                public void notifyFailure(BError error) {
+                    completeChunk();
+                }
+            };
+            for (int chunk = 0; chunk < noOfChunks; chunk++) {
+                int start = (int) ((long) noOfItems * chunk / noOfChunks);
+                int end = (int) ((long) noOfItems * (chunk + 1) / noOfChunks);
+                Function<Object[], Object> chunkFunction = args -> {
+                    invokeForChunk((Strand) args[0], start, end);
+                    return null;
+                };
+                FutureValue future = scheduler.createFuture(parent, callback, null, PredefinedTypes.TYPE_NULL,
+                        strandName, metadata);
+                scheduler.schedule(new Object[1], chunkFunction, future);
+            }
+        }
+
+        private void invokeForChunk(Strand strand, int start, int end) {
+            Object[] argsWithStrand = null;
+            for (int index = start; index < end; index++) {
+                Object[] args = argsSupplier.apply(index);
+                int argCount = args.length / 2;
+                if (argsWithStrand == null || argsWithStrand.length != argCount + 1) {
+                    argsWithStrand = new Object[argCount + 1];
+                    argsWithStrand[0] = strand;
+                }
+                for (int arg = 0; arg < argCount; arg++) {
+                    argsWithStrand[arg + 1] = args[arg * 2];
+                }
+                try {
+                    results[index] = function.apply(argsWithStrand);
+                } catch (Throwable t) {
+                    setFailure(index, t);
+                    return;
+                }
+            }
+        }
+
+        private synchronized void setFailure(int index, Throwable t) {
+            if (index < failedIndex) {
+                failedIndex = index;
+                failure = t;
+            }
+        }
+
+        private void completeChunk() {
+            if (remainingChunks.decrementAndGet() != 0) {
+                return;
+            }
+            try {
+                int consumedItems;
+                Throwable panic;
+                synchronized (this) {
+                    consumedItems = failedIndex;
+                    panic = failure;
+                }
+                for (int index = 0; index < consumedItems; index++) {
+                    resultConsumer.accept(results[index], index);
+                }
+                if (panic != null) {
+                    handleRuntimeErrors(parent, panic instanceof BError ? (BError) panic :
+                            ErrorCreator.createError(panic));
+                    return;
+                }
+                parent.returnValue = returnValueSupplier.get();
+                parent.scheduler.unblockStrand(parent);
+            } catch (BError error) {
+                handleRuntimeErrors(parent, error);
+            }
+        }
+    }
+
     private static class Unblocker implements java.util.function.BiConsumer<Object, Throwable> {
 
         private final Strand strand;
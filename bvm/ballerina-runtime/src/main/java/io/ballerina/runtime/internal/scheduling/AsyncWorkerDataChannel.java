@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.internal.values.ErrorValue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
+
+/**
+ * A worker data channel whose messages are only sent asynchronously and which is never flushed.
+ * <p>
+ * A worker channel has a single sending worker and a single receiving worker. When the compiler finds that the
+ * messages of a channel are never sent synchronously nor flushed, the sender never waits for the receiver. Hence the
+ * messages are passed through a single producer single consumer queue without a lock, and only the receiver waits,
+ * when the queue is empty. A failure of the sender is queued after its messages, so that the receiver gets the error or
+ * the panic after receiving the messages sent before the failure.
+ *
+ * @since 2201.8.0
+ */
+public class AsyncWorkerDataChannel extends WorkerDataChannel {
+
+    private static final Object NIL = new Object();
+    private static final Object SENDER_FAILURE = new Object();
+
+    private final MessageQueue messages = new MessageQueue();
+    private final AtomicReference<Strand> receiver = new AtomicReference<>();
+
+    // the failure of the sender, which is published by queuing the failure marker
+    private ErrorValue sendError;
+    private Throwable sendPanic;
+
+    // a message taken by the receiver, while a sender has already taken the receiver to unblock it
+    private Object pendingMessage;
+
+    public AsyncWorkerDataChannel(String channelName) {
+        super(channelName);
+    }
+
+    @Override
+    public void sendData(Object data, Strand sender) {
+        sendMessage(data == null ? NIL : data);
+    }
+
+    @Override
+    public Object tryTakeData(Strand strand) throws Throwable {
+        Object message = pendingMessage;
+        if (message != null) {
+            pendingMessage = null;
+            return getValue(message);
+        }
+        message = messages.poll();
+        if (message != null) {
+            return getValue(message);
+        }
+
+        // the state is set before the receiver is published, since a sender may unblock the receiver right after
+        strand.setState(BLOCK_AND_YIELD);
+        this.receiver.set(strand);
+        message = messages.poll();
+        if (message == null) {
+            return null;
+        }
+        if (!this.receiver.compareAndSet(strand, null)) {
+            // a sender is unblocking the receiver, hence the message is taken once the receiver is rescheduled
+            pendingMessage = message;
+            return null;
+        }
+        strand.setState(RUNNABLE);
+        return getValue(message);
+    }
+
+    @Override
+    public void setSendError(ErrorValue error) {
+        this.sendError = error;
+        sendMessage(SENDER_FAILURE);
+    }
+
+    @Override
+    public void setSendPanic(Throwable panic) {
+        this.sendPanic = panic;
+        sendMessage(SENDER_FAILURE);
+    }
+
+    @Override
+    public void setReceiveError(ErrorValue error) {
+        // the sender never waits for the receiver, hence there is no sender to notify
+    }
+
+    @Override
+    public void setReceiverPanic(Throwable panic) {
+        // the sender never waits for the receiver, hence there is no sender to notify
+    }
+
+    @Override
+    public Object syncSendData(Object data, Strand strand) {
+        throw new IllegalStateException("synchronous send on the asynchronous worker channel '" + chnlName + "'");
+    }
+
+    @Override
+    public ErrorValue flushChannel(Strand strand) {
+        throw new IllegalStateException("flush on the asynchronous worker channel '" + chnlName + "'");
+    }
+
+    @Override
+    public void removeFlushWait() {
+        // the channel is never flushed
+    }
+
+    private void sendMessage(Object message) {
+        messages.offer(message);
+        Strand waitingReceiver = this.receiver.get();
+        if (waitingReceiver != null && this.receiver.compareAndSet(waitingReceiver, null)) {
+            waitingReceiver.scheduler.unblockStrand(waitingReceiver);
+        }
+    }
+
+    private Object getValue(Object message) throws Throwable {
+        if (message == NIL) {
+            return null;
+        }
+        if (message == SENDER_FAILURE) {
+            if (sendPanic != null) {
+                throw sendPanic;
+            }
+            return sendError;
+        }
+        return message;
+    }
+
+    /**
+     * An unbounded single producer single consumer queue of the messages of a channel, which is a linked list of fixed
+     * size segments. The sender only writes to the last segment and the receiver only reads from the first segment,
+     * hence neither of them needs a lock. A slot is written by the sender before it moves to the next slot, and is
+     * read by the receiver once it is written, which the volatile accesses of the slots make visible. The segments
+     * are small, since a worker sends a message to a channel at most once per send action.
+     */
+    private static class MessageQueue {
+
+        private static final int SEGMENT_SIZE = 8;
+        private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+        // accessed only by the sender
+        private Segment tail = new Segment();
+        private int tailIndex = 0;
+
+        // accessed only by the receiver
+        private Segment head = tail;
+        private int headIndex = 0;
+
+        void offer(Object message) {
+            if (tailIndex == SEGMENT_SIZE) {
+                Segment next = new Segment();
+                tail.next = next;
+                tail = next;
+                tailIndex = 0;
+            }
+            SLOT.setVolatile(tail.slots, tailIndex++, message);
+        }
+
+        Object poll() {
+            if (headIndex == SEGMENT_SIZE) {
+                Segment next = head.next;
+                if (next == null) {
+                    return null;
+                }
+                head = next;
+                headIndex = 0;
+            }
+            Object message = SLOT.getVolatile(head.slots, headIndex);
+            if (message != null) {
+                // the sender never writes a slot again, hence the message can be released
+                SLOT.setRelease(head.slots, headIndex++, null);
+            }
+            return message;
+        }
+
+        private static class Segment {
+
+            private final Object[] slots = new Object[SEGMENT_SIZE];
+            private volatile Segment next;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * The stack of the frames saved by the functions of a strand when the strand yields.
+ * <p>
+ * The frames are only pushed and popped by the thread running the strand, hence unlike {@link java.util.Stack} this
+ * is not synchronized. Other threads, e.g. the strand dump, may only read a snapshot of the frames.
+ *
+ * @since 2201.8.0
+ */
+public class FunctionFrameStack {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private FunctionFrame[] frames = new FunctionFrame[INITIAL_CAPACITY];
+    private int size = 0;
+
+    public void push(FunctionFrame frame) {
+        if (size == frames.length) {
+            frames = Arrays.copyOf(frames, size * 2);
+        }
+        frames[size++] = frame;
+    }
+
+    public FunctionFrame pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        FunctionFrame frame = frames[--size];
+        frames[size] = null;
+        return frame;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the frames, starting from the first pushed frame. The snapshot may contain null entries
+     * when it is taken by another thread while the frames are being pushed or popped.
+     *
+     * @return the frames of the stack
+     */
+    public FunctionFrame[] getFrames() {
+        FunctionFrame[] currentFrames = frames;
+        return Arrays.copyOf(currentFrames, Math.min(size, currentFrames.length));
+    }
+}
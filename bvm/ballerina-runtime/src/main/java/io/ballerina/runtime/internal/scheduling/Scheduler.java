@@ -35,11 +35,11 @@ import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -66,6 +66,22 @@ public class Scheduler {
      */
     private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
 
+    /**
+     * Per worker run queues, used instead of {@link #runnableList} when work stealing is enabled.
+     */
+    private final WorkStealingRunQueue workStealingQueue;
+
+    /**
+     * Factory of the virtual threads that run item groups, when the virtual thread mode is enabled.
+     */
+    private final ThreadFactory virtualThreadFactory;
+
+    /**
+     * Bounds the number of virtual threads that run item groups at the same time.
+     */
+    private final Semaphore virtualThreadPermits;
+    private final int maxVirtualThreads;
+
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private static final ConcurrentHashMap<Integer, Strand> currentStrands = new ConcurrentHashMap<>();
     private final Strand previousStrand;
@@ -74,6 +90,12 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static final boolean WORK_STEALING_ENABLED =
+            Boolean.parseBoolean(System.getenv(RuntimeConstants.BALLERINA_WORK_STEALING_ENV_VAR));
+
+    private static final boolean VIRTUAL_THREADS_ENABLED =
+            Boolean.parseBoolean(System.getenv(RuntimeConstants.BALLERINA_VIRTUAL_THREADS_ENV_VAR));
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -82,19 +104,55 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    /**
+     * Default number of virtual threads that can run at the same time, unless BALLERINA_MAX_POOL_SIZE is set.
+     */
+    private static final int DEFAULT_MAX_VIRTUAL_THREADS = 10000;
+
     private Semaphore mainBlockSem;
     private final RuntimeRegistry runtimeRegistry;
     private AtomicReference<ItemGroup> objectGroup = new AtomicReference<>();
 
+    /**
+     * Creates the main scheduler of a program. Only this scheduler runs its strands on virtual threads when
+     * BALLERINA_VIRTUAL_THREADS is set; the schedulers with a given number of threads keep to platform threads.
+     *
+     * @param immortal whether the scheduler keeps running after all the strands are done
+     */
     public Scheduler(boolean immortal) {
-        this(getPoolSize(), immortal);
+        this(VIRTUAL_THREADS_ENABLED ? getMaxVirtualThreads() : getPoolSize(), immortal, WORK_STEALING_ENABLED,
+                VIRTUAL_THREADS_ENABLED);
     }
 
     public Scheduler(int numThreads, boolean immortal) {
-        this.numThreads = numThreads;
+        this(numThreads, immortal, WORK_STEALING_ENABLED);
+    }
+
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
+        this(numThreads, immortal, workStealing, false);
+    }
+
+    /**
+     * Creates a scheduler which runs its strands either on platform worker threads or on virtual threads.
+     *
+     * @param numThreads     number of platform worker threads, or the maximum number of virtual threads running at
+     *                       the same time when virtual threads are used
+     * @param immortal       whether the scheduler keeps running after all the strands are done
+     * @param workStealing   whether each platform worker thread has a run queue of its own
+     * @param virtualThreads whether each runnable item group runs on a virtual thread of its own
+     */
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing, boolean virtualThreads) {
+        this.virtualThreadFactory = virtualThreads ? createVirtualThreadFactory() : null;
+        this.maxVirtualThreads = virtualThreadFactory != null ? Math.max(numThreads, 1) : 0;
+        this.virtualThreadPermits = virtualThreadFactory != null ? new Semaphore(maxVirtualThreads) : null;
+        // each item group gets its own virtual thread, hence a single thread is enough for dispatching
+        this.numThreads = virtualThreadFactory != null ? 1 : numThreads;
         this.immortal = immortal;
+        this.workStealingQueue = workStealing && this.numThreads > 1 ?
+                new WorkStealingRunQueue(this.numThreads) : null;
         this.runtimeRegistry = new RuntimeRegistry(this);
-        this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
+        this.previousStrand = this.numThreads == 1 && virtualThreadFactory == null ?
+                strandHolder.get().strand : null;
         ItemGroup group = new ItemGroup();
         objectGroup.set(group);
     }
@@ -222,7 +280,7 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunQueue(group, false);
         return future;
     }
 
@@ -248,16 +306,21 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunQueue(group, false);
         return future;
     }
 
     public void start() {
+        if (virtualThreadFactory != null) {
+            dispatchToVirtualThreads();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerIndex = i;
+            new Thread(() -> runSafely(workerIndex), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -268,8 +331,11 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerIndex) {
         try {
+            if (workStealingQueue != null) {
+                workStealingQueue.registerWorker(workerIndex);
+            }
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
@@ -281,10 +347,9 @@ public class Scheduler {
      */
     private void run() {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                group = workStealingQueue != null ? workStealingQueue.take() : runnableList.take();
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -294,38 +359,87 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
-                Object result = null;
-                Throwable panic = null;
+            runGroup(group);
+        }
+    }
 
-                item = group.get();
+    /**
+     * Runs each item group that gets submitted to the Scheduler on a virtual thread of its own, so that a strand
+     * blocked on a blocking Java call does not hold up the strands of other groups. At most
+     * {@link #maxVirtualThreads} groups run at the same time, and this returns only after all of them are done.
+     */
+    private void dispatchToVirtualThreads() {
+        while (true) {
+            ItemGroup group;
+            try {
+                group = runnableList.take();
+            } catch (InterruptedException ignored) {
+                continue;
+            }
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+            if (group == POISON_PILL) {
+                break;
+            }
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = previousStrand;
+            virtualThreadPermits.acquireUninterruptibly();
+            try {
+                virtualThreadFactory.newThread(() -> runGroupSafely(group)).start();
+            } catch (Throwable t) {
+                virtualThreadPermits.release();
+                throw t;
+            }
+        }
+        // wait for the groups which are still running, e.g. the ones that completed the last strands
+        virtualThreadPermits.acquireUninterruptibly(maxVirtualThreads);
+        virtualThreadPermits.release(maxVirtualThreads);
+    }
+
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        } finally {
+            virtualThreadPermits.release();
+        }
+    }
+
+    /**
+     * Executes the items of the given group until there are no more runnable items in it.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        boolean isItemsEmpty = group.items.isEmpty();
+        while (!isItemsEmpty) {
+            Object result = null;
+            Throwable panic = null;
+
+            item = group.get();
+
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.empty())) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                group.unlock();
+            } finally {
+                strandHolder.get().strand = previousStrand;
             }
+            postProcess(item, result, panic);
+            group.lock();
+            if ((isItemsEmpty = group.items.empty())) {
+                group.scheduled.set(false);
+            }
+            group.unlock();
         }
     }
 
@@ -387,7 +501,7 @@ public class Scheduler {
                                 ctx.runnable = true;
                             } else {
                                 ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
+                                reschedule(ctx.schedulerItem, true);
                             }
                         }
                     }
@@ -399,7 +513,7 @@ public class Scheduler {
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
                     // (number of started stands - finished stands) = 0, all the work is done
-                    assert runnableList.isEmpty();
+                    assert workStealingQueue != null ? workStealingQueue.isEmpty() : runnableList.isEmpty();
 
                     gracefulExit();
                 }
@@ -431,7 +545,7 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
-            reschedule(strand.schedulerItem);
+            reschedule(strand.schedulerItem, true);
         } else {
             // item not returned to scheduler, yet.
             // scheduler will simply reschedule since this is already unlocked.
@@ -470,14 +584,29 @@ public class Scheduler {
     }
 
     private void reschedule(SchedulerItem item) {
+        reschedule(item, false);
+    }
+
+    /**
+     * Makes the given item runnable again.
+     *
+     * @param item        item to be rescheduled
+     * @param runNext     whether the item was unblocked by the strand running on the current thread, in which case
+     *                    it is preferably run next on the same worker
+     */
+    private void reschedule(SchedulerItem item, boolean runNext) {
         if (!item.getState().equals(State.RUNNABLE)) {
             ItemGroup group = item.future.strand.strandGroup;
             item.setState(State.RUNNABLE);
-            addToRunnableList(item, group);
+            addToRunnableList(item, group, runNext);
         }
     }
 
     private void addToRunnableList(SchedulerItem item, ItemGroup group) {
+        addToRunnableList(item, group, false);
+    }
+
+    private void addToRunnableList(SchedulerItem item, ItemGroup group, boolean runNext) {
         group.lock();
         group.add(item);
         // Group maybe not picked by any thread at the moment because,
@@ -485,11 +614,21 @@ public class Scheduler {
         //  2) All others have finished
         // In this case we need to put it back in the runnable list.
         if (group.scheduled.compareAndSet(false, true)) {
-            runnableList.add(group);
+            addToRunQueue(group, runNext);
         }
         group.unlock();
     }
 
+    private void addToRunQueue(ItemGroup group, boolean runNext) {
+        if (workStealingQueue == null) {
+            runnableList.add(group);
+        } else if (runNext) {
+            workStealingQueue.addNext(group);
+        } else {
+            workStealingQueue.add(group);
+        }
+    }
+
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
                                     Type constraint, String name, StrandMetadata metadata) {
         Strand newStrand = new Strand(name, metadata, this, parent, properties, parent != null ?
@@ -500,13 +639,17 @@ public class Scheduler {
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
         FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Stack<>();
+        future.strand.frames = new FunctionFrameStack();
         return future;
     }
 
     public void poison() {
         for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
+            if (workStealingQueue != null) {
+                workStealingQueue.addGlobal(POISON_PILL);
+            } else {
+                runnableList.add(POISON_PILL);
+            }
         }
     }
 
@@ -525,6 +668,25 @@ public class Scheduler {
         return runtimeRegistry;
     }
 
+    /**
+     * Returns the number of strands of this scheduler which can run on the processors at the same time.
+     *
+     * @return the parallelism of the scheduler
+     */
+    public int getParallelism() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return virtualThreadFactory != null ? processors : Math.min(numThreads, processors);
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        ThreadFactory factory = VirtualThreads.createFactory("jbal-strand-vexec-");
+        if (factory == null) {
+            err.println("ballerina: virtual threads are not supported by the current Java runtime, " +
+                    RuntimeConstants.BALLERINA_VIRTUAL_THREADS_ENV_VAR + " is ignored");
+        }
+        return factory;
+    }
+
     private static int getPoolSize() {
         try {
             if (poolSizeConf != null) {
@@ -538,6 +700,10 @@ public class Scheduler {
         return poolSize;
     }
 
+    private static int getMaxVirtualThreads() {
+        return poolSizeConf != null ? getPoolSize() : DEFAULT_MAX_VIRTUAL_THREADS;
+    }
+
     public void gracefulExit() {
         if (!this.immortal) {
             this.poison();
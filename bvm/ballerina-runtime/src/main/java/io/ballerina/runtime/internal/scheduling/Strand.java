@@ -33,7 +33,6 @@ import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -65,7 +64,7 @@ public class Strand {
     private final String name;
     private final StrandMetadata metadata;
 
-    public Stack<FunctionFrame> frames;
+    public FunctionFrameStack frames;
     public int resumeIndex;
     public int functionInvocation;
     public Object returnValue;
@@ -471,7 +470,7 @@ public class Strand {
     }
 
     private void getInfoFromYieldedState(StringBuilder strandInfo, String closingBracketWithNewLines) {
-        Stack<FunctionFrame> strandFrames = this.frames;
+        FunctionFrameStack strandFrames = this.frames;
         if ((strandFrames == null) || (strandFrames.isEmpty())) {
             // this means the strand frames is changed, hence the state is runnable
             strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
@@ -482,22 +481,21 @@ public class Strand {
         String stringPrefix = "\t\tat\t";
         String yieldStatus = "BLOCKED";
         boolean noPickedYieldStatus = true;
-        try {
-            for (FunctionFrame frame : strandFrames) {
-                if (noPickedYieldStatus) {
-                    yieldStatus = frame.yieldStatus;
-                    noPickedYieldStatus = false;
-                }
-                String yieldLocation = frame.yieldLocation;
-                frameStackTrace.append(stringPrefix).append(yieldLocation);
-                frameStackTrace.append("\n");
-                stringPrefix = "\t\t  \t";
+        for (FunctionFrame frame : strandFrames.getFrames()) {
+            if (frame == null) {
+                // this can happen when frames get added or removed while the snapshot is being taken
+                // that means now the strand state is changed from yielded state to runnable state
+                strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
+                return;
             }
-        } catch (ConcurrentModificationException ce) {
-            // this exception can be thrown when frames get added or removed while it is being iterated
-            // that means now the strand state is changed from yielded state to runnable state
-            strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
-            return;
+            if (noPickedYieldStatus) {
+                yieldStatus = frame.yieldStatus;
+                noPickedYieldStatus = false;
+            }
+            String yieldLocation = frame.yieldLocation;
+            frameStackTrace.append(stringPrefix).append(yieldLocation);
+            frameStackTrace.append("\n");
+            stringPrefix = "\t\t  \t";
         }
         if (!this.isYielded() || noPickedYieldStatus) {
             // if frames have got empty, noPickedYieldStatus is true, then the state has changed to runnable
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to JDK virtual threads. The runtime is compiled for Java 17, hence the virtual thread API is looked up
+ * reflectively and is only available when running on a JDK that supports it.
+ *
+ * @since 2201.8.0
+ */
+final class VirtualThreads {
+
+    private static final String THREAD_BUILDER_CLASS = "java.lang.Thread$Builder";
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates a factory of virtual threads with names starting with the given prefix.
+     *
+     * @param namePrefix prefix of the thread names
+     * @return thread factory, or null if virtual threads are not supported by the running JDK
+     */
+    static ThreadFactory createFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName(THREAD_BUILDER_CLASS);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // not supported, or a preview feature that is not enabled in this JDK
+            return null;
+        }
+    }
+}
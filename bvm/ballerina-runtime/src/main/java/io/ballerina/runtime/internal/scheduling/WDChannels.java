@@ -44,4 +44,23 @@ public class WDChannels {
         }
         return channel;
     }
+
+    /**
+     * Returns the channel of the given name, whose messages are only sent asynchronously and which is never flushed.
+     * The channel is created as an {@link AsyncWorkerDataChannel} unless it is already created.
+     *
+     * @param name name of the channel
+     * @return the worker data channel
+     */
+    public synchronized WorkerDataChannel getAsyncWorkerDataChannel(String name) {
+        if (this.wDChannels == null) {
+            this.wDChannels = new HashMap<>();
+        }
+        WorkerDataChannel channel = this.wDChannels.get(name);
+        if (channel == null) {
+            channel = new AsyncWorkerDataChannel(name);
+            this.wDChannels.put(name, channel);
+        }
+        return channel;
+    }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Run queue of the {@link Scheduler} which keeps a deque per worker thread and lets idle workers steal from the
+ * others, instead of having every worker contend on a single shared queue.
+ * <p>
+ * Item groups are always moved as a whole, hence the ordering of items within a group (e.g. the object group) is
+ * preserved regardless of which worker ends up running it.
+ *
+ * @since 2201.8.0
+ */
+class WorkStealingRunQueue {
+
+    /**
+     * A worker takes from the global queue at least once in this many takes, so that groups submitted from
+     * non-worker threads are not starved by a busy local queue.
+     */
+    private static final int GLOBAL_QUEUE_CHECK_INTERVAL = 61;
+
+    /**
+     * Upper bound for parking an idle worker. Wakeups are signalled explicitly, this is only a safety net.
+     */
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Worker[] workers;
+    private final Queue<ItemGroup> globalQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    WorkStealingRunQueue(int numWorkers) {
+        this.workers = new Worker[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            workers[i] = new Worker();
+        }
+    }
+
+    /**
+     * Binds the calling thread to the worker with the given index. Must be called by each scheduler thread before
+     * it starts taking groups.
+     *
+     * @param index index of the worker
+     */
+    void registerWorker(int index) {
+        currentWorker.set(workers[index]);
+    }
+
+    /**
+     * Adds a group to be run. Groups added from a worker thread go to that worker's local queue, others go to the
+     * global queue.
+     *
+     * @param group group to be run
+     */
+    void add(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            globalQueue.add(group);
+        } else {
+            worker.localQueue.addLast(group);
+        }
+        signalIdleWorker();
+    }
+
+    /**
+     * Adds a group that should preferably run next on the current worker, e.g. a strand unblocked by the strand
+     * currently running on it. The group previously occupying that slot is moved to the local queue.
+     *
+     * @param group group to be run
+     */
+    void addNext(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            add(group);
+            return;
+        }
+        ItemGroup displaced = worker.runNext.getAndSet(group);
+        if (displaced != null) {
+            worker.localQueue.addLast(displaced);
+        }
+        signalIdleWorker();
+    }
+
+    /**
+     * Adds a group to the global queue and wakes up all idle workers.
+     *
+     * @param group group to be run
+     */
+    void addGlobal(ItemGroup group) {
+        globalQueue.add(group);
+        Thread idle;
+        while ((idle = idleWorkers.poll()) != null) {
+            LockSupport.unpark(idle);
+        }
+    }
+
+    /**
+     * Retrieves the next group for the current worker, waiting if necessary until one becomes available.
+     *
+     * @return next group to run
+     */
+    ItemGroup take() {
+        Worker worker = currentWorker.get();
+        Thread current = Thread.currentThread();
+        while (true) {
+            ItemGroup group = poll(worker);
+            if (group != null) {
+                return group;
+            }
+            idleWorkers.add(current);
+            // recheck after registering as idle, so that a concurrent add either sees this worker or is seen here
+            group = poll(worker);
+            if (group != null) {
+                idleWorkers.remove(current);
+                return group;
+            }
+            LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            idleWorkers.remove(current);
+        }
+    }
+
+    boolean isEmpty() {
+        if (!globalQueue.isEmpty()) {
+            return false;
+        }
+        for (Worker worker : workers) {
+            if (worker.runNext.get() != null || !worker.localQueue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ItemGroup poll(Worker worker) {
+        ItemGroup group;
+        if (++worker.ticks % GLOBAL_QUEUE_CHECK_INTERVAL == 0) {
+            group = globalQueue.poll();
+            if (group != null) {
+                return group;
+            }
+            // prefer older local work over the run next slot once in a while, to avoid ping-pong starvation
+            group = worker.localQueue.pollFirst();
+            if (group != null) {
+                return group;
+            }
+        }
+        group = worker.runNext.getAndSet(null);
+        if (group != null) {
+            return group;
+        }
+        group = worker.localQueue.pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = globalQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(worker);
+    }
+
+    private ItemGroup steal(Worker thief) {
+        int numWorkers = workers.length;
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            Worker victim = workers[(start + i) % numWorkers];
+            if (victim == thief) {
+                continue;
+            }
+            ItemGroup group = victim.localQueue.pollFirst();
+            if (group != null) {
+                return group;
+            }
+        }
+        // last resort, the victim may be busy running a long strand
+        for (int i = 0; i < numWorkers; i++) {
+            Worker victim = workers[(start + i) % numWorkers];
+            if (victim == thief) {
+                continue;
+            }
+            ItemGroup group = victim.runNext.getAndSet(null);
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalIdleWorker() {
+        Thread idle = idleWorkers.poll();
+        if (idle != null) {
+            LockSupport.unpark(idle);
+        }
+    }
+
+    /**
+     * Run queue state owned by a single scheduler thread.
+     */
+    private static class Worker {
+
+        final ConcurrentLinkedDeque<ItemGroup> localQueue = new ConcurrentLinkedDeque<>();
+        final AtomicReference<ItemGroup> runNext = new AtomicReference<>();
+        int ticks;
+    }
+}
@@ -30,6 +30,7 @@ import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
@@ -45,13 +46,18 @@ import java.util.Optional;
  */
 public class BRecordType extends BStructureType implements RecordType {
     private final String internalName;
-    public boolean sealed;
-    public Type restFieldType;
+    public final boolean sealed;
+    private Type restFieldType;
     public int typeFlags;
     private final boolean readonly;
     private IntersectionType immutableType;
     private IntersectionType intersectionType = null;
 
+    // populates the fields, the rest field type and the immutable type, when the type is created without them
+    private volatile TypePopulator typePopulator;
+    private int typeIndex;
+    private boolean populating;
+
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
      *
@@ -127,7 +133,7 @@ public class BRecordType extends BStructureType implements RecordType {
     @Override
     public <V extends Object> V getEmptyValue() {
         MapValue<BString, Object> implicitInitValue = new MapValueImpl<>(this);
-        this.fields.entrySet().stream()
+        getFields().entrySet().stream()
                 .filter(entry -> !SymbolFlags.isFlagOn(entry.getValue().getFlags(), SymbolFlags.OPTIONAL))
                 .forEach(entry -> {
                     Object value = entry.getValue().getFieldType().getEmptyValue();
@@ -163,6 +169,7 @@ public class BRecordType extends BStructureType implements RecordType {
 
     @Override
     public IntersectionType getImmutableType() {
+        populate();
         return this.immutableType;
     }
 
@@ -186,9 +193,62 @@ public class BRecordType extends BStructureType implements RecordType {
     }
 
     public Type getRestFieldType() {
+        populate();
         return restFieldType;
     }
 
+    public void setRestFieldType(Type restFieldType) {
+        this.restFieldType = restFieldType;
+        TypeCheckCache.invalidate(this);
+    }
+
+    @Override
+    public Map<String, Field> getFields() {
+        populate();
+        return getFieldsView();
+    }
+
+    /**
+     * Sets the populator of the members of this type, which are populated when any of them is first accessed.
+     *
+     * @param typePopulator populator of the types of the module of this type
+     * @param typeIndex     index of this type in the populator
+     */
+    public void setTypePopulator(TypePopulator typePopulator, int typeIndex) {
+        this.typeIndex = typeIndex;
+        this.typePopulator = typePopulator;
+    }
+
+    /**
+     * Checks whether the fields, the rest field type and the immutable type of this type have been populated.
+     *
+     * @return true if the members are populated
+     */
+    public boolean isPopulated() {
+        return typePopulator == null;
+    }
+
+    private void populate() {
+        if (this.typePopulator == null) {
+            return;
+        }
+        synchronized (this) {
+            // the populating thread may only reach this type again through a recursive reference, which gets the
+            // members populated so far, the same as when the types are populated eagerly
+            TypePopulator populator = this.typePopulator;
+            if (populator == null || populating) {
+                return;
+            }
+            populating = true;
+            try {
+                populator.populate(typeIndex);
+                this.typePopulator = null;
+            } finally {
+                populating = false;
+            }
+        }
+    }
+
     public int getTypeFlags() {
         return typeFlags;
     }
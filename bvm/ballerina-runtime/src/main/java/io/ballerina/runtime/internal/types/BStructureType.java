@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.types;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.internal.TypeCheckCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -33,6 +34,7 @@ public abstract class BStructureType extends BAnnotatableType implements Structu
 
     protected Map<String, Field> fields;
     public long flags;
+    private FieldMapView fieldsView;
 
     /**
      * Create a {@code BStructType} which represents the user defined struct type.
@@ -65,11 +67,31 @@ public abstract class BStructureType extends BAnnotatableType implements Structu
     }
 
     public Map<String, Field> getFields() {
-        return fields;
+        return getFieldsView();
+    }
+
+    /**
+     * Returns the fields of this type through a view, so that mutating them invalidates the type check results which
+     * depend on them.
+     *
+     * @return view of the fields
+     */
+    protected Map<String, Field> getFieldsView() {
+        Map<String, Field> fields = this.fields;
+        if (fields == null) {
+            return null;
+        }
+        FieldMapView view = fieldsView;
+        if (view == null || !view.isViewOf(fields)) {
+            view = new FieldMapView(fields, this);
+            fieldsView = view;
+        }
+        return view;
     }
 
     public void setFields(Map<String, Field> fields) {
         this.fields = fields;
+        TypeCheckCache.invalidate(this);
     }
 
     public long getFlags() {
@@ -42,6 +42,7 @@ public abstract class BType implements Type {
     protected Module pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
+    private volatile boolean typeCheckPublished;
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -183,6 +184,20 @@ public abstract class BType implements Type {
         // For types that immutable type may be set later, the relevant type overrides this method.
     }
 
+    /**
+     * Checks whether the type has taken part in a type check, hence whether the type check results cached so far may
+     * depend on it.
+     *
+     * @return true if the type has been type checked
+     */
+    public boolean isTypeCheckPublished() {
+        return typeCheckPublished;
+    }
+
+    public void setTypeCheckPublished() {
+        this.typeCheckPublished = true;
+    }
+
     private boolean hasAllNullConstituents(Module module) {
         return module.getOrg() == null && module.getName() == null && module.getMajorVersion() == null;
     }
@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.flags.TypeFlags;
 import io.ballerina.runtime.api.types.IntersectableReferenceType;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -49,6 +50,7 @@ public class BTypeReferenceType extends BAnnotatableType implements Intersectabl
 
     public void setReferredType(Type referredType) {
         this.referredType = referredType;
+        TypeCheckCache.invalidate(this);
     }
 
     @Override
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.internal.TypeCheckCache;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * View of the fields of a structure type, which invalidates the {@link TypeCheckCache} when the fields are mutated
+ * through it. The entries and the iterators of the view do not support mutation.
+ *
+ * @since 2201.8.0
+ */
+final class FieldMapView extends AbstractMap<String, Field> {
+
+    private final Map<String, Field> fields;
+    private final BStructureType type;
+    // the fields are mutated through the methods of this view only
+    private final Set<Entry<String, Field>> entrySet;
+
+    FieldMapView(Map<String, Field> fields, BStructureType type) {
+        this.fields = fields;
+        this.type = type;
+        this.entrySet = Collections.unmodifiableMap(fields).entrySet();
+    }
+
+    boolean isViewOf(Map<String, Field> fields) {
+        return this.fields == fields;
+    }
+
+    @Override
+    public int size() {
+        return fields.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return fields.containsKey(key);
+    }
+
+    @Override
+    public Field get(Object key) {
+        return fields.get(key);
+    }
+
+    @Override
+    public Field put(String key, Field value) {
+        Field previous = fields.put(key, value);
+        TypeCheckCache.invalidate(type);
+        return previous;
+    }
+
+    @Override
+    public Field remove(Object key) {
+        Field previous = fields.remove(key);
+        TypeCheckCache.invalidate(type);
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Field> map) {
+        fields.putAll(map);
+        TypeCheckCache.invalidate(type);
+    }
+
+    @Override
+    public void clear() {
+        fields.clear();
+        TypeCheckCache.invalidate(type);
+    }
+
+    @Override
+    public Set<Entry<String, Field>> entrySet() {
+        return entrySet;
+    }
+}
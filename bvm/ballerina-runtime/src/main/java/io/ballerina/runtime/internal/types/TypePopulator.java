@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.types;
+
+/**
+ * Populates the members of the types of a module, which are created without their members during the module
+ * initialization.
+ * <p>
+ * This is implemented by the generated types class of a module. A type is populated at most once, when its members are
+ * first accessed, hence the members of the types which are never used by a program are never created.
+ *
+ * @since 2201.8.0
+ */
+public interface TypePopulator {
+
+    /**
+     * Populates the members of a type of the module.
+     *
+     * @param typeIndex index of the type, given when the type is created
+     */
+    void populate(int typeIndex);
+}
@@ -133,6 +133,30 @@ public class ArrayValueImpl extends AbstractArrayValue {
         setArrayType(PredefinedTypes.TYPE_STRING, readonly);
     }
 
+    public ArrayValueImpl(long[] values, ArrayType type) {
+        this.intValues = values;
+        this.size = values.length;
+        setArrayType(type);
+    }
+
+    public ArrayValueImpl(boolean[] values, ArrayType type) {
+        this.booleanValues = values;
+        this.size = values.length;
+        setArrayType(type);
+    }
+
+    public ArrayValueImpl(byte[] values, ArrayType type) {
+        this.byteValues = values;
+        this.size = values.length;
+        setArrayType(type);
+    }
+
+    public ArrayValueImpl(double[] values, ArrayType type) {
+        this.floatValues = values;
+        this.size = values.length;
+        setArrayType(type);
+    }
+
     public ArrayValueImpl(ArrayType type) {
         this(type, type.getSize());
     }
@@ -1206,6 +1230,12 @@ public class ArrayValueImpl extends AbstractArrayValue {
         resetSize(intIndex);
     }
 
+    private void setArrayType(ArrayType type) {
+        this.type = this.arrayType = type;
+        this.elementType = type.getElementType();
+        this.elementReferredType = TypeUtils.getImpliedType(this.elementType);
+    }
+
     private void setArrayType(Type elementType, boolean readonly) {
         this.type = this.arrayType = new BArrayType(elementType, -1, readonly, 6);
         this.elementType = elementType;
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Represent ballerina strings created by concatenating two strings, without copying their content.
+ * <p>
+ * Concatenating a long string only creates a node referring to both strings, hence repeatedly appending to a string
+ * is linear instead of quadratic. The content is copied into a {@link BmpStringValue} or a {@link NonBmpStringValue}
+ * only when it is first needed, e.g. to get the java string, a code point or the hash code. The children are released
+ * once the content is copied, hence reading a string which is repeatedly appended to doesn't retain every prefix.
+ *
+ * @since 2201.8.0
+ */
+public class ConcatStringValue extends StringValue {
+
+    /**
+     * Minimum number of chars of a concatenation for it to be done lazily. Shorter strings are cheaper to copy.
+     */
+    static final int MIN_LAZY_CONCAT_LENGTH = 256;
+
+    // Set to null once the flattened value is published
+    private volatile StringValue left;
+    private volatile StringValue right;
+    private final int length;
+    private final int charLength;
+    private volatile StringValue flattened;
+
+    ConcatStringValue(StringValue left, StringValue right) {
+        super(null, left.isNonBmp || right.isNonBmp);
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = left.charLength() + right.charLength();
+    }
+
+    static boolean isLazyConcat(StringValue left, StringValue right) {
+        return right instanceof ConcatStringValue || left.charLength() + right.charLength() >= MIN_LAZY_CONCAT_LENGTH;
+    }
+
+    /**
+     * Returns the string value with the copied content of this string.
+     *
+     * @return flat string value
+     */
+    public StringValue flatten() {
+        StringValue flat = flattened;
+        if (flat == null) {
+            flat = copyContent();
+            flattened = flat;
+            left = null;
+            right = null;
+        }
+        return flat;
+    }
+
+    // Copies the leaves in order, without recursion as appending in a loop creates deep trees
+    private StringValue copyContent() {
+        StringBuilder sb = new StringBuilder(charLength);
+        int[] surrogates = new int[0];
+        int surrogateCount = 0;
+        int codePointOffset = 0;
+
+        Deque<StringValue> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            StringValue node = pending.pop();
+            if (node instanceof ConcatStringValue) {
+                ConcatStringValue concatNode = (ConcatStringValue) node;
+                StringValue flatNode = concatNode.flattened;
+                if (flatNode == null) {
+                    StringValue leftNode = concatNode.left;
+                    StringValue rightNode = concatNode.right;
+                    if (leftNode != null && rightNode != null) {
+                        pending.push(rightNode);
+                        pending.push(leftNode);
+                        continue;
+                    }
+                    // the node was flattened by another strand after the first read, and the children are released
+                    // only after the flattened value is published
+                    flatNode = concatNode.flattened;
+                }
+                node = flatNode;
+            }
+
+            sb.append(node.value);
+            if (node.isNonBmp) {
+                int[] nodeSurrogates = ((NonBmpStringValue) node).surrogates;
+                if (surrogateCount + nodeSurrogates.length > surrogates.length) {
+                    surrogates = Arrays.copyOf(surrogates,
+                            Math.max(surrogates.length * 2, surrogateCount + nodeSurrogates.length));
+                }
+                for (int surrogate : nodeSurrogates) {
+                    surrogates[surrogateCount++] = surrogate + codePointOffset;
+                }
+            }
+            codePointOffset += node.length();
+        }
+
+        if (surrogateCount == 0) {
+            return new BmpStringValue(sb.toString());
+        }
+        return new NonBmpStringValue(sb.toString(), Arrays.copyOf(surrogates, surrogateCount));
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().value;
+    }
+
+    @Override
+    int charLength() {
+        return charLength;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new ConcatStringValue(this, (StringValue) str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public IteratorValue getIterator() {
+        return flatten().getIterator();
+    }
+}
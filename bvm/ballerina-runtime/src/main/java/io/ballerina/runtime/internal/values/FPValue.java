@@ -51,6 +51,9 @@ public class FPValue<T, R> implements BFunctionPointer<T, R>, RefValue {
     Function<T, R> function;
     public boolean isConcurrent;
     public String strandName;
+    // set by the compiler when the function never yields, so that it can be called on the strand of the caller, never
+    // set when the module is compiled for its tests, since the function may be mocked by a function which yields
+    public boolean isNonYielding;
 
     @Deprecated
     public FPValue(Function<T, R> function, Type type, String strandName, boolean isConcurrent) {
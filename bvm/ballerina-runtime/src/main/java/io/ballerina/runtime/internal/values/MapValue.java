@@ -18,6 +18,7 @@
 package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 
 /**
  * <p>
@@ -34,4 +35,30 @@ import io.ballerina.runtime.api.values.BMap;
  */
 public interface MapValue<K, V> extends RefValue, CollectionValue, BMap<K, V> {
 
+    /**
+     * Returns the value of an {@code int} field without boxing it, if the field is stored unboxed.
+     *
+     * @param key field name
+     * @return value of the field
+     * @since 2201.8.0
+     */
+    long getUnboxedIntValue(BString key);
+
+    /**
+     * Returns the value of a {@code float} field without boxing it, if the field is stored unboxed.
+     *
+     * @param key field name
+     * @return value of the field
+     * @since 2201.8.0
+     */
+    double getUnboxedFloatValue(BString key);
+
+    /**
+     * Returns the value of a {@code boolean} field without boxing it, if the field is stored unboxed.
+     *
+     * @param key field name
+     * @return value of the field
+     * @since 2201.8.0
+     */
+    boolean getUnboxedBooleanValue(BString key);
 }
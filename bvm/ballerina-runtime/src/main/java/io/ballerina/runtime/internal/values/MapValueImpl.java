@@ -160,6 +160,36 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return 0;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Generated record value classes override this to read the fields stored as {@code long}s directly.
+     */
+    @Override
+    public long getUnboxedIntValue(BString key) {
+        return TypeChecker.anyToInt(get(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Generated record value classes override this to read the fields stored as {@code double}s directly.
+     */
+    @Override
+    public double getUnboxedFloatValue(BString key) {
+        return TypeChecker.anyToFloat(get(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Generated record value classes override this to read the fields stored as {@code boolean}s directly.
+     */
+    @Override
+    public boolean getUnboxedBooleanValue(BString key) {
+        return (Boolean) get(key);
+    }
+
     /**
      * Retrieve the value for the given key from map.
      * A {@link BError} will be thrown if the key does not exists.
@@ -202,7 +232,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
                     throw ErrorCreator.createError(MAP_KEY_NOT_FOUND_ERROR,
                             ErrorHelper.getErrorDetails(ErrorCodes.KEY_NOT_FOUND_ERROR, key));
                 }
-                expectedType = recordType.restFieldType;
+                expectedType = recordType.getRestFieldType();
             }
         } else {
             expectedType = ((BMapType) this.referredType).getConstrainedType();
@@ -635,8 +665,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             BRecordType recordType = (BRecordType) this.referredType;
             LinkedHashSet<Type> types = recordType.getFields().values().stream().map(Field::getFieldType)
                     .collect(Collectors.toCollection(LinkedHashSet::new));
-            if (recordType.restFieldType != null) {
-                types.add(recordType.restFieldType);
+            if (recordType.getRestFieldType() != null) {
+                types.add(recordType.getRestFieldType());
             }
             if (types.size() == 1) {
                 type = types.iterator().next();
@@ -29,7 +29,7 @@ import java.util.Arrays;
   */
  public class NonBmpStringValue extends StringValue {
 
-     private final int[] surrogates;
+     final int[] surrogates;
 
      public NonBmpStringValue(String value, int[] surrogatePairLocations) {
          super(value, true);
@@ -63,6 +63,9 @@ import java.util.Arrays;
     @Override
     public BString concat(BString str) {
         StringValue stringValue = (StringValue) str;
+        if (ConcatStringValue.isLazyConcat(this, stringValue)) {
+            return new ConcatStringValue(this, stringValue);
+        }
         if (stringValue.isNonBmp) {
             NonBmpStringValue other = (NonBmpStringValue) str;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
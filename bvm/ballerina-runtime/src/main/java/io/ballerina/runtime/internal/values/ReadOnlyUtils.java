@@ -32,6 +32,7 @@ import io.ballerina.runtime.api.types.ReferenceType;
 import io.ballerina.runtime.api.types.SelectivelyImmutableReferenceType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.types.BArrayType;
@@ -156,6 +157,13 @@ public class ReadOnlyUtils {
     }
 
     private static BIntersectionType setImmutableIntersectionType(Type type, Set<Type> unresolvedTypes) {
+        BIntersectionType intersectionType = createImmutableIntersectionType(type, unresolvedTypes);
+        // creating the immutable type updates the original type
+        TypeCheckCache.invalidate(type);
+        return intersectionType;
+    }
+
+    private static BIntersectionType createImmutableIntersectionType(Type type, Set<Type> unresolvedTypes) {
 
         Type immutableType = type.getTag() == TypeTags.TYPE_REFERENCED_TYPE_TAG ? null :
                 ((SelectivelyImmutableReferenceType) type).getImmutableType();
@@ -236,9 +244,9 @@ public class ReadOnlyUtils {
                 BIntersectionType intersectionType = createAndSetImmutableIntersectionType(origRecordType,
                                                                                            immutableRecordType);
 
-                Type origRecordRestFieldType = origRecordType.restFieldType;
+                Type origRecordRestFieldType = origRecordType.getRestFieldType();
                 if (origRecordRestFieldType != null) {
-                    immutableRecordType.restFieldType = getImmutableType(origRecordRestFieldType, unresolvedTypes);
+                    immutableRecordType.setRestFieldType(getImmutableType(origRecordRestFieldType, unresolvedTypes));
                 }
 
                 return intersectionType;
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BTypedesc;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 
@@ -39,6 +40,7 @@ import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 public class RegExpValue implements BRegexpValue, RefValue {
     private final RegExpDisjunction regExpDisjunction;
     private BTypedesc typedesc;
+    private volatile Pattern compiledPattern;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
@@ -49,6 +51,14 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    public Pattern getCompiledPattern() {
+        return this.compiledPattern;
+    }
+
+    public void setCompiledPattern(Pattern compiledPattern) {
+        this.compiledPattern = compiledPattern;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
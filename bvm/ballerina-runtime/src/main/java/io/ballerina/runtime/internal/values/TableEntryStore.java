@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Insertion ordered storage of the members of a table.
+ * <p>
+ * Members are kept in parallel arrays in the order they were added. Keyed tables also have an open addressing index
+ * from the primitive hash of a key to the position of its member. Removing a member only marks its position as dead,
+ * hence removal is O(1); dead positions are reclaimed by compacting the arrays the next time they run out of space.
+ * Since compaction moves members, iterators keep track of the sequence number of the last member they returned,
+ * instead of its position.
+ * <p>
+ * Members can also be indexed by the value of a non-key field. Members are indexed when they are added, hence only
+ * the fields which cannot be updated afterwards should be indexed.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of members
+ * @since 2201.8.0
+ */
+class TableEntryStore<K, V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final boolean keyed;
+    private Object[] keys;
+    private Object[] values;
+    private long[] hashes;
+    private long[] sequences;
+
+    /**
+     * Open addressing index from the key hash to the position of the member + 1. A zero marks an empty slot. Has
+     * twice the capacity of the member arrays, so that it is never more than half full.
+     */
+    private int[] slots;
+
+    private int end;
+    private int size;
+    private long nextSequence;
+    private int layoutVersion;
+    private Map<BString, FieldIndex> fieldIndexes;
+
+    TableEntryStore(boolean keyed) {
+        this.keyed = keyed;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position after the last used position. Positions below this may be dead.
+     *
+     * @return end of the used positions
+     */
+    int getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns a number which changes whenever members are moved to different positions.
+     *
+     * @return layout version
+     */
+    int getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    boolean isLive(int position) {
+        return values[position] != null;
+    }
+
+    K getKey(int position) {
+        return (K) (keyed ? keys[position] : values[position]);
+    }
+
+    V getValue(int position) {
+        return (V) values[position];
+    }
+
+    long getSequence(int position) {
+        return sequences[position];
+    }
+
+    /**
+     * Returns the first position of which the member was added after the member with the given sequence number.
+     *
+     * @param sequence sequence number of a member
+     * @return position of the next member, or the end of the used positions
+     */
+    int positionAfter(long sequence) {
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sequences[mid] <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int indexOf(Object key, long hash) {
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int position = slots[slot] - 1;
+            if (hashes[position] == hash && values[position] != null &&
+                    TypeChecker.isEqual(key, keys[position])) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    void add(K key, long hash, V value) {
+        if (end == values.length) {
+            compact(size < values.length / 2 ? values.length : values.length * 2);
+        }
+        int position = end++;
+        values[position] = value;
+        sequences[position] = nextSequence++;
+        if (keyed) {
+            keys[position] = key;
+            hashes[position] = hash;
+            insertSlot(hash, position);
+        }
+        size++;
+        if (fieldIndexes != null) {
+            for (FieldIndex fieldIndex : fieldIndexes.values()) {
+                fieldIndex.add(position);
+            }
+        }
+    }
+
+    void set(int position, K key, V value) {
+        Object oldValue = values[position];
+        keys[position] = key;
+        values[position] = value;
+        if (fieldIndexes != null) {
+            for (FieldIndex fieldIndex : fieldIndexes.values()) {
+                fieldIndex.replace(position, oldValue);
+            }
+        }
+    }
+
+    V remove(int position) {
+        V value = (V) values[position];
+        values[position] = null;
+        if (keyed) {
+            keys[position] = null;
+        }
+        if (--size == 0) {
+            clear();
+        }
+        return value;
+    }
+
+    void clear() {
+        Arrays.fill(values, 0, end, null);
+        if (keyed) {
+            Arrays.fill(keys, 0, end, null);
+            Arrays.fill(slots, 0);
+        }
+        end = 0;
+        size = 0;
+        layoutVersion++;
+        rebuildFieldIndexes();
+    }
+
+    List<V> values() {
+        List<V> liveValues = new ArrayList<>(size);
+        for (int i = 0; i < end; i++) {
+            if (values[i] != null) {
+                liveValues.add((V) values[i]);
+            }
+        }
+        return liveValues;
+    }
+
+    Object[] keys() {
+        if (!keyed) {
+            return new Object[0];
+        }
+        Object[] liveKeys = new Object[size];
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            if (values[i] != null) {
+                liveKeys[count++] = keys[i];
+            }
+        }
+        return liveKeys;
+    }
+
+    void addFieldIndex(BString fieldName) {
+        if (fieldIndexes == null) {
+            fieldIndexes = new HashMap<>();
+        }
+        if (!fieldIndexes.containsKey(fieldName)) {
+            FieldIndex fieldIndex = new FieldIndex(fieldName);
+            fieldIndex.rebuild();
+            fieldIndexes.put(fieldName, fieldIndex);
+        }
+    }
+
+    /**
+     * Returns the members of which the given field is equal to the given value, in the order they were added. Uses
+     * the index of the field if there is one, otherwise checks all the members.
+     *
+     * @param fieldName  name of the field
+     * @param fieldValue value of the field
+     * @return matching members
+     */
+    List<V> getByField(BString fieldName, Object fieldValue) {
+        FieldIndex fieldIndex = fieldIndexes == null ? null : fieldIndexes.get(fieldName);
+        if (fieldIndex != null) {
+            return fieldIndex.get(fieldValue);
+        }
+        List<V> matches = new ArrayList<>();
+        for (int i = 0; i < end; i++) {
+            if (values[i] != null && TypeChecker.isEqual(fieldValue, getFieldValue(i, fieldName))) {
+                matches.add((V) values[i]);
+            }
+        }
+        return matches;
+    }
+
+    private Object getFieldValue(int position, BString fieldName) {
+        return ((MapValue<BString, Object>) values[position]).get(fieldName);
+    }
+
+    private void allocate(int capacity) {
+        values = new Object[capacity];
+        sequences = new long[capacity];
+        if (keyed) {
+            keys = new Object[capacity];
+            hashes = new long[capacity];
+            slots = new int[capacity * 2];
+        }
+    }
+
+    /**
+     * Moves the live members to the start of the arrays, keeping their order, and rebuilds the indexes.
+     *
+     * @param capacity capacity of the member arrays after compaction
+     */
+    private void compact(int capacity) {
+        if (capacity != values.length) {
+            values = Arrays.copyOf(values, capacity);
+            sequences = Arrays.copyOf(sequences, capacity);
+            if (keyed) {
+                keys = Arrays.copyOf(keys, capacity);
+                hashes = Arrays.copyOf(hashes, capacity);
+                slots = new int[capacity * 2];
+            }
+        } else if (keyed) {
+            Arrays.fill(slots, 0);
+        }
+
+        int oldEnd = end;
+        end = 0;
+        for (int i = 0; i < oldEnd; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            values[end] = values[i];
+            sequences[end] = sequences[i];
+            if (keyed) {
+                keys[end] = keys[i];
+                hashes[end] = hashes[i];
+                insertSlot(hashes[end], end);
+            }
+            end++;
+        }
+        Arrays.fill(values, end, oldEnd, null);
+        if (keyed) {
+            Arrays.fill(keys, end, oldEnd, null);
+        }
+        layoutVersion++;
+        rebuildFieldIndexes();
+    }
+
+    private void insertSlot(long hash, int position) {
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = position + 1;
+    }
+
+    private void rebuildFieldIndexes() {
+        if (fieldIndexes != null) {
+            for (FieldIndex fieldIndex : fieldIndexes.values()) {
+                fieldIndex.rebuild();
+            }
+        }
+    }
+
+    private static int spread(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    /**
+     * Index of the members by the value of a field. Members with the same field value hash are chained together,
+     * latest first.
+     */
+    private class FieldIndex {
+
+        private final BString fieldName;
+        private long[] chainHashes;
+        private int[] chainHeads;
+        private int[] previous;
+
+        FieldIndex(BString fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        void rebuild() {
+            chainHashes = new long[values.length * 2];
+            chainHeads = new int[values.length * 2];
+            previous = new int[values.length];
+            for (int i = 0; i < end; i++) {
+                if (values[i] != null) {
+                    add(i);
+                }
+            }
+        }
+
+        void add(int position) {
+            long hash = TableUtils.hash(getFieldValue(position, fieldName), null);
+            int slot = findChain(hash);
+            chainHashes[slot] = hash;
+            previous[position] = chainHeads[slot];
+            chainHeads[slot] = position + 1;
+        }
+
+        void replace(int position, Object oldValue) {
+            // A member can only be moved to another chain by rebuilding, as the chains are singly linked
+            Object oldFieldValue = ((MapValue<BString, Object>) oldValue).get(fieldName);
+            if (TableUtils.hash(oldFieldValue, null) != TableUtils.hash(getFieldValue(position, fieldName), null)) {
+                rebuild();
+            }
+        }
+
+        List<V> get(Object fieldValue) {
+            List<V> matches = new ArrayList<>();
+            int slot = findChain(TableUtils.hash(fieldValue, null));
+            for (int next = chainHeads[slot]; next != 0; next = previous[next - 1]) {
+                int position = next - 1;
+                if (values[position] != null && TypeChecker.isEqual(fieldValue, getFieldValue(position, fieldName))) {
+                    matches.add((V) values[position]);
+                }
+            }
+            Collections.reverse(matches);
+            return matches;
+        }
+
+        private int findChain(long hash) {
+            int mask = chainHeads.length - 1;
+            int slot = spread(hash) & mask;
+            while (chainHeads[slot] != 0 && chainHashes[slot] != hash) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.VariableKey;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 import io.opentelemetry.api.common.Attributes;
 
@@ -47,15 +48,9 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_SERVICE_NAME;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_CLIENT_REMOTE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_MAIN_FUNCTION;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_REMOTE;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_RESOURCE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_WORKER;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_FUNCTION_NAME;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_MODULE;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_OBJECT_NAME;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_POSITION;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_ACCESSOR;
-import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_PATH;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_TRUE_VALUE;
 
 /**
@@ -189,26 +184,12 @@ public class ObserveUtils {
         }
         observerContext.setServiceName(serviceName.getValue());
 
-        if (isResource) {
-            observerContext.setOperationName(resourceAccessor.getValue() + " " + resourcePathOrFunction.getValue());
-
-            observerContext.addTag(TAG_KEY_IS_SRC_SERVICE_RESOURCE, TAG_TRUE_VALUE);
-            observerContext.addTag(TAG_KEY_SRC_RESOURCE_ACCESSOR, resourceAccessor.getValue());
-            observerContext.addTag(TAG_KEY_SRC_RESOURCE_PATH, resourcePathOrFunction.getValue());
-        } else if (isRemote) {
-            observerContext.setOperationName(serviceName.getValue() + ":" + resourcePathOrFunction.getValue());
-
-            observerContext.addTag(TAG_KEY_IS_SRC_SERVICE_REMOTE, TAG_TRUE_VALUE);
-            observerContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, resourcePathOrFunction.getValue());
-        } else {
-            observerContext.setOperationName(serviceName.getValue() + ":" + resourcePathOrFunction.getValue());
-
-            observerContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, resourcePathOrFunction.getValue());
+        ObservedCallSite callSite = ObservedCallSite.ofResource(module, srcFileName, startLine, startColumn,
+                serviceName, resourcePathOrFunction, resourceAccessor, isResource, isRemote);
+        observerContext.setOperationName(callSite.operationName);
+        for (Tag tag : callSite.tags) {
+            observerContext.addTag(tag);
         }
-        observerContext.addTag(TAG_KEY_SRC_OBJECT_NAME, serviceName.getValue());
-
-        observerContext.addTag(TAG_KEY_SRC_MODULE, module.getValue());
-        observerContext.addTag(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn));
 
         if (observerContext.getEntrypointFunctionModule() != null) {
             observerContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE,
@@ -370,29 +351,23 @@ public class ObserveUtils {
             newObContext.setEntrypointFunctionName(functionName.getValue());
         }
 
+        String kindTagKey = null;
         if (isMainEntryPoint) {
-            newObContext.addTag(TAG_KEY_IS_SRC_MAIN_FUNCTION, TAG_TRUE_VALUE);
+            kindTagKey = TAG_KEY_IS_SRC_MAIN_FUNCTION;
         } else if (isRemote) {
-            newObContext.addTag(TAG_KEY_IS_SRC_CLIENT_REMOTE, TAG_TRUE_VALUE);
+            kindTagKey = TAG_KEY_IS_SRC_CLIENT_REMOTE;
         } else if (isWorker) {
-            newObContext.addTag(TAG_KEY_IS_SRC_WORKER, TAG_TRUE_VALUE);
+            kindTagKey = TAG_KEY_IS_SRC_WORKER;
         }   // Else normal function
 
-        if (typeDef != null) {
-            ObjectType type = (ObjectType) TypeUtils.getImpliedType(typeDef.getType());
-            Module typeModule = type.getPackage();
-            String objectName = typeModule.getOrg() + "/" + typeModule.getName() + "/" + type.getName();
-
-            newObContext.setOperationName(objectName + ":" + functionName.getValue());
-            newObContext.addTag(TAG_KEY_SRC_OBJECT_NAME, objectName);
-        } else {
-            newObContext.setOperationName(functionName.getValue());
+        ObjectType objectType = typeDef != null ? (ObjectType) TypeUtils.getImpliedType(typeDef.getType()) : null;
+        ObservedCallSite callSite = ObservedCallSite.ofCallable(module, srcFileName, startLine, startColumn,
+                objectType, functionName, kindTagKey);
+        newObContext.setOperationName(callSite.operationName);
+        for (Tag tag : callSite.tags) {
+            newObContext.addTag(tag);
         }
 
-        newObContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, functionName.getValue());
-        newObContext.addTag(TAG_KEY_SRC_MODULE, module.getValue());
-        newObContext.addTag(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn));
-
         if (newObContext.getEntrypointFunctionModule() != null) {
             newObContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, newObContext.getEntrypointFunctionModule());
         }
@@ -474,7 +449,7 @@ public class ObserveUtils {
      * @param startColumn start column of the call
      * @return generated id for source position
      */
-    private static String generatePositionId(BString srcFileName, long startLine, long startColumn) {
+    static String generatePositionId(BString srcFileName, long startLine, long startColumn) {
         return String.format("%s:%d:%d", srcFileName, startLine, startColumn);
     }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_REMOTE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_RESOURCE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_FUNCTION_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_MODULE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_OBJECT_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_POSITION;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_ACCESSOR;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_PATH;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_TRUE_VALUE;
+
+/**
+ * The operation name and the tags of an observed call site, which only depend on the call site.
+ * <p>
+ * The observability instructions of a call site always pass the same module, position and function, hence these are
+ * created once on the first observation of the call site and reused afterwards, instead of formatting the position
+ * and creating the tags on each call.
+ *
+ * @since 2201.8.0
+ */
+class ObservedCallSite {
+
+    /**
+     * Maximum number of call sites to cache, as a guard against call sites which are not created by the compiler.
+     */
+    private static final int MAX_CACHED_CALL_SITES = 10000;
+
+    private static final Map<Key, ObservedCallSite> callSites = new ConcurrentHashMap<>();
+
+    final String operationName;
+    final Tag[] tags;
+
+    private ObservedCallSite(String operationName, List<Tag> tags) {
+        this.operationName = operationName;
+        this.tags = tags.toArray(new Tag[0]);
+    }
+
+    /**
+     * Returns the call site of a function call.
+     *
+     * @param module       module of the function
+     * @param srcFileName  source file of the call
+     * @param startLine    start line of the call
+     * @param startColumn  start column of the call
+     * @param objectType   type of the object of a method call, or null for function calls
+     * @param functionName name of the function
+     * @param kindTagKey   key of the tag marking the kind of the function, or null for normal functions
+     * @return the call site
+     */
+    static ObservedCallSite ofCallable(BString module, BString srcFileName, long startLine, long startColumn,
+                                       ObjectType objectType, BString functionName, String kindTagKey) {
+        Key key = new Key(module, srcFileName, startLine, startColumn, objectType, functionName, kindTagKey);
+        ObservedCallSite callSite = callSites.get(key);
+        if (callSite != null) {
+            return callSite;
+        }
+
+        List<Tag> tags = new ArrayList<>();
+        if (kindTagKey != null) {
+            tags.add(Tag.of(kindTagKey, TAG_TRUE_VALUE));
+        }
+        String operationName;
+        if (objectType != null) {
+            Module typeModule = objectType.getPackage();
+            String objectName = typeModule.getOrg() + "/" + typeModule.getName() + "/" + objectType.getName();
+            operationName = objectName + ":" + functionName.getValue();
+            tags.add(Tag.of(TAG_KEY_SRC_OBJECT_NAME, objectName));
+        } else {
+            operationName = functionName.getValue();
+        }
+        tags.add(Tag.of(TAG_KEY_SRC_FUNCTION_NAME, functionName.getValue()));
+        addSourceTags(tags, module, srcFileName, startLine, startColumn);
+        return cache(key, new ObservedCallSite(operationName, tags));
+    }
+
+    /**
+     * Returns the call site of a service method call.
+     *
+     * @param module                 module of the service
+     * @param srcFileName            source file of the method
+     * @param startLine              start line of the method
+     * @param startColumn            start column of the method
+     * @param serviceName            name of the service
+     * @param resourcePathOrFunction path of the resource or the name of the function
+     * @param resourceAccessor       accessor of the resource
+     * @param isResource             true if the method is a resource
+     * @param isRemote               true if the method is a remote method
+     * @return the call site
+     */
+    static ObservedCallSite ofResource(BString module, BString srcFileName, long startLine, long startColumn,
+                                       BString serviceName, BString resourcePathOrFunction,
+                                       BString resourceAccessor, boolean isResource, boolean isRemote) {
+        String kindTagKey = isResource ? TAG_KEY_IS_SRC_SERVICE_RESOURCE :
+                isRemote ? TAG_KEY_IS_SRC_SERVICE_REMOTE : null;
+        Key key = new Key(module, srcFileName, startLine, startColumn, serviceName, resourcePathOrFunction,
+                isResource ? resourceAccessor : kindTagKey);
+        ObservedCallSite callSite = callSites.get(key);
+        if (callSite != null) {
+            return callSite;
+        }
+
+        List<Tag> tags = new ArrayList<>();
+        String operationName;
+        if (kindTagKey != null) {
+            tags.add(Tag.of(kindTagKey, TAG_TRUE_VALUE));
+        }
+        if (isResource) {
+            operationName = resourceAccessor.getValue() + " " + resourcePathOrFunction.getValue();
+            tags.add(Tag.of(TAG_KEY_SRC_RESOURCE_ACCESSOR, resourceAccessor.getValue()));
+            tags.add(Tag.of(TAG_KEY_SRC_RESOURCE_PATH, resourcePathOrFunction.getValue()));
+        } else {
+            operationName = serviceName.getValue() + ":" + resourcePathOrFunction.getValue();
+            tags.add(Tag.of(TAG_KEY_SRC_FUNCTION_NAME, resourcePathOrFunction.getValue()));
+        }
+        tags.add(Tag.of(TAG_KEY_SRC_OBJECT_NAME, serviceName.getValue()));
+        addSourceTags(tags, module, srcFileName, startLine, startColumn);
+        return cache(key, new ObservedCallSite(operationName, tags));
+    }
+
+    private static void addSourceTags(List<Tag> tags, BString module, BString srcFileName, long startLine,
+                                      long startColumn) {
+        tags.add(Tag.of(TAG_KEY_SRC_MODULE, module.getValue()));
+        tags.add(Tag.of(TAG_KEY_SRC_POSITION, ObserveUtils.generatePositionId(srcFileName, startLine, startColumn)));
+    }
+
+    private static ObservedCallSite cache(Key key, ObservedCallSite callSite) {
+        if (callSites.size() >= MAX_CACHED_CALL_SITES) {
+            return callSite;
+        }
+        ObservedCallSite existing = callSites.putIfAbsent(key, callSite);
+        return existing != null ? existing : callSite;
+    }
+
+    /**
+     * Identifies a call site by the values passed by its observability instructions.
+     */
+    private static class Key {
+
+        private final BString module;
+        private final BString srcFileName;
+        private final long startLine;
+        private final long startColumn;
+        private final Object owner;
+        private final BString name;
+        private final Object kind;
+        private final int hashCode;
+
+        Key(BString module, BString srcFileName, long startLine, long startColumn, Object owner, BString name,
+            Object kind) {
+            this.module = module;
+            this.srcFileName = srcFileName;
+            this.startLine = startLine;
+            this.startColumn = startColumn;
+            this.owner = owner;
+            this.name = name;
+            this.kind = kind;
+            int hash = 31 * module.hashCode() + srcFileName.hashCode();
+            hash = 31 * hash + Long.hashCode(startLine);
+            hash = 31 * hash + Long.hashCode(startColumn);
+            this.hashCode = 31 * hash + name.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return startLine == key.startLine && startColumn == key.startColumn && module.equals(key.module) &&
+                    srcFileName.equals(key.srcFileName) && name.equals(key.name) && Objects.equals(owner, key.owner)
+                    && Objects.equals(kind, key.kind);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
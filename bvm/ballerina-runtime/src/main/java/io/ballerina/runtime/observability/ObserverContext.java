@@ -20,6 +20,7 @@ package io.ballerina.runtime.observability;
 import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -48,6 +49,11 @@ public class ObserverContext {
      */
     public Map<String, Tag> customMetricTags;
 
+    /**
+     * Unmodifiable {@link Set} of the current tags, which is created when first requested after a tag was added.
+     */
+    private Set<Tag> tagSet;
+
     private BSpan span;
 
     private String entrypointFunctionModule;
@@ -89,8 +95,12 @@ public class ObserverContext {
 
     public void addTag(String key, String value) {
         String sanitizedValue = value != null ? value : "";
-        Tag tag = Tag.of(key, sanitizedValue);
-        tags.put(key, tag);
+        addTag(Tag.of(key, sanitizedValue));
+    }
+
+    void addTag(Tag tag) {
+        tags.put(tag.getKey(), tag);
+        tagSet = null;
     }
 
     public Tag getTag(String key) {
@@ -101,6 +111,21 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Returns the current tags without copying them on each call. The returned set is not updated when tags are
+     * added afterwards, hence it can also be used as a key.
+     *
+     * @return unmodifiable set of the current tags
+     */
+    public Set<Tag> getTagSet() {
+        Set<Tag> currentTagSet = tagSet;
+        if (currentTagSet == null) {
+            currentTagSet = Collections.unmodifiableSet(new HashSet<>(tags.values()));
+            tagSet = currentTagSet;
+        }
+        return currentTagSet;
+    }
+
     public BSpan getSpan() {
         return span;
     }
@@ -25,6 +25,7 @@ import java.time.Duration;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
@@ -35,8 +36,12 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_
  */
 public class BallerinaMetricsObserver implements BallerinaObserver {
 
-    private static final String PROPERTY_START_TIME = "_observation_start_time_";
-    private static final String PROPERTY_IN_PROGRESS_COUNTER = "_observation_in_progress_counter_";
+    private static final String PROPERTY_OBSERVATION = "_observation_metrics_";
+
+    /**
+     * Maximum number of tag sets of which the metrics are cached, as tags added by the program may have any value.
+     */
+    private static final int MAX_CACHED_TAG_SETS = 10000;
 
     private static final PrintStream consoleError = System.err;
 
@@ -57,6 +62,13 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    /*
+     * The metrics of each tag set are cached, so that an observation does not need to create the metric IDs and
+     * look them up in the registry. The caches are replaced when metrics are removed from the registry, so that a
+     * metric looked up before the removal is never put into the new caches.
+     */
+    private volatile MetricCaches metricCaches = new MetricCaches(metricRegistry.getRemovalCount());
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -86,55 +98,179 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void startObservation(ObserverContext observerContext) {
-        observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
+        Observation observation = new Observation(System.nanoTime());
+        observerContext.addProperty(PROPERTY_OBSERVATION, observation);
+        Set<Tag> tags = observerContext.getTagSet();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = getInProgressGauge(tags);
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
              * ends. This is needed as the the program may add tags to the context causing the tags to be
              * different at the end compared to the start.
              */
-            observerContext.addProperty(PROPERTY_IN_PROGRESS_COUNTER, inProgressGauge);
+            observation.inProgressGauge = inProgressGauge;
         } catch (RuntimeException e) {
             handleError("inprogress_requests", tags, e);
         }
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
+        Set<Tag> tags = observerContext.getTagSet();
         Map<String, Tag> customTags = observerContext.customMetricTags;
-        if (customTags != null) {
+        if (customTags != null && !customTags.isEmpty()) {
+            tags = new HashSet<>(tags);
             tags.addAll(customTags.values());
         }
-        tags.addAll(observerContext.getAllTags());
-
-        // Add status_code_group tag
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
-        if (statusCode != null && statusCode > 0) {
-            tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, (statusCode / 100) + STATUS_CODE_GROUP_SUFFIX));
-        }
+        // The status_code_group tag is added to the tags only when the metrics are created
+        int statusCodeGroup = statusCode != null && statusCode > 0 ? statusCode / 100 : 0;
+        ResponseMetricsKey metricsKey = new ResponseMetricsKey(tags, statusCodeGroup);
 
         try {
-            Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
-            long duration = System.nanoTime() - startTime;
-            ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            Observation observation = (Observation) observerContext.getProperty(PROPERTY_OBSERVATION);
+            long duration = System.nanoTime() - observation.startTime;
+            if (observation.inProgressGauge != null) {
+                observation.inProgressGauge.decrement();
+            }
+            ResponseMetrics metrics = getResponseMetrics(metricsKey);
+            metrics.responseTime.setValue(duration / 1E9);
+            metrics.totalResponseTime.increment(duration);
+            metrics.requests.increment();
         } catch (RuntimeException e) {
-            handleError("multiple metrics", tags, e);
+            handleError("multiple metrics", metricsKey.getAllTags(), e);
         }
     }
 
+    private Gauge getInProgressGauge(Set<Tag> tags) {
+        Map<Set<Tag>, Gauge> inProgressGauges = getMetricCaches().inProgressGauges;
+        Gauge inProgressGauge = inProgressGauges.get(tags);
+        if (inProgressGauge == null) {
+            inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                    tags));
+            if (inProgressGauges.size() < MAX_CACHED_TAG_SETS) {
+                inProgressGauges.put(tags, inProgressGauge);
+            }
+        }
+        return inProgressGauge;
+    }
+
+    private ResponseMetrics getResponseMetrics(ResponseMetricsKey metricsKey) {
+        Map<ResponseMetricsKey, ResponseMetrics> responseMetrics = getMetricCaches().responseMetrics;
+        ResponseMetrics metrics = responseMetrics.get(metricsKey);
+        if (metrics == null) {
+            Set<Tag> tags = metricsKey.getAllTags();
+            metrics = new ResponseMetrics(
+                    metricRegistry.gauge(new MetricId("response_time_seconds",
+                            "Response time", tags), responseTimeStatisticConfigs),
+                    metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                            "Total response response time for all requests", tags)),
+                    metricRegistry.counter(new MetricId("requests_total",
+                            "Total number of requests", tags)));
+            if (responseMetrics.size() < MAX_CACHED_TAG_SETS) {
+                responseMetrics.put(metricsKey, metrics);
+            }
+        }
+        return metrics;
+    }
+
+    private MetricCaches getMetricCaches() {
+        MetricCaches caches = metricCaches;
+        int removalCount = metricRegistry.getRemovalCount();
+        if (caches.registryRemovalCount != removalCount) {
+            caches = new MetricCaches(removalCount);
+            metricCaches = caches;
+        }
+        return caches;
+    }
+
     private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * State of an observation, which is kept in the observer context until the observation ends.
+     */
+    private static class Observation {
+
+        private final long startTime;
+        private Gauge inProgressGauge;
+
+        Observation(long startTime) {
+            this.startTime = startTime;
+        }
+    }
+
+    /**
+     * Metrics cached since the given number of metrics were removed from the registry.
+     */
+    private static class MetricCaches {
+
+        private final int registryRemovalCount;
+        private final Map<Set<Tag>, Gauge> inProgressGauges = new ConcurrentHashMap<>();
+        private final Map<ResponseMetricsKey, ResponseMetrics> responseMetrics = new ConcurrentHashMap<>();
+
+        MetricCaches(int registryRemovalCount) {
+            this.registryRemovalCount = registryRemovalCount;
+        }
+    }
+
+    /**
+     * Tags of the metrics updated at the end of an observation, kept apart from the status code group, so that the
+     * tags of the observer context do not need to be copied to add the status code group tag.
+     */
+    private static class ResponseMetricsKey {
+
+        private final Set<Tag> tags;
+        private final int statusCodeGroup;
+
+        ResponseMetricsKey(Set<Tag> tags, int statusCodeGroup) {
+            this.tags = tags;
+            this.statusCodeGroup = statusCodeGroup;
+        }
+
+        Set<Tag> getAllTags() {
+            if (statusCodeGroup == 0) {
+                return tags;
+            }
+            Set<Tag> allTags = new HashSet<>(tags);
+            allTags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCodeGroup + STATUS_CODE_GROUP_SUFFIX));
+            return allTags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResponseMetricsKey)) {
+                return false;
+            }
+            ResponseMetricsKey that = (ResponseMetricsKey) o;
+            return statusCodeGroup == that.statusCodeGroup && tags.equals(that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tags.hashCode() + statusCodeGroup;
+        }
+    }
+
+    /**
+     * Metrics updated at the end of observations with the same tags.
+     */
+    private static class ResponseMetrics {
+
+        private final Gauge responseTime;
+        private final Counter totalResponseTime;
+        private final Counter requests;
+
+        ResponseMetrics(Gauge responseTime, Counter totalResponseTime, Counter requests) {
+            this.responseTime = responseTime;
+            this.totalResponseTime = totalResponseTime;
+            this.requests = requests;
+        }
+    }
 }
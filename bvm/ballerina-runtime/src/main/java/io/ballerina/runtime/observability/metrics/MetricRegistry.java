@@ -22,6 +22,7 @@ import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
@@ -35,6 +36,8 @@ public class MetricRegistry {
     private final MetricProvider metricProvider;
     // Metrics Map by ID
     private final ConcurrentMap<MetricId, Metric> metrics;
+    // Number of times metrics were removed, so that cached metric instances can be discarded
+    private final AtomicInteger removalCount = new AtomicInteger();
 
     public MetricRegistry(MetricProvider metricProvider) {
         this.metricProvider = metricProvider;
@@ -181,6 +184,7 @@ public class MetricRegistry {
         Metric metric = readMetric(registerMetric.getId(), metricClass);
         if (metric != null) {
             metrics.remove(registerMetric.getId());
+            removalCount.incrementAndGet();
         }
     }
 
@@ -193,6 +197,19 @@ public class MetricRegistry {
         List<MetricId> ids = metrics.keySet().stream()
                 .filter(id -> id.getName().equals(name)).collect(Collectors.toList());
         ids.forEach(metrics::remove);
+        if (!ids.isEmpty()) {
+            removalCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of times metrics were removed from this registry. Metric instances obtained from this
+     * registry can be cached until this number changes.
+     *
+     * @return the removal count
+     */
+    public int getRemovalCount() {
+        return removalCount.get();
     }
 
     public MetricProvider getMetricProvider() {
@@ -33,8 +33,8 @@ public final class Tag implements Comparable<Tag> {
     public Tag(String key, String value) {
         this.key = requireNonNull(key);
         this.value = requireNonNull(value);
-        // Compute hash of this immutable Tag
-        this.hashCode = Objects.hash(key, value);
+        // Compute hash of this immutable Tag, same as Objects.hash(key, value) without creating an array
+        this.hashCode = 31 * (31 + key.hashCode()) + value.hashCode();
     }
 
     public static Tag of(String key, String value) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.FunctionFrame;
+import io.ballerina.runtime.internal.scheduling.FunctionFrameStack;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.EmptyStackException;
+
+/**
+ * Test cases for the {@link FunctionFrameStack}.
+ *
+ * @since 2201.8.0
+ */
+public class FunctionFrameStackTest {
+
+    @Test
+    public void testPushAndPop() {
+        FunctionFrameStack stack = new FunctionFrameStack();
+        Assert.assertTrue(stack.isEmpty());
+        FunctionFrame[] frames = new FunctionFrame[20];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new TestFrame("frame" + i);
+            stack.push(frames[i]);
+        }
+        Assert.assertEquals(stack.size(), frames.length);
+        Assert.assertEquals(stack.getFrames(), frames);
+        for (int i = frames.length - 1; i >= 0; i--) {
+            Assert.assertSame(stack.pop(), frames[i]);
+        }
+        Assert.assertTrue(stack.isEmpty());
+        Assert.assertEquals(stack.getFrames().length, 0);
+    }
+
+    @Test(expectedExceptions = EmptyStackException.class)
+    public void testPopEmptyStack() {
+        new FunctionFrameStack().pop();
+    }
+
+    private static class TestFrame extends FunctionFrame {
+
+        TestFrame(String yieldLocation) {
+            this.yieldLocation = yieldLocation;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.JsonStreamParser;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link JsonStreamParser}.
+ *
+ * @since 2201.8.0
+ */
+public class JsonStreamParserTest {
+
+    private static final Module MODULE = new Module("testorg", "jsonstream", "1");
+    private static final String DOCUMENT = "{\"name\": \"Jöhn \\\"J\\\" \\u00e9 😀\", \"age\": 31, " +
+            "\"height\": 1.83, \"neg\": -0, \"tags\": [\"a\", \"b\", {}], \"empty\": [],\n" +
+            "\"active\": true, \"deleted\": false, \"manager\": null}";
+
+    private RecordType personType;
+
+    @BeforeClass
+    public void setup() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name",
+                SymbolFlags.REQUIRED + SymbolFlags.PUBLIC));
+        fields.put("age", TypeCreator.createField(PredefinedTypes.TYPE_INT, "age",
+                SymbolFlags.REQUIRED + SymbolFlags.PUBLIC));
+        fields.put("height", TypeCreator.createField(PredefinedTypes.TYPE_FLOAT, "height",
+                SymbolFlags.OPTIONAL + SymbolFlags.PUBLIC));
+        personType = TypeCreator.createRecordType("Person", MODULE, 0, fields, null, true, 0);
+        ValueCreator.addValueCreator(MODULE.getOrg(), MODULE.getName(), MODULE.getMajorVersion(), false,
+                new RecordValueCreator(personType));
+    }
+
+    @Test
+    public void testParseSameAsCharacterParser() {
+        Object expected = JsonParser.parse(DOCUMENT);
+        byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+
+        Object fromStream = JsonStreamParser.parse(new TrickleInputStream(bytes));
+        Assert.assertTrue(TypeChecker.isEqual(fromStream, expected), fromStream.toString());
+
+        byte[] padded = new byte[bytes.length + 4];
+        System.arraycopy(bytes, 0, padded, 2, bytes.length);
+        Object fromHeapBuffer = JsonUtils.parse(ByteBuffer.wrap(padded, 2, bytes.length).slice());
+        Assert.assertTrue(TypeChecker.isEqual(fromHeapBuffer, expected));
+
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+        Assert.assertTrue(TypeChecker.isEqual(JsonUtils.parse(directBuffer), expected));
+
+        BMap<?, ?> map = (BMap<?, ?>) fromStream;
+        Assert.assertEquals(map.get(StringUtils.fromString("name")).toString(), "Jöhn \"J\" é 😀");
+        Assert.assertEquals(map.get(StringUtils.fromString("neg")), -0.0);
+    }
+
+    @Test
+    public void testParseScalarDocuments() {
+        Assert.assertEquals(JsonUtils.parse(ByteBuffer.wrap(" 42 ".getBytes(StandardCharsets.UTF_8))), 42L);
+        Assert.assertEquals(JsonUtils.parse(ByteBuffer.wrap("\"x\"".getBytes(StandardCharsets.UTF_8))),
+                StringUtils.fromString("x"));
+        Assert.assertNull(JsonUtils.parse(ByteBuffer.wrap("null".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "expected ',' or '}' at line: 2.*")
+    public void testParseInvalidDocument() {
+        JsonStreamParser.parse(toStream("{\"a\": 1,\n \"b\": 2 ]"));
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "unexpected end of JSON document.*")
+    public void testParseTruncatedDocument() {
+        JsonStreamParser.parse(toStream("[1, 2"));
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "JSON document has already ended.*")
+    public void testParseTrailingContent() {
+        JsonStreamParser.parse(toStream("{} {}"));
+    }
+
+    @Test
+    public void testParseAsMapAndArray() {
+        Type mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_FLOAT);
+        BMap<?, ?> map = (BMap<?, ?>) JsonUtils.parseAsType(toStream("{\"a\": 1, \"b\": 2.5}"), mapType);
+        Assert.assertSame(map.getType(), mapType);
+        Assert.assertEquals(map.get(StringUtils.fromString("a")), 1.0);
+        Assert.assertEquals(map.get(StringUtils.fromString("b")), 2.5);
+
+        Type arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        BArray array = (BArray) JsonUtils.parseAsType(toStream("[1, 2, 3]"), arrayType);
+        Assert.assertSame(array.getType(), arrayType);
+        Assert.assertEquals(array.getIntArray(), new long[]{1, 2, 3});
+    }
+
+    @Test
+    public void testParseAsRecord() {
+        BMap<?, ?> person = (BMap<?, ?>) JsonUtils.parseAsType(
+                toStream("{\"name\": \"Anne\", \"age\": 30, \"height\": 1}"), personType);
+        Assert.assertSame(person.getType(), personType);
+        Assert.assertEquals(person.get(StringUtils.fromString("name")), StringUtils.fromString("Anne"));
+        Assert.assertEquals(person.get(StringUtils.fromString("age")), 30L);
+        Assert.assertEquals(person.get(StringUtils.fromString("height")), 1.0);
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = ".*missing required field 'age' of type 'int' in record.*")
+    public void testParseAsRecordWithoutRequiredField() {
+        JsonUtils.parseAsType(toStream("{\"name\": \"Anne\"}"), personType);
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = ".*field 'id' cannot be added to the closed record.*")
+    public void testParseAsRecordWithUnknownField() {
+        JsonUtils.parseAsType(toStream("{\"name\": \"Anne\", \"age\": 30, \"id\": 1}"), personType);
+    }
+
+    @Test(expectedExceptions = BError.class)
+    public void testParseAsRecordWithInvalidFieldValue() {
+        JsonUtils.parseAsType(toStream("{\"name\": \"Anne\", \"age\": \"thirty\"}"), personType);
+    }
+
+    @Test
+    public void testParseArrayElementsLazily() {
+        int count = 10000;
+        StringBuilder document = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            document.append(i == 0 ? "" : ",").append("{\"name\": \"p").append(i).append("\", \"age\": ")
+                    .append(i).append('}');
+        }
+        byte[] bytes = document.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        CountingInputStream in = new CountingInputStream(bytes);
+
+        Iterator<Object> elements = JsonUtils.parseArrayElements(in, personType);
+        BMap<?, ?> first = (BMap<?, ?>) elements.next();
+        Assert.assertEquals(first.get(StringUtils.fromString("name")), StringUtils.fromString("p0"));
+        Assert.assertTrue(in.bytesRead < bytes.length, "the whole array was read for the first element");
+
+        int read = 1;
+        while (elements.hasNext()) {
+            BMap<?, ?> person = (BMap<?, ?>) elements.next();
+            Assert.assertEquals(person.get(StringUtils.fromString("age")), (long) read);
+            read++;
+        }
+        Assert.assertEquals(read, count);
+        Assert.assertFalse(elements.hasNext());
+    }
+
+    private static InputStream toStream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns at most 3 bytes per read, to have tokens split across reads.
+     */
+    private static class TrickleInputStream extends ByteArrayInputStream {
+
+        TrickleInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 3));
+        }
+    }
+
+    private static class CountingInputStream extends ByteArrayInputStream {
+
+        private int bytesRead;
+
+        CountingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            int count = super.read(b, off, len);
+            bytesRead += Math.max(count, 0);
+            return count;
+        }
+    }
+
+    private static class RecordValueCreator extends ValueCreator {
+
+        private final RecordType recordType;
+
+        RecordValueCreator(RecordType recordType) {
+            this.recordType = recordType;
+        }
+
+        @Override
+        public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+            return new MapValueImpl<>(recordType);
+        }
+
+        @Override
+        public BObject createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                         Map<String, Object> properties, Object[] args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BError createErrorValue(String errorTypeName, BString message, BError cause, Object details) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Type getAnonType(int typeHash, String typeShape) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Test cases for the observability tags and metrics.
+ *
+ * @since 2201.8.0
+ */
+public class ObservabilityTest {
+
+    @Test
+    public void testTagSetIsReusedUntilTagAdded() {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.addTag("src.module", "testorg/test:1.0.0");
+        Set<Tag> tagSet = observerContext.getTagSet();
+        Assert.assertSame(observerContext.getTagSet(), tagSet);
+        Assert.assertEquals(tagSet, observerContext.getAllTags());
+
+        observerContext.addTag("src.function.name", "foo");
+        Set<Tag> updatedTagSet = observerContext.getTagSet();
+        Assert.assertNotSame(updatedTagSet, tagSet);
+        Assert.assertEquals(tagSet.size(), 1);
+        Assert.assertEquals(updatedTagSet.size(), 2);
+        Assert.assertTrue(updatedTagSet.contains(Tag.of("src.function.name", "foo")));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testTagSetIsUnmodifiable() {
+        new ObserverContext().getTagSet().add(Tag.of("key", "value"));
+    }
+
+    @Test
+    public void testTagHashCode() {
+        Tag tag = Tag.of("key", "value");
+        Assert.assertEquals(tag.hashCode(), Objects.hash("key", "value"));
+        Assert.assertEquals(tag.hashCode(), Tag.of("key", "value").hashCode());
+    }
+
+    @Test
+    public void testRegistryRemovalCount() {
+        MetricRegistry metricRegistry = new MetricRegistry(new NoOpMetricProvider());
+        Counter counter = Counter.builder("test_counter").tag("key", "value").register(metricRegistry);
+        Assert.assertEquals(metricRegistry.getRemovalCount(), 0);
+
+        metricRegistry.remove("unknown_counter");
+        Assert.assertEquals(metricRegistry.getRemovalCount(), 0);
+        metricRegistry.unregister(counter);
+        Assert.assertEquals(metricRegistry.getRemovalCount(), 1);
+        Assert.assertNull(metricRegistry.lookup(counter.getId()));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpPatternCache;
+import io.ballerina.runtime.internal.values.RegExpValue;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Test cases for {@link RegExpPatternCache}.
+ *
+ * @since 2201.8.0
+ */
+public class RegExpPatternCacheTest {
+
+    @BeforeMethod
+    public void clearCache() {
+        RegExpPatternCache.clear();
+    }
+
+    @Test
+    public void testPatternIsCompiledOncePerValue() {
+        RegExpValue regExp = RegExpFactory.parse("[a-z]+.[0-9]");
+        Pattern pattern = RegExpPatternCache.getPattern(regExp);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertSame(RegExpPatternCache.getPattern(regExp), pattern);
+        }
+        Assert.assertEquals(RegExpPatternCache.getMissCount(), 1);
+        Assert.assertEquals(RegExpPatternCache.getHitCount(), 10);
+        Assert.assertTrue(pattern.matcher("abc!1").matches());
+        Assert.assertFalse(pattern.matcher("abc\n1").matches());
+    }
+
+    @Test
+    public void testPatternIsSharedBetweenEqualRegExps() {
+        Pattern pattern = RegExpPatternCache.getPattern(RegExpFactory.parse("(ab|cd)\\s*"));
+        Assert.assertSame(RegExpPatternCache.getPattern(RegExpFactory.parse("(ab|cd)\\s*")), pattern);
+        Assert.assertNotSame(RegExpPatternCache.getPattern(RegExpFactory.parse("(ab|ce)\\s*")), pattern);
+        Assert.assertEquals(RegExpPatternCache.getMissCount(), 2);
+        Assert.assertEquals(RegExpPatternCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        for (int i = 0; i < RegExpPatternCache.MAX_CACHE_SIZE * 2; i++) {
+            Pattern pattern = RegExpPatternCache.getPattern(RegExpFactory.parse("a{" + i + "}"));
+            Assert.assertTrue(pattern.matcher("a".repeat(i)).matches());
+            Assert.assertTrue(RegExpPatternCache.getSize() <= RegExpPatternCache.MAX_CACHE_SIZE);
+        }
+        Assert.assertEquals(RegExpPatternCache.getMissCount(), RegExpPatternCache.MAX_CACHE_SIZE * 2);
+    }
+
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        int threadCount = 8;
+        int regExpCount = RegExpPatternCache.MAX_CACHE_SIZE / 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < regExpCount; i++) {
+                        Pattern pattern = RegExpPatternCache.getPattern(RegExpFactory.parse("b{" + i + "}"));
+                        Assert.assertTrue(pattern.matcher("b".repeat(i)).matches());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(RegExpPatternCache.getSize(), regExpCount);
+        Assert.assertEquals(RegExpPatternCache.getHitCount() + RegExpPatternCache.getMissCount(),
+                (long) threadCount * regExpCount);
+    }
+}
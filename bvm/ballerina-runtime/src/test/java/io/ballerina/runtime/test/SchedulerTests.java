@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for the strand {@link Scheduler} run queue modes.
+ *
+ * @since 2201.8.0
+ */
+public class SchedulerTests {
+
+    private static final int STRAND_COUNT = 1000;
+
+    @Test(dataProvider = "schedulerModes")
+    public void testAllScheduledStrandsComplete(boolean workStealing, boolean virtualThreads) {
+        Scheduler scheduler = new Scheduler(4, false, workStealing, virtualThreads);
+        AtomicInteger executed = new AtomicInteger();
+        Function<Object[], Object> function = params -> executed.incrementAndGet();
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            futures.add(scheduler.schedule(new Object[1], function, null, null, null, PredefinedTypes.TYPE_INT,
+                    "strand-" + i, null));
+            futures.add(scheduler.scheduleToObjectGroup(new Object[1], function, null, null, null,
+                    PredefinedTypes.TYPE_INT, "object-strand-" + i, null));
+        }
+
+        // start returns only after all the strands are done and the scheduler is poisoned
+        scheduler.start();
+
+        Assert.assertEquals(executed.get(), STRAND_COUNT * 2);
+        for (FutureValue future : futures) {
+            Assert.assertTrue(future.isDone);
+            Assert.assertNull(future.panic);
+        }
+    }
+
+    @Test
+    public void testVirtualThreadsAreBounded() throws ReflectiveOperationException {
+        if (Runtime.version().feature() < 21) {
+            throw new SkipException("virtual threads are not supported by the running JDK");
+        }
+        int maxVirtualThreads = 2;
+        Scheduler scheduler = new Scheduler(maxVirtualThreads, false, false, true);
+        Method isVirtual = Thread.class.getMethod("isVirtual");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicBoolean platformThreadUsed = new AtomicBoolean();
+        Function<Object[], Object> function = params -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                if (!(boolean) isVirtual.invoke(Thread.currentThread())) {
+                    platformThreadUsed.set(true);
+                }
+                Thread.sleep(1);
+            } catch (ReflectiveOperationException | InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+            return null;
+        };
+        for (int i = 0; i < 100; i++) {
+            scheduler.schedule(new Object[1], function, null, null, null, PredefinedTypes.TYPE_NULL,
+                    "strand-" + i, null);
+        }
+
+        scheduler.start();
+
+        Assert.assertFalse(platformThreadUsed.get());
+        Assert.assertTrue(maxRunning.get() <= maxVirtualThreads, "running strands: " + maxRunning.get());
+        Assert.assertEquals(running.get(), 0);
+    }
+
+    @DataProvider
+    public Object[][] schedulerModes() {
+        // virtual threads fall back to platform threads when the running JDK does not support them
+        return new Object[][]{{false, false}, {true, false}, {false, true}};
+    }
+}
@@ -1,9 +1,14 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.BmpStringValue;
+import io.ballerina.runtime.internal.values.ConcatStringValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.lang.ref.WeakReference;
 
 /**
  * Test cases for {@link io.ballerina.runtime.internal.values.StringValue class} implementations.
@@ -40,4 +45,71 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testShortConcatIsCopied() {
+        BString concat = StringUtils.fromString("abc").concat(StringUtils.fromString("def"));
+        Assert.assertTrue(concat instanceof BmpStringValue);
+        Assert.assertEquals(concat.getValue(), "abcdef");
+    }
+
+    @Test
+    void testRepeatedConcat() {
+        BString result = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            BString part = i % 1000 == 7 ? SUBJECT : StringUtils.fromString("row," + i + "\n");
+            result = result.concat(part);
+            expected.append(part.getValue());
+        }
+        BString expectedValue = StringUtils.fromString(expected.toString());
+
+        Assert.assertTrue(result instanceof ConcatStringValue);
+        Assert.assertEquals(result.length(), expectedValue.length());
+        Assert.assertEquals(result.getValue(), expectedValue.getValue());
+        Assert.assertEquals(result.hashCode(), expectedValue.hashCode());
+        Assert.assertEquals(result, expectedValue);
+        for (int i = 0; i < expectedValue.length(); i += 997) {
+            Assert.assertEquals(result.getCodePoint(i), expectedValue.getCodePoint(i));
+        }
+        int alienIndex = (int) (long) result.indexOf(StringUtils.fromString("\uD83D\uDC7D"), 0);
+        Assert.assertEquals(result.getCodePoint(alienIndex), 0x1F47D);
+        Assert.assertEquals(result.substring(alienIndex - 3, alienIndex + 2).getValue(), "rav\uD83D\uDC7Dr");
+    }
+
+    @Test
+    void testConcatOfConcatenatedStrings() {
+        BString longString = StringUtils.fromString("x".repeat(300));
+        BString left = longString.concat(SUBJECT);
+        BString right = SUBJECT.concat(longString);
+        BString both = left.concat(StringUtils.fromString("-")).concat(right);
+
+        Assert.assertEquals(both.length(), 300 + 16 + 1 + 16 + 300);
+        Assert.assertEquals(both.getCodePoint(301), 0x1F6F8);
+        Assert.assertEquals(both.getCodePoint(316), '-');
+        Assert.assertEquals(both.getCodePoint(331), 0x1F47D);
+        Assert.assertEquals(both.getValue(), "x".repeat(300) + UNICODE_STR + "-" + UNICODE_STR + "x".repeat(300));
+    }
+
+    @Test
+    void testRepeatedConcatAndRead() {
+        BString firstPart = StringUtils.fromString("y".repeat(300));
+        WeakReference<BString> firstPartRef = new WeakReference<>(firstPart);
+        BString result = firstPart.concat(SUBJECT);
+        StringBuilder expected = new StringBuilder("y".repeat(300)).append(UNICODE_STR);
+        firstPart = null;
+        for (int i = 0; i < 2000; i++) {
+            BString part = i % 100 == 7 ? SUBJECT : StringUtils.fromString("row," + i + "\n");
+            result = result.concat(part);
+            expected.append(part.getValue());
+            Assert.assertEquals(result.getValue(), expected.toString());
+            Assert.assertEquals(result.getCodePoint(result.length() - 1), part.getCodePoint(part.length() - 1));
+        }
+        Assert.assertEquals(result.getCodePoint(301), 0x1F6F8);
+
+        // the flattened strings no longer refer to the strings they were concatenated from
+        for (int i = 0; i < 10 && firstPartRef.get() != null; i++) {
+            System.gc();
+        }
+        Assert.assertNull(firstPartRef.get());
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link TableValueImpl}.
+ *
+ * @since 2201.8.0
+ */
+public class TableValueTest {
+
+    private static final Module MODULE = new Module("testorg", "tablevalue", "1");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString DEPT = StringUtils.fromString("dept");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    private RecordType employeeType;
+    private TableType keyedTableType;
+
+    @BeforeClass
+    public void setup() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id",
+                SymbolFlags.REQUIRED + SymbolFlags.READONLY + SymbolFlags.PUBLIC));
+        fields.put("dept", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "dept",
+                SymbolFlags.REQUIRED + SymbolFlags.READONLY + SymbolFlags.PUBLIC));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name",
+                SymbolFlags.REQUIRED + SymbolFlags.PUBLIC));
+        employeeType = TypeCreator.createRecordType("Employee", MODULE, 0, fields, null, true, 0);
+        keyedTableType = TypeCreator.createTableType(employeeType, new String[]{"id"}, false);
+    }
+
+    @Test
+    public void testPutGetAndRemove() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(keyedTableType);
+        int count = 10000;
+        for (long i = 0; i < count; i++) {
+            table.add(createEmployee(i, "d" + (i % 10), "e" + i));
+        }
+        Assert.assertEquals(table.size(), count);
+        Assert.assertEquals(table.getNextKey(), count);
+        Assert.assertEquals(getName(table.get(1234L)), "e1234");
+
+        for (long i = 0; i < count; i += 2) {
+            Assert.assertEquals(getName(table.remove(i)), "e" + i);
+        }
+        Assert.assertNull(table.remove(0L));
+        Assert.assertFalse(table.containsKey(0L));
+        Assert.assertTrue(table.containsKey(1L));
+        Assert.assertEquals(table.size(), count / 2);
+
+        // Fill the removed positions, which compacts the store
+        for (long i = 0; i < count; i += 2) {
+            table.put(createEmployee(i, "d0", "f" + i));
+        }
+        table.put(createEmployee(1L, "d1", "updated"));
+        Assert.assertEquals(table.size(), count);
+        Assert.assertEquals(getName(table.get(0L)), "f0");
+        Assert.assertEquals(getName(table.get(1L)), "updated");
+
+        List<Object> ids = getIds(table);
+        Assert.assertEquals(ids.get(0), 1L);
+        Assert.assertEquals(ids.get(count / 2 - 1), (long) count - 1);
+        Assert.assertEquals(ids.get(count / 2), 0L);
+        Assert.assertEquals(ids.get(count - 1), (long) count - 2);
+        Assert.assertEquals(table.getKeys().length, count);
+        Assert.assertEquals(table.getKeys()[0], 1L);
+    }
+
+    @Test(expectedExceptions = BError.class)
+    public void testAddDuplicateKey() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(keyedTableType);
+        table.add(createEmployee(1L, "d1", "a"));
+        table.add(createEmployee(1L, "d1", "b"));
+    }
+
+    @Test
+    public void testIterationWhileRemoving() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(keyedTableType);
+        for (long i = 0; i < 100; i++) {
+            table.add(createEmployee(i, "d", "e" + i));
+        }
+
+        List<Object> visited = new ArrayList<>();
+        IteratorValue iterator = table.getIterator();
+        while (iterator.hasNext()) {
+            long id = (long) ((TupleValueImpl) iterator.next()).get(0);
+            visited.add(id);
+            if (id == 10) {
+                // Remove most of the members and add new ones, so that the members move while iterating
+                for (long i = 0; i < 90; i++) {
+                    table.remove(i);
+                }
+                for (long i = 100; i < 200; i++) {
+                    table.add(createEmployee(i, "d", "e" + i));
+                }
+            }
+        }
+
+        Assert.assertEquals(visited.size(), 11 + 10 + 100);
+        Assert.assertEquals(visited.get(10), 10L);
+        Assert.assertEquals(visited.get(11), 90L);
+        Assert.assertEquals(visited.get(visited.size() - 1), 199L);
+    }
+
+    @Test
+    public void testRemoveAllAndClear() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(keyedTableType);
+        table.add(createEmployee(1L, "d", "a"));
+        table.remove(1L);
+        Assert.assertTrue(table.isEmpty());
+        table.add(createEmployee(1L, "d", "b"));
+        Assert.assertEquals(getName(table.get(1L)), "b");
+
+        table.clear();
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertFalse(table.getIterator().hasNext());
+        Assert.assertEquals(table.getKeys().length, 0);
+    }
+
+    @Test
+    public void testKeylessTable() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(TypeCreator.createTableType(employeeType,
+                false));
+        table.add(createEmployee(1L, "d", "a"));
+        table.add(createEmployee(1L, "d", "a"));
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(table.getKeys().length, 0);
+        Assert.assertEquals(getIds(table), List.of(1L, 1L));
+    }
+
+    @Test
+    public void testFieldIndex() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(keyedTableType);
+        for (long i = 0; i < 1000; i++) {
+            table.add(createEmployee(i, "d" + (i % 10), "e" + i));
+        }
+        List<Object> unindexed = table.getByField("dept", StringUtils.fromString("d3"));
+
+        table.addFieldIndex("dept");
+        List<Object> indexed = table.getByField("dept", StringUtils.fromString("d3"));
+        Assert.assertEquals(indexed, unindexed);
+        Assert.assertEquals(indexed.size(), 100);
+        Assert.assertEquals(getName(indexed.get(0)), "e3");
+
+        table.remove(3L);
+        table.put(createEmployee(13L, "d4", "moved"));
+        for (long i = 1000; i < 1100; i++) {
+            table.add(createEmployee(i, "d" + (i % 10), "e" + i));
+        }
+        indexed = table.getByField("dept", StringUtils.fromString("d3"));
+        Assert.assertEquals(indexed.size(), 108);
+        Assert.assertEquals(getName(indexed.get(0)), "e23");
+        Assert.assertEquals(getName(indexed.get(indexed.size() - 1)), "e1093");
+        Assert.assertEquals(getName(table.getByField("dept", StringUtils.fromString("d4")).get(1)), "moved");
+        Assert.assertTrue(table.getByField("dept", StringUtils.fromString("none")).isEmpty());
+    }
+
+    @Test(expectedExceptions = BError.class)
+    public void testFieldIndexOnMutableField() {
+        new TableValueImpl<>(keyedTableType).addFieldIndex("name");
+    }
+
+    private MapValueImpl<BString, Object> createEmployee(long id, String dept, String name) {
+        MapValueImpl<BString, Object> employee = new MapValueImpl<>(employeeType);
+        employee.put(ID, id);
+        employee.put(DEPT, StringUtils.fromString(dept));
+        employee.put(NAME, StringUtils.fromString(name));
+        return employee;
+    }
+
+    private static String getName(Object employee) {
+        return ((MapValueImpl<?, ?>) employee).get(NAME).toString();
+    }
+
+    private static List<Object> getIds(TableValueImpl<Object, Object> table) {
+        List<Object> ids = new ArrayList<>();
+        IteratorValue iterator = table.getIterator();
+        while (iterator.hasNext()) {
+            ids.add(((MapValueImpl<?, ?>) ((TupleValueImpl) iterator.next()).get(1)).get(ID));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ *
+ * @since 2201.8.0
+ */
+public class TypeCheckCacheTest {
+
+    private static final Module MODULE = new Module("testorg", "typecheck", "1");
+
+    @BeforeMethod
+    public void clearCache() {
+        TypeCheckCache.clear();
+    }
+
+    @Test
+    public void testRecordTypeRelationIsCached() {
+        RecordType person = createRecordType("Person", Map.of("name", PredefinedTypes.TYPE_STRING,
+                "age", PredefinedTypes.TYPE_INT), true);
+        RecordType named = createRecordType("Named", Map.of("name", PredefinedTypes.TYPE_STRING), false);
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(person, named));
+            Assert.assertFalse(TypeChecker.checkIsType(named, person));
+        }
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 2);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 8);
+    }
+
+    @Test
+    public void testCreatingTypesDoesNotInvalidateCache() {
+        RecordType person = createRecordType("Person", Map.of("name", PredefinedTypes.TYPE_STRING), true);
+        RecordType named = createRecordType("Named", Map.of("name", PredefinedTypes.TYPE_STRING), false);
+        Assert.assertTrue(TypeChecker.checkIsType(person, named));
+
+        // types created at runtime, e.g. while converting values, are defined before they are type checked
+        TypeCreator.createArrayType(person);
+        TypeCreator.createUnionType(person, PredefinedTypes.TYPE_NULL);
+        TypeCreator.createTupleType(List.of(person, named));
+        createRecordType("Other", Map.of("id", PredefinedTypes.TYPE_INT), false);
+
+        Assert.assertTrue(TypeChecker.checkIsType(person, named));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void testUnionMemberUpdateInvalidatesCache() {
+        BUnionType union = (BUnionType) TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING);
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_BOOLEAN, union));
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_BOOLEAN, union));
+
+        union.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_BOOLEAN});
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_BOOLEAN, union));
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_STRING, union));
+    }
+
+    @Test
+    public void testRecordFieldUpdateInvalidatesCache() {
+        BRecordType source = (BRecordType) createRecordType("Source", Map.of(), false);
+        RecordType target = createRecordType("Target", Map.of("id", PredefinedTypes.TYPE_INT), false);
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+
+        source.setFields(createFields(Map.of("id", PredefinedTypes.TYPE_INT)));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+    }
+
+    @Test
+    public void testRecordFieldMapMutationInvalidatesCache() {
+        RecordType source = createRecordType("Source", Map.of(), true);
+        RecordType target = createRecordType("Target", Map.of("id", PredefinedTypes.TYPE_INT), true);
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+
+        source.getFields().put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id",
+                SymbolFlags.REQUIRED + SymbolFlags.PUBLIC));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        source.getFields().remove("id");
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+    }
+
+    @Test
+    public void testRestFieldTypeUpdateInvalidatesCache() {
+        BRecordType source = (BRecordType) createRecordType("Source", Map.of(), false);
+        RecordType target = TypeCreator.createRecordType("Target", MODULE, 0, new HashMap<>(),
+                PredefinedTypes.TYPE_INT, false, 0);
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+
+        source.setRestFieldType(PredefinedTypes.TYPE_INT);
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+    }
+
+    @Test
+    public void testMemberTypesArePublished() {
+        BRecordType id = (BRecordType) createRecordType("Id", Map.of("value", PredefinedTypes.TYPE_INT), true);
+        BRecordType name = (BRecordType) createRecordType("Name", Map.of("value", PredefinedTypes.TYPE_STRING),
+                true);
+        BUnionType union = (BUnionType) TypeCreator.createUnionType(id, name);
+        RecordType person = createRecordType("Person", Map.of("key", union), true);
+        RecordType named = createRecordType("Named", Map.of("name", PredefinedTypes.TYPE_STRING), true);
+        Assert.assertFalse(TypeChecker.checkIsType(person, named));
+
+        // the check fails at the field names, while a later mutation of a member type may still change the result
+        Assert.assertTrue(union.isTypeCheckPublished());
+        Assert.assertTrue(id.isTypeCheckPublished());
+        Assert.assertTrue(name.isTypeCheckPublished());
+    }
+
+    @Test
+    public void testPopulatingMemberTypeDoesNotInvalidateCache() {
+        RecordType person = createRecordType("Person", Map.of("name", PredefinedTypes.TYPE_STRING), true);
+        RecordType named = createRecordType("Named", Map.of("name", PredefinedTypes.TYPE_STRING), false);
+        Assert.assertTrue(TypeChecker.checkIsType(person, named));
+
+        // the member type is populated when it is published by the next check
+        BRecordType id = (BRecordType) TypeCreator.createRecordType("Id", MODULE, 0, new HashMap<>(), null, true, 0);
+        id.setTypePopulator(typeIndex -> id.setFields(createFields(Map.of("value", PredefinedTypes.TYPE_INT))), 0);
+        RecordType holder = createRecordType("Holder", Map.of("id", id), true);
+        Assert.assertFalse(TypeChecker.checkIsType(holder, named));
+        Assert.assertTrue(id.isPopulated());
+
+        Assert.assertTrue(TypeChecker.checkIsType(person, named));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 2);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void testAddedMemberTypeMutationInvalidatesCache() {
+        BUnionType union = (BUnionType) TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING);
+        RecordType target = createRecordType("Target", Map.of("id", PredefinedTypes.TYPE_INT), true);
+        Assert.assertFalse(TypeChecker.checkIsType(union, target));
+
+        RecordType member = createRecordType("Member", Map.of(), true);
+        union.setMemberTypes(new Type[]{member});
+        Assert.assertFalse(TypeChecker.checkIsType(union, target));
+
+        member.getFields().put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id",
+                SymbolFlags.REQUIRED + SymbolFlags.PUBLIC));
+        Assert.assertTrue(TypeChecker.checkIsType(union, target));
+    }
+
+    private static RecordType createRecordType(String name, Map<String, Type> fieldTypes, boolean sealed) {
+        return TypeCreator.createRecordType(name, MODULE, 0, createFields(fieldTypes),
+                sealed ? null : PredefinedTypes.TYPE_ANYDATA, sealed, 0);
+    }
+
+    private static Map<String, Field> createFields(Map<String, Type> fieldTypes) {
+        Map<String, Field> fields = new HashMap<>();
+        fieldTypes.forEach((fieldName, fieldType) -> fields.put(fieldName,
+                TypeCreator.createField(fieldType, fieldName, SymbolFlags.REQUIRED + SymbolFlags.PUBLIC)));
+        return fields;
+    }
+}
@@ -182,6 +182,10 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--graalvm", description = "enable native image generation")
     private Boolean nativeImage;
 
+    @CommandLine.Option(names = "--cds", description = "generate a class data sharing archive and a launcher " +
+            "for the executable")
+    private boolean cds;
+
     @CommandLine.Option(names = "--disable-syntax-tree-caching", hidden = true, description = "disable syntax tree " +
             "caching for source files", defaultValue = "false")
     private Boolean disableSyntaxTreeCaching;
@@ -271,6 +275,12 @@ public class BuildCommand implements BLauncherCmd {
                     "flag is not set");
         }
 
+        boolean generateCdsArchive = cds;
+        if (cds && project.buildOptions().nativeImage()) {
+            this.outStream.println("WARNING: --cds flag is ignored since graalvm flag is set");
+            generateCdsArchive = false;
+        }
+
         // Check package files are modified after last build
         boolean isPackageModified = isProjectUpdated(project);
 
@@ -281,7 +291,7 @@ public class BuildCommand implements BLauncherCmd {
                 .addTask(new ResolveMavenDependenciesTask(outStream))
                 // compile the modules
                 .addTask(new CompileTask(outStream, errStream, false, isPackageModified, buildOptions.enableCache()))
-                .addTask(new CreateExecutableTask(outStream, this.output))
+                .addTask(new CreateExecutableTask(outStream, this.output, generateCdsArchive))
                 .addTask(new DumpBuildTimeTask(outStream), !project.buildOptions().dumpBuildTime())
                 .build();
 
@@ -73,6 +73,10 @@ public class ProfileCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--debug", hidden = true)
     private String debugPort;
 
+    @CommandLine.Option(names = "--sampling-interval", description = "Profile by sampling the stacks at the given " +
+            "interval in milliseconds, instead of instrumenting the functions.")
+    private Integer samplingInterval;
+
     @CommandLine.Option(names = "--generate-config-schema", hidden = true)
     private Boolean configSchemaGen;
 
@@ -190,7 +194,7 @@ public class ProfileCommand implements BLauncherCmd {
                         buildOptions.enableCache()))
                 .addTask(new CreateExecutableTask(outStream, null), false)
                 .addTask(new DumpBuildTimeTask(outStream), false)
-                .addTask(new RunProfilerTask(errStream, args), false).build();
+                .addTask(new RunProfilerTask(errStream, args, samplingInterval), false).build();
     }
 
     @Override
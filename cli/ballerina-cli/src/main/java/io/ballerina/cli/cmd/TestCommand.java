@@ -135,6 +135,16 @@ public class TestCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--list-groups", description = "list the groups available in the tests")
     private boolean listGroups;
 
+    @CommandLine.Option(names = "--parallel", description = "execute the isolated tests in parallel")
+    private boolean parallel;
+
+    @CommandLine.Option(names = "--workers", description = "maximum number of tests to be executed in parallel")
+    private Integer workers;
+
+    @CommandLine.Option(names = "--incremental", description = "skip the tests of the modules which have not " +
+            "changed since their tests passed")
+    private boolean incremental;
+
     @CommandLine.Option(names = "--groups", description = "test groups to be executed")
     private String groupList;
 
@@ -326,6 +336,29 @@ public class TestCommand implements BLauncherCmd {
                     "flag is not set");
         }
 
+        int parallelWorkers = 1;
+        if (parallel) {
+            if (workers != null && workers < 1) {
+                CommandUtil.printError(this.errStream, "invalid number of workers '" + workers +
+                        "' found. The number of workers should be a positive integer.", null, false);
+                CommandUtil.exitError(this.exitWhenFinish);
+                return;
+            }
+            parallelWorkers = workers != null ? workers : Runtime.getRuntime().availableProcessors();
+        } else if (workers != null) {
+            this.outStream.println("warning: ignoring --workers flag since parallel execution is not enabled");
+        }
+
+        // The tests of the modules are only skipped when all of their tests would run, without reports
+        boolean incrementalRun = incremental;
+        if (incremental && (rerunTests || groupList != null || disableGroupList != null || testList != null ||
+                project.buildOptions().testReport() || project.buildOptions().codeCoverage() ||
+                project.buildOptions().nativeImage() || isSingleFile)) {
+            this.outStream.println("warning: ignoring --incremental flag since it is only supported when all the " +
+                    "tests of a package are run without test reports");
+            incrementalRun = false;
+        }
+
         Iterable<Module> originalModules = project.currentPackage().modules();
         Map<String, Module> moduleMap = new HashMap<>();
 
@@ -343,10 +376,11 @@ public class TestCommand implements BLauncherCmd {
                 .addTask(new CompileTask(outStream, errStream, false, isPackageModified, buildOptions.enableCache()))
 //                .addTask(new CopyResourcesTask(), listGroups) // merged with CreateJarTask
                 .addTask(new RunTestsTask(outStream, errStream, rerunTests, groupList, disableGroupList, testList,
-                        includes, coverageFormat, moduleMap, listGroups, excludes, cliArgs),
+                        includes, coverageFormat, moduleMap, listGroups, parallelWorkers,
+                        incrementalRun, excludes, cliArgs),
                         project.buildOptions().nativeImage())
                 .addTask(new RunNativeImageTestTask(outStream, rerunTests, groupList, disableGroupList,
-                        testList, includes, coverageFormat, moduleMap, listGroups),
+                        testList, includes, coverageFormat, moduleMap, listGroups, parallelWorkers),
                         !project.buildOptions().nativeImage())
                 .addTask(new DumpBuildTimeTask(outStream), !project.buildOptions().dumpBuildTime())
                 .build();
@@ -19,6 +19,7 @@
 package io.ballerina.cli.task;
 
 import io.ballerina.cli.utils.BuildTime;
+import io.ballerina.cli.utils.CdsArchiveUtils;
 import io.ballerina.cli.utils.FileUtils;
 import io.ballerina.cli.utils.GraalVMCompatibilityUtils;
 import io.ballerina.projects.EmitResult;
@@ -57,12 +58,18 @@ public class CreateExecutableTask implements Task {
     private final transient PrintStream out;
     private Path output;
     private Path currentDir;
+    private final boolean cds;
 
     public CreateExecutableTask(PrintStream out, String output) {
+        this(out, output, false);
+    }
+
+    public CreateExecutableTask(PrintStream out, String output, boolean cds) {
         this.out = out;
         if (output != null) {
             this.output = Paths.get(output);
         }
+        this.cds = cds;
     }
 
     @Override
@@ -144,16 +151,17 @@ public class CreateExecutableTask implements Task {
         }
 
         if (!project.buildOptions().nativeImage()) {
-            Path relativePathToExecutable = currentDir.relativize(executablePath);
-
-            if (project.buildOptions().getTargetPath() != null) {
-                this.out.println("\t" + relativePathToExecutable);
-            } else {
-                if (relativePathToExecutable.toString().contains("..") ||
-                        relativePathToExecutable.toString().contains("." + File.separator)) {
-                    this.out.println("\t" + executablePath);
-                } else {
-                    this.out.println("\t" + relativePathToExecutable);
+            printPath(project, executablePath);
+
+            if (this.cds) {
+                this.out.println();
+                this.out.println("Generating class data sharing archive");
+                // the executable is run from where it is usually run, to find its Config.toml
+                Path workingDir = project.kind().equals(ProjectKind.BUILD_PROJECT) ? project.sourceRoot() :
+                        this.currentDir;
+                Path archivePath = CdsArchiveUtils.createCdsArchive(executablePath, workingDir, this.out);
+                if (archivePath != null) {
+                    printPath(project, archivePath);
                 }
             }
         }
@@ -163,6 +171,21 @@ public class CreateExecutableTask implements Task {
         notifyPlugins(project, target);
     }
 
+    private void printPath(Project project, Path path) {
+        Path relativePath = currentDir.relativize(path);
+
+        if (project.buildOptions().getTargetPath() != null) {
+            this.out.println("\t" + relativePath);
+        } else {
+            if (relativePath.toString().contains("..") ||
+                    relativePath.toString().contains("." + File.separator)) {
+                this.out.println("\t" + path);
+            } else {
+                this.out.println("\t" + relativePath);
+            }
+        }
+    }
+
     private void notifyPlugins(Project project, Target target) {
         ServiceLoader<CompilerPlugin> processorServiceLoader = ServiceLoader.load(CompilerPlugin.class);
         for (CompilerPlugin plugin : processorServiceLoader) {
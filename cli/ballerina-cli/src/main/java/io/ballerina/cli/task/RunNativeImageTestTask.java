@@ -135,12 +135,13 @@ public class RunNativeImageTestTask implements Task {
     private boolean isRerunTestExecution;
     private String singleExecTests;
     private boolean listGroups;
+    private int parallelWorkers;
 
     TestReport testReport;
 
     public RunNativeImageTestTask(PrintStream out, boolean rerunTests, String groupList,
                                   String disableGroupList, String testList, String includes, String coverageFormat,
-                                  Map<String, Module> modules, boolean listGroups) {
+                                  Map<String, Module> modules, boolean listGroups, int parallelWorkers) {
         this.out = out;
         this.isRerunTestExecution = rerunTests;
 
@@ -154,6 +155,7 @@ public class RunNativeImageTestTask implements Task {
             singleExecTests = testList;
         }
         this.listGroups = listGroups;
+        this.parallelWorkers = parallelWorkers;
     }
 
 
@@ -556,6 +558,7 @@ public class RunNativeImageTestTask implements Task {
             cmdArgs.add(this.singleExecTests != null ? this.singleExecTests : "");
             cmdArgs.add(Boolean.toString(isRerunTestExecution));
             cmdArgs.add(Boolean.toString(listGroups));                              // 8
+            cmdArgs.add(Integer.toString(parallelWorkers));
 
             builder.command(cmdArgs.toArray(new String[0]));
             process = builder.start();
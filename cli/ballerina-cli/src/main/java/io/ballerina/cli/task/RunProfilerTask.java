@@ -49,11 +49,17 @@ public class RunProfilerTask implements Task {
 
     private final String[] args;
     private final PrintStream err;
+    private final Integer samplingInterval;
     private static final String JAVA_OPTS = "JAVA_OPTS";
 
     public RunProfilerTask(PrintStream errStream, String[] args) {
+        this(errStream, args, null);
+    }
+
+    public RunProfilerTask(PrintStream errStream, String[] args, Integer samplingInterval) {
         this.err = errStream;
         this.args = args;
+        this.samplingInterval = samplingInterval;
     }
 
 
@@ -79,6 +85,10 @@ public class RunProfilerTask implements Task {
             commands.add(getPackageJarName(project, projectKind));
             commands.add("--target");
             commands.add(targetPath.toString());
+            if (samplingInterval != null) {
+                commands.add("--sampling-interval");
+                commands.add(samplingInterval.toString());
+            }
             if (args.length != 0) {
                 commands.add("--args");
                 commands.add("[" + profilerArguments + "]");
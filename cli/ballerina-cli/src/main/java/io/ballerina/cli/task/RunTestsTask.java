@@ -66,6 +66,12 @@ import java.util.stream.Stream;
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
 import static io.ballerina.cli.utils.DebugUtils.getDebugArgs;
 import static io.ballerina.cli.utils.DebugUtils.isInDebugMode;
+import static io.ballerina.cli.utils.IncrementalTestUtils.clearTestExitStatuses;
+import static io.ballerina.cli.utils.IncrementalTestUtils.getPassedTestModules;
+import static io.ballerina.cli.utils.IncrementalTestUtils.getModuleDigest;
+import static io.ballerina.cli.utils.IncrementalTestUtils.getPackageDigest;
+import static io.ballerina.cli.utils.IncrementalTestUtils.loadTestDigests;
+import static io.ballerina.cli.utils.IncrementalTestUtils.writeTestDigests;
 import static io.ballerina.cli.utils.TestUtils.cleanTempCache;
 import static io.ballerina.cli.utils.TestUtils.clearFailedTestsJson;
 import static io.ballerina.cli.utils.TestUtils.generateCoverage;
@@ -106,6 +112,8 @@ public class RunTestsTask implements Task {
     private String singleExecTests;
     private Map<String, Module> coverageModules;
     private boolean listGroups;
+    private int parallelWorkers;
+    private boolean incremental;
     private final List<String> cliArgs;
 
     TestReport testReport;
@@ -122,7 +130,8 @@ public class RunTestsTask implements Task {
 
     public RunTestsTask(PrintStream out, PrintStream err, boolean rerunTests, String groupList,
                         String disableGroupList, String testList, String includes, String coverageFormat,
-                        Map<String, Module> modules, boolean listGroups, String excludes, String[] cliArgs)  {
+                        Map<String, Module> modules, boolean listGroups, int parallelWorkers,
+                        boolean incremental, String excludes, String[] cliArgs)  {
         this.out = out;
         this.err = err;
         this.isRerunTestExecution = rerunTests;
@@ -141,6 +150,8 @@ public class RunTestsTask implements Task {
         this.coverageReportFormat = coverageFormat;
         this.coverageModules = modules;
         this.listGroups = listGroups;
+        this.parallelWorkers = parallelWorkers;
+        this.incremental = incremental;
         this.excludesInCoverage = excludes;
     }
 
@@ -188,11 +199,29 @@ public class RunTestsTask implements Task {
         // as "." are ignored. This is to be consistent with the "bal test" command which only executes tests
         // in packages.
         List<String> mockClassNames = new ArrayList<>();
+        // Digests of the modules, to skip the tests of the modules which have not changed since their tests passed
+        boolean skipUnchangedTests = incremental && !listGroups && project.kind() == ProjectKind.BUILD_PROJECT;
+        Map<String, String> previousTestDigests = skipUnchangedTests ? loadTestDigests(target.path()) : Map.of();
+        Map<String, String> testDigests = new HashMap<>();
+        Map<ModuleDescriptor, String> moduleDigests = new HashMap<>();
+        String packageDigest = skipUnchangedTests ? getPackageDigest(project, cliArgs) : null;
+        List<String> skippedModules = new ArrayList<>();
         for (ModuleDescriptor moduleDescriptor :
                 project.currentPackage().moduleDependencyGraph().toTopologicallySortedList()) {
             Module module = project.currentPackage().module(moduleDescriptor.name());
             ModuleName moduleName = module.moduleName();
 
+            String moduleDigest = null;
+            if (skipUnchangedTests) {
+                List<String> dependencyDigests = new ArrayList<>();
+                for (ModuleDescriptor dependency :
+                        project.currentPackage().moduleDependencyGraph().getDirectDependencies(moduleDescriptor)) {
+                    dependencyDigests.add(moduleDigests.get(dependency));
+                }
+                moduleDigest = getModuleDigest(module, packageDigest, dependencyDigests);
+                moduleDigests.put(moduleDescriptor, moduleDigest);
+            }
+
             TestSuite suite = testProcessor.testSuite(module).orElse(null);
             if (suite == null) {
                 continue;
@@ -203,6 +232,16 @@ public class RunTestsTask implements Task {
                 hasTests = true;
             }
 
+            String resolvedModuleName =
+                    module.isDefaultModule() ? moduleName.toString() : module.moduleName().moduleNamePart();
+            if (skipUnchangedTests) {
+                testDigests.put(resolvedModuleName, moduleDigest);
+                if (moduleDigest.equals(previousTestDigests.get(resolvedModuleName))) {
+                    skippedModules.add(moduleName + " (" + suite.getTests().size() + " tests)");
+                    continue;
+                }
+            }
+
             if (!isRerunTestExecution) {
                 clearFailedTestsJson(target.path());
             }
@@ -210,8 +249,6 @@ public class RunTestsTask implements Task {
                 suite.setSourceFileName(project.sourceRoot().getFileName().toString());
             }
             suite.setReportRequired(report || coverage);
-            String resolvedModuleName =
-                    module.isDefaultModule() ? moduleName.toString() : module.moduleName().moduleNamePart();
             testSuiteMap.put(resolvedModuleName, suite);
             moduleNamesList.add(resolvedModuleName);
             Map<String, String> mockFunctionMap = suite.getMockFunctionNamesMap();
@@ -237,12 +274,29 @@ public class RunTestsTask implements Task {
 
         writeToTestSuiteJson(testSuiteMap, testsCachePath);
 
-        if (hasTests) {
+        if (!skippedModules.isEmpty()) {
+            out.println();
+            out.println("Skipping the tests of the following modules, since they and their dependencies have not " +
+                    "changed after their tests passed");
+            skippedModules.forEach(skippedModule -> out.println("\t" + skippedModule));
+        }
+
+        if (hasTests && testSuiteMap.isEmpty()) {
+            out.println();
+            out.println("\tNo tests to run, all the tests of the package passed in the previous runs");
+        } else if (hasTests) {
             int testResult;
             try {
                 Set<String> exclusionClassList = new HashSet<>();
+                if (skipUnchangedTests) {
+                    clearTestExitStatuses(testsCachePath);
+                }
                 testResult = runTestSuite(target, project.currentPackage(), jBallerinaBackend, mockClassNames,
                              exclusionClassList);
+                if (skipUnchangedTests) {
+                    updateTestDigests(target.path(), testsCachePath, testResult, testSuiteMap.keySet(),
+                            testDigests, previousTestDigests);
+                }
 
                 if (report || coverage) {
                     for (String moduleName : moduleNamesList) {
@@ -286,6 +340,23 @@ public class RunTestsTask implements Task {
         }
     }
 
+    private void updateTestDigests(Path targetPath, Path testsCachePath, int testResult, Set<String> executedModules,
+                                   Map<String, String> testDigests, Map<String, String> previousTestDigests) {
+        // when there are test failures, only the modules whose test suites exited successfully have passed
+        Set<String> passedModules = testResult == 0 ? executedModules : getPassedTestModules(testsCachePath);
+        Map<String, String> passedTestDigests = new HashMap<>();
+        for (Map.Entry<String, String> entry : testDigests.entrySet()) {
+            String moduleName = entry.getKey();
+            if (!executedModules.contains(moduleName)) {
+                // the tests of the module were skipped, since they passed in a previous run
+                passedTestDigests.put(moduleName, previousTestDigests.get(moduleName));
+            } else if (passedModules.contains(moduleName)) {
+                passedTestDigests.put(moduleName, entry.getValue());
+            }
+        }
+        writeTestDigests(targetPath, passedTestDigests);
+    }
+
     private int runTestSuite(Target target, Package currentPackage, JBallerinaBackend jBallerinaBackend,
                              List<String> mockClassNames, Set<String> exclusionClassList) throws IOException,
             InterruptedException, ClassNotFoundException {
@@ -349,6 +420,7 @@ public class RunTestsTask implements Task {
         cmdArgs.add(this.singleExecTests != null ? this.singleExecTests : "");
         cmdArgs.add(Boolean.toString(isRerunTestExecution));
         cmdArgs.add(Boolean.toString(listGroups));
+        cmdArgs.add(Integer.toString(parallelWorkers));
         cliArgs.forEach((arg) -> {
             cmdArgs.add(arg);
         });
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.cli.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
+import static io.ballerina.cli.utils.FileUtils.getFileNameWithoutExtension;
+
+/**
+ * Utility functions to generate a class data sharing archive for an executable jar, along with the launchers which
+ * run the executable with the archive.
+ * <p>
+ * The archive is dumped by the JVM at the end of a training run of the executable, and holds the classes loaded
+ * during the run, hence those classes are neither parsed nor verified again when the executable starts. A program
+ * which does not exit by itself, e.g. a service, is stopped after a timeout. The archive is only regenerated when
+ * the content of the executable changes, and it can only be used by the same JVM which ran the training run.
+ * <p>
+ * On Windows a process can only be stopped forcibly, hence no archive is dumped for a program which does not exit
+ * by itself.
+ *
+ * @since 2201.8.0
+ */
+public class CdsArchiveUtils {
+
+    public static final String CDS_ARCHIVE_EXT = ".jsa";
+    public static final String CDS_ARCHIVE_DIGEST_EXT = ".jsa.sha256";
+
+    private static final long TRAINING_RUN_TIMEOUT_SECONDS = 10;
+    private static final long TRAINING_RUN_EXIT_TIMEOUT_SECONDS = 30;
+    private static final String LAUNCHER_EXT = ".sh";
+    private static final String WINDOWS_LAUNCHER_EXT = ".bat";
+
+    private CdsArchiveUtils() {
+    }
+
+    /**
+     * Generates the class data sharing archive of an executable jar, unless the existing archive was generated for
+     * the same content, and writes the launchers of the executable next to it.
+     *
+     * @param executablePath path of the executable jar
+     * @param workingDir     directory to run the training run in, where the executable finds its configuration
+     * @param out            stream to print the warnings to
+     * @return path of the archive, or null if the archive couldn't be generated
+     */
+    public static Path createCdsArchive(Path executablePath, Path workingDir, PrintStream out) {
+        String executableName = getFileNameWithoutExtension(executablePath.getFileName());
+        Path archivePath = executablePath.resolveSibling(executableName + CDS_ARCHIVE_EXT);
+        Path digestPath = executablePath.resolveSibling(executableName + CDS_ARCHIVE_DIGEST_EXT);
+        String digest = getArchiveDigest(executablePath);
+
+        if (!reuseArchive(executablePath, archivePath, digestPath, digest)) {
+            try {
+                Files.deleteIfExists(digestPath);
+                Files.deleteIfExists(archivePath);
+            } catch (IOException e) {
+                throw createLauncherException("unable to delete the class data sharing archive: " + e.getMessage());
+            }
+            if (!runTraining(executablePath, archivePath, workingDir, out)) {
+                // the archive of a failed run holds the classes of the failure path only
+                try {
+                    Files.deleteIfExists(archivePath);
+                } catch (IOException e) {
+                    throw createLauncherException("unable to delete the class data sharing archive: " +
+                            e.getMessage());
+                }
+                return null;
+            }
+            writeDigest(executablePath, digestPath, digest);
+        }
+        writeLaunchers(executablePath, executableName);
+        return archivePath;
+    }
+
+    private static boolean reuseArchive(Path executablePath, Path archivePath, Path digestPath, String digest) {
+        if (!Files.isRegularFile(archivePath) || !Files.isRegularFile(digestPath)) {
+            return false;
+        }
+        try {
+            List<String> lines = Files.readAllLines(digestPath, StandardCharsets.UTF_8);
+            if (lines.size() != 2 || !lines.get(0).equals(digest)) {
+                return false;
+            }
+            // The JVM rejects the archive if the modified time of the executable changes, hence the time of the
+            // executable which was rebuilt with the same content is set back to the time of the training run
+            Files.setLastModifiedTime(executablePath, FileTime.fromMillis(Long.parseLong(lines.get(1))));
+            return true;
+        } catch (IOException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean runTraining(Path executablePath, Path archivePath, Path workingDir, PrintStream out) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-XX:ArchiveClassesAtExit=" + archivePath);
+        command.add("-jar");
+        command.add(executablePath.toString());
+
+        Path outputPath = null;
+        try {
+            // the output is written to a file, so that a program which prints a lot is not blocked by a full pipe
+            outputPath = Files.createTempFile("ballerina-cds-training", ".log");
+            ProcessBuilder builder = new ProcessBuilder(command);
+            builder.directory(workingDir.toFile());
+            builder.redirectErrorStream(true);
+            builder.redirectOutput(outputPath.toFile());
+            Process process = builder.start();
+            // the training run gets no input
+            process.getOutputStream().close();
+            boolean stopped = false;
+            if (!process.waitFor(TRAINING_RUN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                // the archive is dumped by the shutdown of the JVM, which is triggered by the termination signal
+                stopped = true;
+                process.destroy();
+                if (!process.waitFor(TRAINING_RUN_EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                    process.waitFor();
+                }
+            }
+
+            if (!stopped && process.exitValue() != 0) {
+                printTrainingFailure("the training run of the executable exited with status " +
+                        process.exitValue(), outputPath, out);
+                return false;
+            }
+            if (!Files.exists(archivePath)) {
+                if (stopped && OsUtils.isWindows()) {
+                    out.println("\twarning: unable to generate the class data sharing archive, since the training " +
+                            "run of the executable did not exit within " + TRAINING_RUN_TIMEOUT_SECONDS +
+                            " seconds, and a process can only be stopped forcibly on Windows, without dumping the " +
+                            "archive");
+                } else {
+                    printTrainingFailure("the training run of the executable did not exit normally", outputPath, out);
+                }
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            out.println("\twarning: unable to run the executable to generate the class data sharing archive: " +
+                    e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw createLauncherException("class data sharing archive generation was interrupted");
+        } finally {
+            if (outputPath != null) {
+                try {
+                    Files.deleteIfExists(outputPath);
+                } catch (IOException e) {
+                    // the file is in the temp directory, hence it is fine to leave it behind
+                }
+            }
+        }
+    }
+
+    private static void printTrainingFailure(String reason, Path outputPath, PrintStream out) throws IOException {
+        out.println("\twarning: unable to generate the class data sharing archive, since " + reason +
+                ". Output of the training run:");
+        // the output is decoded leniently, as the program may not print UTF-8
+        String output = new String(Files.readAllBytes(outputPath), StandardCharsets.UTF_8);
+        output.lines().forEach(line -> out.println("\t\t" + line));
+    }
+
+    private static void writeDigest(Path executablePath, Path digestPath, String digest) {
+        try {
+            long lastModifiedTime = Files.getLastModifiedTime(executablePath).toMillis();
+            Files.writeString(digestPath, digest + System.lineSeparator() + lastModifiedTime +
+                    System.lineSeparator(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw createLauncherException("unable to write the class data sharing archive digest: " + e.getMessage());
+        }
+    }
+
+    private static void writeLaunchers(Path executablePath, String executableName) {
+        String jarName = executablePath.getFileName().toString();
+        String archiveName = executableName + CDS_ARCHIVE_EXT;
+        String launcher = "#!/bin/sh\n" +
+                "DIR=\"$(cd \"$(dirname \"$0\")\" && pwd)\"\n" +
+                "if [ -n \"$JAVA_HOME\" ]; then\n" +
+                "    JAVA=\"$JAVA_HOME/bin/java\"\n" +
+                "else\n" +
+                "    JAVA=java\n" +
+                "fi\n" +
+                "exec \"$JAVA\" -XX:SharedArchiveFile=\"$DIR/" + archiveName + "\" -Xshare:auto " +
+                "-jar \"$DIR/" + jarName + "\" \"$@\"\n";
+        String windowsLauncher = "@echo off\r\n" +
+                "if defined JAVA_HOME (\r\n" +
+                "    set \"JAVA=%JAVA_HOME%\\bin\\java\"\r\n" +
+                ") else (\r\n" +
+                "    set \"JAVA=java\"\r\n" +
+                ")\r\n" +
+                "\"%JAVA%\" -XX:SharedArchiveFile=\"%~dp0" + archiveName + "\" -Xshare:auto " +
+                "-jar \"%~dp0" + jarName + "\" %*\r\n";
+
+        Path launcherPath = executablePath.resolveSibling(executableName + LAUNCHER_EXT);
+        try {
+            Files.writeString(launcherPath, launcher, StandardCharsets.UTF_8);
+            Files.writeString(executablePath.resolveSibling(executableName + WINDOWS_LAUNCHER_EXT),
+                    windowsLauncher, StandardCharsets.UTF_8);
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(launcherPath);
+            permissions.add(PosixFilePermission.OWNER_EXECUTE);
+            permissions.add(PosixFilePermission.GROUP_EXECUTE);
+            permissions.add(PosixFilePermission.OTHERS_EXECUTE);
+            Files.setPosixFilePermissions(launcherPath, permissions);
+        } catch (UnsupportedOperationException e) {
+            // the file system does not support the permissions, e.g. on Windows
+        } catch (IOException e) {
+            throw createLauncherException("unable to write the launchers of the executable: " + e.getMessage());
+        }
+    }
+
+    private static String getArchiveDigest(Path executablePath) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw createLauncherException("error while computing the digest of the executable: ", e);
+        }
+        // the archive is only valid for the JVM which generated it
+        digest.update(System.getProperty("java.vm.version").getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(executablePath)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw createLauncherException("error while reading '" + executablePath + "': ", e);
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.cli.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageManifest;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ResolvedPackageDependency;
+import io.ballerina.projects.util.ProjectConstants;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
+import static org.ballerinalang.test.runtime.util.TesterinaConstants.MODULE_EXIT_STATUS_FILE;
+
+/**
+ * Utility functions to skip the tests of the modules which have not changed since their tests last passed.
+ * <p>
+ * The digest of a module covers the sources, the tests, the resources and the test configuration of the module, the
+ * digests of the modules of the package it depends on, and the package level inputs of a test run, i.e. the
+ * distribution version, the manifest, the content of the platform libraries, the resolved dependency packages and the
+ * configuration passed to the tests.
+ * Hence the tests of a module can only behave differently when its digest changes.
+ *
+ * @since 2201.8.0
+ */
+public class IncrementalTestUtils {
+
+    public static final String TEST_DIGESTS_JSON_FILE = "test_digests.json";
+
+    private static final String CONFIG_FILES_ENV_VARIABLE = "BAL_CONFIG_FILES";
+    private static final String CONFIG_DATA_ENV_VARIABLE = "BAL_CONFIG_DATA";
+    private static final String PLATFORM_LIBRARY_PATH = "path";
+
+    private IncrementalTestUtils() {
+    }
+
+    /**
+     * Returns the digest of the package level inputs of a test run.
+     *
+     * @param project project of the tests
+     * @param cliArgs arguments passed to the tests
+     * @return digest of the package
+     */
+    public static String getPackageDigest(Project project, List<String> cliArgs) {
+        MessageDigest digest = createDigest();
+        Package currentPackage = project.currentPackage();
+        update(digest, RepoUtils.getBallerinaVersion());
+        update(digest, currentPackage.descriptor().toString());
+        updateWithFile(digest, project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML));
+        updateWithPlatformLibraries(digest, project);
+
+        List<String> dependencies = new ArrayList<>();
+        for (ResolvedPackageDependency dependency : currentPackage.getResolution().allDependencies()) {
+            if (dependency.packageInstance() != currentPackage) {
+                dependencies.add(dependency.packageInstance().descriptor().toString());
+            }
+        }
+        dependencies.sort(Comparator.naturalOrder());
+        dependencies.forEach(dependency -> update(digest, dependency));
+
+        update(digest, String.valueOf(System.getenv(CONFIG_FILES_ENV_VARIABLE)));
+        update(digest, String.valueOf(System.getenv(CONFIG_DATA_ENV_VARIABLE)));
+        cliArgs.forEach(arg -> update(digest, arg));
+        return toHex(digest);
+    }
+
+    /**
+     * Returns the digest of a module of the package.
+     *
+     * @param module             module of the package
+     * @param packageDigest      digest of the package
+     * @param dependencyDigests  digests of the modules of the package the module depends on
+     * @return digest of the module
+     */
+    public static String getModuleDigest(Module module, String packageDigest, Collection<String> dependencyDigests) {
+        MessageDigest digest = createDigest();
+        update(digest, packageDigest);
+        update(digest, module.moduleName().toString());
+        for (DocumentId documentId : sortedDocumentIds(module, module.documentIds())) {
+            update(digest, module.document(documentId).name());
+            update(digest, String.valueOf(module.document(documentId).textDocument().toCharArray()));
+        }
+        for (DocumentId documentId : sortedDocumentIds(module, module.testDocumentIds())) {
+            update(digest, module.document(documentId).name());
+            update(digest, String.valueOf(module.document(documentId).textDocument().toCharArray()));
+        }
+        List<DocumentId> resourceIds = new ArrayList<>(module.resourceIds());
+        resourceIds.addAll(module.testResourceIds());
+        for (DocumentId resourceId : resourceIds) {
+            update(digest, module.resource(resourceId).name());
+            update(digest, module.resource(resourceId).content());
+        }
+
+        Path moduleRoot = module.project().sourceRoot();
+        if (!module.isDefaultModule()) {
+            moduleRoot = moduleRoot.resolve(ProjectConstants.MODULES_ROOT)
+                    .resolve(module.moduleName().moduleNamePart());
+        }
+        updateWithFile(digest, moduleRoot.resolve(ProjectConstants.TEST_DIR_NAME)
+                .resolve(ProjectConstants.CONFIGURATION_TOML));
+
+        List<String> sortedDependencyDigests = new ArrayList<>(dependencyDigests);
+        sortedDependencyDigests.sort(Comparator.naturalOrder());
+        sortedDependencyDigests.forEach(dependencyDigest -> update(digest, dependencyDigest));
+        return toHex(digest);
+    }
+
+    /**
+     * Loads the digests of the modules whose tests passed in the previous runs.
+     *
+     * @param targetPath target directory of the project
+     * @return digests of the modules, by the module name
+     */
+    public static Map<String, String> loadTestDigests(Path targetPath) {
+        Path digestsPath = targetPath.resolve(TEST_DIGESTS_JSON_FILE);
+        if (!Files.exists(digestsPath)) {
+            return new HashMap<>();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(digestsPath, StandardCharsets.UTF_8)) {
+            Map<String, String> digests = new Gson().fromJson(reader,
+                    new TypeToken<Map<String, String>>() { }.getType());
+            return digests != null ? digests : new HashMap<>();
+        } catch (IOException | JsonParseException e) {
+            // run all the tests, the digests are written again after the tests
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Writes the digests of the modules whose tests passed.
+     *
+     * @param targetPath target directory of the project
+     * @param digests    digests of the modules, by the module name
+     */
+    public static void writeTestDigests(Path targetPath, Map<String, String> digests) {
+        Path digestsPath = targetPath.resolve(TEST_DIGESTS_JSON_FILE);
+        try (Writer writer = Files.newBufferedWriter(digestsPath, StandardCharsets.UTF_8)) {
+            writer.write(new Gson().toJson(digests));
+        } catch (IOException e) {
+            throw createLauncherException("couldn't write data to test digests file : " + e.toString());
+        }
+    }
+
+    /**
+     * Returns the names of the modules whose test suites exited successfully in the last run.
+     * <p>
+     * The failed tests file does not list the tests which are skipped, e.g. when a before suite function fails, nor
+     * the failures of the after functions. Hence the exit status of the test suite of each module is used instead.
+     *
+     * @param testsCachePath tests cache directory of the project
+     * @return names of the modules whose test suites exited with a zero status
+     */
+    public static Set<String> getPassedTestModules(Path testsCachePath) {
+        Path exitStatusPath = testsCachePath.resolve(MODULE_EXIT_STATUS_FILE);
+        if (!Files.exists(exitStatusPath)) {
+            return Set.of();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(exitStatusPath, StandardCharsets.UTF_8)) {
+            Map<String, Integer> exitStatuses = new Gson().fromJson(reader,
+                    new TypeToken<Map<String, Integer>>() { }.getType());
+            if (exitStatuses == null) {
+                return Set.of();
+            }
+            Set<String> passedModules = new HashSet<>();
+            exitStatuses.forEach((moduleName, exitStatus) -> {
+                if (exitStatus != null && exitStatus == 0) {
+                    passedModules.add(moduleName);
+                }
+            });
+            return passedModules;
+        } catch (IOException | JsonParseException e) {
+            return Set.of();
+        }
+    }
+
+    /**
+     * Deletes the exit statuses of the test suites of the previous run, so that a run which exits before writing them
+     * does not pass the modules of the previous run.
+     *
+     * @param testsCachePath tests cache directory of the project
+     */
+    public static void clearTestExitStatuses(Path testsCachePath) {
+        try {
+            Files.deleteIfExists(testsCachePath.resolve(MODULE_EXIT_STATUS_FILE));
+        } catch (IOException e) {
+            throw createLauncherException("couldn't delete the test exit status file : " + e.toString());
+        }
+    }
+
+    // A platform library can be replaced without changing its path in the manifest
+    private static void updateWithPlatformLibraries(MessageDigest digest, Project project) {
+        PackageManifest manifest = project.currentPackage().manifest();
+        for (JvmTarget jvmTarget : JvmTarget.values()) {
+            PackageManifest.Platform platform = manifest.platform(jvmTarget.code());
+            if (platform == null) {
+                continue;
+            }
+            for (Map<String, Object> dependency : platform.dependencies()) {
+                // the path of a maven dependency is set once it is resolved
+                Object dependencyPath = dependency.get(PLATFORM_LIBRARY_PATH);
+                if (dependencyPath == null) {
+                    continue;
+                }
+                Path jarPath = Path.of(dependencyPath.toString());
+                if (!jarPath.isAbsolute()) {
+                    jarPath = project.sourceRoot().resolve(jarPath);
+                }
+                update(digest, jarPath.toString());
+                updateWithFile(digest, jarPath);
+            }
+        }
+    }
+
+    private static List<DocumentId> sortedDocumentIds(Module module, Collection<DocumentId> documentIds) {
+        List<DocumentId> sortedIds = new ArrayList<>(documentIds);
+        sortedIds.sort(Comparator.comparing(documentId -> module.document(documentId).name()));
+        return sortedIds;
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw createLauncherException("error while computing the digests of the tests: ", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        update(digest, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void update(MessageDigest digest, byte[] bytes) {
+        // prefix the length, so that the digest of consecutive values is not ambiguous
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static void updateWithFile(MessageDigest digest, Path path) {
+        if (!Files.isRegularFile(path)) {
+            update(digest, "");
+            return;
+        }
+        try {
+            update(digest, Files.readAllBytes(path));
+        } catch (IOException e) {
+            throw createLauncherException("error while reading '" + path + "': ", e);
+        }
+    }
+
+    private static String toHex(MessageDigest digest) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
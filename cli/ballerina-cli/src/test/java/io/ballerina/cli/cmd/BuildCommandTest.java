@@ -20,6 +20,7 @@ package io.ballerina.cli.cmd;
 
 import io.ballerina.cli.launcher.BLauncherException;
 import io.ballerina.cli.utils.BuildTime;
+import io.ballerina.cli.utils.CdsArchiveUtils;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.SemanticVersion;
 import io.ballerina.projects.environment.Environment;
@@ -45,6 +46,7 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Objects;
 import java.util.jar.JarFile;
 
@@ -1315,4 +1317,69 @@ public class BuildCommandTest extends BaseCommandTest {
                     && !buildLog.contains("WARNING: Package is not verified with GraalVM"));
         }
     }
+
+    @Test(description = "Build a valid ballerina project with a class data sharing archive")
+    public void testBuildWithCdsArchive() throws IOException {
+        Path projectPath = this.testResources.resolve("projectWithCdsArchive");
+        System.setProperty("user.dir", projectPath.toString());
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false);
+        new CommandLine(buildCommand).parseArgs("--cds");
+        buildCommand.execute();
+        String buildLog = readOutput(true);
+
+        // the training run reads the Config.toml of the project, hence it only passes in the project root
+        Path binPath = projectPath.resolve("target").resolve("bin");
+        Path archivePath = binPath.resolve("cds_app.jsa");
+        Assert.assertTrue(buildLog.contains("Generating class data sharing archive"));
+        Assert.assertFalse(buildLog.contains("warning: unable to generate the class data sharing archive"),
+                buildLog);
+        Assert.assertTrue(Files.exists(archivePath));
+        Assert.assertTrue(Files.exists(binPath.resolve("cds_app.jsa.sha256")));
+        Assert.assertTrue(Files.exists(binPath.resolve("cds_app.sh")));
+        Assert.assertTrue(Files.exists(binPath.resolve("cds_app.bat")));
+        Assert.assertTrue(Files.readString(binPath.resolve("cds_app.sh")).contains("cds_app.jsa"));
+
+        // the archive of an executable with the same content is reused, without a training run
+        FileTime archiveTime = Files.getLastModifiedTime(archivePath);
+        Assert.assertEquals(CdsArchiveUtils.createCdsArchive(binPath.resolve("cds_app.jar"), projectPath,
+                printStream), archivePath);
+        Assert.assertEquals(Files.getLastModifiedTime(archivePath), archiveTime);
+        Assert.assertEquals(readOutput(true), "");
+    }
+
+    @Test(description = "Build a ballerina project whose training run for the class data sharing archive fails")
+    public void testBuildWithCdsArchiveOfFailingProgram() throws IOException {
+        Path projectPath = this.testResources.resolve("projectWithFailingCdsTraining");
+        System.setProperty("user.dir", projectPath.toString());
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false);
+        new CommandLine(buildCommand).parseArgs("--cds");
+        buildCommand.execute();
+        String buildLog = readOutput(true);
+
+        Path binPath = projectPath.resolve("target").resolve("bin");
+        Assert.assertTrue(buildLog.contains("warning: unable to generate the class data sharing archive, since the " +
+                "training run of the executable exited with status"), buildLog);
+        Assert.assertTrue(buildLog.contains("training run failed"), buildLog);
+        Assert.assertTrue(Files.exists(binPath.resolve("cds_failing_app.jar")));
+        Assert.assertFalse(Files.exists(binPath.resolve("cds_failing_app.jsa")));
+        Assert.assertFalse(Files.exists(binPath.resolve("cds_failing_app.jsa.sha256")));
+        Assert.assertFalse(Files.exists(binPath.resolve("cds_failing_app.sh")));
+    }
+
+    @Test(description = "Build a ballerina project with both the cds and graalvm flags")
+    public void testBuildWithCdsArchiveAndGraalVM() throws IOException {
+        Path projectPath = this.testResources.resolve("projectWithCdsArchive");
+        System.setProperty("user.dir", projectPath.toString());
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false);
+        new CommandLine(buildCommand).parseArgs("--cds", "--graalvm", "--target-dir", "graalvm-target");
+        try {
+            buildCommand.execute();
+        } catch (BLauncherException e) {
+            // the native image cannot be built without GraalVM
+        }
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.contains("WARNING: --cds flag is ignored since graalvm flag is set"));
+        Assert.assertFalse(buildLog.contains("Generating class data sharing archive"));
+        Assert.assertFalse(Files.exists(projectPath.resolve("graalvm-target").resolve("bin").resolve("cds_app.jsa")));
+    }
 }
@@ -33,6 +33,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import static io.ballerina.cli.cmd.CommandOutputUtils.getOutput;
 
@@ -93,6 +94,32 @@ public class ProfileCommandTest extends BaseCommandTest {
         ProjectUtils.deleteDirectory(projectPath.resolve("target"));
     }
 
+    @Test(description = "Profile a ballerina project by sampling the stacks")
+    public void testRunBalProjectWithSamplingInterval() throws IOException {
+        Path projectPath = this.testResources.resolve("projectForSamplingProfile");
+        System.setProperty("user.dir", projectPath.toString());
+
+        java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+        System.setOut(new java.io.PrintStream(out));
+
+        ProfileCommand profileCommand = new ProfileCommand(projectPath, printStream, false);
+        new CommandLine(profileCommand).parseArgs("--sampling-interval", "1");
+        profileCommand.execute();
+        Path htmlPath = projectPath.resolve("target").resolve("bin").resolve("ProfilerOutput.html");
+        Assert.assertTrue(htmlPath.toFile().exists());
+        try {
+            String htmlContent = Files.readString(htmlPath);
+            Assert.assertTrue(htmlContent.contains("foo/sampling_profile/0/main.main(main.bal:20)"));
+            // samples taken in compute() are named after the line of the function being executed
+            Pattern computeFrame = Pattern.compile(
+                    "foo/sampling_profile/0/main\\.compute\\(main\\.bal:(2[7-9]|3[0-3])\\)");
+            Assert.assertTrue(computeFrame.matcher(htmlContent).find());
+        } catch (IOException e) {
+            Assert.fail("Error reading html file");
+        }
+        ProjectUtils.deleteDirectory(projectPath.resolve("target"));
+    }
+
     @Test(description = "Test profile command with help")
     public void testProfileCommandAndHelp() throws IOException {
         String[] args = {"--help"};
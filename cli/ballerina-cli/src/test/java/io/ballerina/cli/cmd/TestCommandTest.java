@@ -18,6 +18,7 @@
 
 package io.ballerina.cli.cmd;
 
+import com.google.gson.Gson;
 import io.ballerina.cli.launcher.BLauncherException;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.environment.Environment;
@@ -27,6 +28,8 @@ import io.ballerina.projects.util.ProjectUtils;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.runtime.entity.ModuleStatus;
+import org.ballerinalang.test.runtime.entity.TestReport;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -35,16 +38,21 @@ import picocli.CommandLine;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Objects;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import static io.ballerina.cli.cmd.CommandOutputUtils.getOutput;
 import static io.ballerina.cli.cmd.CommandOutputUtils.readFileAsString;
@@ -359,6 +367,147 @@ public class TestCommandTest extends BaseCommandTest {
         Assert.assertEquals(buildLog.replaceAll("\r", ""), getOutput("build-empty-package.txt"));
     }
 
+    @Test(description = "Test a ballerina project with isolated tests in parallel")
+    public void testParallelTestExecution() throws IOException {
+        Path projectPath = this.testResources.resolve("projectWithParallelTests");
+        Path testResultsPath = projectPath.resolve("target").resolve("report").resolve("test_results.json");
+        System.setProperty(ProjectConstants.USER_DIR, projectPath.toString());
+
+        TestCommand sequentialTestCommand = new TestCommand(projectPath, printStream, printStream, false);
+        new CommandLine(sequentialTestCommand).parseArgs("--test-report");
+        sequentialTestCommand.execute();
+        String sequentialTestResults = readFileAsString(testResultsPath);
+
+        TestCommand parallelTestCommand = new TestCommand(projectPath, printStream, printStream, false);
+        new CommandLine(parallelTestCommand).parseArgs("--test-report", "--parallel", "--workers", "3");
+        parallelTestCommand.execute();
+        String buildLog = readOutput(true);
+        Assert.assertFalse(buildLog.contains("ignoring --workers flag"));
+
+        // the parallel tests are reported in the order of the tests, hence the reports are the same
+        Assert.assertEquals(readFileAsString(testResultsPath), sequentialTestResults);
+
+        TestReport testReport = new Gson().fromJson(sequentialTestResults, TestReport.class);
+        Assert.assertEquals(testReport.getModuleStatus().size(), 1);
+        ModuleStatus moduleStatus = testReport.getModuleStatus().get(0);
+        Assert.assertEquals(moduleStatus.getTotalTests(), 7);
+        Assert.assertEquals(moduleStatus.getPassed(), 7);
+        Assert.assertEquals(moduleStatus.getFailed(), 0);
+        Assert.assertEquals(moduleStatus.getSkipped(), 0);
+
+        ProjectUtils.deleteDirectory(projectPath.resolve("target"));
+    }
+
+    @Test(description = "Test that isolated tests overlap when they are run in parallel")
+    public void testParallelTestsRunConcurrently() throws IOException {
+        Path projectPath = this.testResources.resolve("projectWithParallelRendezvousTests");
+        Path testResultsPath = projectPath.resolve("target").resolve("report").resolve("test_results.json");
+        System.setProperty(ProjectConstants.USER_DIR, projectPath.toString());
+
+        // each test waits for the other one to start, hence this fails unless the tests overlap
+        TestCommand testCommand = new TestCommand(projectPath, printStream, printStream, false);
+        new CommandLine(testCommand).parseArgs("--test-report", "--parallel", "--workers", "2");
+        testCommand.execute();
+
+        TestReport testReport = new Gson().fromJson(readFileAsString(testResultsPath), TestReport.class);
+        ModuleStatus moduleStatus = testReport.getModuleStatus().get(0);
+        Assert.assertEquals(moduleStatus.getTotalTests(), 2);
+        Assert.assertEquals(moduleStatus.getPassed(), 2);
+
+        ProjectUtils.deleteDirectory(projectPath.resolve("target"));
+    }
+
+    @Test(description = "Test a ballerina project with an invalid number of parallel test workers")
+    public void testParallelTestExecutionWithInvalidWorkers() throws IOException {
+        Path projectPath = this.testResources.resolve("projectWithParallelTests");
+        System.setProperty(ProjectConstants.USER_DIR, projectPath.toString());
+
+        TestCommand testCommand = new TestCommand(projectPath, printStream, printStream, false);
+        new CommandLine(testCommand).parseArgs("--parallel", "--workers", "0");
+        testCommand.execute();
+
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.contains("invalid number of workers '0' found. The number of workers should be a " +
+                "positive integer."));
+        Assert.assertFalse(buildLog.contains("Compiling source"));
+    }
+
+    @Test(description = "Test a ballerina project incrementally")
+    public void testIncrementalTestExecution() throws IOException {
+        Path projectPath = this.testResources.resolve("projectWithIncrementalTests");
+        System.setProperty(ProjectConstants.USER_DIR, projectPath.toString());
+        String skippedTestsMessage = "Skipping the tests of the following modules";
+
+        // all the tests run the first time
+        String buildLog = runIncrementalTests(projectPath);
+        Assert.assertFalse(buildLog.contains(skippedTestsMessage));
+        Assert.assertTrue(Files.exists(projectPath.resolve("target").resolve("test_digests.json")));
+
+        // none of the modules changed
+        buildLog = runIncrementalTests(projectPath);
+        Assert.assertTrue(buildLog.contains(skippedTestsMessage));
+        Assert.assertTrue(buildLog.contains("\tincremental_tests (1 tests)"));
+        Assert.assertTrue(buildLog.contains("\tincremental_tests.util (2 tests)"));
+        Assert.assertTrue(buildLog.contains("No tests to run, all the tests of the package passed in the previous " +
+                "runs"));
+
+        // the default module changed, while the module it depends on did not
+        Files.writeString(projectPath.resolve("main.bal"), "\nfunction unused() {\n}\n", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        buildLog = runIncrementalTests(projectPath);
+        Assert.assertTrue(buildLog.contains("\tincremental_tests.util (2 tests)"));
+        Assert.assertFalse(buildLog.contains("\tincremental_tests (1 tests)"));
+        Assert.assertFalse(buildLog.contains("No tests to run"));
+
+        // the content of a platform library changed, while its path in Ballerina.toml did not
+        try (OutputStream out = Files.newOutputStream(projectPath.resolve("libs").resolve("one-1.0.0.jar"));
+             JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(new JarEntry("version.txt"));
+            jarOut.write("1.0.1".getBytes(StandardCharsets.UTF_8));
+            jarOut.closeEntry();
+        }
+        buildLog = runIncrementalTests(projectPath);
+        Assert.assertFalse(buildLog.contains(skippedTestsMessage));
+
+        ProjectUtils.deleteDirectory(projectPath.resolve("target"));
+    }
+
+    @Test(description = "Test that a module with a failing before suite function is not skipped by --incremental")
+    public void testIncrementalTestExecutionWithFailingBeforeSuite() throws IOException {
+        Path projectPath = this.testResources.resolve("projectWithFailingBeforeSuite");
+        System.setProperty(ProjectConstants.USER_DIR, projectPath.toString());
+
+        // the before suite function of the default module fails, hence its test is skipped
+        try {
+            runIncrementalTests(projectPath);
+            Assert.fail("expected the test run to fail");
+        } catch (BLauncherException e) {
+            Assert.assertTrue(e.getDetailedMessages().get(0).contains("there are test failures"));
+        }
+        readOutput(true);
+
+        // only the module whose tests passed is skipped in the next run
+        try {
+            runIncrementalTests(projectPath);
+            Assert.fail("expected the test run to fail");
+        } catch (BLauncherException e) {
+            Assert.assertTrue(e.getDetailedMessages().get(0).contains("there are test failures"));
+        }
+        String buildLog = readOutput(true).replaceAll("\r", "");
+        Assert.assertTrue(buildLog.contains("\tfailing_before_suite.util (1 tests)"));
+        Assert.assertFalse(buildLog.contains("\tfailing_before_suite (1 tests)"));
+        Assert.assertFalse(buildLog.contains("No tests to run"));
+
+        ProjectUtils.deleteDirectory(projectPath.resolve("target"));
+    }
+
+    private String runIncrementalTests(Path projectPath) throws IOException {
+        TestCommand testCommand = new TestCommand(projectPath, printStream, printStream, false);
+        new CommandLine(testCommand).parseArgs("--incremental");
+        testCommand.execute();
+        return readOutput(true).replaceAll("\r", "");
+    }
+
     static class Copy extends SimpleFileVisitor<Path> {
         private Path fromPath;
         private Path toPath;
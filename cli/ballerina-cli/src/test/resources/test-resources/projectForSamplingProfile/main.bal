@@ -0,0 +1,33 @@
+// Copyright (c) 2023, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function main() {
+    int total = 0;
+    foreach int i in 0 ..< 500 {
+        total += compute(i);
+    }
+    if total < 0 {
+        panic error("unexpected total");
+    }
+}
+
+function compute(int seed) returns int {
+    int result = seed;
+    foreach int i in 0 ..< 100000 {
+        result = (result * 31 + i) % 1000003;
+    }
+    return result;
+}
@@ -0,0 +1,7 @@
+configurable string greeting = ?;
+
+public function main() {
+    if greeting.length() == 0 {
+        panic error("empty greeting");
+    }
+}
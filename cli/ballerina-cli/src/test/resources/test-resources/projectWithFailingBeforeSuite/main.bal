@@ -0,0 +1,8 @@
+import failing_before_suite.util;
+
+public function greet(string name) returns string {
+    return util:greeting(name) + "!";
+}
+
+public function main() {
+}
@@ -0,0 +1,6 @@
+import ballerina/test;
+
+@test:Config {}
+function testGreeting() {
+    test:assertEquals(greeting("World"), "Hello, World");
+}
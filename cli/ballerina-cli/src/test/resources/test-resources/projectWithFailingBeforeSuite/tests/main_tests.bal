@@ -0,0 +1,11 @@
+import ballerina/test;
+
+@test:BeforeSuite
+function beforeSuite() {
+    panic error("before suite failed");
+}
+
+@test:Config {}
+function testGreet() {
+    test:assertEquals(greet("World"), "Hello, World!");
+}
@@ -0,0 +1,3 @@
+public function main() {
+    panic error("training run failed");
+}
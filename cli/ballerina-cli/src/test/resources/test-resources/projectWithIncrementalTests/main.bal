@@ -0,0 +1,8 @@
+import incremental_tests.util;
+
+public function greet(string name) returns string {
+    return util:greeting(name) + "!";
+}
+
+public function main() {
+}
@@ -0,0 +1,11 @@
+import ballerina/test;
+
+@test:Config {}
+function testGreeting() {
+    test:assertEquals(greeting("World"), "Hello, World");
+}
+
+@test:Config {}
+function testEmptyGreeting() {
+    test:assertEquals(greeting(""), "Hello, ");
+}
@@ -0,0 +1,3 @@
+public function greeting(string name) returns string {
+    return "Hello, " + name;
+}
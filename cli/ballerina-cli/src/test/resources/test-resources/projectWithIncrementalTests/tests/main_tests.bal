@@ -0,0 +1,6 @@
+import ballerina/test;
+
+@test:Config {}
+function testGreet() {
+    test:assertEquals(greet("World"), "Hello, World!");
+}
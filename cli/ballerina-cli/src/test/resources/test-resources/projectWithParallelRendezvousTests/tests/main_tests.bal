@@ -0,0 +1,50 @@
+import ballerina/lang.runtime;
+import ballerina/test;
+
+// each test waits until the other one has started, hence they pass only when they run at the same time
+isolated boolean firstStarted = false;
+isolated boolean secondStarted = false;
+
+@test:Config {}
+isolated function testFirst() {
+    lock {
+        firstStarted = true;
+    }
+    test:assertTrue(awaitSecond(), "the second test did not start while the first test was running");
+}
+
+@test:Config {}
+isolated function testSecond() {
+    lock {
+        secondStarted = true;
+    }
+    test:assertTrue(awaitFirst(), "the first test did not start while the second test was running");
+}
+
+isolated function awaitFirst() returns boolean {
+    foreach int i in 0 ..< 100 {
+        boolean started;
+        lock {
+            started = firstStarted;
+        }
+        if started {
+            return true;
+        }
+        runtime:sleep(0.1);
+    }
+    return false;
+}
+
+isolated function awaitSecond() returns boolean {
+    foreach int i in 0 ..< 100 {
+        boolean started;
+        lock {
+            started = secondStarted;
+        }
+        if started {
+            return true;
+        }
+        runtime:sleep(0.1);
+    }
+    return false;
+}
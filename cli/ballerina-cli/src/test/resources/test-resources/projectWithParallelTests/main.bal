@@ -0,0 +1,6 @@
+public isolated function add(int a, int b) returns int {
+    return a + b;
+}
+
+public function main() {
+}
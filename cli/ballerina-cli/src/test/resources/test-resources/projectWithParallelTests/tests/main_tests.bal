@@ -0,0 +1,41 @@
+import ballerina/test;
+
+int nonIsolatedCount = 0;
+
+@test:Config {}
+isolated function testAddPositive() {
+    test:assertEquals(add(1, 2), 3);
+}
+
+@test:Config {}
+isolated function testAddNegative() {
+    test:assertEquals(add(-1, -2), -3);
+}
+
+@test:Config {
+    dataProvider: addDataProvider
+}
+isolated function testAddWithData(int a, int b, int expected) {
+    test:assertEquals(add(a, b), expected);
+}
+
+isolated function addDataProvider() returns map<[int, int, int]> {
+    return {
+        "zero": [0, 0, 0],
+        "mixed": [5, -3, 2],
+        "large": [1000000, 2000000, 3000000]
+    };
+}
+
+@test:Config {}
+function testNonIsolated() {
+    nonIsolatedCount += 1;
+    test:assertEquals(add(nonIsolatedCount, 1), 2);
+}
+
+@test:Config {
+    dependsOn: [testNonIsolated]
+}
+function testDependent() {
+    test:assertEquals(nonIsolatedCount, 1);
+}
@@ -85,6 +85,18 @@ public abstract class CompilerBackend {
     // TODO this method should be moved to some other class owned by the CompilerBackend
     public abstract void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache);
 
+    /**
+     * Runs the given task once the platform-specific code generated for the given module is cached.
+     * <p>
+     * Backends which cache the generated code after {@code performCodeGen} returns defer the task until then.
+     *
+     * @param moduleContext the module of which the code was generated
+     * @param task          the task to run
+     */
+    void afterCodeGenCached(ModuleContext moduleContext, Runnable task) {
+        task.run();
+    }
+
     public abstract String libraryFileExtension();
 
     /**
@@ -126,7 +126,8 @@ public class ConfigReader {
     }
 
     private static void populateConfigVars(BPackageSymbol pkgSymbol, Set<BVarSymbol> configVars) {
-        for (Scope.ScopeEntry entry : pkgSymbol.scope.entries.values()) {
+        // the lazily defined symbols of an imported module are functions, which are never configurable
+        for (Scope.ScopeEntry entry : pkgSymbol.scope.definedEntries().values()) {
             BSymbol symbol = entry.symbol;
             if (symbol != null) {
                 if (symbol.tag == SymTag.TYPE_DEF) {
@@ -57,17 +57,25 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -93,6 +101,8 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_NAME_SUFFIX = "";
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final String OS = System.getProperty("os.name").toLowerCase(Locale.getDefault());
+    private static final int JAR_WRITER_POOL_SIZE =
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
 
     private final PackageResolution pkgResolution;
     private final JvmTarget jdkVersion;
@@ -106,6 +116,8 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private final List<JarConflict> conflictedJars;
+    private final Deque<ModuleJars> pendingModuleJars = new ArrayDeque<>();
+    private ExecutorService jarWriterPool;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         // Check if the project has write permissions
@@ -146,6 +158,15 @@ public class JBallerinaBackend extends CompilerBackend {
         return this.packageContext;
     }
 
+    /**
+     * Generates the code of the modules of the package one at a time, in topological order, and writes the module
+     * jars in the background.
+     * <p>
+     * Only writing the jars overlaps with code generation. Independent modules of the dependency graph are not
+     * compiled in parallel, since type checking and BIR and JVM code generation share the SymbolTable, the
+     * PackageCache and the diagnostic log of the compiler context, none of which is thread safe or isolated per
+     * module.
+     */
     private void performCodeGen() {
         if (codeGenCompleted) {
             return;
@@ -158,24 +179,36 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
-        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
-            if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
-                if (packageCompilation.diagnosticResult().hasErrors()) {
-                    for (Diagnostic diagnostic : moduleContext.diagnostics()) {
-                        moduleDiagnostics.add(
-                                new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+        // Jars of a module are written in the background while the code of the next modules is generated.
+        // TODO: compile the independent modules in parallel once the compiler context is isolated per module
+        jarWriterPool = createJarWriterPool();
+        try {
+            for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+                if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
+                    if (packageCompilation.diagnosticResult().hasErrors()) {
+                        for (Diagnostic diagnostic : moduleContext.diagnostics()) {
+                            moduleDiagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(),
+                                    moduleContext.project()));
+                        }
+                        continue;
                     }
-                    continue;
                 }
+                // We can't generate backend code when one of its dependencies have errors.
+                if (!this.packageContext.getResolution().diagnosticResult().hasErrors() &&
+                        !hasErrors(moduleDiagnostics)) {
+                    moduleContext.generatePlatformSpecificCode(compilerContext, this);
+                }
+                for (Diagnostic diagnostic : moduleContext.diagnostics()) {
+                    moduleDiagnostics.add(
+                            new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+                }
+                cachePendingModuleJars(false);
             }
-            // We can't generate backend code when one of its dependencies have errors.
-            if (!this.packageContext.getResolution().diagnosticResult().hasErrors() && !hasErrors(moduleDiagnostics)) {
-                moduleContext.generatePlatformSpecificCode(compilerContext, this);
-            }
-            for (Diagnostic diagnostic : moduleContext.diagnostics()) {
-                moduleDiagnostics.add(
-                        new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
-            }
+            cachePendingModuleJars(true);
+        } finally {
+            pendingModuleJars.clear();
+            jarWriterPool.shutdownNow();
+            jarWriterPool = null;
         }
         // add compilation diagnostics
         diagnostics.addAll(moduleDiagnostics);
@@ -322,30 +355,69 @@ public class JBallerinaBackend extends CompilerBackend {
         if (compiledJarFile == null) {
             throw new IllegalStateException("Missing generated jar, module: " + moduleContext.moduleName());
         }
-        String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, getResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        ModuleJars moduleJars = new ModuleJars(moduleContext, compilationCache, getJarFileName(moduleContext) +
+                JAR_FILE_NAME_SUFFIX, writeJar(compiledJarFile, getResources(moduleContext)));
+        pendingModuleJars.add(moduleJars);
+
         // skip generation of the test jar if --with-tests option is not provided
-        if (moduleContext.project().buildOptions().skipTests()) {
-            return;
+        if (!moduleContext.project().buildOptions().skipTests() && bLangPackage.hasTestablePackage()) {
+            CompiledJarFile compiledTestJarFile =
+                    jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
+            moduleJars.testJar = writeJar(compiledTestJarFile, getAllResources(moduleContext));
         }
 
-        if (!bLangPackage.hasTestablePackage()) {
-            return;
+        if (jarWriterPool == null) {
+            // not generating code for the whole package, hence cache the jars right away
+            cachePendingModuleJars(true);
         }
+    }
 
-        String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
-        CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile, getAllResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
+    @Override
+    void afterCodeGenCached(ModuleContext moduleContext, Runnable task) {
+        for (ModuleJars moduleJars : pendingModuleJars) {
+            if (moduleJars.moduleContext == moduleContext) {
+                moduleJars.afterCachedTasks.add(task);
+                return;
+            }
+        }
+        task.run();
+    }
+
+    private Future<ByteArrayOutputStream> writeJar(CompiledJarFile compiledJarFile, Map<String, byte[]> resources) {
+        FutureTask<ByteArrayOutputStream> jarWriter =
+                new FutureTask<>(() -> JarWriter.write(compiledJarFile, resources));
+        if (jarWriterPool == null) {
+            jarWriter.run();
+        } else {
+            jarWriterPool.execute(jarWriter);
         }
+        return jarWriter;
+    }
+
+    /**
+     * Caches the jars written for the modules, in the order the code was generated, so that the cached files do
+     * not depend on the order in which the jars are written.
+     *
+     * @param waitForJars whether to wait until all the pending jars are written
+     */
+    private void cachePendingModuleJars(boolean waitForJars) {
+        while (!pendingModuleJars.isEmpty()) {
+            ModuleJars moduleJars = pendingModuleJars.peek();
+            if (!waitForJars && !moduleJars.isWritten()) {
+                return;
+            }
+            pendingModuleJars.remove();
+            moduleJars.cache(this);
+        }
+    }
+
+    private static ExecutorService createJarWriterPool() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(JAR_WRITER_POOL_SIZE, runnable -> {
+            Thread thread = new Thread(runnable, "ballerina-jar-writer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
@@ -782,4 +854,52 @@ public class JBallerinaBackend extends CompilerBackend {
         }
         return null;
     }
+
+    /**
+     * Jars of a module, which are being written and are yet to be cached.
+     */
+    private static class ModuleJars {
+        private final ModuleContext moduleContext;
+        private final CompilationCache compilationCache;
+        private final String jarFileName;
+        private final Future<ByteArrayOutputStream> jar;
+        private Future<ByteArrayOutputStream> testJar;
+        private final List<Runnable> afterCachedTasks = new ArrayList<>();
+
+        ModuleJars(ModuleContext moduleContext, CompilationCache compilationCache, String jarFileName,
+                   Future<ByteArrayOutputStream> jar) {
+            this.moduleContext = moduleContext;
+            this.compilationCache = compilationCache;
+            this.jarFileName = jarFileName;
+            this.jar = jar;
+        }
+
+        boolean isWritten() {
+            return jar.isDone() && (testJar == null || testJar.isDone());
+        }
+
+        void cache(JBallerinaBackend compilerBackend) {
+            compilationCache.cachePlatformSpecificLibrary(compilerBackend, jarFileName,
+                    getJarContent(jar, "Failed to cache generated jar, module: "));
+            if (testJar != null) {
+                compilationCache.cachePlatformSpecificLibrary(compilerBackend,
+                        jarFileName + TEST_JAR_FILE_NAME_SUFFIX,
+                        getJarContent(testJar, "Failed to cache generated test jar, module: "));
+            }
+            for (Runnable task : afterCachedTasks) {
+                task.run();
+            }
+        }
+
+        private ByteArrayOutputStream getJarContent(Future<ByteArrayOutputStream> jarContent, String errorMessage) {
+            try {
+                return jarContent.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProjectException(errorMessage + moduleContext.moduleName());
+            } catch (ExecutionException e) {
+                throw new ProjectException(errorMessage + moduleContext.moduleName(), e.getCause());
+            }
+        }
+    }
 }
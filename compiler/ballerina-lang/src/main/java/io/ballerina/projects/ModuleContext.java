@@ -491,7 +491,8 @@ class ModuleContext {
         // Write the bir to the file system
         // This code will execute only if JAR caching is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
-        moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        compilerBackend.afterCodeGenCached(moduleContext,
+                () -> moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent));
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext, CompilerContext compilerContext) {
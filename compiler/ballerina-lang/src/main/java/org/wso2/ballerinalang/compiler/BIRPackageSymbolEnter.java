@@ -39,6 +39,7 @@ import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolResolver;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.TypeParamAnalyzer;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.LazyScope;
 import org.wso2.ballerinalang.compiler.semantics.model.Scope;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
@@ -104,7 +105,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -145,14 +145,15 @@ public class BIRPackageSymbolEnter {
     private List<BStructureTypeSymbol> structureTypes; // TODO find a better way
     private BStructureTypeSymbol currentStructure = null;
     private LinkedList<Object> compositeStack = new LinkedList<>();
+    // guards the state above, which is changed both when a module is defined and when a lazily defined function of
+    // any module is looked up, possibly by another thread
+    private final Object definitionLock = new Object();
 
     private static final int SERVICE_TYPE_TAG = 54;
 
     private static final CompilerContext.Key<BIRPackageSymbolEnter> COMPILED_PACKAGE_SYMBOL_ENTER_KEY =
             new CompilerContext.Key<>();
 
-    private Map<String, BVarSymbol> globalVarMap = new HashMap<>();
-
     public static BIRPackageSymbolEnter getInstance(CompilerContext context) {
         BIRPackageSymbolEnter packageReader = context.get(COMPILED_PACKAGE_SYMBOL_ENTER_KEY);
         if (packageReader == null) {
@@ -174,24 +175,32 @@ public class BIRPackageSymbolEnter {
     }
 
     public BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteArrayInputStream(packageBinaryContent));
+        synchronized (definitionLock) {
+            return definePackageSymbol(packageId, packageBinaryContent);
+        }
+    }
 
+    private BPackageSymbol definePackageSymbol(PackageID packageId, byte[] packageBinaryContent) {
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
                 packageBinaryContent, 8, packageBinaryContent.length);
-        pkgSymbol.birPackageFile = new CompiledBinaryFile.BIRPackageFile(modifiedPkgBinaryContent);
+        BIRPackageFile birPackageFile = new CompiledBinaryFile.BIRPackageFile(modifiedPkgBinaryContent);
+        BPackageSymbol pkgSymbol = definePackageFromBinary(packageId, packageBinaryContent, birPackageFile);
+        pkgSymbol.birPackageFile = birPackageFile;
         SymbolEnv builtinEnv = this.symTable.pkgEnvMap.get(symTable.langAnnotationModuleSymbol);
         SymbolEnv pkgEnv = SymbolEnv.createPkgEnv(null, pkgSymbol.scope, builtinEnv);
         this.symTable.pkgEnvMap.put(pkgSymbol, pkgEnv);
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream) {
+    private BPackageSymbol definePackageFromBinary(PackageID packageId, byte[] packageBinaryContent,
+                                                   BIRPackageFile birPackageFile) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
-        try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
+        try (DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(packageBinaryContent))) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
+            this.env.birPackageFile = birPackageFile;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -234,6 +243,10 @@ public class BIRPackageSymbolEnter {
 
         PackageID pkgId = createPackageID(orgName, pkgName, moduleName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
+        if (!pkgId.equals(PackageID.ANNOTATIONS)) {
+            // the functions are defined when they are first looked up
+            this.env.pkgSymbol.scope = new LazyScope(this.env.pkgSymbol, definitionLock);
+        }
 
         // TODO Validate this pkdID with the requestedPackageID available in the env.
 
@@ -253,7 +266,7 @@ public class BIRPackageSymbolEnter {
         readTypeDefBodies(dataInStream);
 
         // Define functions.
-        defineSymbols(dataInStream, rethrow(this::defineFunction));
+        defineFunctionsLazily(dataInStream);
 
         // Define annotations.
         defineSymbols(dataInStream, rethrow(this::defineAnnotations));
@@ -267,6 +280,61 @@ public class BIRPackageSymbolEnter {
         return this.env.pkgSymbol;
     }
 
+    private void defineFunctionsLazily(DataInputStream dataInStream) throws IOException {
+        int functionCount = dataInStream.readInt();
+        for (int i = 0; i < functionCount; i++) {
+            Name funcName = names.fromString(getStringCPEntryValue(dataInStream));
+            int length = (int) dataInStream.readLong();
+            // the offset in the content of the package file, which is stripped off the magic value and the version
+            int offset = this.env.birPackageFile.pkgBirBinaryContent.length - dataInStream.available();
+            if (this.env.pkgSymbol.scope instanceof LazyScope) {
+                BIRPackageSymbolEnv symbolEnv = this.env;
+                ((LazyScope) this.env.pkgSymbol.scope).defineLazily(funcName,
+                        () -> defineFunction(symbolEnv, offset, length));
+            } else {
+                defineFunction(this.env, offset, length);
+            }
+            dataInStream.skipBytes(length);
+        }
+    }
+
+    /**
+     * Defines a function of a module whose symbols are already defined, reading the function from the BIR of the
+     * module in the given range.
+     *
+     * @param symbolEnv symbol env of the module
+     * @param offset    offset of the function in the content of the BIR package file
+     * @param length    length of the function in the BIR
+     */
+    private void defineFunction(BIRPackageSymbolEnv symbolEnv, int offset, int length) {
+        // the lazy scope runs the definer holding the same lock
+        synchronized (definitionLock) {
+            defineFunctionInEnv(symbolEnv, offset, length);
+        }
+    }
+
+    private void defineFunctionInEnv(BIRPackageSymbolEnv symbolEnv, int offset, int length) {
+        // the function may be looked up while defining another module, hence keep the state of it
+        BIRPackageSymbolEnv prevEnv = this.env;
+        BStructureTypeSymbol prevStructure = this.currentStructure;
+        LinkedList<Object> prevCompositeStack = this.compositeStack;
+        this.env = symbolEnv;
+        this.currentStructure = null;
+        this.compositeStack = new LinkedList<>();
+        try (DataInputStream dataInStream = new DataInputStream(
+                new ByteArrayInputStream(symbolEnv.birPackageFile.pkgBirBinaryContent, offset, length))) {
+            defineFunction(dataInStream);
+        } catch (Throwable e) {
+            throw new BLangCompilerException("failed to load a function of the module '" +
+                    symbolEnv.pkgSymbol.pkgID + "' from its BIR" +
+                    (e.getMessage() != null ? (" due to: " + e.getMessage()) : ""), e);
+        } finally {
+            this.env = prevEnv;
+            this.currentStructure = prevStructure;
+            this.compositeStack = prevCompositeStack;
+        }
+    }
+
     private void populateReferencedFunctions() {
         for (BStructureTypeSymbol structureTypeSymbol : this.structureTypes) {
             BType referredStructureTypeSymbol = Types.getImpliedType(structureTypeSymbol.type);
@@ -525,7 +593,7 @@ public class BIRPackageSymbolEnter {
         long length = dataInStream.readInt();
         for (int i = 0; i < length; i++) {
             String globalVarName = getStringCPEntryValue(dataInStream.readInt());
-            invokableSymbol.dependentGlobalVars.add(this.globalVarMap.get(globalVarName));
+            invokableSymbol.dependentGlobalVars.add(this.env.globalVarMap.get(globalVarName));
         }
     }
 
@@ -901,7 +969,7 @@ public class BIRPackageSymbolEnter {
         }
         varSymbol.pos = pos;
 
-        this.globalVarMap.put(varName, varSymbol);
+        this.env.globalVarMap.put(varName, varSymbol);
 
         defineMarkDownDocAttachment(varSymbol, docBytes);
         defineAnnotAttachmentSymbols(dataInStream, varSymbol);
@@ -1113,7 +1181,9 @@ public class BIRPackageSymbolEnter {
      */
     private static class BIRPackageSymbolEnv {
         PackageID requestedPackageId;
+        BIRPackageFile birPackageFile;
         Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
+        Map<String, BVarSymbol> globalVarMap = new HashMap<>();
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
@@ -1870,7 +1940,8 @@ public class BIRPackageSymbolEnter {
                 }
             }
         } else {
-            for (Map.Entry<Name, Scope.ScopeEntry> value : pkgEnv.scope.entries.entrySet()) {
+            // anonymous types are defined eagerly, hence skip the lazily defined functions
+            for (Map.Entry<Name, Scope.ScopeEntry> value : pkgEnv.scope.definedEntries().entrySet()) {
                 BSymbol symbol = value.getValue().symbol;
 
                 if (value.getKey().value.contains(ANON_PREFIX)) {
@@ -186,6 +186,7 @@ public class JvmConstants {
     public static final String TEST_CONFIG_ARGS = "io/ballerina/runtime/internal/testable/TestConfigArguments";
     public static final String TYPE_ID_SET = "io/ballerina/runtime/internal/types/BTypeIdSet";
     public static final String TYPE_ID = "io/ballerina/runtime/internal/types/BTypeIdSet$TypeId";
+    public static final String TYPE_POPULATOR = "io/ballerina/runtime/internal/types/TypePopulator";
 
     // other jvm-specific classes
     public static final String TYPE_CHECKER = "io/ballerina/runtime/internal/TypeChecker";
@@ -199,6 +200,7 @@ public class JvmConstants {
     public static final String TYPE_CONVERTER = "io/ballerina/runtime/internal/TypeConverter";
     public static final String STRAND_STATE = "io/ballerina/runtime/internal/scheduling/State";
     public static final String FUNCTION_FRAME = "io/ballerina/runtime/internal/scheduling/FunctionFrame";
+    public static final String FUNCTION_FRAME_STACK = "io/ballerina/runtime/internal/scheduling/FunctionFrameStack";
     public static final String VALUE_CREATOR = "io/ballerina/runtime/internal/values/ValueCreator";
     public static final String XML_FACTORY = "io/ballerina/runtime/internal/XmlFactory";
     public static final String XML_SEQUENCE = "io/ballerina/runtime/internal/values/XmlSequence";
@@ -232,7 +234,6 @@ public class JvmConstants {
     public static final String LINKED_HASH_MAP = "java/util/LinkedHashMap";
     public static final String ARRAY_LIST = "java/util/ArrayList";
     public static final String LIST = "java/util/List";
-    public static final String STACK = "java/util/Stack";
     public static final String SET = "java/util/Set";
     public static final String LINKED_HASH_SET = "java/util/LinkedHashSet";
     public static final String STRING_BUILDER = "java/lang/StringBuilder";
@@ -360,6 +361,9 @@ public class JvmConstants {
     public static final String ANY_TO_FLOAT_METHOD = "anyToFloat";
     public static final String ANY_TO_DECIMAL_METHOD = "anyToDecimal";
     public static final String ANY_TO_BOOLEAN_METHOD = "anyToBoolean";
+    public static final String GET_UNBOXED_INT_VALUE_METHOD = "getUnboxedIntValue";
+    public static final String GET_UNBOXED_FLOAT_VALUE_METHOD = "getUnboxedFloatValue";
+    public static final String GET_UNBOXED_BOOLEAN_VALUE_METHOD = "getUnboxedBooleanValue";
     public static final String DECIMAL_VALUE_OF_J_METHOD = "valueOfJ";
     public static final String VALUE_OF_METHOD = "valueOf";
     public static final String EQUALS_METHOD = "equals";
@@ -381,6 +385,10 @@ public class JvmConstants {
     public static final String CREATE_INTEROP_ERROR_METHOD = "createInteropError";
     public static final String LAMBDA_PREFIX = "$lambda$";
     public static final String POPULATE_METHOD_PREFIX = "$populate";
+    public static final String POPULATE_TYPE_METHOD = "populate";
+    public static final String POPULATE_RECORD_TYPE_METHOD = "$populateRecordType";
+    public static final String SET_TYPE_POPULATOR_METHOD = "setTypePopulator";
+    public static final String SET_TYPE_POPULATORS_METHOD = "$setTypePopulators";
     public static final String ADD_METHOD = "add";
     public static final String TEST_EXECUTION_STATE = "__gH7W16nQmp0TestExecState__";
     public static final String GET_TEST_EXECUTION_STATE = "$getTestExecutionState";
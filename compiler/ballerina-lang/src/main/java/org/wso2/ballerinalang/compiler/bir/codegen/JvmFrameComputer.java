@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+
+/**
+ * Computes the stack map frames of the generated classes of a module in parallel.
+ * <p>
+ * Computing the frames is the most expensive part of writing a class with ASM, and it only depends on the bytecode of
+ * the class. Hence the large classes of a module are generated without frames on the code generation thread, as the
+ * generators share the type and constant state of the module, and the frames of each class are computed by an
+ * independent task on the common fork join pool, which reads the class and writes it again with
+ * {@link ClassWriter#COMPUTE_FRAMES}. The classes are added to the jar entries in the order they were submitted.
+ *
+ * @since 2201.8.0
+ */
+class JvmFrameComputer {
+
+    private final Map<String, PendingClass> pendingClasses = new LinkedHashMap<>();
+
+    /**
+     * Submits a class written without stack map frames to compute its frames.
+     *
+     * @param className  name of the class
+     * @param classBytes the class written without frames
+     * @param node       the BIR node the class is generated for, to report errors
+     */
+    void submit(String className, byte[] classBytes, BIRNode node) {
+        ForkJoinTask<byte[]> task;
+        if (classBytes.length == 0) {
+            // the class could not be written, which is already reported
+            task = ForkJoinTask.adapt(() -> classBytes);
+            task.invoke();
+        } else {
+            task = ForkJoinPool.commonPool().submit(() -> computeFrames(className, classBytes));
+        }
+        pendingClasses.put(className, new PendingClass(task, node));
+    }
+
+    /**
+     * Waits for the frames of the submitted classes to be computed and adds the classes to the jar entries.
+     *
+     * @param jarEntries    jar entries of the module
+     * @param jvmPackageGen the package generator, to report the errors of the classes
+     */
+    void addComputedClasses(Map<String, byte[]> jarEntries, JvmPackageGen jvmPackageGen) {
+        try {
+            for (Map.Entry<String, PendingClass> entry : pendingClasses.entrySet()) {
+                PendingClass pendingClass = entry.getValue();
+                jarEntries.put(entry.getKey() + ".class", jvmPackageGen.getBytes(pendingClass::join,
+                        pendingClass.node));
+            }
+        } finally {
+            pendingClasses.clear();
+        }
+    }
+
+    private static byte[] computeFrames(String className, byte[] classBytes) {
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        new ClassReader(classBytes).accept(new FrameComputingVisitor(cw, className), 0);
+        return cw.toByteArray();
+    }
+
+    /**
+     * Recomputes the max stack and the frames of each method of a class, reporting the method which fails.
+     */
+    private static class FrameComputingVisitor extends ClassVisitor {
+
+        private final String className;
+
+        FrameComputingVisitor(ClassWriter cw, String className) {
+            super(Opcodes.ASM9, cw);
+            this.className = className;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                         String[] exceptions) {
+            MethodVisitor methodWriter = super.visitMethod(access, name, descriptor, signature, exceptions);
+            return new MethodVisitor(Opcodes.ASM9, methodWriter) {
+                @Override
+                public void visitMaxs(int maxStack, int maxLocals) {
+                    JvmCodeGenUtil.visitMaxStackForMethod(this.mv, name, className);
+                }
+            };
+        }
+    }
+
+    private static class PendingClass {
+
+        private final ForkJoinTask<byte[]> task;
+        private final BIRNode node;
+
+        PendingClass(ForkJoinTask<byte[]> task, BIRNode node) {
+            this.task = task;
+            this.node = node;
+        }
+
+        byte[] join() {
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BLangCompilerException("interrupted while generating the classes", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new BLangCompilerException(cause.getMessage(), cause);
+            }
+        }
+    }
+}
@@ -119,6 +119,7 @@ import static org.objectweb.asm.Opcodes.LSTORE;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.getTargetClass;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
@@ -139,6 +140,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DOUBLE_VA
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.EQUALS_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_UNBOXED_BOOLEAN_VALUE_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_UNBOXED_FLOAT_VALUE_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_UNBOXED_INT_VALUE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_VALUE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INSTANTIATE_FUNCTION;
@@ -216,6 +220,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRI
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRING_FROM_ARRAY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC_OF_OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_UNBOXED_BOOLEAN_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_UNBOXED_FLOAT_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_UNBOXED_INT_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_MAP_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_TABLE_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_ARRAY;
@@ -1474,6 +1481,11 @@ public class JvmInstructionGen {
                 this.mv.visitTypeInsn(CHECKCAST , B_STRING_VALUE);
                 this.mv.visitMethodInsn(INVOKESTATIC, JSON_UTILS, "getElement", JSON_GET_ELEMENT, false);
             }
+        } else if (varRefType.tag == TypeTags.RECORD && !mapLoadIns.fillingRead &&
+                generateUnboxedRecordFieldGet(mapLoadIns.lhsOp.variableDcl.type)) {
+            // the value is read without boxing it, hence no unboxing is needed
+            this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+            return;
         } else {
             if (mapLoadIns.fillingRead) {
                 this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "fillAndGet",
@@ -1490,6 +1502,34 @@ public class JvmInstructionGen {
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
+    /**
+     * Reads an {@code int}, {@code float} or {@code boolean} record field as a primitive value. Record value classes
+     * store such fields unboxed, hence this avoids boxing the value in {@code get} only to unbox it here.
+     *
+     * @param targetType type of the field access
+     * @return whether the field read was generated
+     */
+    private boolean generateUnboxedRecordFieldGet(BType targetType) {
+        targetType = JvmCodeGenUtil.getImpliedType(targetType);
+        String methodName;
+        String methodDesc;
+        if (TypeTags.isIntegerTypeTag(targetType.tag)) {
+            methodName = GET_UNBOXED_INT_VALUE_METHOD;
+            methodDesc = GET_UNBOXED_INT_VALUE;
+        } else if (targetType.tag == TypeTags.FLOAT) {
+            methodName = GET_UNBOXED_FLOAT_VALUE_METHOD;
+            methodDesc = GET_UNBOXED_FLOAT_VALUE;
+        } else if (targetType.tag == TypeTags.BOOLEAN) {
+            methodName = GET_UNBOXED_BOOLEAN_VALUE_METHOD;
+            methodDesc = GET_UNBOXED_BOOLEAN_VALUE;
+        } else {
+            return false;
+        }
+        this.mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
+        this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, methodName, methodDesc, true);
+        return true;
+    }
+
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
@@ -1822,6 +1862,13 @@ public class JvmInstructionGen {
         }
         this.mv.visitMethodInsn(INVOKESPECIAL, FUNCTION_POINTER, JVM_INIT_METHOD,
                                 FP_INIT, false);
+        if (jvmPackageGen.isNonYieldingFunction(inst.pkgId, name)) {
+            // mark the function pointer, so that the langlib functions can call it directly, which is never done when
+            // the module is compiled for its tests, as the analysis finds no non yielding functions for them
+            this.mv.visitInsn(DUP);
+            this.mv.visitInsn(ICONST_1);
+            this.mv.visitFieldInsn(PUTFIELD, FUNCTION_POINTER, "isNonYielding", "Z");
+        }
 
         PackageID boundMethodPkgId = inst.boundMethodPkgId;
         String funcPkgName = JvmCodeGenUtil.getPackageName(boundMethodPkgId == null ? inst.pkgId : boundMethodPkgId);
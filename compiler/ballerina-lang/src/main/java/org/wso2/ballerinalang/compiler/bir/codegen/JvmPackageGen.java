@@ -46,12 +46,14 @@ import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmMethodsSplitter;
 import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRGlobalVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewInstance;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
@@ -74,14 +76,15 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
@@ -147,14 +150,18 @@ public class JvmPackageGen {
     private final Map<String, String> externClassMap;
     private final Map<String, String> globalVarClassMap;
     private final Set<PackageID> dependentModules;
+    private final Set<String> syncWorkerChannels;
     private final BLangDiagnosticLog dlog;
     private final Types types;
+    private NonYieldingFunctionAnalyzer nonYieldingFunctionAnalyzer;
+    private final JvmFrameComputer frameComputer;
 
     JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog, Types types) {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
         externClassMap = new HashMap<>();
         dependentModules = new LinkedHashSet<>();
+        syncWorkerChannels = new HashSet<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
@@ -163,6 +170,7 @@ public class JvmPackageGen {
         initMethodGen = new InitMethodGen(symbolTable);
         configMethodGen = new ConfigMethodGen();
         frameClassGen = new FrameClassGen();
+        frameComputer = new JvmFrameComputer();
         unifier = new Unifier();
 
         JvmInstructionGen.anyType = symbolTable.anyType;
@@ -376,13 +384,13 @@ public class JvmPackageGen {
         return null;
     }
 
-    private void generateModuleClasses(BIRPackage module, Map<String, byte[]> jarEntries,
-                                       String moduleInitClass, String typesClass,
+    private void generateModuleClasses(BIRPackage module, String moduleInitClass, String typesClass,
                                        JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen, JvmConstantsGen jvmConstantsGen,
                                        Map<String, JavaClass> jvmClassMapping, List<PackageID> moduleImports,
                                        boolean serviceEPAvailable, BIRFunction mainFunc, BIRFunction testExecuteFunc) {
         jvmClassMapping.forEach((moduleClass, javaClass) -> {
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            // frames are computed in parallel once the class is generated
+            ClassWriter cw = new BallerinaClassWriter(0);
             AsyncDataCollector asyncDataCollector = new AsyncDataCollector(moduleClass);
             boolean isInitClass = Objects.equals(moduleClass, moduleInitClass);
             boolean isTestable = testExecuteFunc != null;
@@ -436,8 +444,7 @@ public class JvmPackageGen {
                     asyncDataCollector, jvmConstantsGen, isTestable);
             cw.visitEnd();
 
-            byte[] bytes = getBytes(cw, module);
-            jarEntries.put(moduleClass + ".class", bytes);
+            submitForFrameComputation(moduleClass, cw, module);
         });
     }
 
@@ -636,10 +643,14 @@ public class JvmPackageGen {
     }
 
     public byte[] getBytes(ClassWriter cw, BIRNode node) {
+        return getBytes(cw::toByteArray, node);
+    }
+
+    byte[] getBytes(Supplier<byte[]> classBytes, BIRNode node) {
 
         byte[] result;
         try {
-            return cw.toByteArray();
+            return classBytes.get();
         } catch (MethodTooLargeException e) {
             String funcName = e.getMethodName();
             BIRFunction func = findFunction(node, funcName);
@@ -662,11 +673,95 @@ public class JvmPackageGen {
         return result;
     }
 
+    /**
+     * Writes a class generated without stack map frames, and computes its frames in parallel with the generation of
+     * the other classes of the module. The class is added to the jar entries of the module once the module is
+     * generated.
+     *
+     * @param className name of the class
+     * @param cw        class writer which does not compute frames
+     * @param node      the BIR node the class is generated for
+     */
+    public void submitForFrameComputation(String className, ClassWriter cw, BIRNode node) {
+        frameComputer.submit(className, getBytes(cw, node), node);
+    }
+
     private void clearPackageGenInfo() {
         birFunctionMap.clear();
         globalVarClassMap.clear();
         externClassMap.clear();
         dependentModules.clear();
+        syncWorkerChannels.clear();
+        nonYieldingFunctionAnalyzer = null;
+    }
+
+    /**
+     * Checks whether the messages of the given worker channel of the module being generated are only sent
+     * asynchronously and the channel is never flushed, in which case the sender never waits for the receiver.
+     *
+     * @param channelName name of the worker channel
+     * @return true if the channel is only used asynchronously
+     */
+    public boolean isAsyncWorkerChannel(String channelName) {
+        return !syncWorkerChannels.contains(channelName);
+    }
+
+    private void findSyncWorkerChannels(BIRPackage module) {
+        for (BIRFunction func : module.functions) {
+            findSyncWorkerChannels(func);
+        }
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            for (BIRFunction func : typeDef.attachedFuncs) {
+                findSyncWorkerChannels(func);
+            }
+        }
+    }
+
+    private void findSyncWorkerChannels(BIRFunction func) {
+        // channel names are only unique within a function, hence a name used synchronously in any function of the
+        // module is considered synchronous in all the functions
+        for (BIRBasicBlock bb : func.basicBlocks) {
+            BIRTerminator terminator = bb.terminator;
+            if (terminator instanceof BIRTerminator.WorkerSend && ((BIRTerminator.WorkerSend) terminator).isSync) {
+                syncWorkerChannels.add(((BIRTerminator.WorkerSend) terminator).channel.value);
+            } else if (terminator instanceof BIRTerminator.Flush) {
+                for (BIRNode.ChannelDetails channel : ((BIRTerminator.Flush) terminator).channels) {
+                    syncWorkerChannels.add(channel.name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given function of the module being generated never yields.
+     *
+     * @param func function of the module
+     * @return true if the function never yields
+     */
+    public boolean isNonYieldingFunction(BIRFunction func) {
+        return nonYieldingFunctionAnalyzer != null && nonYieldingFunctionAnalyzer.isNonYielding(func);
+    }
+
+    /**
+     * Checks whether the function with the given name is a function of the module being generated which never yields.
+     *
+     * @param pkgId    package of the function
+     * @param funcName name of the function
+     * @return true if the function never yields
+     */
+    public boolean isNonYieldingFunction(PackageID pkgId, String funcName) {
+        return nonYieldingFunctionAnalyzer != null && nonYieldingFunctionAnalyzer.isNonYielding(pkgId, funcName);
+    }
+
+    /**
+     * Checks whether the given terminator of a function of the module being generated is a call to a function which
+     * never yields.
+     *
+     * @param terminator terminator of a function of the module
+     * @return true if the terminator is a call which never yields
+     */
+    public boolean isNonYieldingCall(BIRTerminator terminator) {
+        return nonYieldingFunctionAnalyzer != null && nonYieldingFunctionAnalyzer.isNonYieldingCall(terminator);
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
@@ -781,16 +876,21 @@ public class JvmPackageGen {
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
 
+        // find the functions which never yield, as they do not need frames
+        nonYieldingFunctionAnalyzer = NonYieldingFunctionAnalyzer.analyze(module);
+        // find the worker channels which are sent to synchronously or flushed, the others need not wait for senders
+        findSyncWorkerChannels(module);
+
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen, typeHashVisitor, types);
         JvmCastGen jvmCastGen = new JvmCastGen(symbolTable, jvmTypeGen, types);
-        valueGen.generateValueClasses(jarEntries, jvmConstantsGen);
+        valueGen.generateValueClasses(jvmConstantsGen);
 
         // generate frame classes
-        frameClassGen.generateFrameClasses(module, jarEntries);
+        frameClassGen.generateFrameClasses(module, jarEntries, nonYieldingFunctionAnalyzer);
 
         // generate module classes
-        generateModuleClasses(module, jarEntries, moduleInitClass, typesClass, jvmTypeGen, jvmCastGen, jvmConstantsGen,
+        generateModuleClasses(module, moduleInitClass, typesClass, jvmTypeGen, jvmCastGen, jvmConstantsGen,
                 jvmClassMapping, flattenedModuleImports, serviceEPAvailable, mainFunc, testExecuteFunc);
 
         List<BIRNode.BIRFunction> sortedFunctions = new ArrayList<>(module.functions);
@@ -798,6 +898,9 @@ public class JvmPackageGen {
         jvmMethodsSplitter.generateMethods(jarEntries, jvmCastGen, sortedFunctions);
         jvmConstantsGen.generateConstants(jarEntries);
 
+        // add the classes whose frames are computed in parallel
+        frameComputer.addComputedClasses(jarEntries, this);
+
         // clear class name mappings
         clearPackageGenInfo();
 
@@ -401,7 +401,8 @@ public class JvmTerminatorGen {
                              int stateVarIndex, int loopVarIndex, Label loopLabel) {
         int currentBBNumber = currentBB.number;
         int gotoBBNumber = gotoIns.targetBB.number;
-        if (currentBBNumber <= gotoBBNumber) {
+        // methods of non yielding functions have no resume switch and loop label, hence can jump backwards directly
+        if (currentBBNumber <= gotoBBNumber || loopLabel == null) {
             Label gotoLabel = this.labelGen.getLabel(funcName + gotoIns.targetBB.id.value);
             this.mv.visitJumpInsn(GOTO, gotoLabel);
             return;
@@ -1176,7 +1177,8 @@ public class JvmTerminatorGen {
                 new Handle(H_INVOKESTATIC, STRING_CONCAT_FACTORY, MAKE_CONCAT_WITH_CONSTANTS,
                         HANDLE_DESCRIPTOR_FOR_STRING_CONCAT, false),
                 ins.channel.value + START_OF_HEADING_WITH_SEMICOLON);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", GET_WORKER_DATA_CHANNEL, false);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, getWorkerDataChannelMethod(ins.channel.value),
+                GET_WORKER_DATA_CHANNEL, false);
         this.loadVar(ins.data.variableDcl);
         jvmCastGen.addBoxInsn(this.mv, ins.data.variableDcl.type);
         this.mv.visitVarInsn(ALOAD, localVarOffset);
@@ -1205,7 +1207,8 @@ public class JvmTerminatorGen {
                 new Handle(H_INVOKESTATIC, STRING_CONCAT_FACTORY, MAKE_CONCAT_WITH_CONSTANTS,
                         HANDLE_DESCRIPTOR_FOR_STRING_CONCAT, false),
                 ins.workerName.value + START_OF_HEADING_WITH_SEMICOLON);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", GET_WORKER_DATA_CHANNEL, false);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, getWorkerDataChannelMethod(ins.workerName.value),
+                GET_WORKER_DATA_CHANNEL, false);
 
         this.mv.visitVarInsn(ALOAD, localVarOffset);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, WORKER_DATA_CHANNEL, "tryTakeData", TRY_TAKE_DATA, false);
@@ -1228,6 +1231,11 @@ public class JvmTerminatorGen {
         this.mv.visitLabel(jumpAfterReceive);
     }
 
+    private String getWorkerDataChannelMethod(String channelName) {
+        return jvmPackageGen.isAsyncWorkerChannel(channelName) ? "getAsyncWorkerDataChannel" :
+                "getWorkerDataChannel";
+    }
+
     private void genFlushIns(BIRTerminator.Flush ins, int localVarOffset, int invocationVarIndex) {
 
         this.mv.visitVarInsn(ALOAD, localVarOffset);
@@ -56,7 +56,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.List;
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.AALOAD;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
@@ -215,7 +214,7 @@ public class JvmValueGen {
         return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL;
     }
 
-    void generateValueClasses(Map<String, byte[]> jarEntries, JvmConstantsGen jvmConstantsGen) {
+    void generateValueClasses(JvmConstantsGen jvmConstantsGen) {
         String packageName = JvmCodeGenUtil.getPackageName(module.packageID);
         module.typeDefs.forEach(optionalTypeDef -> {
             if (optionalTypeDef.type.tag == TypeTags.TYPEREFDESC) {
@@ -227,26 +226,23 @@ public class JvmValueGen {
             if (optionalTypeDef.type.tag == TypeTags.OBJECT &&
                     Symbols.isFlagOn(optionalTypeDef.type.tsymbol.flags, Flags.CLASS)) {
                 BObjectType objectType = (BObjectType) optionalTypeDef.type;
-                byte[] bytes = this.createObjectValueClass(objectType, className, optionalTypeDef, jvmConstantsGen
-                        , asyncDataCollector);
-                jarEntries.put(className + ".class", bytes);
+                this.createObjectValueClass(objectType, className, optionalTypeDef, jvmConstantsGen,
+                        asyncDataCollector);
             } else if (bType.tag == TypeTags.RECORD) {
                 BRecordType recordType = (BRecordType) bType;
-                byte[] bytes = this.createRecordValueClass(recordType, className, optionalTypeDef, jvmConstantsGen
-                        , asyncDataCollector);
-                jarEntries.put(className + ".class", bytes);
+                this.createRecordValueClass(recordType, className, optionalTypeDef, jvmConstantsGen,
+                        asyncDataCollector);
                 String typedescClass = getTypeDescClassName(packageName, optionalTypeDef.internalName.value);
-                bytes = this.createRecordTypeDescClass(recordType, typedescClass, optionalTypeDef);
-                jarEntries.put(typedescClass + ".class", bytes);
+                this.createRecordTypeDescClass(recordType, typedescClass, optionalTypeDef);
             }
         });
     }
 
 
-    private byte[] createRecordTypeDescClass(BRecordType recordType, String className,
+    private void createRecordTypeDescClass(BRecordType recordType, String className,
                                              BIRNode.BIRTypeDefinition typeDef) {
 
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(0);
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         } else {
@@ -262,7 +258,7 @@ public class JvmValueGen {
         this.createInstantiateMethod(cw, recordType, typeDef, className);
 
         cw.visitEnd();
-        return jvmPackageGen.getBytes(cw, typeDef);
+        jvmPackageGen.submitForFrameComputation(className, cw, typeDef);
     }
 
     private void createInstantiateMethod(ClassWriter cw, BRecordType recordType,
@@ -356,10 +352,10 @@ public class JvmValueGen {
         return closureParamSignature;
     }
 
-    private byte[] createRecordValueClass(BRecordType recordType, String className, BIRNode.BIRTypeDefinition typeDef,
+    private void createRecordValueClass(BRecordType recordType, String className, BIRNode.BIRTypeDefinition typeDef,
                                           JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector) {
 
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(0);
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         } else {
@@ -382,6 +378,7 @@ public class JvmValueGen {
         Map<String, BField> fields = recordType.fields;
         this.createRecordFields(cw, fields);
         jvmRecordGen.createAndSplitGetMethod(cw, fields, className, jvmCastGen);
+        jvmRecordGen.createUnboxedGetMethods(cw, fields, className);
         jvmRecordGen.createAndSplitSetMethod(cw, fields, className, jvmCastGen);
         jvmRecordGen.createAndSplitEntrySetMethod(cw, fields, className, jvmCastGen);
         jvmRecordGen.createAndSplitContainsKeyMethod(cw, fields, className);
@@ -400,7 +397,7 @@ public class JvmValueGen {
         this.generateStaticInitializer(cw, className, module.packageID, asyncDataCollector);
         cw.visitEnd();
 
-        return jvmPackageGen.getBytes(cw, typeDef);
+        jvmPackageGen.submitForFrameComputation(className, cw, typeDef);
     }
 
     private void createRecordMethods(ClassWriter cw, List<BIRNode.BIRFunction> attachedFuncs, String moduleClassName,
@@ -594,9 +591,9 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private byte[] createObjectValueClass(BObjectType objectType, String className, BIRNode.BIRTypeDefinition typeDef,
+    private void createObjectValueClass(BObjectType objectType, String className, BIRNode.BIRTypeDefinition typeDef,
                                           JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(0);
         cw.visitSource(typeDef.pos.lineRange().fileName(), null);
 
         SymbolTable symbolTable = jvmPackageGen.symbolTable;
@@ -624,7 +621,7 @@ public class JvmValueGen {
         this.generateStaticInitializer(cw, className, module.packageID, asyncDataCollector);
 
         cw.visitEnd();
-        return jvmPackageGen.getBytes(cw, typeDef);
+        jvmPackageGen.submitForFrameComputation(className, cw, typeDef);
     }
 
     private void createObjectFields(ClassWriter cw, Map<String, BField> fields) {
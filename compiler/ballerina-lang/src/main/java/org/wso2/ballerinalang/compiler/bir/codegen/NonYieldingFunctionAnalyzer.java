@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the functions of a module which never yield the strand they run on.
+ * <p>
+ * A function may only yield at a terminator which waits, locks, sends or receives worker messages, or calls a
+ * function that may yield. Hence a function whose terminators only branch, return, panic or call functions of the
+ * same module which never yield, never yields. The calls are resolved over the call graph of the module, starting
+ * with all the candidate functions and removing the functions calling a yielding function until nothing changes,
+ * so recursive functions are not yielding unless they call a yielding function. Calls to other modules, virtual calls
+ * and function pointer calls are considered to yield, since their target is not known at compile time.
+ * <p>
+ * The methods of non yielding functions do not need a frame class, nor to save and restore their state on a yield.
+ * The function pointers of non yielding functions can also be called directly on the strand of their caller.
+ * <p>
+ * No function is non yielding when the module is compiled for its tests, since a function may be replaced by a mock
+ * function which yields, while its callers would not check for the yield.
+ *
+ * @since 2201.8.0
+ */
+public class NonYieldingFunctionAnalyzer {
+
+    private final Set<BIRFunction> nonYieldingFunctions;
+    private final Map<String, BIRFunction> moduleFunctions;
+    private final BIRPackage module;
+
+    private NonYieldingFunctionAnalyzer(BIRPackage module) {
+        this.module = module;
+        this.moduleFunctions = new HashMap<>();
+        this.nonYieldingFunctions = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    public static NonYieldingFunctionAnalyzer analyze(BIRPackage module) {
+        NonYieldingFunctionAnalyzer analyzer = new NonYieldingFunctionAnalyzer(module);
+        if (module.packageID.skipTests) {
+            analyzer.findNonYieldingFunctions();
+        }
+        return analyzer;
+    }
+
+    /**
+     * Checks whether the given function of the module never yields.
+     *
+     * @param func function of the module
+     * @return true if the function never yields
+     */
+    public boolean isNonYielding(BIRFunction func) {
+        return nonYieldingFunctions.contains(func);
+    }
+
+    /**
+     * Checks whether the function with the given name never yields.
+     *
+     * @param pkgId    package of the function
+     * @param funcName name of the function
+     * @return true if the function is a function of the module which never yields
+     */
+    public boolean isNonYielding(PackageID pkgId, String funcName) {
+        if (!module.packageID.equals(pkgId)) {
+            return false;
+        }
+        BIRFunction func = moduleFunctions.get(funcName);
+        return func != null && nonYieldingFunctions.contains(func);
+    }
+
+    /**
+     * Checks whether the given terminator is a call to a function which never yields.
+     *
+     * @param terminator terminator of a function of the module
+     * @return true if the terminator is a call which never yields
+     */
+    public boolean isNonYieldingCall(BIRTerminator terminator) {
+        BIRFunction callee = getCallee(terminator);
+        return callee != null && nonYieldingFunctions.contains(callee);
+    }
+
+    private void findNonYieldingFunctions() {
+        for (BIRFunction func : module.functions) {
+            moduleFunctions.put(func.name.value, func);
+        }
+        for (BIRFunction func : module.functions) {
+            if (isCandidate(func)) {
+                nonYieldingFunctions.add(func);
+            }
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = nonYieldingFunctions.removeIf(this::callsYieldingFunction);
+        }
+    }
+
+    private boolean isCandidate(BIRFunction func) {
+        if (JvmCodeGenUtil.isExternFunc(func) || Symbols.isFlagOn(func.flags, Flags.WORKER) ||
+                func.basicBlocks.isEmpty() || (func.workerChannels != null && func.workerChannels.length > 0)) {
+            return false;
+        }
+        for (BIRBasicBlock bb : func.basicBlocks) {
+            BIRTerminator terminator = bb.terminator;
+            switch (terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                case RETURN:
+                case PANIC:
+                    continue;
+                case CALL:
+                    if (getCallee(terminator) != null) {
+                        continue;
+                    }
+                    return false;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callsYieldingFunction(BIRFunction func) {
+        for (BIRBasicBlock bb : func.basicBlocks) {
+            BIRTerminator terminator = bb.terminator;
+            if (terminator.kind == InstructionKind.CALL && !nonYieldingFunctions.contains(getCallee(terminator))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BIRFunction getCallee(BIRTerminator terminator) {
+        if (terminator.kind != InstructionKind.CALL) {
+            return null;
+        }
+        BIRTerminator.Call call = (BIRTerminator.Call) terminator;
+        if (call.isVirtual || !module.packageID.equals(call.calleePkg)) {
+            return null;
+        }
+        return moduleFunctions.get(call.name.value);
+    }
+}
@@ -24,6 +24,7 @@ import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Opcodes;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.codegen.NonYieldingFunctionAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -31,7 +32,6 @@ import org.wso2.ballerinalang.compiler.util.TypeTags;
 import java.util.List;
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.V1_8;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_FRAME;
@@ -45,9 +45,14 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen.ST
  */
 public class FrameClassGen {
 
-    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries) {
-        pkg.functions.forEach(
-                func -> generateFrameClassForFunction(pkg.packageID, func, pkgEntries, null));
+    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries,
+                                     NonYieldingFunctionAnalyzer nonYieldingFunctionAnalyzer) {
+        for (BIRNode.BIRFunction func : pkg.functions) {
+            // functions which never yield never save their state into a frame
+            if (!nonYieldingFunctionAnalyzer.isNonYielding(func)) {
+                generateFrameClassForFunction(pkg.packageID, func, pkgEntries, null);
+            }
+        }
 
         for (BIRNode.BIRTypeDefinition typeDef : pkg.typeDefs) {
             List<BIRNode.BIRFunction> attachedFuncs = typeDef.attachedFuncs;
@@ -73,7 +78,8 @@ public class FrameClassGen {
                                                BType attachedType) {
         String frameClassName = MethodGenUtils.getFrameClassName(JvmCodeGenUtil.getPackageName(packageID),
                                                                  func.name.value, attachedType);
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        // frame classes only have a default constructor without branches, hence need no stack map frames
+        ClassWriter cw = new BallerinaClassWriter(0);
         if (func.pos != null && func.pos.lineRange().fileName() != null) {
             cw.visitSource(func.pos.lineRange().fileName(), null);
         }
@@ -95,7 +95,6 @@ import static org.objectweb.asm.Opcodes.LCONST_0;
 import static org.objectweb.asm.Opcodes.LLOAD;
 import static org.objectweb.asm.Opcodes.LSTORE;
 import static org.objectweb.asm.Opcodes.NEW;
-import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.SIPUSH;
@@ -105,12 +104,12 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModu
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.populateMethodDesc;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_FRAME_STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ANNOTATIONS_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_START_ATTEMPTED;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_VALUE;
@@ -135,8 +134,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TABL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_XML;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INITIAL_METHOD_DESC;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_OBJECT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RETURN_OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.POP_FUNCTION_FRAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PUSH_FUNCTION_FRAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.STACK_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.UPDATE_CHANNEL_DETAILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
@@ -220,6 +219,12 @@ public class MethodGen {
         genLocalVars(indexMap, mv, func.localVars);
 
         int returnVarRefIndex = getReturnVarRefIndex(func, indexMap, retType, mv);
+        if (jvmPackageGen.isNonYieldingFunction(func)) {
+            genNonYieldingMethodBody(func, mv, module, jvmTypeGen, jvmCastGen, jvmConstantsGen, moduleClassName,
+                    attachedType, asyncDataCollector, indexMap, localVarOffset, returnVarRefIndex,
+                    invocationCountArgVarIndex, methodStartLabel);
+            return;
+        }
         int stateVarIndex = getIntVarIndex(STATE, indexMap, mv, ICONST_0);
         int loopVarIndex = getIntVarIndex(LOOP_VAR, indexMap, mv, ICONST_1);
         int yieldLocationVarIndex = getFrameStringVarIndex(indexMap, mv, YIELD_LOCATION);
@@ -317,6 +322,41 @@ public class MethodGen {
         mv.visitEnd();
     }
 
+    // A function which never yields is never resumed, hence its state is neither saved into a frame nor restored,
+    // and the basic blocks are generated without the resume switch and the yield checks.
+    private void genNonYieldingMethodBody(BIRFunction func, MethodVisitor mv, BIRPackage module, JvmTypeGen jvmTypeGen,
+                                          JvmCastGen jvmCastGen, JvmConstantsGen jvmConstantsGen,
+                                          String moduleClassName, BType attachedType,
+                                          AsyncDataCollector asyncDataCollector, BIRVarToJVMIndexMap indexMap,
+                                          int localVarOffset, int returnVarRefIndex, int invocationCountArgVarIndex,
+                                          Label methodStartLabel) {
+        String funcName = func.name.value;
+        int invocationVarIndex = getIntVarIndex(FUNCTION_INVOCATION, indexMap, mv, ICONST_0);
+        setFunctionInvocationVar(localVarOffset, mv, invocationVarIndex, invocationCountArgVarIndex);
+
+        // panic if this strand is cancelled
+        checkStrandCancelled(mv, localVarOffset);
+
+        LabelGenerator labelGen = new LabelGenerator();
+        JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, module.packageID, jvmPackageGen, jvmTypeGen,
+                jvmCastGen, jvmConstantsGen, asyncDataCollector, types);
+        JvmErrorGen errorGen = new JvmErrorGen(mv, indexMap, instGen);
+        JvmTerminatorGen termGen = new JvmTerminatorGen(mv, indexMap, labelGen, errorGen, module.packageID, instGen,
+                jvmPackageGen, jvmTypeGen, jvmCastGen, asyncDataCollector);
+
+        generateBasicBlocks(mv, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex, -1, -1, -1, -1,
+                invocationVarIndex, localVarOffset, module, attachedType, moduleClassName, null);
+
+        Label methodEndLabel = new Label();
+        mv.visitLabel(methodEndLabel);
+
+        // Create Local Variable Table
+        createLocalVariableTable(func, indexMap, localVarOffset, mv, methodStartLabel, labelGen, methodEndLabel);
+
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, funcName, moduleClassName);
+        mv.visitEnd();
+    }
+
     private void setFunctionInvocationVar(int localVarOffset, MethodVisitor mv, int invocationVarIndex,
                                           int invocationCountArgVarIndex) {
         if (invocationCountArgVarIndex == -1) {
@@ -537,6 +577,8 @@ public class MethodGen {
         String funcName = func.name.value;
         BirScope lastScope = null;
         Set<BirScope> visitedScopesSet = new HashSet<>();
+        // the basic blocks of a non yielding function are never resumed, hence the state is not tracked
+        boolean isYielding = !jvmPackageGen.isNonYieldingFunction(func);
 
         int caseIndex = 0;
         for (int i = 0; i < func.basicBlocks.size(); i++) {
@@ -544,7 +586,7 @@ public class MethodGen {
             // create jvm label
             Label bbLabel = labelGen.getLabel(funcName + bb.id.value);
             mv.visitLabel(bbLabel);
-            if (i == 0) {
+            if (i == 0 && isYielding) {
                 pushShort(mv, stateVarIndex, caseIndex);
                 caseIndex += 1;
             }
@@ -559,8 +601,10 @@ public class MethodGen {
 
             String fullyQualifiedFuncName = getFullyQualifiedFuncName(func.type.tsymbol, funcName);
             BIRTerminator terminator = bb.terminator;
-            pushShort(mv, stateVarIndex, caseIndex);
-            caseIndex += 1;
+            if (isYielding) {
+                pushShort(mv, stateVarIndex, caseIndex);
+                caseIndex += 1;
+            }
 
             processTerminator(mv, func, module, funcName, terminator);
             termGen.genTerminator(terminator, moduleClassName, func, funcName, localVarOffset, stateVarIndex,
@@ -575,7 +619,10 @@ public class MethodGen {
             String yieldStatus = getYieldStatusByTerminator(terminator);
 
             BIRBasicBlock thenBB = terminator.thenBB;
-            if (thenBB != null) {
+            if (thenBB != null && jvmPackageGen.isNonYieldingCall(terminator)) {
+                // the strand cannot be yielded after a call to a function which never yields
+                mv.visitJumpInsn(GOTO, labelGen.getLabel(funcName + thenBB.id.value));
+            } else if (thenBB != null) {
                 JvmCodeGenUtil.genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset,
                         yieldLocationVarIndex, terminator.pos, fullyQualifiedFuncName, yieldStatus,
                         yieldStatusVarIndex);
@@ -664,7 +711,7 @@ public class MethodGen {
         mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, RESUME_INDEX, "I");
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "pop", RETURN_OBJECT, false);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FUNCTION_FRAME_STACK, "pop", POP_FUNCTION_FRAME, false);
         mv.visitTypeInsn(CHECKCAST, frameName);
     }
 
@@ -988,8 +1035,7 @@ public class MethodGen {
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
         mv.visitVarInsn(ALOAD, frameVarIndex);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "push", PASS_OBJECT_RETURN_OBJECT, false);
-        mv.visitInsn(POP);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FUNCTION_FRAME_STACK, "push", PUSH_FUNCTION_FRAME, false);
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitInsn(DUP);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
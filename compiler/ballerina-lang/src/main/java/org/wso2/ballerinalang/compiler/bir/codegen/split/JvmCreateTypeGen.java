@@ -67,18 +67,20 @@ import java.util.Set;
 import java.util.TreeSet;
 
 import static io.ballerina.identifier.Utils.decodeIdentifier;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IDIV;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
@@ -116,18 +118,26 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_AN
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_TYPES_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_METHOD_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_RECORD_TYPE_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_TYPE_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RECORD_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET_IMMUTABLE_TYPE_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET_TYPE_POPULATORS_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET_TYPE_POPULATOR_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_ID_SET;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_POPULATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VISIT_MAX_SAFE_MARGIN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ADD_TYPE_ID;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ANY_TO_JBOOLEAN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_FIELD_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.MAP_PUT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.POPULATE_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SET_IMMUTABLE_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SET_LINKED_HASH_MAP;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SET_TYPE_POPULATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeFieldName;
 
@@ -152,6 +162,8 @@ public class JvmCreateTypeGen {
     private final String typesClass;
     private final String anonTypesClass;
     private final ClassWriter typesCw;
+    // fields of the record types, which are populated when they are first accessed, by the index of the record type
+    private final List<String> recordTypeFields = new ArrayList<>();
 
     public JvmCreateTypeGen(JvmTypeGen jvmTypeGen, JvmConstantsGen jvmConstantsGen, PackageID packageID,
                             TypeHashVisitor typeHashVisitor) {
@@ -166,23 +178,25 @@ public class JvmCreateTypeGen {
         this.jvmTupleTypeGen = new JvmTupleTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID);
         this.jvmArrayTypeGen = new JvmArrayTypeGen(jvmTypeGen);
         this.jvmRefTypeGen = new JvmRefTypeGen(jvmTypeGen, jvmConstantsGen);
-        this.typesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.typesCw = new BallerinaClassWriter(0);
         this.typeHashVisitor =  typeHashVisitor;
         this.typeDefHashComparator = new TypeDefHashComparator(typeHashVisitor);
-        typesCw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, typesClass, null, OBJECT, null);
+        typesCw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, typesClass, null, OBJECT, new String[]{TYPE_POPULATOR});
     }
 
     public void generateTypeClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                   Map<String, byte[]> jarEntries,
                                   String moduleInitClass, SymbolTable symbolTable) {
         generateCreateTypesMethod(typesCw, module.typeDefs, moduleInitClass, symbolTable);
+        JvmCodeGenUtil.generateDefaultConstructor(typesCw, OBJECT);
+        generatePopulateTypeMethod(typesCw);
         typesCw.visitEnd();
         jvmRecordTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
         jvmObjectTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
         jvmErrorTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
         jvmUnionTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
         jvmTupleTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
-        jarEntries.put(typesClass + ".class", jvmPackageGen.getBytes(typesCw, module));
+        jvmPackageGen.submitForFrameComputation(typesClass, typesCw, module);
     }
 
     void createTypeConstants(ClassWriter cw, String moduleInitClass) {
@@ -220,6 +234,7 @@ public class JvmCreateTypeGen {
         createTypeConstants(cw, moduleInitClass);
         createTypesInstance(cw, typeDefs, moduleInitClass);
         Map<String, String> populateTypeFuncNames = populateTypes(cw, typeDefs, moduleInitClass, symbolTable);
+        int typePopulatorSplits = createSetTypePopulatorsSplits(cw, moduleInitClass);
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_TYPES_METHOD, VOID_METHOD_DESC, null, null);
         mv.visitCode();
@@ -230,6 +245,11 @@ public class JvmCreateTypeGen {
         // Invoke create-type-constants method
         mv.visitMethodInsn(INVOKESTATIC, typesClass, CREATE_TYPE_CONSTANTS_METHOD, VOID_METHOD_DESC, false);
 
+        // Set the populators of the record types, once all the types they may refer to are created
+        for (int i = 0; i < typePopulatorSplits; i++) {
+            mv.visitMethodInsn(INVOKESTATIC, typesClass, SET_TYPE_POPULATORS_METHOD + i, VOID_METHOD_DESC, false);
+        }
+
         // Invoke the populate-type functions
         for (Map.Entry<String, String> entry : populateTypeFuncNames.entrySet()) {
             String funcName = entry.getKey();
@@ -330,7 +350,8 @@ public class JvmCreateTypeGen {
             MethodVisitor mv;
             switch (bTypeTag) {
                 case TypeTags.RECORD:
-                    funcTypeClassMap.put(methodName, jvmRecordTypeGen.recordTypesClass);
+                    // the record type is populated by the types class when its members are first accessed
+                    recordTypeFields.add(fieldName);
                     mv = createPopulateTypeMethod(jvmRecordTypeGen.recordTypesCw, methodName, typeOwnerClass,
                             fieldName);
                     jvmRecordTypeGen.populateRecord(mv, methodName, (BRecordType) bType, symbolTable);
@@ -368,6 +389,104 @@ public class JvmCreateTypeGen {
         return funcTypeClassMap;
     }
 
+    /**
+     * Creates the methods which set this types class as the populator of the record types of the module, so that the
+     * members of a record type are only created when they are first accessed.
+     *
+     * @param cw             class writer of the types class
+     * @param typeOwnerClass class of the fields which hold the types
+     * @return number of the methods created
+     */
+    private int createSetTypePopulatorsSplits(ClassWriter cw, String typeOwnerClass) {
+        int methodCount = 0;
+        MethodVisitor mv = null;
+        int typePopulatorIndex = 0;
+        for (int i = 0; i < recordTypeFields.size(); i++) {
+            if (i % MAX_TYPES_PER_METHOD == 0) {
+                mv = cw.visitMethod(ACC_PRIVATE + ACC_STATIC, SET_TYPE_POPULATORS_METHOD + methodCount++,
+                        VOID_METHOD_DESC, null, null);
+                mv.visitCode();
+                mv.visitTypeInsn(NEW, typesClass);
+                mv.visitInsn(DUP);
+                mv.visitMethodInsn(INVOKESPECIAL, typesClass, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+                mv.visitVarInsn(ASTORE, typePopulatorIndex);
+            }
+            mv.visitFieldInsn(GETSTATIC, typeOwnerClass, recordTypeFields.get(i), GET_TYPE);
+            mv.visitTypeInsn(CHECKCAST, RECORD_TYPE_IMPL);
+            mv.visitVarInsn(ALOAD, typePopulatorIndex);
+            mv.visitLdcInsn(i);
+            mv.visitMethodInsn(INVOKEVIRTUAL, RECORD_TYPE_IMPL, SET_TYPE_POPULATOR_METHOD, SET_TYPE_POPULATOR, false);
+            if ((i + 1) % MAX_TYPES_PER_METHOD == 0 || i + 1 == recordTypeFields.size()) {
+                mv.visitInsn(RETURN);
+                JvmCodeGenUtil.visitMaxStackForMethod(mv, SET_TYPE_POPULATORS_METHOD, typeOwnerClass);
+                mv.visitEnd();
+            }
+        }
+        return methodCount;
+    }
+
+    /**
+     * Generates the method of the types class which populates a record type by its index. The record types are
+     * populated by split methods, each of which populates a range of the record types.
+     *
+     * @param cw class writer of the types class
+     */
+    private void generatePopulateTypeMethod(ClassWriter cw) {
+        int splitCount = (recordTypeFields.size() + MAX_TYPES_PER_METHOD - 1) / MAX_TYPES_PER_METHOD;
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, POPULATE_TYPE_METHOD, POPULATE_TYPE, null, null);
+        mv.visitCode();
+        if (splitCount > 0) {
+            Label defaultCaseLabel = new Label();
+            Label[] labels = new Label[splitCount];
+            for (int i = 0; i < splitCount; i++) {
+                labels[i] = new Label();
+            }
+            mv.visitVarInsn(ILOAD, 1);
+            mv.visitLdcInsn(MAX_TYPES_PER_METHOD);
+            mv.visitInsn(IDIV);
+            mv.visitTableSwitchInsn(0, splitCount - 1, defaultCaseLabel, labels);
+            for (int i = 0; i < splitCount; i++) {
+                mv.visitLabel(labels[i]);
+                mv.visitVarInsn(ILOAD, 1);
+                mv.visitMethodInsn(INVOKESTATIC, typesClass, POPULATE_RECORD_TYPE_METHOD + i, POPULATE_TYPE, false);
+                mv.visitInsn(RETURN);
+            }
+            mv.visitLabel(defaultCaseLabel);
+        }
+        mv.visitInsn(RETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, POPULATE_TYPE_METHOD, typesClass);
+        mv.visitEnd();
+
+        for (int i = 0; i < splitCount; i++) {
+            generatePopulateRecordTypeSplitMethod(cw, i);
+        }
+    }
+
+    private void generatePopulateRecordTypeSplitMethod(ClassWriter cw, int splitIndex) {
+        String methodName = POPULATE_RECORD_TYPE_METHOD + splitIndex;
+        MethodVisitor mv = cw.visitMethod(ACC_PRIVATE + ACC_STATIC, methodName, POPULATE_TYPE, null, null);
+        mv.visitCode();
+        int start = splitIndex * MAX_TYPES_PER_METHOD;
+        int end = Math.min(start + MAX_TYPES_PER_METHOD, recordTypeFields.size());
+        Label defaultCaseLabel = new Label();
+        Label[] labels = new Label[end - start];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = new Label();
+        }
+        mv.visitVarInsn(ILOAD, 0);
+        mv.visitTableSwitchInsn(start, end - 1, defaultCaseLabel, labels);
+        for (int i = start; i < end; i++) {
+            mv.visitLabel(labels[i - start]);
+            mv.visitMethodInsn(INVOKESTATIC, jvmRecordTypeGen.recordTypesClass,
+                    POPULATE_METHOD_PREFIX + recordTypeFields.get(i), VOID_METHOD_DESC, false);
+            mv.visitInsn(RETURN);
+        }
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitInsn(RETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, methodName, typesClass);
+        mv.visitEnd();
+    }
+
     private MethodVisitor createPopulateTypeMethod(ClassWriter cw, String methodName, String typeOwnerClass,
                                                    String fieldName) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, methodName, VOID_METHOD_DESC, null, null);
@@ -495,12 +614,11 @@ public class JvmCreateTypeGen {
 
     public void generateAnonTypeClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                       String moduleInitClass, Map<String, byte[]> jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(0);
         cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, anonTypesClass, null, OBJECT, null);
         generateGetAnonTypeMainMethod(cw, module.typeDefs, moduleInitClass);
         cw.visitEnd();
-        byte[] bytes = jvmPackageGen.getBytes(cw, module);
-        jarEntries.put(anonTypesClass + ".class", bytes);
+        jvmPackageGen.submitForFrameComputation(anonTypesClass, cw, module);
     }
 
     private void generateGetAnonTypeMainMethod(ClassWriter cw, List<BIRTypeDefinition> typeDefinitions,
@@ -32,7 +32,6 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BTypeIdSet;
 
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
@@ -73,13 +72,13 @@ public class JvmErrorTypeGen {
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.errorTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.errorTypesCw = new BallerinaClassWriter(0);
         this.errorTypesCw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, errorTypesClass, null, OBJECT, null);
     }
 
     public void visitEnd(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module, Map<String, byte[]> jarEntries) {
         errorTypesCw.visitEnd();
-        jarEntries.put(errorTypesClass + ".class", jvmPackageGen.getBytes(errorTypesCw, module));
+        jvmPackageGen.submitForFrameComputation(errorTypesClass, errorTypesCw, module);
     }
 
 
@@ -44,7 +44,6 @@ import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.identifier.Utils.decodeIdentifier;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
@@ -119,13 +118,13 @@ public class JvmObjectTypeGen {
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.objectTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.objectTypesCw = new BallerinaClassWriter(0);
         this.objectTypesCw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, objectTypesClass, null, OBJECT, null);
     }
 
     public void visitEnd(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module, Map<String, byte[]> jarEntries) {
         objectTypesCw.visitEnd();
-        jarEntries.put(objectTypesClass + ".class", jvmPackageGen.getBytes(objectTypesCw, module));
+        jvmPackageGen.submitForFrameComputation(objectTypesClass, objectTypesCw, module);
     }
 
     /**
@@ -36,7 +36,6 @@ import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.identifier.Utils.decodeIdentifier;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
@@ -84,13 +83,13 @@ public class JvmTupleTypeGen {
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.tupleTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.tupleTypesCw = new BallerinaClassWriter(0);
         this.tupleTypesCw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, tupleTypesClass, null, OBJECT, null);
     }
 
     public void visitEnd(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module, Map<String, byte[]> jarEntries) {
         tupleTypesCw.visitEnd();
-        jarEntries.put(tupleTypesClass + ".class", jvmPackageGen.getBytes(tupleTypesCw, module));
+        jvmPackageGen.submitForFrameComputation(tupleTypesClass, tupleTypesCw, module);
     }
 
     /**
@@ -32,7 +32,6 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
@@ -73,13 +72,13 @@ public class JvmUnionTypeGen {
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.unionTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.unionTypesCw = new BallerinaClassWriter(0);
         this.unionTypesCw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, unionTypesClass, null, OBJECT, null);
     }
 
     public void visitEnd(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module, Map<String, byte[]> jarEntries) {
         unionTypesCw.visitEnd();
-        jarEntries.put(unionTypesClass + ".class", jvmPackageGen.getBytes(unionTypesCw, module));
+        jvmPackageGen.submitForFrameComputation(unionTypesClass, unionTypesCw, module);
     }
 
 
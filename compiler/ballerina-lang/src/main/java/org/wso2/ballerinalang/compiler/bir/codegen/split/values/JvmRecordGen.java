@@ -44,6 +44,7 @@ import static org.objectweb.asm.Opcodes.ANEWARRAY;
 import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.ATHROW;
+import static org.objectweb.asm.Opcodes.DRETURN;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.ICONST_0;
@@ -55,6 +56,7 @@ import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.LRETURN;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
@@ -63,6 +65,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.castToJ
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ADD_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_UNBOXED_BOOLEAN_VALUE_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_UNBOXED_FLOAT_VALUE_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_UNBOXED_INT_VALUE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
@@ -79,6 +84,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ANY_TO_J
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.COLLECTION_OP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.CONTAINS_KEY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.FROM_STRING;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_UNBOXED_BOOLEAN_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_UNBOXED_FLOAT_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_UNBOXED_INT_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LINKED_HASH_SET_OP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.MAP_PUT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.MAP_VALUES;
@@ -220,6 +228,64 @@ public class JvmRecordGen {
         }
     }
 
+    /**
+     * Generates the overrides of the methods used to read the {@code int}, {@code float} and {@code boolean} fields
+     * without boxing their values. Only the required fields are read directly, other keys are delegated to the
+     * {@code MapValueImpl} implementation, which boxes the value.
+     */
+    public void createUnboxedGetMethods(ClassWriter cw, Map<String, BField> fields, String className) {
+        createUnboxedGetMethod(cw, fields, className, "J", GET_UNBOXED_INT_VALUE_METHOD, GET_UNBOXED_INT_VALUE,
+                LRETURN);
+        createUnboxedGetMethod(cw, fields, className, "D", GET_UNBOXED_FLOAT_VALUE_METHOD,
+                GET_UNBOXED_FLOAT_VALUE, DRETURN);
+        createUnboxedGetMethod(cw, fields, className, "Z", GET_UNBOXED_BOOLEAN_VALUE_METHOD,
+                GET_UNBOXED_BOOLEAN_VALUE, IRETURN);
+    }
+
+    private void createUnboxedGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                        String fieldTypeDesc, String methodName, String methodDesc,
+                                        int returnOpcode) {
+        List<BField> sortedFields = new ArrayList<>();
+        for (BField field : fields.values()) {
+            if (!isOptionalRecordField(field) && fieldTypeDesc.equals(getTypeDesc(field.type))) {
+                sortedFields.add(field);
+            }
+        }
+        // large records keep using the default implementation, rather than splitting this method as well
+        if (sortedFields.isEmpty() || sortedFields.size() > MAX_FIELDS_PER_SPLIT_METHOD) {
+            return;
+        }
+        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, methodDesc, null, null);
+        mv.visitCode();
+        int selfIndex = 0;
+        int fieldNameRegIndex = 1;
+        int strKeyVarIndex = 2;
+
+        // cast key to java.lang.String
+        castToJavaString(mv, fieldNameRegIndex, strKeyVarIndex);
+        Label defaultCaseLabel = new Label();
+        List<Label> labels = JvmCreateTypeGen.createLabelsForSwitch(mv, strKeyVarIndex, sortedFields, 0,
+                sortedFields.size(), defaultCaseLabel);
+        List<Label> targetLabels = JvmCreateTypeGen.createLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields, 0,
+                sortedFields.size(), labels, defaultCaseLabel);
+        for (int i = 0; i < sortedFields.size(); i++) {
+            mv.visitLabel(targetLabels.get(i));
+            mv.visitVarInsn(ALOAD, selfIndex);
+            mv.visitFieldInsn(GETFIELD, className, sortedFields.get(i).name.value, fieldTypeDesc);
+            mv.visitInsn(returnOpcode);
+        }
+
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitVarInsn(ALOAD, selfIndex);
+        mv.visitVarInsn(ALOAD, fieldNameRegIndex);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, methodName, methodDesc, false);
+        mv.visitInsn(returnOpcode);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, methodName, className);
+        mv.visitEnd();
+    }
+
     private void createGetDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int nameRegIndex) {
         mv.visitLabel(defaultCaseLabel);
         mv.visitVarInsn(ALOAD, 0);
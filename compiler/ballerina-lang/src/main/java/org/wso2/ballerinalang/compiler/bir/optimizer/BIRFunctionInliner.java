@@ -0,0 +1,380 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.model.elements.Flag;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.IsLike;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+import org.wso2.ballerinalang.compiler.bir.model.BirScope;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inline calls to small functions.
+ * <p>
+ * Only functions of which the body is a straight sequence of simple instructions ending with a return are inlined.
+ * Such functions cannot call other functions, hence they never yield and are never recursive. The instructions of the
+ * callee are copied in place of the call, with fresh temporary variables for the parameters, local variables and the
+ * return value of the callee, so that the caller no longer needs to create a frame, check for yields and save its
+ * state around the call.
+ * <p>
+ * Inlined instructions keep the positions in the callee, hence only the functions defined in the source file of the
+ * caller are inlined, since the positions are line numbers of the class generated for the source file. Calls are not
+ * inlined when the package is compiled for its tests, since a function may be replaced by a mock function.
+ * <p>
+ * Instructions which may panic, e.g. integer arithmetic which may overflow or an array access which may be out of
+ * range, are not inlined, since the panic would then be reported in the frame of the caller instead of the callee.
+ *
+ * @since 2201.8.0
+ */
+public class BIRFunctionInliner {
+
+    private static final String INLINED_VAR_PREFIX = "%inline";
+    // only functions with at most the below number of instructions are inlined
+    private static final int MAX_INLINED_INSTRUCTION_COUNT = 16;
+    // functions are not grown above the below number of instructions, which is where the large method optimizer
+    // starts splitting functions
+    private static final int MAX_CALLER_INSTRUCTION_COUNT = 1000;
+
+    private final Map<Name, BIRFunction> functions = new HashMap<>();
+    private final Map<BIRFunction, Boolean> inlinableFunctions = new HashMap<>();
+    private BIRPackage currentPackage;
+    private int inlinedVarCount;
+
+    public void optimizeNode(BIRPackage birPackage) {
+        // Functions of a package compiled for its tests may be mocked, which replaces the body of the callee only
+        if (!birPackage.packageID.skipTests) {
+            return;
+        }
+        this.currentPackage = birPackage;
+        for (BIRFunction function : birPackage.functions) {
+            functions.putIfAbsent(function.name, function);
+        }
+        for (BIRTypeDefinition typeDef : birPackage.typeDefs) {
+            typeDef.attachedFuncs.forEach(this::inlineCalls);
+        }
+        birPackage.functions.forEach(this::inlineCalls);
+
+        this.currentPackage = null;
+        this.functions.clear();
+        this.inlinableFunctions.clear();
+    }
+
+    private void inlineCalls(BIRFunction function) {
+        this.inlinedVarCount = 0;
+        int instructionCount = getInstructionCount(function);
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator == null || basicBlock.terminator.kind != InstructionKind.CALL) {
+                continue;
+            }
+            Call call = (Call) basicBlock.terminator;
+            BIRFunction callee = getInlinableCallee(call);
+            if (callee == null || callee == function || !isInSameSourceFile(callee, function)) {
+                continue;
+            }
+            int calleeInstructionCount = getInstructionCount(callee) + callee.parameters.size() + 1;
+            if (instructionCount + calleeInstructionCount >= MAX_CALLER_INSTRUCTION_COUNT) {
+                continue;
+            }
+            inline(function, basicBlock, call, callee);
+            instructionCount += calleeInstructionCount;
+        }
+    }
+
+    private BIRFunction getInlinableCallee(Call call) {
+        // Remote calls and calls to annotated functions may be observed, hence they are kept as they are
+        if (call.isVirtual || call.calleeFlags.contains(Flag.REMOTE) ||
+                !call.calleeAnnotAttachments.isEmpty() || call.name.value.startsWith("$") ||
+                !call.calleePkg.equals(currentPackage.packageID)) {
+            return null;
+        }
+        BIRFunction callee = functions.get(call.name);
+        if (callee == null || callee.parameters.size() != call.args.size()) {
+            return null;
+        }
+        Boolean inlinable = inlinableFunctions.get(callee);
+        if (inlinable == null) {
+            inlinable = isInlinable(callee);
+            inlinableFunctions.put(callee, inlinable);
+        }
+        return inlinable ? callee : null;
+    }
+
+    private static boolean isInSameSourceFile(BIRFunction callee, BIRFunction caller) {
+        return callee.pos != null && caller.pos != null &&
+                callee.pos.lineRange().fileName().equals(caller.pos.lineRange().fileName());
+    }
+
+    private boolean isInlinable(BIRFunction function) {
+        long excludedFlags = Flags.NATIVE | Flags.REMOTE | Flags.RESOURCE | Flags.WORKER | Flags.TRANSACTIONAL;
+        if ((function.flags & excludedFlags) != 0 || function.receiver != null || function.restParam != null ||
+                function.basicBlocks.isEmpty() || !function.errorTable.isEmpty() ||
+                function.workerChannels.length != 0 || getInstructionCount(function) > MAX_INLINED_INSTRUCTION_COUNT) {
+            return false;
+        }
+
+        Set<BIRBasicBlock> visited = new HashSet<>();
+        BIRBasicBlock basicBlock = function.basicBlocks.get(0);
+        while (visited.add(basicBlock)) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isInlinable(instruction)) {
+                    return false;
+                }
+            }
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator.kind == InstructionKind.RETURN) {
+                return true;
+            }
+            if (terminator.kind != InstructionKind.GOTO) {
+                return false;
+            }
+            basicBlock = ((BIRTerminator.GOTO) terminator).targetBB;
+        }
+        // An infinite loop
+        return false;
+    }
+
+    private boolean isInlinable(BIRNonTerminator instruction) {
+        switch (instruction.kind) {
+            case MAP_LOAD:
+                // a filling read panics if the member type has no filler value
+                if (((FieldAccess) instruction).fillingRead) {
+                    return false;
+                }
+                break;
+            case TYPE_CAST:
+                // a cast which checks the type panics if the value does not belong to the type
+                if (((TypeCast) instruction).checkTypes) {
+                    return false;
+                }
+                break;
+            case NEGATE:
+            case ADD:
+            case SUB:
+            case MUL:
+            case DIV:
+            case MOD:
+                // int and decimal arithmetic panics on overflow or division by zero
+                if (!isFloatOperation(instruction)) {
+                    return false;
+                }
+                break;
+            case MOVE:
+            case CONST_LOAD:
+            case OBJECT_LOAD:
+            case IS_LIKE:
+            case TYPE_TEST:
+            case NOT:
+            case EQUAL:
+            case NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case REF_EQUAL:
+            case REF_NOT_EQUAL:
+            case BITWISE_AND:
+            case BITWISE_OR:
+            case BITWISE_XOR:
+            case BITWISE_LEFT_SHIFT:
+            case BITWISE_RIGHT_SHIFT:
+            case BITWISE_UNSIGNED_RIGHT_SHIFT:
+                break;
+            default:
+                return false;
+        }
+        if (instruction.lhsOp != null && !isInlinable(instruction.lhsOp.variableDcl)) {
+            return false;
+        }
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            if (!isInlinable(operand.variableDcl)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFloatOperation(BIRNonTerminator instruction) {
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            if (Types.getImpliedType(operand.variableDcl.type).tag != TypeTags.FLOAT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isInlinable(BIRVariableDcl variableDcl) {
+        switch (variableDcl.kind) {
+            case LOCAL:
+            case ARG:
+            case TEMP:
+            case RETURN:
+            case SYNTHETIC:
+            case GLOBAL:
+            case CONSTANT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void inline(BIRFunction caller, BIRBasicBlock basicBlock, Call call, BIRFunction callee) {
+        Location pos = call.pos;
+        BirScope scope = call.scope;
+        Map<BIRVariableDcl, BIRVariableDcl> variables = new HashMap<>();
+
+        // Copy the arguments to the parameters
+        for (int i = 0; i < callee.parameters.size(); i++) {
+            BIRFunctionParameter parameter = callee.parameters.get(i);
+            BIRVariableDcl parameterCopy = getInlinedVar(caller, parameter, variables);
+            basicBlock.instructions.add(assign(pos, scope, parameterCopy, call.args.get(i).variableDcl));
+        }
+
+        Set<BIRBasicBlock> visited = new HashSet<>();
+        BIRBasicBlock calleeBB = callee.basicBlocks.get(0);
+        while (visited.add(calleeBB)) {
+            for (BIRNonTerminator instruction : calleeBB.instructions) {
+                BIRNonTerminator copy = copy(instruction, caller, variables);
+                copy.scope = scope;
+                basicBlock.instructions.add(copy);
+            }
+            if (calleeBB.terminator.kind != InstructionKind.GOTO) {
+                break;
+            }
+            calleeBB = ((BIRTerminator.GOTO) calleeBB.terminator).targetBB;
+        }
+
+        if (call.lhsOp != null) {
+            BIRVariableDcl returnVar = getInlinedVar(caller, callee.returnVariable, variables);
+            basicBlock.instructions.add(assign(pos, scope, call.lhsOp.variableDcl, returnVar));
+        }
+        if (callee.dependentGlobalVars != null) {
+            caller.dependentGlobalVars.addAll(callee.dependentGlobalVars);
+        }
+        basicBlock.terminator = new BIRTerminator.GOTO(null, call.thenBB, scope);
+    }
+
+    private BIRNonTerminator assign(Location pos, BirScope scope, BIRVariableDcl lhs, BIRVariableDcl rhs) {
+        BIRNonTerminator assignment;
+        if (lhs.type == rhs.type) {
+            assignment = new Move(pos, new BIROperand(rhs), new BIROperand(lhs));
+        } else {
+            // The call converted the value to the parameter or the return type
+            assignment = new TypeCast(pos, new BIROperand(lhs), new BIROperand(rhs), lhs.type, false);
+        }
+        assignment.scope = scope;
+        return assignment;
+    }
+
+    private BIRNonTerminator copy(BIRNonTerminator instruction, BIRFunction caller,
+                                  Map<BIRVariableDcl, BIRVariableDcl> variables) {
+        Location pos = instruction.pos;
+        BIROperand lhsOp = copy(instruction.lhsOp, caller, variables);
+        switch (instruction.kind) {
+            case MOVE:
+                return new Move(pos, copy(((Move) instruction).rhsOp, caller, variables), lhsOp);
+            case CONST_LOAD:
+                ConstantLoad constantLoad = (ConstantLoad) instruction;
+                return new ConstantLoad(pos, constantLoad.value, constantLoad.type, lhsOp);
+            case MAP_LOAD:
+            case OBJECT_LOAD:
+                FieldAccess fieldAccess = (FieldAccess) instruction;
+                FieldAccess fieldAccessCopy = new FieldAccess(pos, fieldAccess.kind, lhsOp,
+                        copy(fieldAccess.keyOp, caller, variables), copy(fieldAccess.rhsOp, caller, variables),
+                        fieldAccess.optionalFieldAccess, fieldAccess.fillingRead);
+                fieldAccessCopy.onInitialization = fieldAccess.onInitialization;
+                return fieldAccessCopy;
+            case TYPE_CAST:
+                TypeCast typeCast = (TypeCast) instruction;
+                return new TypeCast(pos, lhsOp, copy(typeCast.rhsOp, caller, variables), typeCast.type,
+                        typeCast.checkTypes);
+            case IS_LIKE:
+                IsLike isLike = (IsLike) instruction;
+                return new IsLike(pos, isLike.type, lhsOp, copy(isLike.rhsOp, caller, variables));
+            case TYPE_TEST:
+                TypeTest typeTest = (TypeTest) instruction;
+                return new TypeTest(pos, typeTest.type, lhsOp, copy(typeTest.rhsOp, caller, variables));
+            case NOT:
+            case NEGATE:
+                return new UnaryOP(pos, instruction.kind, lhsOp,
+                        copy(((UnaryOP) instruction).rhsOp, caller, variables));
+            default:
+                BinaryOp binaryOp = (BinaryOp) instruction;
+                return new BinaryOp(pos, binaryOp.kind, lhsOp.variableDcl.type, lhsOp,
+                        copy(binaryOp.rhsOp1, caller, variables), copy(binaryOp.rhsOp2, caller, variables));
+        }
+    }
+
+    private BIROperand copy(BIROperand operand, BIRFunction caller, Map<BIRVariableDcl, BIRVariableDcl> variables) {
+        BIRVariableDcl variableDcl = operand.variableDcl;
+        if (variableDcl.kind == VarKind.GLOBAL || variableDcl.kind == VarKind.CONSTANT) {
+            return new BIROperand(variableDcl);
+        }
+        return new BIROperand(getInlinedVar(caller, variableDcl, variables));
+    }
+
+    private BIRVariableDcl getInlinedVar(BIRFunction caller, BIRVariableDcl calleeVar,
+                                         Map<BIRVariableDcl, BIRVariableDcl> variables) {
+        BIRVariableDcl inlinedVar = variables.get(calleeVar);
+        if (inlinedVar == null) {
+            inlinedVar = new BIRVariableDcl(calleeVar.type, new Name(INLINED_VAR_PREFIX + inlinedVarCount++),
+                    VarScope.FUNCTION, VarKind.TEMP);
+            // The inlined instructions are all in the basic block of the call
+            inlinedVar.onlyUsedInSingleBB = true;
+            caller.localVars.add(inlinedVar);
+            variables.put(calleeVar, inlinedVar);
+        }
+        return inlinedVar;
+    }
+
+    private static int getInstructionCount(BIRFunction function) {
+        int instructionCount = 0;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            instructionCount += basicBlock.instructions.size() + 1;
+        }
+        return instructionCount;
+    }
+}
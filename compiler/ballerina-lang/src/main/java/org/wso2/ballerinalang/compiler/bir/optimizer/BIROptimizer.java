@@ -59,6 +59,7 @@ public class BIROptimizer {
     private final LHSTempVarOptimizer lhsTempVarOptimizer;
     private final BIRLockOptimizer lockOptimizer;
     private final BIRBasicBlockOptimizer bbOptimizer;
+    private final BIRFunctionInliner functionInliner;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -75,6 +76,7 @@ public class BIROptimizer {
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
         this.lockOptimizer = new BIRLockOptimizer();
         this.bbOptimizer = new BIRBasicBlockOptimizer();
+        this.functionInliner = new BIRFunctionInliner();
     }
 
     public void optimizePackage(BIRPackage pkg) {
@@ -87,6 +89,9 @@ public class BIROptimizer {
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
 
+        // Inline calls to small functions
+        this.functionInliner.optimizeNode(pkg);
+
         // Optimize BB - unnecessary goto removal
         bbOptimizer.optimizeNode(pkg, null);
     }
@@ -75,7 +75,7 @@ public class BIRBinaryWriter {
         // Write type def bodies
         writeTypeDefBodies(birbuf, typeWriter, birPackage.typeDefs);
         // Write functions
-        writeFunctions(birbuf, typeWriter, birPackage.functions);
+        writeIndexedFunctions(birbuf, typeWriter, birPackage.functions);
         // Write annotations
         writeAnnotations(birbuf, typeWriter, birPackage.annotations);
         // Write service declarations
@@ -191,6 +191,28 @@ public class BIRBinaryWriter {
         birFunctionList.forEach(func -> writeFunction(buf, typeWriter, func));
     }
 
+    /**
+     * Write the functions of the module. Each function is preceded by its name and length, so that an importing
+     * module can skip the function and read it only when it is used.
+     *
+     * @param buf ByteBuf
+     * @param typeWriter Type writer
+     * @param birFunctionList Functions list
+     */
+    private void writeIndexedFunctions(ByteBuf buf, BIRTypeWriter typeWriter,
+                                       List<BIRNode.BIRFunction> birFunctionList) {
+        buf.writeInt(birFunctionList.size());
+        for (BIRNode.BIRFunction birFunction : birFunctionList) {
+            ByteBuf funcBuf = Unpooled.buffer();
+            writeFunction(funcBuf, typeWriter, birFunction);
+
+            buf.writeInt(addStringCPEntry(birFunction.name.value));
+            int length = funcBuf.nioBuffer().limit();
+            buf.writeLong(length);
+            buf.writeBytes(funcBuf.nioBuffer().array(), 0, length);
+        }
+    }
+
     private void writeFunction(ByteBuf buf, BIRTypeWriter typeWriter, BIRNode.BIRFunction birFunction) {
 
         // Write Position
@@ -310,7 +310,8 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
         }
         SymbolEnv pkgEnv = symTable.pkgEnvMap.get(symbol);
         if (pkgEnv != null) {
-            symbol.scope.entries.forEach((name, scope) -> {
+            // annotations are defined eagerly, hence skip the lazily defined functions
+            symbol.scope.definedEntries().forEach((name, scope) -> {
                 if (SymTag.ANNOTATION == scope.symbol.tag) {
                     annotationSymbols.add((BAnnotationSymbol) scope.symbol);
                 }
@@ -2590,7 +2590,8 @@ public class SymbolResolver extends BLangNodeTransformer<SymbolResolver.Analyzer
     }
 
     private void populateConfigurableVars(BPackageSymbol pkgSymbol, Set<BVarSymbol> configVars) {
-        for (Scope.ScopeEntry entry : pkgSymbol.scope.entries.values()) {
+        // the lazily defined symbols of an imported module are functions, which are never configurable
+        for (Scope.ScopeEntry entry : pkgSymbol.scope.definedEntries().values()) {
             BSymbol symbol = entry.symbol;
             if (symbol != null) {
                 if (symbol.tag == SymTag.TYPE_DEF) {
@@ -0,0 +1,291 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.semantics.model;
+
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A scope whose symbols can be defined when they are first looked up.
+ * <p>
+ * An importing module usually uses a few of the symbols of a compiled module. Hence the symbols which are costly to
+ * read from the BIR of the compiled module are only reserved by name at first, along with a definer which defines the
+ * symbol in this scope. The definer of a symbol runs when the symbol is first looked up, and the definers of all the
+ * symbols run when the entries of the scope are iterated. The order of the entries is the order in which the symbols
+ * are reserved or defined, the same as if all of them were defined eagerly.
+ *
+ * @since 2201.8.0
+ */
+public class LazyScope extends Scope {
+
+    private final LazyEntryMap lazyEntries;
+
+    public LazyScope(BSymbol owner) {
+        this(owner, new Object());
+    }
+
+    /**
+     * Creates a lazy scope whose definers run while holding the given lock.
+     * <p>
+     * A definer may look up the symbols of other lazy scopes, and it usually changes the state of the one which
+     * creates it. Hence the scopes which are defined by the same definers should share a lock.
+     *
+     * @param owner          owner of the scope
+     * @param definitionLock lock held while reading the entries and running the definers
+     */
+    public LazyScope(BSymbol owner, Object definitionLock) {
+        this(owner, new LazyEntryMap(definitionLock));
+    }
+
+    private LazyScope(BSymbol owner, LazyEntryMap lazyEntries) {
+        super(owner, lazyEntries);
+        this.lazyEntries = lazyEntries;
+    }
+
+    /**
+     * Reserves the entry of a symbol, which is defined by the given definer when it is first looked up.
+     *
+     * @param name          name of the symbol
+     * @param symbolDefiner defines the symbol in this scope with the given name
+     */
+    public void defineLazily(Name name, Runnable symbolDefiner) {
+        lazyEntries.defineLazily(name, symbolDefiner);
+    }
+
+    /**
+     * Checks whether the symbol of the given name is defined, i.e. it is not waiting to be defined when it is first
+     * looked up.
+     *
+     * @param name name of the symbol
+     * @return true if the symbol is not lazily defined or is already defined
+     */
+    public boolean isDefined(Name name) {
+        return lazyEntries.isDefined(name);
+    }
+
+    @Override
+    public Map<Name, ScopeEntry> definedEntries() {
+        return lazyEntries.definedEntries();
+    }
+
+    /**
+     * The entries of a lazy scope, which run the pending definers of the symbols before they are read.
+     * <p>
+     * The entries are read and the definers are run while holding the definition lock. A lookup of a symbol whose
+     * definer is being run by another thread therefore waits for the symbol to be defined, instead of finding only
+     * the reserved entry. The lock is reentrant, so a definer can look up and define the symbols of any scope which
+     * shares the lock.
+     */
+    private static class LazyEntryMap extends LinkedHashMap<Name, ScopeEntry> {
+
+        private final Map<Name, Runnable> symbolDefiners = new HashMap<>();
+        private final Object lock;
+
+        LazyEntryMap(Object lock) {
+            this.lock = lock;
+        }
+
+        void defineLazily(Name name, Runnable symbolDefiner) {
+            synchronized (lock) {
+                // reserve the entry, so that the lazily defined symbols keep their order
+                super.putIfAbsent(name, NOT_FOUND_ENTRY);
+                symbolDefiners.merge(name, symbolDefiner, (first, second) -> () -> {
+                    first.run();
+                    second.run();
+                });
+            }
+        }
+
+        boolean isDefined(Name name) {
+            synchronized (lock) {
+                return !symbolDefiners.containsKey(name);
+            }
+        }
+
+        Map<Name, ScopeEntry> definedEntries() {
+            synchronized (lock) {
+                Map<Name, ScopeEntry> definedEntries = new LinkedHashMap<>();
+                for (Map.Entry<Name, ScopeEntry> entry : super.entrySet()) {
+                    if (!symbolDefiners.containsKey(entry.getKey())) {
+                        definedEntries.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                return definedEntries;
+            }
+        }
+
+        private void defineSymbol(Object name) {
+            if (symbolDefiners.isEmpty()) {
+                return;
+            }
+            // remove the definer first, since the definer looks up the entry again to define the symbol
+            Runnable symbolDefiner = symbolDefiners.remove(name);
+            if (symbolDefiner != null) {
+                symbolDefiner.run();
+            }
+        }
+
+        private void defineAllSymbols() {
+            synchronized (lock) {
+                while (!symbolDefiners.isEmpty()) {
+                    defineSymbol(symbolDefiners.keySet().iterator().next());
+                }
+            }
+        }
+
+        @Override
+        public ScopeEntry get(Object key) {
+            synchronized (lock) {
+                defineSymbol(key);
+                return super.get(key);
+            }
+        }
+
+        @Override
+        public ScopeEntry getOrDefault(Object key, ScopeEntry defaultValue) {
+            synchronized (lock) {
+                defineSymbol(key);
+                return super.getOrDefault(key, defaultValue);
+            }
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            synchronized (lock) {
+                return super.containsKey(key);
+            }
+        }
+
+        @Override
+        public ScopeEntry put(Name key, ScopeEntry value) {
+            synchronized (lock) {
+                symbolDefiners.remove(key);
+                return super.put(key, value);
+            }
+        }
+
+        @Override
+        public ScopeEntry putIfAbsent(Name key, ScopeEntry value) {
+            synchronized (lock) {
+                defineSymbol(key);
+                return super.putIfAbsent(key, value);
+            }
+        }
+
+        @Override
+        public ScopeEntry remove(Object key) {
+            synchronized (lock) {
+                symbolDefiners.remove(key);
+                return super.remove(key);
+            }
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            synchronized (lock) {
+                defineSymbol(key);
+                return super.remove(key, value);
+            }
+        }
+
+        @Override
+        public ScopeEntry computeIfAbsent(Name key, Function<? super Name, ? extends ScopeEntry> mappingFunction) {
+            synchronized (lock) {
+                defineSymbol(key);
+                return super.computeIfAbsent(key, mappingFunction);
+            }
+        }
+
+        @Override
+        public ScopeEntry computeIfPresent(Name key,
+                                           BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry>
+                                                   remappingFunction) {
+            synchronized (lock) {
+                defineSymbol(key);
+                return super.computeIfPresent(key, remappingFunction);
+            }
+        }
+
+        @Override
+        public ScopeEntry compute(Name key,
+                                  BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry>
+                                          remappingFunction) {
+            synchronized (lock) {
+                defineSymbol(key);
+                return super.compute(key, remappingFunction);
+            }
+        }
+
+        @Override
+        public ScopeEntry merge(Name key, ScopeEntry value,
+                                BiFunction<? super ScopeEntry, ? super ScopeEntry, ? extends ScopeEntry>
+                                        remappingFunction) {
+            synchronized (lock) {
+                defineSymbol(key);
+                return super.merge(key, value, remappingFunction);
+            }
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            defineAllSymbols();
+            return super.containsValue(value);
+        }
+
+        @Override
+        public Collection<ScopeEntry> values() {
+            defineAllSymbols();
+            return super.values();
+        }
+
+        @Override
+        public Set<Map.Entry<Name, ScopeEntry>> entrySet() {
+            defineAllSymbols();
+            return super.entrySet();
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super Name, ? super ScopeEntry> action) {
+            defineAllSymbols();
+            super.forEach(action);
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> function) {
+            defineAllSymbols();
+            super.replaceAll(function);
+        }
+
+        @Override
+        public void clear() {
+            synchronized (lock) {
+                symbolDefiners.clear();
+                super.clear();
+            }
+        }
+    }
+}
@@ -41,7 +41,7 @@ public class Scope implements org.ballerinalang.model.Scope {
         this.entries = new LinkedHashMap<>(DEFAULT_SIZE);
     }
 
-    private Scope(BSymbol owner, Map<Name, ScopeEntry> entries) {
+    protected Scope(BSymbol owner, Map<Name, ScopeEntry> entries) {
         this.owner = owner;
         this.entries = entries;
     }
@@ -65,6 +65,16 @@ public class Scope implements org.ballerinalang.model.Scope {
         return entry;
     }
 
+    /**
+     * Returns the entries of the symbols which are already defined in this scope. Unlike iterating the entries, this
+     * does not define the symbols of a {@link LazyScope} which are waiting to be looked up.
+     *
+     * @return the entries of the defined symbols, in the order of the entries
+     */
+    public Map<Name, ScopeEntry> definedEntries() {
+        return entries;
+    }
+
     /**
      * @since 0.94
      */
@@ -117,13 +117,18 @@ class BIRTestUtils {
     private static void assertFunctions(BIRNode.BIRPackage expectedBIR, Bir.Module birModule,
                                         ArrayList<Bir.ConstantPoolEntry> constantPoolEntries) {
         List<BIRNode.BIRFunction> expectedFunctions = expectedBIR.functions;
-        ArrayList<Bir.Function> actualFunctions = birModule.functions();
+        ArrayList<Bir.IndexedFunction> actualFunctions = birModule.functions();
         Assert.assertEquals(birModule.functionCount(), expectedFunctions.size());
 
         for (int i = 0; i < expectedFunctions.size(); i++) {
-            Bir.Function actualFunction = actualFunctions.get(i);
+            Bir.IndexedFunction actualIndexedFunction = actualFunctions.get(i);
+            Bir.Function actualFunction = actualIndexedFunction.function();
             BIRNode.BIRFunction expectedFunction = expectedFunctions.get(i);
 
+            // assert index
+            assertConstantPoolEntry(constantPoolEntries.get(actualIndexedFunction.nameCpIndex()),
+                    expectedFunction.name.value);
+
             // assert name
             Bir.ConstantPoolEntry constantPoolEntryName = constantPoolEntries.get(actualFunction.nameCpIndex());
             assertConstantPoolEntry(constantPoolEntryName, expectedFunction.name.value);
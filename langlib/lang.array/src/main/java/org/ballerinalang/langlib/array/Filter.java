@@ -63,13 +63,11 @@ public class Filter {
         }
         int size = arr.size();
         AtomicInteger newArraySize = new AtomicInteger(-1);
-        AtomicInteger index = new AtomicInteger(-1);
-        AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                () -> new Object[]{arr.get(index.incrementAndGet()), true},
-                result -> {
+        AsyncUtils.invokeFunctionPointerForEachItem(func, null, METADATA, size, arrType.isReadOnly(),
+                index -> new Object[]{arr.get(index), true},
+                (result, index) -> {
                     if ((boolean) result) {
-                        newArr.add(newArraySize.incrementAndGet(),
-                                arr.get(index.get()));
+                        newArr.add(newArraySize.incrementAndGet(), arr.get(index));
                     }
                 }, () -> newArr, Scheduler.getStrand().scheduler);
         return newArr;
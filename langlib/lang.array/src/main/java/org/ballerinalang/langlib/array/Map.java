@@ -32,8 +32,6 @@ import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
@@ -73,10 +71,9 @@ public class Map {
             default:
                 throw createOpNotSupportedError(arrType, "map()");
         }
-        AtomicInteger index = new AtomicInteger(-1);
-        AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                () -> new Object[]{getFn.get(arr, index.incrementAndGet()), true},
-                result -> retArr.add(index.get(), result), () -> retArr, Scheduler.getStrand().scheduler);
+        AsyncUtils.invokeFunctionPointerForEachItem(func, null, METADATA, size, arrType.isReadOnly(),
+                index -> new Object[]{getFn.get(arr, index), true},
+                (result, index) -> retArr.add(index, result), () -> retArr, Scheduler.getStrand().scheduler);
         return retArr;
     }
 }
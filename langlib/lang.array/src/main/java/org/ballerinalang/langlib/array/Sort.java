@@ -18,9 +18,12 @@
 
 package org.ballerinalang.langlib.array;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
-import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -28,6 +31,12 @@ import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import org.ballerinalang.langlib.array.utils.SortUtils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.INVALID_TYPE_TO_SORT;
@@ -36,81 +45,178 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
 
 /**
  * Native implementation of lang.array:sort((any|error)[], direction, function).
+ * <p>
+ * The arrays of ints, floats, bytes, booleans, strings and decimals without a key function are sorted on a copy of
+ * their values, and the keys of int, byte and float returning key functions are sorted with a stable radix sort.
+ * Otherwise the indices of the members are sorted with a stable merge sort, by comparing the members or their keys.
+ * The key function is called once for each member.
  *
  * @since 1.0
  */
 public class Sort {
 
+    private static final String ASCENDING = "ascending";
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(TypeUtils.getImpliedType(arr.getType()), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
-
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
-
-        if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                sortArr[i][1] = arr.get(i);
+        String sortDirection = direction.toString();
+        boolean isAscending = sortDirection.equals(ASCENDING);
+        ArrayType sortedArrayType = TypeCreator.createArrayType(arr.getElementType());
+        int size = arr.size();
+
+        if (function == null) {
+            BArray sortedArray = SortUtils.sortValues(arr, sortedArrayType, isAscending);
+            if (sortedArray != null) {
+                return sortedArray;
             }
-        } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
             }
+            return new ArrayValueImpl(sortByKeys(values, sortDirection), sortedArrayType);
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
-
-        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+        Type keyType = TypeUtils.getImpliedType(
+                ((FunctionType) TypeUtils.getImpliedType(function.getType())).getReturnType());
+        Strand strand = Scheduler.getStrand();
+        int[] order;
+        switch (keyType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.BYTE_TAG:
+                long[] intKeys = new long[size];
+                for (int i = 0; i < size; i++) {
+                    intKeys[i] = ((Number) function.call(new Object[]{strand, arr.get(i), true})).longValue();
+                }
+                order = SortUtils.sortByIntKeys(intKeys, isAscending);
+                break;
+            case TypeTags.FLOAT_TAG:
+                double[] floatKeys = new double[size];
+                for (int i = 0; i < size; i++) {
+                    floatKeys[i] = (double) function.call(new Object[]{strand, arr.get(i), true});
+                }
+                order = SortUtils.sortByFloatKeys(floatKeys, isAscending);
+                break;
+            default:
+                Object[] keys = new Object[size];
+                for (int i = 0; i < size; i++) {
+                    keys[i] = function.call(new Object[]{strand, arr.get(i), true});
+                }
+                order = sortIndicesByKeys(keys, sortDirection);
+        }
+        return SortUtils.createSortedArray(arr, sortedArrayType, order);
+    }
 
-        for (int k = 0; k < sortArr.length; k++) {
-            sortedArray.add(k, sortArr[k][1]);
+    private static Object[] sortByKeys(Object[] values, String direction) {
+        int[] order = sortIndicesByKeys(values, direction);
+        Object[] sortedValues = new Object[values.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedValues[i] = values[order[i]];
         }
+        return sortedValues;
+    }
 
-        return sortedArray;
+    private static int[] sortIndicesByKeys(Object[] keys, String direction) {
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        int[] aux = new int[keys.length];
+        boolean isAscending = direction.equals(ASCENDING);
+        // runs on the common pool rather than on the scheduler threads, see SortUtils
+        if (SortUtils.isParallelSort(keys.length)) {
+            ForkJoinPool.commonPool().invoke(new ParallelMergeSort(keys, order, aux, 0, order.length - 1,
+                    direction, isAscending));
+        } else {
+            mergesort(keys, order, aux, 0, order.length - 1, direction, isAscending);
+        }
+        return order;
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
+    private static void mergesort(Object[] keys, int[] order, int[] aux, int lo, int hi, String direction,
+                                  boolean isAscending) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        mergesort(keys, order, aux, lo, mid, direction, isAscending);
+        mergesort(keys, order, aux, mid + 1, hi, direction, isAscending);
 
-        merge(input, aux, lo, mid, hi, direction);
+        merge(keys, order, aux, lo, mid, hi, direction, isAscending);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
+    /**
+     * Sorts the halves of a range in parallel, and merges them on the thread which sorted the range. The comparisons
+     * only read the keys, which are computed beforehand on the strand of the caller, hence the result is the same as
+     * the result of the sequential sort. The tasks never run Ballerina code, hence they run on the common fork join
+     * pool, the same as the parallel sorts of {@link SortUtils}.
+     */
+    private static class ParallelMergeSort extends RecursiveAction {
+
+        private static final int SEQUENTIAL_SORT_SIZE = 4096;
+
+        private final Object[] keys;
+        private final int[] order;
+        private final int[] aux;
+        private final int lo;
+        private final int hi;
+        private final String direction;
+        private final boolean isAscending;
+
+        ParallelMergeSort(Object[] keys, int[] order, int[] aux, int lo, int hi, String direction,
+                          boolean isAscending) {
+            this.keys = keys;
+            this.order = order;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.direction = direction;
+            this.isAscending = isAscending;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < SEQUENTIAL_SORT_SIZE) {
+                mergesort(keys, order, aux, lo, hi, direction, isAscending);
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new ParallelMergeSort(keys, order, aux, lo, mid, direction, isAscending),
+                    new ParallelMergeSort(keys, order, aux, mid + 1, hi, direction, isAscending));
+            merge(keys, order, aux, lo, mid, hi, direction, isAscending);
         }
+    }
 
-        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
+    private static void merge(Object[] keys, int[] order, int[] aux, int lo, int mid, int hi, String direction,
+                              boolean isAscending) {
+        System.arraycopy(order, lo, aux, lo, hi + 1 - lo);
+
+        try {
+            for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
                 if (i > mid) {
-                    index = j++;
+                    order[k] = aux[j++];
                 } else if (j > hi) {
-                    index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
-                    index = j++;
+                    order[k] = aux[i++];
+                } else if (isAscending ?
+                        ValueComparisonUtils.compareValues(keys[aux[j]], keys[aux[i]], direction) < 0 :
+                        ValueComparisonUtils.compareValues(keys[aux[i]], keys[aux[j]], direction) < 0) {
+                    order[k] = aux[j++];
                 } else {
-                    index = i++;
+                    order[k] = aux[i++];
                 }
-                input[k] = aux[index];
-
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap) error.getDetails());
             }
+        } catch (BError error) {
+            throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                    (BMap) error.getDetails());
         }
     }
 }
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array.utils;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.DecimalValueKind;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static io.ballerina.runtime.internal.scheduling.AsyncUtils.isAboveParallelThreshold;
+import static io.ballerina.runtime.internal.scheduling.Scheduler.getStrand;
+
+/**
+ * Utility functions to sort the members of arrays which are stored as primitive values, and to sort by int and float
+ * keys.
+ * <p>
+ * The sort of lang.array is stable, which only matters for the values which are equal but distinguishable. The equal
+ * ints, bytes, booleans and strings are not distinguishable, hence their arrays are sorted with the sorts of the JDK.
+ * Whereas -0.0 and +0.0 are equal but distinguishable floats, as are the decimals which only differ in their
+ * precision, and NaN is placed last in both directions. The keys are sorted with a stable LSD radix sort.
+ * <p>
+ * Large arrays are sorted in parallel on the common fork join pool, as {@link Arrays#parallelSort} does, instead of on
+ * the threads of the strand scheduler. A sort only compares values which are computed beforehand and never runs
+ * Ballerina code, hence it never yields. Whereas a strand which waits for the parts of a sort scheduled on the
+ * scheduler holds a scheduler thread, which the parts may need to run.
+ *
+ * @since 2201.8.0
+ */
+public class SortUtils {
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    private static final Comparator<BString> CODE_POINT_ORDER = SortUtils::compareCodePoints;
+    private static final Comparator<Object> DECIMAL_ORDER =
+            (lhs, rhs) -> ((DecimalValue) lhs).decimalValue().compareTo(((DecimalValue) rhs).decimalValue());
+
+    private SortUtils() {
+    }
+
+    /**
+     * Checks whether an array of the given size is sorted in parallel. An array is sorted sequentially when the
+     * scheduler of the current strand runs only one strand at a time, e.g. when its pool size is set to one.
+     *
+     * @param size size of the array
+     * @return true if the array is sorted in parallel
+     */
+    public static boolean isParallelSort(int size) {
+        return isAboveParallelThreshold(size) && getStrand().scheduler.getParallelism() > 1;
+    }
+
+    /**
+     * Sorts the members of an array which are stored as primitive values, or which are decimals.
+     *
+     * @param arr         array to sort
+     * @param sortedType  type of the sorted array
+     * @param isAscending whether the members are sorted in the ascending order
+     * @return the sorted array, or null if the members of the array are not stored as primitive values
+     */
+    public static BArray sortValues(BArray arr, ArrayType sortedType, boolean isAscending) {
+        switch (TypeUtils.getImpliedType(arr.getElementType()).getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                return new ArrayValueImpl(sortInts(arr, isAscending), sortedType);
+            case TypeTags.FLOAT_TAG:
+                return new ArrayValueImpl(sortFloats(arr, isAscending), sortedType);
+            case TypeTags.BYTE_TAG:
+                return new ArrayValueImpl(sortBytes(arr, isAscending), sortedType);
+            case TypeTags.BOOLEAN_TAG:
+                return new ArrayValueImpl(sortBooleans(arr, isAscending), sortedType);
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                return sortStrings(arr, sortedType, isAscending);
+            case TypeTags.DECIMAL_TAG:
+                return sortDecimals(arr, sortedType, isAscending);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Sorts the indices of int keys with a stable sort.
+     *
+     * @param keys        keys to sort, which are changed by the sort
+     * @param isAscending whether the keys are sorted in the ascending order
+     * @return the indices of the keys in the sorted order
+     */
+    public static int[] sortByIntKeys(long[] keys, boolean isAscending) {
+        if (!isAscending) {
+            // inverting the bits reverses the order of the keys, while the equal keys stay equal
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = ~keys[i];
+            }
+        }
+        return radixSort(keys);
+    }
+
+    /**
+     * Sorts the indices of float keys with a stable sort, where NaN is placed last in both directions.
+     *
+     * @param keys        keys to sort
+     * @param isAscending whether the keys are sorted in the ascending order
+     * @return the indices of the keys in the sorted order
+     */
+    public static int[] sortByFloatKeys(double[] keys, boolean isAscending) {
+        long[] orderedKeys = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            double key = keys[i];
+            if (Double.isNaN(key)) {
+                orderedKeys[i] = Long.MAX_VALUE;
+                continue;
+            }
+            // -0.0 and +0.0 are equal keys
+            long bits = Double.doubleToLongBits(key == 0 ? 0.0 : key);
+            // flip the bits other than the sign of the negative floats, so that the bits are ordered as the floats
+            long orderedKey = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+            orderedKeys[i] = isAscending ? orderedKey : ~orderedKey;
+        }
+        return radixSort(orderedKeys);
+    }
+
+    /**
+     * Creates the array of the members of an array in the given order.
+     *
+     * @param arr        array to sort
+     * @param sortedType type of the sorted array
+     * @param order      indices of the members in the sorted order
+     * @return the sorted array
+     */
+    public static BArray createSortedArray(BArray arr, ArrayType sortedType, int[] order) {
+        int size = order.length;
+        switch (TypeUtils.getImpliedType(arr.getElementType()).getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                long[] ints = new long[size];
+                for (int i = 0; i < size; i++) {
+                    ints[i] = arr.getInt(order[i]);
+                }
+                return new ArrayValueImpl(ints, sortedType);
+            case TypeTags.FLOAT_TAG:
+                double[] floats = new double[size];
+                for (int i = 0; i < size; i++) {
+                    floats[i] = arr.getFloat(order[i]);
+                }
+                return new ArrayValueImpl(floats, sortedType);
+            case TypeTags.BYTE_TAG:
+                byte[] bytes = new byte[size];
+                for (int i = 0; i < size; i++) {
+                    bytes[i] = arr.getByte(order[i]);
+                }
+                return new ArrayValueImpl(bytes, sortedType);
+            case TypeTags.BOOLEAN_TAG:
+                boolean[] booleans = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    booleans[i] = arr.getBoolean(order[i]);
+                }
+                return new ArrayValueImpl(booleans, sortedType);
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                BArray strings = ValueCreator.createArrayValue(sortedType);
+                for (int i = 0; i < size; i++) {
+                    strings.add(i, arr.getBString(order[i]));
+                }
+                return strings;
+            default:
+                Object[] values = new Object[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = arr.get(order[i]);
+                }
+                return new ArrayValueImpl(values, sortedType);
+        }
+    }
+
+    private static long[] sortInts(BArray arr, boolean isAscending) {
+        long[] values = arr.getIntArray();
+        if (isParallelSort(values.length)) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+        if (!isAscending) {
+            for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+                long temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+        return values;
+    }
+
+    private static double[] sortFloats(BArray arr, boolean isAscending) {
+        double[] values = arr.getFloatArray();
+        int size = values.length;
+        // move the NaNs to the end, in their order
+        int noOfNumbers = 0;
+        for (int i = 0; i < size; i++) {
+            if (!Double.isNaN(values[i])) {
+                values[noOfNumbers++] = values[i];
+            }
+        }
+        for (int i = 0, nanIndex = noOfNumbers; nanIndex < size; i++) {
+            double value = arr.getFloat(i);
+            if (Double.isNaN(value)) {
+                values[nanIndex++] = value;
+            }
+        }
+
+        if (isParallelSort(noOfNumbers)) {
+            Arrays.parallelSort(values, 0, noOfNumbers);
+        } else {
+            Arrays.sort(values, 0, noOfNumbers);
+        }
+        if (!isAscending) {
+            for (int i = 0, j = noOfNumbers - 1; i < j; i++, j--) {
+                double temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+
+        // the sort places -0.0 before +0.0, whereas they are equal, hence the zeros are placed in their order
+        int zeroIndex = 0;
+        while (zeroIndex < noOfNumbers && values[zeroIndex] != 0) {
+            zeroIndex++;
+        }
+        for (int i = 0; i < size && zeroIndex < noOfNumbers && values[zeroIndex] == 0; i++) {
+            double value = arr.getFloat(i);
+            if (value == 0) {
+                values[zeroIndex++] = value;
+            }
+        }
+        return values;
+    }
+
+    private static byte[] sortBytes(BArray arr, boolean isAscending) {
+        int size = arr.size();
+        int[] counts = new int[RADIX];
+        for (int i = 0; i < size; i++) {
+            counts[arr.getByte(i) & RADIX_MASK]++;
+        }
+        byte[] values = new byte[size];
+        int index = 0;
+        for (int i = 0; i < RADIX; i++) {
+            int value = isAscending ? i : RADIX_MASK - i;
+            Arrays.fill(values, index, index + counts[value], (byte) value);
+            index += counts[value];
+        }
+        return values;
+    }
+
+    private static boolean[] sortBooleans(BArray arr, boolean isAscending) {
+        int size = arr.size();
+        int noOfTrues = 0;
+        for (int i = 0; i < size; i++) {
+            if (arr.getBoolean(i)) {
+                noOfTrues++;
+            }
+        }
+        boolean[] values = new boolean[size];
+        if (isAscending) {
+            Arrays.fill(values, size - noOfTrues, size, true);
+        } else {
+            Arrays.fill(values, 0, noOfTrues, true);
+        }
+        return values;
+    }
+
+    private static BArray sortStrings(BArray arr, ArrayType sortedType, boolean isAscending) {
+        int size = arr.size();
+        BString[] values = new BString[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.getBString(i);
+        }
+        Comparator<BString> order = isAscending ? CODE_POINT_ORDER : CODE_POINT_ORDER.reversed();
+        if (isParallelSort(size)) {
+            Arrays.parallelSort(values, order);
+        } else {
+            Arrays.sort(values, order);
+        }
+        BArray sortedArray = ValueCreator.createArrayValue(sortedType);
+        for (int i = 0; i < size; i++) {
+            sortedArray.add(i, values[i]);
+        }
+        return sortedArray;
+    }
+
+    private static BArray sortDecimals(BArray arr, ArrayType sortedType, boolean isAscending) {
+        int size = arr.size();
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            DecimalValue value = (DecimalValue) arr.get(i);
+            if (value.valueKind != DecimalValueKind.ZERO && value.valueKind != DecimalValueKind.OTHER) {
+                // not a real number, which is compared as lang.value does
+                return null;
+            }
+            values[i] = value;
+        }
+        // the merge sort of the JDK is stable, hence the decimals with a different precision keep their order
+        Comparator<Object> order = isAscending ? DECIMAL_ORDER : DECIMAL_ORDER.reversed();
+        if (isParallelSort(size)) {
+            Arrays.parallelSort(values, order);
+        } else {
+            Arrays.sort(values, order);
+        }
+        return new ArrayValueImpl(values, sortedType);
+    }
+
+    private static int[] radixSort(long[] keys) {
+        int size = keys.length;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] auxOrder = new int[size];
+        long[] auxKeys = new long[size];
+        int[] counts = new int[RADIX];
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (long key : keys) {
+                counts[digit(key, shift)]++;
+            }
+            if (size == 0 || counts[digit(keys[0], shift)] == size) {
+                // all the keys have the same digit
+                continue;
+            }
+            for (int digit = 0, start = 0; digit < RADIX; digit++) {
+                int count = counts[digit];
+                counts[digit] = start;
+                start += count;
+            }
+            for (int i = 0; i < size; i++) {
+                int index = counts[digit(keys[i], shift)]++;
+                auxKeys[index] = keys[i];
+                auxOrder[index] = order[i];
+            }
+            long[] sortedKeys = auxKeys;
+            auxKeys = keys;
+            keys = sortedKeys;
+            int[] sortedOrder = auxOrder;
+            auxOrder = order;
+            order = sortedOrder;
+        }
+        return order;
+    }
+
+    private static int digit(long key, int shift) {
+        // flip the sign bit, so that the negative keys are ordered before the positive keys
+        return (int) ((key ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK;
+    }
+
+    private static int compareCodePoints(BString lhs, BString rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        int length = Math.min(lhsValue.length(), rhsValue.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhsValue.charAt(i);
+            char rhsChar = rhsValue.charAt(i);
+            if (lhsChar == rhsChar) {
+                continue;
+            }
+            if (Character.isSurrogate(lhsChar) != Character.isSurrogate(rhsChar)) {
+                // a surrogate is a part of a supplementary code point, which is greater than the other code points
+                return Character.isSurrogate(lhsChar) ? 1 : -1;
+            }
+            return lhsChar - rhsChar;
+        }
+        return lhsValue.length() - rhsValue.length();
+    }
+}
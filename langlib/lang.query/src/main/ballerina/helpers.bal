@@ -255,6 +255,21 @@ function createImmutableValue(any mutableValue) = @java:Method {
     name: "createImmutableValue"
 } external;
 
+function createJoinHashTable() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinHashTable",
+    name: "createJoinHashTable"
+} external;
+
+function addFrameIndex(handle joinHashTable, any key, int frameIndex) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinHashTable",
+    name: "addFrameIndex"
+} external;
+
+function getFrameIndexes(handle joinHashTable, any key) returns int[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinHashTable",
+    name: "getFrameIndexes"
+} external;
+
 # Prepare `error` as a distinct `Error`.
 #
 # + err - `error` instance
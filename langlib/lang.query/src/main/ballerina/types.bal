@@ -340,8 +340,10 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any|error lhsKeyFunction;
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
+    _Frame? lhsFrame = ();
+    int[]? rhsCandidates = ();
+    int rhsCandidateIndex = 0;
     error? failureAtJoin = ();
-    stream<_Frame>? joinedFramesStream;
 
     function init(
             _StreamPipeline pipelineToJoin,
@@ -350,7 +352,6 @@ class _InnerJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.prevFunc = ();
-        self.joinedFramesStream = ();
 
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
@@ -359,7 +360,7 @@ class _InnerJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -373,48 +374,49 @@ class _InnerJoinFunction {
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        if (self.joinedFramesStream is ()) {
-            function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
-            _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-            _StreamFunction pf = <_StreamFunction>self.prevFunc;
-            _Frame|error? lhsFrame = pf.process();
-            _Frame[] joinedFrames = [];
-            error? failureAtJoin = self.failureAtJoin;
+        error? failureAtJoin = self.failureAtJoin;
+        if (failureAtJoin is error) {
+            fail failureAtJoin;
+        }
 
-            if (failureAtJoin is error) {
-                fail failureAtJoin;
+        function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
+        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        while true {
+            _Frame? lhsFrame = self.lhsFrame;
+            int[]? rhsCandidates = self.rhsCandidates;
+            if (lhsFrame is _Frame && rhsCandidates is int[] && self.rhsCandidateIndex < rhsCandidates.length()) {
+                // Joined frames are produced lazily, one rhs candidate at a time.
+                _Frame rhsFrame = rhsFramesMap.getFrame(rhsCandidates[self.rhsCandidateIndex]);
+                self.rhsCandidateIndex += 1;
+                _Frame joinedFrame = {...lhsFrame};
+                foreach var [k, val] in rhsFrame.entries() {
+                    joinedFrame[k] = val;
+                }
+                return joinedFrame;
             }
 
-            while (lhsFrame is _Frame) {
-                any|error lhsKFRes = lhsKF(lhsFrame);
+            _Frame|error? nextLhsFrame = pf.process();
+            if (nextLhsFrame is _Frame) {
+                any|error lhsKFRes = lhsKF(nextLhsFrame);
                 if (lhsKFRes is error) {
                     return prepareQueryBodyError(lhsKFRes);
                 }
-                string lhsKey = (lhsKFRes).toString();
-
-                _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
-                    _Frame joinedFrame = {...lhsFrame};
-                    foreach var [k, val] in rhsFrame.entries() {
-                        joinedFrame[k] = val;
-                    }
-                    joinedFrames.push(joinedFrame);
-                }
-                lhsFrame = pf.process();
+                self.lhsFrame = nextLhsFrame;
+                self.rhsCandidates = rhsFramesMap.get(lhsKFRes);
+                self.rhsCandidateIndex = 0;
+            } else {
+                self.lhsFrame = ();
+                self.rhsCandidates = ();
+                return nextLhsFrame;
             }
-            self.joinedFramesStream = joinedFrames.toStream();
         }
-        stream<_Frame> s = <stream<_Frame>>self.joinedFramesStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
-        }
-        return f;
     }
 
     public function reset() {
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
+        self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -427,7 +429,8 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any|error lhsKeyFunction;
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
+    int[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -449,7 +452,7 @@ class _OuterJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -466,11 +469,10 @@ class _OuterJoinFunction {
         function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
+        int[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
         if(failureAtJoin is error) {
             fail failureAtJoin;
@@ -486,15 +488,16 @@ class _OuterJoinFunction {
             if (lhsKFRes is error) {
                 return prepareQueryBodyError(lhsKFRes);
             }
-            lhsKey = (lhsKFRes).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKFRes);
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
-            if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
+            if (rhsCandidates is int[]) {
+                _Frame rhsFrame = rhsFramesMap.getFrame(rhsCandidates[self.rhsCandidateIndex]);
+                self.rhsCandidateIndex += 1;
+                if (self.rhsCandidateIndex < rhsCandidates.length()) {
                     self.rhsCandidates = rhsCandidates;
                 } else {
                     // Move to next lhs frame in next iteration.
@@ -523,6 +526,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -878,36 +882,29 @@ class _LimitFunction {
 
 // ---- helper types ----
 
+# Multimap from join keys to the frames having the key.
+# Keys are hashed and compared by value (deep equality) in the native join hash table,
+# which maps a key to the indexes of its frames in `frames`.
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle index;
+    _Frame[] frames = [];
 
     function init() {
-        self.m = {};
+        self.index = createJoinHashTable();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
-        }
+    function put(any k, _Frame v) {
+        self.frames.push(v);
+        addFrameIndex(self.index, k, self.frames.length() - 1);
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+    function get(any k) returns int[]? {
+        return getFrameIndexes(self.index, k);
     }
 
+    function getFrame(int i) returns _Frame {
+        return self.frames[i];
+    }
 }
 
 class IterHelper {
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash table used by the join clauses of query expressions, which maps the value of a join key to the indexes of
+ * the frames of the joined side having that key.
+ * <p>
+ * Keys are hashed and compared by their shape, using the same deep equality as the {@code ==} operator, hence there
+ * is no need to convert them to strings.
+ *
+ * @since 2201.8.0
+ */
+public class JoinHashTable {
+
+    /**
+     * Structured keys are hashed only up to this depth, deeper members are left to the equality check. This also
+     * guards against cyclic values.
+     */
+    private static final int MAX_HASH_DEPTH = 4;
+
+    private final Map<JoinKey, BArray> buckets = new HashMap<>();
+
+    public static JoinHashTable createJoinHashTable() {
+        return new JoinHashTable();
+    }
+
+    public static void addFrameIndex(JoinHashTable table, Object key, long frameIndex) {
+        BArray frameIndexes = table.buckets.computeIfAbsent(new JoinKey(key),
+                k -> ValueCreator.createArrayValue(new long[0]));
+        frameIndexes.append(frameIndex);
+    }
+
+    public static Object getFrameIndexes(JoinHashTable table, Object key) {
+        return table.buckets.get(new JoinKey(key));
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // int and byte values are equal when their numeric values are equal
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof Double) {
+            double floatValue = (Double) value;
+            // -0.0 == 0.0, and NaN values are equal
+            return floatValue == 0.0 ? 0 : Double.hashCode(floatValue);
+        }
+        if (value instanceof BDecimal) {
+            // decimals are compared by value, ignoring the precision
+            BigDecimal decimalValue = ((BDecimal) value).decimalValue();
+            return decimalValue.signum() == 0 ? 0 : decimalValue.stripTrailingZeros().hashCode();
+        }
+        if (value instanceof BString || value instanceof Boolean) {
+            return value.hashCode();
+        }
+        if (depth >= MAX_HASH_DEPTH) {
+            return 0;
+        }
+        int tag = TypeUtils.getImpliedType(TypeUtils.getType(value)).getTag();
+        switch (tag) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                // member order is not significant for mapping equality
+                int mapHash = 0;
+                for (Map.Entry<?, ?> entry : ((BMap<?, ?>) value).entrySet()) {
+                    mapHash += entry.getKey().hashCode() ^ hash(entry.getValue(), depth + 1);
+                }
+                return mapHash;
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+                BArray array = (BArray) value;
+                int arrayHash = 1;
+                for (int i = 0, size = array.size(); i < size; i++) {
+                    arrayHash = 31 * arrayHash + hash(array.get(i), depth + 1);
+                }
+                return arrayHash;
+            default:
+                // e.g. xml and table keys, equality is resolved by the deep equality check
+                return 0;
+        }
+    }
+
+    /**
+     * Wraps a join key value to be used as a hash map key.
+     */
+    private static final class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        JoinKey(Object value) {
+            this.value = value;
+            this.hash = JoinHashTable.hash(value, 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof JoinKey)) {
+                return false;
+            }
+            JoinKey other = (JoinKey) obj;
+            return hash == other.hash && TypeChecker.isEqual(value, other.value);
+        }
+    }
+}
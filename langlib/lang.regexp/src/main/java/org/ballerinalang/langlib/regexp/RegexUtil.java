@@ -27,9 +27,10 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpPatternCache;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BTupleType;
+import io.ballerina.runtime.internal.values.ConcatStringValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
@@ -60,6 +61,9 @@ public class RegexUtil {
     }
 
     static int[] getSurrogatePositions(BString str) {
+        if (str instanceof ConcatStringValue) {
+            str = ((ConcatStringValue) str).flatten();
+        }
         if (str instanceof NonBmpStringValue) {
             return ((NonBmpStringValue) str).getSurrogates();
         }
@@ -79,10 +83,7 @@ public class RegexUtil {
     }
 
     static Matcher getMatcher(BRegexpValue regexpVal, String inputStr) {
-        // Map the required ballerina regexp constructs to java.
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regexpVal);
-        String patternStr = StringUtils.getStringValue(translatedRegExpVal);
-        Pattern pattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
+        Pattern pattern = RegExpPatternCache.getPattern((RegExpValue) regexpVal);
         return pattern.matcher(inputStr);
     }
 
@@ -28,8 +28,6 @@ import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static org.ballerinalang.util.BLangCompilerConstants.TABLE_VERSION;
@@ -56,13 +54,12 @@ public class Filter {
                 ValueCreator.createTableValue(TypeCreator.createTableType(tableType.getConstrainedType(),
                         tableType.getFieldNames(), false));
         int size = tbl.size();
-        AtomicInteger index = new AtomicInteger(-1);
         Object[] keys = tbl.getKeys();
-        AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                () -> new Object[]{tbl.get(keys[index.incrementAndGet()]), true},
-                result -> {
+        AsyncUtils.invokeFunctionPointerForEachItem(func, null, METADATA, size, tableType.isReadOnly(),
+                index -> new Object[]{tbl.get(keys[index]), true},
+                (result, index) -> {
                     if ((Boolean) result) {
-                        Object key = keys[index.get()];
+                        Object key = keys[index];
                         Object value = tbl.get(key);
                         newTable.put(key, value);
                     }
@@ -31,8 +31,6 @@ import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static org.ballerinalang.util.BLangCompilerConstants.TABLE_VERSION;
@@ -56,10 +54,9 @@ public class Map {
         BTable newTable = ValueCreator.createTableValue(newTableType);
         int size = tbl.size();
         Object[] tableValues = tbl.values().toArray();
-        AtomicInteger index = new AtomicInteger(-1);
-        AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                () -> new Object[]{tableValues[index.incrementAndGet()], true}, newTable::add, () -> newTable,
-                Scheduler.getStrand().scheduler);
+        AsyncUtils.invokeFunctionPointerForEachItem(func, null, METADATA, size, tblType.isReadOnly(),
+                index -> new Object[]{tableValues[index], true}, (result, index) -> newTable.add(result),
+                () -> newTable, Scheduler.getStrand().scheduler);
         return newTable;
     }
 }
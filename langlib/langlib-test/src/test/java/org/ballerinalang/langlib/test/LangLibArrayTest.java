@@ -600,7 +600,11 @@ public class LangLibArrayTest {
                 "testModificationWithinEvery",
                 "testArrSortWithNamedArgs1",
                 "testArrSortWithNamedArgs2",
-                "testArrSortWithNamedArgs3"
+                "testArrSortWithNamedArgs3",
+                "testHigherOrderFunctionsWithNonYieldingLambdas",
+                "testHigherOrderFunctionsInParallel",
+                "testSortPrimitiveArrays",
+                "testSortWithPrimitiveKeys"
         };
     }
 }
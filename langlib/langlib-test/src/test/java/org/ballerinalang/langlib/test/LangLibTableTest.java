@@ -585,6 +585,11 @@ public class LangLibTableTest {
         };
     }
 
+    @Test
+    public void testMapAndFilterOfLargeTables() {
+        BRunUtil.invoke(compileResult, "testMapAndFilterOfLargeTables");
+    }
+
     @Test
     public void testTableIterationAfterPut() {
         BRunUtil.invoke(compileResult, "testTableIterationAfterPut1");
@@ -1788,3 +1788,152 @@ function testPushWithErrorConstructorExpr() {
     assertTrue(e is Error);
     assertValueEquality("e2", e.message());
 }
+
+function testHigherOrderFunctionsWithNonYieldingLambdas() {
+    int[] arr = [];
+    foreach int i in 0 ..< 1000 {
+        arr.push(i);
+    }
+
+    int[] doubled = arr.map(x => x * 2);
+    assertValueEquality(1000, doubled.length());
+    assertValueEquality(1998, doubled[999]);
+
+    int[] even = arr.filter(x => x % 2 == 0);
+    assertValueEquality(500, even.length());
+    assertValueEquality(998, even[499]);
+
+    int sum = arr.reduce(function(int total, int x) returns int => total + x, 0);
+    assertValueEquality(499500, sum);
+
+    int count = 0;
+    arr.forEach(function(int x) {
+        count += 1;
+    });
+    assertValueEquality(1000, count);
+
+    // calls a function of another module, hence is called on a new strand
+    string[] strs = arr.map(x => x.toString());
+    assertValueEquality("999", strs[999]);
+
+    int[]|error res = trap arr.map(x => 10 / (x - 500));
+    assertTrue(res is error);
+    assertValueEquality("{ballerina}DivisionByZero", (<error>res).message());
+}
+
+function testHigherOrderFunctionsInParallel() {
+    int[] arr = [];
+    foreach int i in 0 ..< 50000 {
+        arr.push(i);
+    }
+
+    int[] doubled = arr.map(isolated function(int x) returns int => x * 2);
+    assertValueEquality(50000, doubled.length());
+    foreach int i in 0 ..< 50000 {
+        if doubled[i] != i * 2 {
+            panic error("unexpected value at " + i.toString());
+        }
+    }
+
+    int[] even = arr.filter(isolated function(int x) returns boolean => x % 2 == 0);
+    assertValueEquality(25000, even.length());
+    assertValueEquality(0, even[0]);
+    assertValueEquality(49998, even[24999]);
+
+    int[] sorted = arr.sort(array:DESCENDING, isolated function(int x) returns int => x % 1000);
+    assertValueEquality(50000, sorted.length());
+    // the sort is stable, hence the items with the same key keep their order
+    assertValueEquality([999, 1999, 2999], sorted.slice(0, 3));
+    assertValueEquality([49000], sorted.slice(49999));
+
+    int[]|error res = trap arr.map(isolated function(int x) returns int => 10 / (x % 20000 - 15000));
+    assertTrue(res is error);
+    assertValueEquality("{ballerina}DivisionByZero", (<error>res).message());
+
+    // the function mutates its argument, which is the same map for all the items, hence it is not run in parallel
+    map<int> counter = {count: 0};
+    map<int>[] counters = [];
+    foreach int i in 0 ..< 50000 {
+        counters.push(counter);
+    }
+    int[] counts = counters.map(isolated function(map<int> m) returns int {
+        int count = (m["count"] ?: 0) + 1;
+        m["count"] = count;
+        return count;
+    });
+    assertValueEquality(50000, counter["count"]);
+    foreach int i in 0 ..< 50000 {
+        if counts[i] != i + 1 {
+            panic error("unexpected value at " + i.toString());
+        }
+    }
+
+    map<int> failingCounter = {count: 0};
+    counter["count"] = 1;
+    map<int>[] failingCounters = [];
+    foreach int i in 0 ..< 50000 {
+        failingCounters.push(i == 20000 ? failingCounter : counter);
+    }
+    int[]|error failedCounts = trap failingCounters.map(isolated function(map<int> m) returns int {
+        int count = m["count"] ?: 0;
+        int result = 100 / count;
+        m["count"] = count + 1;
+        return result;
+    });
+    assertTrue(failedCounts is error);
+    assertValueEquality("{ballerina}DivisionByZero", (<error>failedCounts).message());
+    // the items after the item the function panicked for are not evaluated
+    assertValueEquality(20001, counter["count"]);
+}
+
+function testSortPrimitiveArrays() {
+    int[] ints = [4, -1, 9223372036854775807, 0, -9223372036854775807 - 1, 4];
+    assertValueEquality([-9223372036854775807 - 1, -1, 0, 4, 4, 9223372036854775807], ints.sort());
+    assertValueEquality([9223372036854775807, 4, 4, 0, -1, -9223372036854775807 - 1], ints.sort(array:DESCENDING));
+
+    float[] floats = [1.5, float:NaN, -0.0, 0.0, -2.0, float:Infinity];
+    float[] sortedFloats = floats.sort();
+    assertValueEquality([-2.0, -0.0, 0.0, 1.5, float:Infinity], sortedFloats.slice(0, 5));
+    assertTrue(sortedFloats[5].isNaN());
+    // -0.0 and 0.0 are equal, hence they keep their order
+    assertTrue(1.0 / sortedFloats[1] < 0.0);
+    assertTrue(1.0 / sortedFloats[2] > 0.0);
+    sortedFloats = floats.sort(array:DESCENDING);
+    assertValueEquality([float:Infinity, 1.5, -0.0, 0.0, -2.0], sortedFloats.slice(0, 5));
+    assertTrue(sortedFloats[5].isNaN());
+
+    byte[] bytes = [200, 3, 255, 0, 3];
+    assertValueEquality([0, 3, 3, 200, 255], bytes.sort());
+    assertValueEquality([255, 200, 3, 3, 0], bytes.sort(array:DESCENDING));
+
+    boolean[] booleans = [true, false, true];
+    assertValueEquality([false, true, true], booleans.sort());
+
+    string[] strs = ["b", "\u{1F600}", "\u{FFFF}", "a", "ab"];
+    assertValueEquality(["a", "ab", "b", "\u{FFFF}", "\u{1F600}"], strs.sort());
+    assertValueEquality(["\u{1F600}", "\u{FFFF}", "b", "ab", "a"], strs.sort(array:DESCENDING));
+
+    decimal[] decimals = [2.50, 1, 2.5, -3];
+    decimal[] sortedDecimals = decimals.sort();
+    assertValueEquality([-3d, 1d, 2.50d, 2.5d], sortedDecimals);
+    // 2.50 and 2.5 are equal, hence they keep their order
+    assertValueEquality("2.50", sortedDecimals[2].toString());
+    assertValueEquality("2.5", sortedDecimals[3].toString());
+}
+
+function testSortWithPrimitiveKeys() {
+    string[] strs = ["ccc", "a", "bb", "d", "ee"];
+    assertValueEquality(["a", "d", "bb", "ee", "ccc"], strs.sort(array:ASCENDING, s => s.length()));
+    assertValueEquality(["ccc", "bb", "ee", "a", "d"], strs.sort(array:DESCENDING, s => s.length()));
+
+    int[] ints = [3, -1, 2, -4, 0];
+    isolated function (int) returns float square = isolated function(int x) returns float => <float>(x * x);
+    assertValueEquality([0, -1, 2, 3, -4], ints.sort(array:ASCENDING, square));
+    float[] floats = [2.0, float:NaN, -1.0, 0.5];
+    float[] sortedFloats = floats.sort(array:DESCENDING, isolated function(float x) returns float => x);
+    assertValueEquality([2.0, 0.5, -1.0], sortedFloats.slice(0, 3));
+    assertTrue(sortedFloats[3].isNaN());
+
+    byte[] bytes = [1, 2, 3, 4];
+    assertValueEquality([2, 4, 1, 3], bytes.sort(array:ASCENDING, isolated function(byte b) returns byte => b & 1));
+}
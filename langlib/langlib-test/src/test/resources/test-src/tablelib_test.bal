@@ -1328,6 +1328,55 @@ function testTableIterationAfterPut4() {
     assertEquals(length, 218);
 }
 
+type Item record {|
+    readonly int id;
+    int value;
+|};
+
+type ItemId record {|
+    int id;
+|};
+
+function testMapAndFilterOfLargeTables() {
+    table<Item> key(id) items = table [];
+    foreach int i in 0 ..< 50000 {
+        items.add({id: i, value: i * 2});
+    }
+
+    // the items of an immutable table cannot be mutated, hence they may be processed in parallel
+    readonly & table<Item> key(id) immutableItems = items.cloneReadOnly();
+    table<ItemId> ids = immutableItems.map(isolated function(Item item) returns ItemId => {id: item.id * 2});
+    ItemId[] idArray = ids.toArray();
+    assertEquals(50000, idArray.length());
+    foreach int i in 0 ..< 50000 {
+        if idArray[i].id != i * 2 {
+            panic error("unexpected value at " + i.toString());
+        }
+    }
+
+    table<Item> key<int> evenItems = immutableItems.filter(isolated function(Item item) returns boolean =>
+        item.id % 2 == 0);
+    assertEquals(25000, evenItems.length());
+    assertEquals({id: 0, value: 0}, evenItems.get(0));
+    assertEquals({id: 49998, value: 99996}, evenItems.get(49998));
+    assertFalse(evenItems.hasKey(1));
+
+    isolated function (Item) returns boolean failingFilter =
+        isolated function(Item item) returns boolean => 10 / (item.id - 30000) > 0;
+    table<Item> key<int>|error failedItems = trap immutableItems.filter(failingFilter);
+    assertTrue(failedItems is error);
+    assertEquals("{ballerina}DivisionByZero", (<error>failedItems).message());
+
+    // the function mutates the items, hence they are processed in order
+    table<Item> key<int> oddItems = items.filter(isolated function(Item item) returns boolean {
+        item.value += 1;
+        return item.id % 2 == 1;
+    });
+    assertEquals(25000, oddItems.length());
+    assertEquals({id: 0, value: 1}, items.get(0));
+    assertEquals({id: 49999, value: 99999}, oddItems.get(49999));
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(boolean actual) {
@@ -23,11 +23,15 @@ import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.Snapshot;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An implementation of {@link Gauge}.
+ * <p>
+ * Updates are lock-free, the gauge value is updated atomically and the resulting value is recorded in striped
+ * histograms, which are merged when a snapshot is taken.
  *
  * @since 0.980.0
  */
@@ -38,7 +42,10 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     private final LongAdder count = new LongAdder();
     private final DoubleAdder sum = new DoubleAdder();
-    private final DoubleAdder value = new DoubleAdder();
+    /**
+     * Bits of the current gauge value, which are updated atomically to record the value resulting from each update.
+     */
+    private final AtomicLong valueBits = new AtomicLong(Double.doubleToRawLongBits(0D));
     private final RollingHistogram[] rollingHistograms;
 
     private DefaultGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
@@ -66,36 +73,35 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
         }
     }
 
+    private double addAndGetValue(double amount) {
+        long currentBits;
+        double newValue;
+        do {
+            currentBits = valueBits.get();
+            newValue = Double.longBitsToDouble(currentBits) + amount;
+        } while (!valueBits.compareAndSet(currentBits, Double.doubleToRawLongBits(newValue)));
+        return newValue;
+    }
+
     @Override
     public void increment(double amount) {
-        synchronized (this) {
-            value.add(amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGetValue(amount));
     }
 
     @Override
     public void decrement(double amount) {
-        synchronized (this) {
-            value.add(-amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGetValue(-amount));
     }
 
     @Override
     public void setValue(double value) {
-        synchronized (this) {
-            this.value.reset();
-            this.value.add(value);
-            updateHistogram(value);
-        }
+        valueBits.set(Double.doubleToRawLongBits(value));
+        updateHistogram(value);
     }
 
     @Override
     public double getValue() {
-        synchronized (this) {
-            return value.sum();
-        }
+        return Double.longBitsToDouble(valueBits.get());
     }
 
     @Override
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import org.HdrHistogram.DoubleHistogram;
+import org.HdrHistogram.DoubleRecorder;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link DoubleRecorder} split into stripes, so that threads recording concurrently do not contend on the same
+ * recorder. Each thread records into the stripe selected by its id and the stripes are merged when the interval
+ * histogram is taken. Stripes are created lazily, hence only the stripes used by the recording threads take memory.
+ *
+ * @since 2201.8.0
+ */
+class StripedDoubleRecorder {
+
+    private static final int MAX_STRIPES = 16;
+    static final int STRIPES = Math.min(MAX_STRIPES,
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+
+    private final int numberOfSignificantValueDigits;
+    private final AtomicReferenceArray<DoubleRecorder> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    /**
+     * Histogram reused when merging the interval histograms of the stripes.
+     */
+    private final DoubleHistogram stripeIntervalHistogram;
+
+    StripedDoubleRecorder(int numberOfSignificantValueDigits) {
+        this.numberOfSignificantValueDigits = numberOfSignificantValueDigits;
+        this.stripeIntervalHistogram = new DoubleHistogram(numberOfSignificantValueDigits);
+    }
+
+    void recordValue(double value) {
+        int index = (int) (Thread.currentThread().getId() & (STRIPES - 1));
+        DoubleRecorder recorder = stripes.get(index);
+        if (recorder == null) {
+            recorder = new DoubleRecorder(numberOfSignificantValueDigits);
+            if (!stripes.compareAndSet(index, null, recorder)) {
+                recorder = stripes.get(index);
+            }
+        }
+        recorder.recordValue(value);
+    }
+
+    void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            DoubleRecorder recorder = stripes.get(i);
+            if (recorder != null) {
+                recorder.reset();
+            }
+        }
+    }
+
+    /**
+     * Merges the values recorded by all the stripes since the last call into the given histogram. Callers must not
+     * call this concurrently.
+     *
+     * @param targetHistogram histogram to be replaced with the recorded values
+     */
+    void getIntervalHistogramInto(DoubleHistogram targetHistogram) {
+        targetHistogram.reset();
+        for (int i = 0; i < STRIPES; i++) {
+            DoubleRecorder recorder = stripes.get(i);
+            if (recorder != null) {
+                recorder.getIntervalHistogramInto(stripeIntervalHistogram);
+                targetHistogram.add(stripeIntervalHistogram);
+            }
+        }
+    }
+}
@@ -20,12 +20,18 @@ package org.ballerinalang.observe.metrics.extension.defaultimpl;
 import io.ballerina.runtime.observability.metrics.Gauge;
 import io.ballerina.runtime.observability.metrics.MetricRegistry;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 /**
@@ -72,4 +78,37 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testConcurrentGaugeUpdates() throws InterruptedException {
+        int recorders = 64;
+        int updatesPerRecorder = 1000;
+        Gauge gauge = Gauge.builder("test_concurrent_gauge").description("Test Gauge")
+                .summarize(StatisticConfig.DEFAULT).register(metricRegistry);
+
+        ExecutorService executor = Executors.newFixedThreadPool(recorders);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < recorders; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < updatesPerRecorder; j++) {
+                    gauge.increment(1D);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // every update records a distinct resulting value from 1 to n
+        long n = (long) recorders * updatesPerRecorder;
+        Assert.assertEquals(gauge.getValue(), (double) n);
+        Assert.assertEquals(gauge.getCount(), n);
+        Assert.assertEquals(gauge.getSum(), n * (n + 1) / 2D);
+        Snapshot snapshot = gauge.getSnapshots()[0];
+        Assert.assertEquals(snapshot.getMin(), 1D, 0.01);
+        Assert.assertEquals(snapshot.getMax(), n, n * 0.01);
+        Assert.assertEquals(snapshot.getMean(), (n + 1) / 2D, n * 0.01);
+    }
+
 }
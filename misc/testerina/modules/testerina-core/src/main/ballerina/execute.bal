@@ -54,11 +54,138 @@ public function startSuite() returns int {
 }
 
 function executeTests() {
+    // tests share the state of the before each and after each functions, hence they cannot run in parallel
+    if parallelWorkers > 1 && beforeEachRegistry.getFunctions().length() == 0
+            && afterEachRegistry.getFunctions().length() == 0 {
+        executeTestsInParallel();
+        return;
+    }
     foreach TestFunction testFunction in testRegistry.getFunctions() {
         executeTest(testFunction);
     }
 }
 
+function executeTestsInParallel() {
+    ParallelTest[] runningTests = [];
+    foreach TestFunction testFunction in testRegistry.getFunctions() {
+        if canExecuteInParallel(testFunction) {
+            startParallelTest(testFunction, runningTests);
+        } else {
+            // complete the running tests first, so that the results are reported in the order of the tests
+            completeParallelTests(runningTests, 0);
+            executeTest(testFunction);
+        }
+    }
+    completeParallelTests(runningTests, 0);
+}
+
+function canExecuteInParallel(TestFunction testFunction) returns boolean {
+    if !testFunction.enabled || testFunction.skip || shouldSkip || testFunction.diagnostics is error
+            || testFunction.dependents.length() > 0 {
+        return false;
+    }
+    function executableFunction = testFunction.executableFunction;
+    function? before = testFunction.before;
+    function? after = testFunction.after;
+    if executableFunction !is isolated function || (before !is () && before !is isolated function)
+            || (after !is () && after !is isolated function) {
+        return false;
+    }
+    foreach string 'group in testFunction.groups {
+        if beforeGroupsRegistry.getFunctions('group) !is () || afterGroupsRegistry.getFunctions('group) !is () {
+            return false;
+        }
+    }
+    return true;
+}
+
+function startParallelTest(TestFunction testFunction, ParallelTest[] runningTests) {
+    DataProviderReturnType? params = testFunction.params;
+    if params is map<AnyOrError[]> {
+        foreach [string, AnyOrError[]] entry in params.entries() {
+            if !skipDataDrivenTest(testFunction, entry[0], DATA_DRIVEN_MAP_OF_TUPLE) {
+                startParallelTestExecution(testFunction, entry[0], DATA_DRIVEN_MAP_OF_TUPLE, runningTests, entry[1]);
+            }
+        }
+    } else if params is AnyOrError[][] {
+        int i = 0;
+        foreach AnyOrError[] entry in params {
+            if !skipDataDrivenTest(testFunction, i.toString(), DATA_DRIVEN_TUPLE_OF_TUPLE) {
+                startParallelTestExecution(testFunction, i.toString(), DATA_DRIVEN_TUPLE_OF_TUPLE, runningTests,
+                    entry);
+            }
+            i += 1;
+        }
+    } else {
+        startParallelTestExecution(testFunction, "", GENERAL_TEST, runningTests);
+    }
+    testFunction.groups.forEach('group => groupStatusRegistry.incrementExecutedTest('group));
+}
+
+function startParallelTestExecution(TestFunction testFunction, string suffix, TestType testType,
+        ParallelTest[] runningTests, AnyOrError[]? params = ()) {
+    completeParallelTests(runningTests, parallelWorkers - 1);
+    future<ParallelTestResult> result = start executeParallelTest(<isolated function>testFunction.executableFunction,
+        <(isolated function)?>testFunction.before, <(isolated function)?>testFunction.after, params);
+    runningTests.push({testFunction, suffix, testType, result});
+}
+
+function completeParallelTests(ParallelTest[] runningTests, int maxRunningTests) {
+    while runningTests.length() > maxRunningTests {
+        ParallelTest parallelTest = runningTests.shift();
+        ParallelTestResult result = wait parallelTest.result;
+        reportParallelTest(parallelTest, result);
+    }
+}
+
+function reportParallelTest(ParallelTest parallelTest, ParallelTestResult result) {
+    TestFunction testFunction = parallelTest.testFunction;
+    error? beforeError = result.beforeError;
+    if beforeError is error {
+        exitCode = 1;
+        printExecutionError(error(getErrorMessage(beforeError), functionName = ""),
+            "before test function for the test");
+        reportData.onSkipped(name = testFunction.name, testType = getTestType(testFunction));
+        return;
+    }
+    ExecutionError|boolean output = handleTestOutput(testFunction, parallelTest.suffix, parallelTest.testType,
+        result.output);
+    if output is ExecutionError {
+        if parallelTest.testType == GENERAL_TEST {
+            reportData.onFailed(name = testFunction.name, message = output.message(), testType = GENERAL_TEST);
+        } else {
+            reportDataDrivenTestFailure(testFunction, parallelTest.suffix, parallelTest.testType, output);
+        }
+    }
+    error? afterError = result.afterError;
+    if afterError is error {
+        exitCode = 1;
+        printExecutionError(error(getErrorMessage(afterError), functionName = ""),
+            "after test function for the test");
+    }
+}
+
+isolated function executeParallelTest(isolated function executableFunction, (isolated function)? before,
+        (isolated function)? after, AnyOrError[]? params) returns ParallelTestResult {
+    ParallelTestResult result = {};
+    if before is isolated function {
+        any|error beforeOutput = trap function:call(before);
+        if beforeOutput is error {
+            result.beforeError = beforeOutput;
+            return result;
+        }
+    }
+    result.output = params == () ? trap function:call(executableFunction)
+        : trap function:call(executableFunction, ...params);
+    if after is isolated function {
+        any|error afterOutput = trap function:call(after);
+        if afterOutput is error {
+            result.afterError = afterOutput;
+        }
+    }
+    return result;
+}
+
 function executeTest(TestFunction testFunction) {
     if !testFunction.enabled {
         return;
@@ -135,12 +262,16 @@ function executeDataDrivenTest(TestFunction testFunction, string suffix, TestTyp
 
     ExecutionError|boolean err = executeTestFunction(testFunction, suffix, testType, params);
     if err is ExecutionError {
-        reportData.onFailed(name = testFunction.name, suffix = suffix, message = "[fail data provider for the function " + testFunction.name
-            + "]\n" + getErrorMessage(err), testType = testType);
-        exitCode = 1;
+        reportDataDrivenTestFailure(testFunction, suffix, testType, err);
     }
 }
 
+function reportDataDrivenTestFailure(TestFunction testFunction, string suffix, TestType testType, ExecutionError err) {
+    reportData.onFailed(name = testFunction.name, suffix = suffix, message = "[fail data provider for the function " + testFunction.name
+        + "]\n" + getErrorMessage(err), testType = testType);
+    exitCode = 1;
+}
+
 function executeNonDataDrivenTest(TestFunction testFunction) returns boolean {
     boolean failed = false;
     boolean beforeFailed = executeBeforeFunction(testFunction);
@@ -337,6 +468,11 @@ function executeFunctions(TestFunction[] testFunctions, boolean skip = false) re
 function executeTestFunction(TestFunction testFunction, string suffix, TestType testType, AnyOrError[]? params = ()) returns ExecutionError|boolean {
     any|error output = params == () ? trap function:call(testFunction.executableFunction)
         : trap function:call(testFunction.executableFunction, ...params);
+    return handleTestOutput(testFunction, suffix, testType, output);
+}
+
+function handleTestOutput(TestFunction testFunction, string suffix, TestType testType, any|error output)
+        returns ExecutionError|boolean {
     if output is TestError {
         exitCode = 1;
         reportData.onFailed(name = testFunction.name, suffix = suffix, message = getErrorMessage(output), testType = testType);
@@ -25,10 +25,11 @@ boolean hasFilteredTests = false;
 string targetPath = "";
 boolean terminate = false;
 boolean listGroups = false;
+int parallelWorkers = 1;
 
 public function setTestOptions(string inTargetPath, string inPackageName, string inModuleName, string inReport,
         string inCoverage, string inGroups, string inDisableGroups, string inTests, string inRerunFailed,
-        string inListGroups) {
+        string inListGroups, string inParallelWorkers) {
     targetPath = inTargetPath;
     packageName = inPackageName;
     moduleName = inModuleName;
@@ -38,6 +39,7 @@ public function setTestOptions(string inTargetPath, string inPackageName, string
     boolean testReport = parseBooleanInput(inReport, "test-report");
     boolean codeCoverage = parseBooleanInput(inCoverage, "code-coverage");
     listGroups = parseBooleanInput(inListGroups, "list-groups");
+    parallelWorkers = parseIntegerInput(inParallelWorkers, "workers");
 
     if rerunFailed {
         error? err = parseRerunJson();
@@ -96,6 +98,16 @@ function parseBooleanInput(string input, string variableName) returns boolean {
     return booleanVariable;
 }
 
+function parseIntegerInput(string input, string variableName) returns int {
+    int|error intVariable = int:fromString(input);
+    if intVariable is error {
+        println(string `Invalid '${variableName}' parameter: ${intVariable.message()}`);
+        terminate = true;
+        return 1;
+    }
+    return intVariable;
+}
+
 function parseRerunJson() returns error? {
     string rerunJsonFilePath = targetPath + "/" + RERUN_JSON_FILE;
 
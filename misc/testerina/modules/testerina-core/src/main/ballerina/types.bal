@@ -24,6 +24,20 @@ public type TestError distinct error;
 
 type ExecutionError distinct error<record {|string functionName;|}>;
 
+# The result of a test executed in parallel, which is reported once the tests before it are reported.
+type ParallelTestResult record {|
+    error? beforeError = ();
+    AnyOrError output = ();
+    error? afterError = ();
+|};
+
+type ParallelTest record {|
+    TestFunction testFunction;
+    string suffix;
+    TestType testType;
+    future<ParallelTestResult> result;
+|};
+
 type ModuleRerunJson record {|
     string[] testNames;
     map<string?> testModuleNames;
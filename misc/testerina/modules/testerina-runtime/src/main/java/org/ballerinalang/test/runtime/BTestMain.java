@@ -55,6 +55,7 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -103,6 +104,7 @@ public class BTestMain {
                         new TypeToken<Map<String, TestSuite>>() { }.getType());
 
                 if (!testSuiteMap.isEmpty()) {
+                    Map<String, Integer> moduleExitStatuses = new LinkedHashMap<>();
                     for (Map.Entry<String, TestSuite> entry : testSuiteMap.entrySet()) {
                         String moduleName = entry.getKey();
                         TestSuite testSuite = entry.getValue();
@@ -133,7 +135,10 @@ public class BTestMain {
                         result = startTestSuit(Paths.get(testSuite.getSourceRootPath()), testSuite, classLoader,
                                 testArgs);
                         exitStatus = (result == 1) ? result : exitStatus;
+                        moduleExitStatuses.put(moduleName, result);
                     }
+                    writeExitStatusesToJsonFile(moduleExitStatuses,
+                            testCache.resolve(TesterinaConstants.MODULE_EXIT_STATUS_FILE));
                 } else {
                     exitStatus = 1;
                 }
@@ -168,6 +173,14 @@ public class BTestMain {
         }
     }
 
+    // the exit status of each module covers the failures of its setup and teardown functions as well as its tests
+    private static void writeExitStatusesToJsonFile(Map<String, Integer> moduleExitStatuses, Path jsonPath)
+            throws IOException {
+        try (Writer writer = Files.newBufferedWriter(jsonPath, StandardCharsets.UTF_8)) {
+            writer.write(new Gson().toJson(moduleExitStatuses));
+        }
+    }
+
     public static List<URL> getURLList(List<String> jarFilePaths) {
         List<URL> urlList = new ArrayList<>();
 
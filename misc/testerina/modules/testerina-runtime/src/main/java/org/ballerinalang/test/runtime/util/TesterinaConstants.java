@@ -69,6 +69,7 @@ public class TesterinaConstants {
     public static final String COVERAGE_DIR = "coverage";
     public static final String JACOCO_INSTRUMENTED_DIR = "instrumented";
     public static final String STATUS_FILE = "module_status.json";
+    public static final String MODULE_EXIT_STATUS_FILE = "module_exit_status.json";
     public static final String COVERAGE_FILE = "module_coverage.json";
     public static final String RESULTS_JSON_FILE = "test_results.json";
     public static final String RERUN_TEST_JSON_FILE = "rerun_test.json";
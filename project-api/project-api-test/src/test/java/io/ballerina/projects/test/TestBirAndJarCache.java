@@ -42,6 +42,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -106,6 +107,43 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests that the BIR of a module is not cached when writing its jar to the cache fails")
+    public void testBirNotCachedWhenJarCachingFails() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        // fail writing the jar of the second module, while the jars of the later modules may still be written
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath, 1);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+
+        Package currentPackage = project.currentPackage();
+        PackageCompilation pkgCompilation = currentPackage.getCompilation();
+        try {
+            JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_17);
+            Assert.fail("expected caching the jar of the second module to fail");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Failed to write library: "), e.getMessage());
+        }
+
+        TestCompilationCache testCompilationCache = testCompCacheFactory.compilationCache();
+        Assert.assertEquals(testCompilationCache.cachedJars.size(), 1);
+        Assert.assertNotNull(testCompilationCache.failedJar);
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            String jarName = getThinJarFileName(module.descriptor().org(), module.moduleName().toString(),
+                    module.descriptor().version());
+            // the BIR of a module is cached only if its jar is cached
+            Assert.assertEquals(testCompilationCache.cachedBirs.contains(module.moduleName().toString()),
+                    testCompilationCache.cachedJars.contains(jarName), jarName);
+        }
+        try (Stream<Path> pathStream = Files.find(cacheDirPath, 100, (path, fileAttributes) ->
+                path.getFileName().toString().endsWith(".bir"))) {
+            Assert.assertEquals(pathStream.count(), 1);
+        }
+    }
+
     @Test
     public void testCachingWhenCodeGenHasErrors() throws IOException {
         Path projectPath = RESOURCE_DIRECTORY.resolve("project_with_nonexisting_interop");
@@ -128,14 +166,20 @@ public class TestBirAndJarCache {
     private static class TestCompilationCacheFactory implements CompilationCacheFactory {
         private TestCompilationCache compilationCache;
         private final Path cacheDirPath;
+        private final int failingJarIndex;
 
         TestCompilationCacheFactory(Path cacheDirPath) {
+            this(cacheDirPath, -1);
+        }
+
+        TestCompilationCacheFactory(Path cacheDirPath, int failingJarIndex) {
             this.cacheDirPath = cacheDirPath;
+            this.failingJarIndex = failingJarIndex;
         }
 
         @Override
         public CompilationCache createCompilationCache(Project project) {
-            compilationCache = new TestCompilationCache(project, cacheDirPath);
+            compilationCache = new TestCompilationCache(project, cacheDirPath, failingJarIndex);
             return compilationCache;
         }
 
@@ -150,14 +194,20 @@ public class TestBirAndJarCache {
     private static class TestCompilationCache extends FileSystemCache {
         public int birCachedCount;
         public int jarCachedCount;
+        public final List<String> cachedBirs = new ArrayList<>();
+        public final List<String> cachedJars = new ArrayList<>();
+        public String failedJar;
+        private final int failingJarIndex;
 
-        public TestCompilationCache(Project project, Path cacheDirPath) {
+        public TestCompilationCache(Project project, Path cacheDirPath, int failingJarIndex) {
             super(project, cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME));
+            this.failingJarIndex = failingJarIndex;
         }
 
         @Override
         public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
             super.cacheBir(moduleName, birContent);
+            cachedBirs.add(moduleName.toString());
             birCachedCount++;
         }
 
@@ -165,7 +215,12 @@ public class TestBirAndJarCache {
         public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                  String libraryName,
                                                  ByteArrayOutputStream libraryContent) {
+            if (jarCachedCount == failingJarIndex) {
+                failedJar = libraryName;
+                throw new RuntimeException("Failed to write library: " + libraryName);
+            }
             super.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+            cachedJars.add(libraryName);
             jarCachedCount++;
         }
     }
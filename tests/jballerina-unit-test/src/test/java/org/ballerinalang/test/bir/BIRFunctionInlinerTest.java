@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.NullBackend;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRFunctionInliner;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Test cases for the {@link BIRFunctionInliner}.
+ *
+ * @since 2201.8.0
+ */
+public class BIRFunctionInlinerTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/bir/bir_inliner.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testInlinedCalls() {
+        BRunUtil.invoke(result, "testInlinedCalls");
+        Assert.assertEquals(getCalledFunctions("testInlinedCalls"),
+                List.of("assertEquality", "assertEquality", "assertEquality"));
+    }
+
+    @Test
+    public void testCallsNotInlined() {
+        BRunUtil.invoke(result, "testCallsNotInlined");
+        Assert.assertEquals(getCalledFunctions("testCallsNotInlined"), List.of("fib", "assertEquality"));
+        Assert.assertEquals(getCalledFunctions("fib"), List.of("fib", "fib"));
+    }
+
+    @Test
+    public void testCallsThatCanPanicNotInlined() {
+        BRunUtil.invoke(result, "testCallsThatCanPanicNotInlined");
+        Assert.assertEquals(getCalledFunctions("testCallsThatCanPanicNotInlined"),
+                List.of("add", "assertEquality", "getFirst", "assertEquality"));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina\\}NumberOverflow .*\n\tat bir_inliner:add\\(" +
+                    "bir_inliner.bal:49\\)\n\t   bir_inliner:testOverflowInCallee\\(bir_inliner.bal:85\\)")
+    public void testOverflowInCalleeReportedInCallee() {
+        BRunUtil.invoke(result, "testOverflowInCallee");
+    }
+
+    @Test(expectedExceptions = RuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina/lang.array\\}IndexOutOfRange .*\n\tat " +
+                    "bir_inliner:getFirst\\(bir_inliner.bal:53\\)\n\t   " +
+                    "bir_inliner:testIndexOutOfRangeInCallee\\(bir_inliner.bal:89\\)")
+    public void testIndexOutOfRangeInCalleeReportedInCallee() {
+        BRunUtil.invoke(result, "testIndexOutOfRangeInCallee");
+    }
+
+    @Test
+    public void testInlinedInstructionsKeepCalleePositions() {
+        BIRNode.BIRFunction function = getFunction(getBIRPackage(result), "testInlinedCalls");
+        Set<Integer> arithmeticLines = new HashSet<>();
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.kind == InstructionKind.MUL || instruction.kind == InstructionKind.DIV) {
+                    arithmeticLines.add(instruction.pos.lineRange().startLine().line() + 1);
+                }
+            }
+        }
+        // the arithmetic of the inlined 'scale' and 'half' functions
+        Assert.assertEquals(arithmeticLines, Set.of(25, 29));
+    }
+
+    @Test
+    public void testCallsNotInlinedForTests() {
+        Project project = BCompileUtil.loadProject("test-src/bir/bir_inliner_mock",
+                BuildOptions.builder().setSkipTests(false).build());
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        // the BIR of the modules is generated by a backend
+        NullBackend.from(compilation);
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+
+        // 'add' is mocked by the tests, hence it is called by 'getTotal' instead of being inlined
+        BIRNode.BIRPackage birPackage = compilation.defaultModuleBLangPackage().symbol.bir;
+        Assert.assertEquals(getCalledFunctions(getFunction(birPackage, "getTotal")), List.of("add"));
+    }
+
+    private List<String> getCalledFunctions(String functionName) {
+        return getCalledFunctions(getFunction(getBIRPackage(result), functionName));
+    }
+
+    private static BIRNode.BIRPackage getBIRPackage(CompileResult compileResult) {
+        return ((BLangPackage) compileResult.getAST()).symbol.bir;
+    }
+
+    private static BIRNode.BIRFunction getFunction(BIRNode.BIRPackage birPackage, String functionName) {
+        return birPackage.functions.stream()
+                .filter(func -> func.name.value.equals(functionName)).findFirst().orElseThrow();
+    }
+
+    private static List<String> getCalledFunctions(BIRNode.BIRFunction function) {
+        List<String> calledFunctions = new ArrayList<>();
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator instanceof BIRTerminator.Call) {
+                calledFunctions.add(((BIRTerminator.Call) basicBlock.terminator).name.value);
+            }
+        }
+        return calledFunctions;
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.LazyScope;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the functions of a compiled module, which are defined when they are first looked up.
+ *
+ * @since 2201.8.0
+ */
+public class LazySymbolLoadingTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/bir/lazy_symbol_loading.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testImportedFunction() {
+        BRunUtil.invoke(result, "testImportedFunction");
+    }
+
+    @Test
+    public void testUnusedFunctionLookup() {
+        Scope scope = getImportedModule().scope;
+        Assert.assertTrue(scope instanceof LazyScope);
+        LazyScope lazyScope = (LazyScope) scope;
+        Name name = new Name("toHexString");
+
+        // the compilation only looks up the functions which are referred to
+        Assert.assertTrue(lazyScope.isDefined(new Name("abs")));
+        Assert.assertFalse(lazyScope.isDefined(name));
+        Assert.assertFalse(scope.definedEntries().containsKey(name));
+        Assert.assertTrue(scope.definedEntries().containsKey(new Name("abs")));
+
+        Scope.ScopeEntry entry = scope.lookup(name);
+        Assert.assertTrue(entry.symbol instanceof BInvokableSymbol);
+        BInvokableSymbol functionSymbol = (BInvokableSymbol) entry.symbol;
+        Assert.assertEquals(functionSymbol.name.value, "toHexString");
+        Assert.assertEquals(functionSymbol.params.size(), 1);
+        Assert.assertSame(functionSymbol.owner, getImportedModule());
+        Assert.assertTrue(lazyScope.isDefined(name));
+    }
+
+    @Test(dependsOnMethods = "testUnusedFunctionLookup")
+    public void testAllFunctionsDefinedOnIteration() {
+        Scope scope = getImportedModule().scope;
+        for (Scope.ScopeEntry entry : scope.entries.values()) {
+            Assert.assertNotNull(entry.symbol);
+        }
+        Assert.assertSame(scope.entries.get(new Name("fromHexString")).symbol,
+                scope.lookup(new Name("fromHexString")).symbol);
+    }
+
+    @Test
+    public void testConcurrentLookup() throws Exception {
+        BPackageSymbol symbol = getImportedModule();
+        Name name = new Name("lazySymbol");
+        LazyScope scope = new LazyScope(null);
+        CountDownLatch definerStarted = new CountDownLatch(1);
+        scope.defineLazily(name, () -> {
+            definerStarted.countDown();
+            try {
+                // keep the symbol undefined while the other thread looks it up
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scope.define(name, symbol);
+        });
+
+        CompletableFuture<Scope.ScopeEntry> firstLookup = CompletableFuture.supplyAsync(() -> scope.lookup(name));
+        Assert.assertTrue(definerStarted.await(10, TimeUnit.SECONDS));
+        Assert.assertSame(scope.lookup(name).symbol, symbol);
+        Assert.assertSame(firstLookup.get(10, TimeUnit.SECONDS).symbol, symbol);
+    }
+
+    @Test
+    public void testCrossScopeLookupWithSharedLock() throws Exception {
+        BPackageSymbol symbol = getImportedModule();
+        Object definitionLock = new Object();
+        LazyScope firstScope = new LazyScope(null, definitionLock);
+        LazyScope secondScope = new LazyScope(null, definitionLock);
+        Name firstName = new Name("firstSymbol");
+        Name secondName = new Name("secondSymbol");
+        CountDownLatch definersStarted = new CountDownLatch(2);
+        // each definer looks up the symbol of the other scope, which would deadlock with a lock per scope
+        firstScope.defineLazily(firstName, () -> {
+            awaitDefiners(definersStarted);
+            secondScope.lookup(secondName);
+            firstScope.define(firstName, symbol);
+        });
+        secondScope.defineLazily(secondName, () -> {
+            awaitDefiners(definersStarted);
+            firstScope.lookup(firstName);
+            secondScope.define(secondName, symbol);
+        });
+
+        CompletableFuture<Scope.ScopeEntry> firstLookup =
+                CompletableFuture.supplyAsync(() -> firstScope.lookup(firstName));
+        CompletableFuture<Scope.ScopeEntry> secondLookup =
+                CompletableFuture.supplyAsync(() -> secondScope.lookup(secondName));
+        Assert.assertSame(firstLookup.get(10, TimeUnit.SECONDS).symbol, symbol);
+        Assert.assertSame(secondLookup.get(10, TimeUnit.SECONDS).symbol, symbol);
+    }
+
+    private static void awaitDefiners(CountDownLatch definersStarted) {
+        definersStarted.countDown();
+        try {
+            // only one definer runs at a time, hence the other never starts while this one waits
+            definersStarted.await(200, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BPackageSymbol getImportedModule() {
+        return ((BLangPackage) result.getAST()).getImports().get(0).symbol;
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
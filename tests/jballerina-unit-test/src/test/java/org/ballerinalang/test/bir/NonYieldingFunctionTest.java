@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.NullBackend;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.codegen.NonYieldingFunctionAnalyzer;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+/**
+ * Test cases for the code generated for the functions found by the {@link NonYieldingFunctionAnalyzer}.
+ *
+ * @since 2201.8.0
+ */
+public class NonYieldingFunctionTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/bir/non_yielding_functions.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testNonYieldingFunctions() {
+        BRunUtil.invoke(result, "testNonYieldingFunctions");
+        NonYieldingFunctionAnalyzer analyzer = analyze();
+        for (String functionName : new String[]{"fib", "sumTo", "isEven", "isOdd", "divide"}) {
+            Assert.assertTrue(analyzer.isNonYielding(getFunction(functionName)), functionName);
+        }
+    }
+
+    @Test
+    public void testYieldingFunctions() {
+        BRunUtil.invoke(result, "testYieldingFunctions");
+        NonYieldingFunctionAnalyzer analyzer = analyze();
+        for (String functionName : new String[]{"fibInStrand", "callsYieldingFunction", "lengthOf"}) {
+            Assert.assertFalse(analyzer.isNonYielding(getFunction(functionName)), functionName);
+        }
+    }
+
+    @Test
+    public void testNoNonYieldingFunctionsForTests() {
+        Project project = BCompileUtil.loadProject("test-src/bir/bir_inliner_mock",
+                BuildOptions.builder().setSkipTests(false).build());
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        // the BIR of the modules is generated by a backend
+        NullBackend.from(compilation);
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+
+        // 'add' is mocked by the tests, hence its callers have to check whether the mock function yielded
+        BIRNode.BIRPackage birPackage = compilation.defaultModuleBLangPackage().symbol.bir;
+        NonYieldingFunctionAnalyzer analyzer = NonYieldingFunctionAnalyzer.analyze(birPackage);
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            Assert.assertFalse(analyzer.isNonYielding(function), function.name.value);
+            // the function pointers of the functions are not called directly on the strand of the caller either
+            Assert.assertFalse(analyzer.isNonYielding(birPackage.packageID, function.name.value),
+                    function.name.value);
+        }
+    }
+
+    private NonYieldingFunctionAnalyzer analyze() {
+        return NonYieldingFunctionAnalyzer.analyze(((BLangPackage) result.getAST()).symbol.bir);
+    }
+
+    private BIRNode.BIRFunction getFunction(String functionName) {
+        return ((BLangPackage) result.getAST()).symbol.bir.functions.stream()
+                .filter(func -> func.name.value.equals(functionName)).findFirst().orElseThrow();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.jvm;
+
+import io.ballerina.projects.JarLibrary;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.util.CheckClassAdapter;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Tests that the stack map frames computed for the generated classes of a module pass the bytecode verification.
+ *
+ * @since 2201.8.0
+ */
+public class FrameComputationTest {
+
+    private static final String MODULE_CLASS_PREFIX = "testorg/";
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/jvm/FrameComputationProject");
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+    }
+
+    @Test(description = "Verify the classes generated for functions with branches and error handling")
+    public void testGeneratedClassesAreVerifiable() throws IOException {
+        int verifiedClassCount = 0;
+        for (JarLibrary jarLibrary : compileResult.getJarPathRequiredForExecution()) {
+            try (JarFile jarFile = new JarFile(jarLibrary.path().toFile())) {
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    String entryName = entry.getName();
+                    if (!entryName.startsWith(MODULE_CLASS_PREFIX) || !entryName.endsWith(".class")) {
+                        continue;
+                    }
+                    try (InputStream classBytes = jarFile.getInputStream(entry)) {
+                        verify(entryName, new ClassReader(classBytes));
+                    }
+                    verifiedClassCount++;
+                }
+            }
+        }
+        // the module classes of both modules, and the classes of the records, objects and types
+        Assert.assertTrue(verifiedClassCount > 10, "verified only " + verifiedClassCount + " classes");
+    }
+
+    @Test(description = "Run the functions of which the classes are verified")
+    public void testGeneratedClassesRun() {
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "testErrorHandling"), 19L);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "testBranches").toString(),
+                "[{\"name\":\"student95\",\"score\":95,\"grade\":\"A\"}," +
+                        "{\"name\":\"student81\",\"score\":81,\"grade\":\"B\"}," +
+                        "{\"name\":\"student67\",\"score\":67,\"grade\":\"C\"}," +
+                        "{\"name\":\"student12\",\"score\":12,\"grade\":\"F\"}]");
+    }
+
+    private void verify(String className, ClassReader classReader) {
+        StringWriter errors = new StringWriter();
+        CheckClassAdapter.verify(classReader, compileResult.getClassLoader(), false, new PrintWriter(errors));
+        Assert.assertTrue(errors.toString().isEmpty(), "verification of " + className + " failed: " + errors);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        compileResult = null;
+    }
+}
@@ -124,6 +124,11 @@ public class JoinClauseTest {
     public void testJoinClauseWithLargeList() {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
+
+    @Test(description = "Test join clause keys being compared by value rather than by their string values")
+    public void testJoinClauseKeysComparedByValue() {
+        BRunUtil.invoke(result, "testJoinClauseKeysComparedByValue");
+    }
     
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.record;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for reading the {@code int}, {@code float} and {@code boolean} fields of records without boxing them.
+ *
+ * @since 2201.8.0
+ */
+public class RecordUnboxedFieldAccessTest {
+
+    private static final String GET_UNBOXED_INT_VALUE = "getUnboxedIntValue";
+    private static final String GET_UNBOXED_FLOAT_VALUE = "getUnboxedFloatValue";
+    private static final String GET_UNBOXED_BOOLEAN_VALUE = "getUnboxedBooleanValue";
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/record/record_unboxed_field_access.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(dataProvider = "unboxedFieldAccessFunctions")
+    public void testUnboxedFieldAccess(String function) {
+        BRunUtil.invoke(result, function);
+    }
+
+    @DataProvider
+    public Object[][] unboxedFieldAccessFunctions() {
+        return new Object[][]{
+                {"testRequiredPrimitiveFields"},
+                {"testByteFieldReadAsInt"},
+                {"testOpenRecordWithRestFields"},
+                {"testLargeRecordFields"}
+        };
+    }
+
+    @Test
+    public void testRecordValueClassReadsFieldsUnboxed() {
+        Object counter = BRunUtil.invoke(result, "getCounter");
+        Set<String> methods = getDeclaredUnboxedGetMethods(counter);
+        Assert.assertEquals(methods, Set.of(GET_UNBOXED_INT_VALUE, GET_UNBOXED_FLOAT_VALUE,
+                GET_UNBOXED_BOOLEAN_VALUE));
+
+        MapValue<?, ?> value = (MapValue<?, ?>) counter;
+        Assert.assertEquals(value.getUnboxedIntValue(StringUtils.fromString("id")), 1L);
+        Assert.assertEquals(value.getUnboxedIntValue(StringUtils.fromString("count")), 2L);
+        Assert.assertEquals(value.getUnboxedFloatValue(StringUtils.fromString("ratio")), 0.5);
+        Assert.assertTrue(value.getUnboxedBooleanValue(StringUtils.fromString("active")));
+    }
+
+    @Test
+    public void testLargeRecordValueClassUsesDefaultIntRead() {
+        Object largeRecord = BRunUtil.invoke(result, "getLargeRecord");
+        // the int fields are more than a split method holds, hence they are read by the MapValueImpl default
+        Set<String> methods = getDeclaredUnboxedGetMethods(largeRecord);
+        Assert.assertEquals(methods, Set.of(GET_UNBOXED_FLOAT_VALUE, GET_UNBOXED_BOOLEAN_VALUE));
+
+        MapValue<?, ?> value = (MapValue<?, ?>) largeRecord;
+        Assert.assertEquals(value.getUnboxedIntValue(StringUtils.fromString("f500")), 500L);
+        Assert.assertEquals(value.getUnboxedFloatValue(StringUtils.fromString("ratio")), 0.25);
+    }
+
+    @Test
+    public void testMapValueImplUnboxedGet() {
+        MapValueImpl<BString, Object> map = (MapValueImpl<BString, Object>) ValueCreator.createMapValue();
+        map.put(StringUtils.fromString("id"), 7L);
+        // a byte is stored as an Integer
+        map.put(StringUtils.fromString("flag"), 255);
+        map.put(StringUtils.fromString("ratio"), 1.5);
+        map.put(StringUtils.fromString("active"), true);
+
+        Assert.assertEquals(map.getClass(), MapValueImpl.class);
+        Assert.assertEquals(map.getUnboxedIntValue(StringUtils.fromString("id")), 7L);
+        Assert.assertEquals(map.getUnboxedIntValue(StringUtils.fromString("flag")), 255L);
+        Assert.assertEquals(map.getUnboxedFloatValue(StringUtils.fromString("ratio")), 1.5);
+        Assert.assertTrue(map.getUnboxedBooleanValue(StringUtils.fromString("active")));
+    }
+
+    private static Set<String> getDeclaredUnboxedGetMethods(Object value) {
+        Assert.assertNotEquals(value.getClass(), MapValueImpl.class);
+        return Arrays.stream(value.getClass().getDeclaredMethods())
+                .map(Method::getName)
+                .filter(name -> name.equals(GET_UNBOXED_INT_VALUE) || name.equals(GET_UNBOXED_FLOAT_VALUE) ||
+                        name.equals(GET_UNBOXED_BOOLEAN_VALUE))
+                .collect(Collectors.toSet());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -17,14 +17,20 @@
  */
 package org.ballerinalang.test.record;
 
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.types.BRecordType;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
 import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Set;
+
 /**
  * Test cases for recursive record type.
  */
@@ -52,10 +58,22 @@ public class RecursiveRecordTypeTest {
                 "testRecursiveRecordWithRestType",
                 "testRecursiveRecordWithOptionalType",
                 "testRecursiveRecordWithReadOnlyType",
-                "testRecursiveRecordEquality"
+                "testRecursiveRecordEquality",
+                "testMutuallyRecursiveRecordsAccessedConcurrently"
         };
     }
 
+    @Test
+    public void testRecordTypePopulatedOnFirstAccess() {
+        BTypedesc typedesc = (BTypedesc) BRunUtil.invoke(compileResult, "getLazilyPopulatedRecordType");
+        BRecordType recordType = (BRecordType) TypeUtils.getReferredType(typedesc.getDescribingType());
+        // the type is created with the module, while its members are not used until now
+        Assert.assertFalse(recordType.isPopulated());
+
+        Assert.assertEquals(recordType.getFields().keySet(), Set.of("id", "next"));
+        Assert.assertTrue(recordType.isPopulated());
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
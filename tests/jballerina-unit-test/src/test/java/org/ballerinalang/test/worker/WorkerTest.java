@@ -331,6 +331,17 @@ public class WorkerTest {
         BRunUtil.invoke(result, "testWorkerInteractionsAfterCheck");
     }
 
+    @Test
+    public void testAsyncSendsAcrossQueueSegments() {
+        BRunUtil.invoke(result, "testAsyncSendsAcrossQueueSegments");
+    }
+
+    @Test
+    public void testAsyncAndSyncSendsToWorker() {
+        Object returns = BRunUtil.invoke(result, "testAsyncAndSyncSendsToWorker");
+        Assert.assertEquals(returns, 30L);
+    }
+
     @Test
     public void testWorkerInsideLock() {
         CompileResult result = BCompileUtil.compile("test-src/workers/worker-in-lock.bal");
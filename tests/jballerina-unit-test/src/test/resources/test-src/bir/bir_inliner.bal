@@ -0,0 +1,98 @@
+// Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Point record {|
+    int x;
+    int y;
+|};
+
+boolean flag = false;
+
+function scale(float a, float b) returns float {
+    return a * b;
+}
+
+function half(float a) returns float {
+    return a / 2.0;
+}
+
+function getX(Point p) returns int {
+    return p.x;
+}
+
+function toOptional(int a) returns int? {
+    return a;
+}
+
+function isPositive(int a) returns boolean {
+    return a > 0;
+}
+
+function setFlag() {
+    flag = true;
+}
+
+function add(int a, int b) returns int {
+    return a + b;
+}
+
+function getFirst(int[] values) returns int {
+    return values[0];
+}
+
+function fib(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function testInlinedCalls() {
+    Point p = {x: 3, y: 4};
+    int? x = toOptional(getX(p));
+    setFlag();
+    assertEquality(true, flag);
+    assertEquality(true, isPositive(<int>x));
+
+    float f = scale(1.5, 4.0);
+    f = half(scale(f, f));
+    assertEquality(18.0, f);
+}
+
+function testCallsNotInlined() {
+    assertEquality(55, fib(10));
+}
+
+function testCallsThatCanPanicNotInlined() {
+    assertEquality(3, add(1, 2));
+    assertEquality(1, getFirst([1, 2]));
+}
+
+function testOverflowInCallee() {
+    _ = add(int:MAX_VALUE, 1);
+}
+
+function testIndexOutOfRangeInCallee() {
+    _ = getFirst([]);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("AssertionError", message = "expected '" + expected.toString() + "', found '" + actual.toString()
+        + "'");
+}
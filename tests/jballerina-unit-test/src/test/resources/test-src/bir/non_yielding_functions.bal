@@ -0,0 +1,81 @@
+// Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function fib(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function sumTo(int n) returns int {
+    int sum = 0;
+    int i = 0;
+    while i < n {
+        sum += i;
+        i += 1;
+    }
+    return sum;
+}
+
+function isEven(int n) returns boolean {
+    return n == 0 ? true : isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    return n == 0 ? false : isEven(n - 1);
+}
+
+function divide(int a, int b) returns int {
+    return a / b;
+}
+
+function fibInStrand(int n) returns int {
+    future<int> f = start fib(n);
+    int|error result = wait f;
+    return result is int ? result : -1;
+}
+
+function callsYieldingFunction(int n) returns int {
+    return fibInStrand(n) + sumTo(n);
+}
+
+function lengthOf(string s) returns int {
+    return s.length();
+}
+
+function testNonYieldingFunctions() {
+    assertEquality(55, fib(10));
+    assertEquality(45, sumTo(10));
+    assertEquality(true, isEven(10));
+    assertEquality(false, isOdd(10));
+
+    int|error result = trap divide(1, 0);
+    assertEquality(true, result is error);
+}
+
+function testYieldingFunctions() {
+    assertEquality(100, callsYieldingFunction(10));
+    assertEquality(5, lengthOf("hello"));
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("AssertionError", message = "expected '" + expected.toString() + "', found '" + actual.toString()
+        + "'");
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import testorg/framecomputation.shapes;
+
+type Grade "A"|"B"|"C"|"F";
+
+type Result record {|
+    string name;
+    int score;
+    Grade grade;
+|};
+
+public function testBranches() returns Result[] {
+    Result[] results = [];
+    foreach int score in [95, 81, 67, 12, -1] {
+        if score < 0 {
+            continue;
+        }
+        results.push({name: string `student${score}`, score, grade: toGrade(score)});
+    }
+    return results;
+}
+
+function toGrade(int score) returns Grade {
+    if score >= 90 {
+        return "A";
+    } else if score >= 75 {
+        return "B";
+    } else if score >= 50 {
+        return "C";
+    }
+    return "F";
+}
+
+function describe(any value) returns string {
+    match value {
+        0 => {
+            return "zero";
+        }
+        var [first, second] => {
+            return string `pair of ${first.toString()} and ${second.toString()}`;
+        }
+        var {name} => {
+            return string `named ${name.toString()}`;
+        }
+        _ => {
+            int count = 0;
+            while true {
+                count += 1;
+                if count > 3 {
+                    break;
+                }
+            }
+            return value is string ? value : "other";
+        }
+    }
+}
+
+public function testShapes() returns float {
+    shapes:Shape[] shapeList = [new shapes:Circle(1.5), new shapes:Rectangle(2, 3), new shapes:Rectangle(-1, 3)];
+    float total = 0;
+    foreach shapes:Shape shape in shapeList {
+        float|error area = shape.area();
+        total += area is float ? area : 0;
+    }
+    return total;
+}
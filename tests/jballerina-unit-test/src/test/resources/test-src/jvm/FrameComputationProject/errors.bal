@@ -0,0 +1,63 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type ParseError distinct error<record {| string input; |}>;
+
+function parse(string input) returns int|ParseError {
+    int|error value = int:fromString(input);
+    if value is error {
+        return error ParseError("invalid input", input = input);
+    }
+    return value;
+}
+
+public function testErrorHandling() returns int {
+    int total = 0;
+    foreach string input in ["1", "x", "20", "300"] {
+        do {
+            int value = check parse(input);
+            if value > 100 {
+                fail error("too large");
+            }
+            total += value;
+        } on fail error e {
+            total -= e is ParseError ? 1 : 2;
+        }
+    }
+    return total + trapDivision(10, 0) + trapDivision(10, 5);
+}
+
+function trapDivision(int dividend, int divisor) returns int {
+    int|error result = trap dividend / divisor;
+    if result is error {
+        return -1;
+    }
+    return result;
+}
+
+function retry(function () returns int|error operation) returns int|error {
+    error? lastError = ();
+    int attempts = 0;
+    while attempts < 3 {
+        attempts += 1;
+        int|error result = operation();
+        if result is int {
+            return result;
+        }
+        lastError = result;
+    }
+    return error("failed after retries", lastError);
+}
@@ -0,0 +1,61 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public type Shape object {
+    public function area() returns float|error;
+};
+
+public class Circle {
+    *Shape;
+    private final float radius;
+
+    public function init(float radius) {
+        self.radius = radius;
+    }
+
+    public function area() returns float|error {
+        if self.radius < 0.0 {
+            return error("negative radius");
+        }
+        return 3.14159 * self.radius * self.radius;
+    }
+}
+
+public class Rectangle {
+    *Shape;
+    private final int width;
+    private final int height;
+
+    public function init(int width, int height) {
+        self.width = width;
+        self.height = height;
+    }
+
+    public function area() returns float|error {
+        int|error area = trap self.checkedArea();
+        if area is error {
+            return area;
+        }
+        return <float>area;
+    }
+
+    private function checkedArea() returns int {
+        if self.width < 0 || self.height < 0 {
+            panic error("negative side");
+        }
+        return self.width * self.height;
+    }
+}
@@ -527,6 +527,28 @@ function getCommonList(string character) returns int {
     return commonList.length();
 }
 
+public function testJoinClauseKeysComparedByValue() {
+    anydata[] lhsKeys = [1, "1", 1.0d, {a: 1, b: 2}, [1, 2], ()];
+    anydata[] rhsKeys = ["1", 1.00d, {b: 2, a: 1}, [1, 2], 2, -0.0, ""];
+
+    anydata[][] joined = from anydata a in lhsKeys
+            join anydata b in rhsKeys on a equals b
+            select [a, b];
+    assertEquality(4, joined.length());
+    assertEquality(["1", "1"], joined[0]);
+    assertEquality([1.0d, 1.00d], joined[1]);
+    assertEquality([{a: 1, b: 2}, {b: 2, a: 1}], joined[2]);
+    assertEquality([[1, 2], [1, 2]], joined[3]);
+
+    anydata[][] outerJoined = from anydata a in lhsKeys
+            outer join var b in rhsKeys on a equals b
+            select [a, b];
+    assertEquality(6, outerJoined.length());
+    assertEquality([1, ()], outerJoined[0]);
+    assertEquality(["1", "1"], outerJoined[1]);
+    assertEquality([(), ()], outerJoined[5]);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {
@@ -0,0 +1,1143 @@
+// Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Counter record {|
+    int id;
+    int:Signed32 count;
+    float ratio;
+    boolean active;
+    string name;
+|};
+
+type ByteCounter record {|
+    byte id;
+    int:Signed32 count;
+    float ratio;
+    boolean active;
+    string name;
+|};
+
+type OpenCounter record {
+    int id;
+    float ratio;
+};
+
+type IntRestCounter record {|
+    int id;
+    int...;
+|};
+
+function getCounter() returns Counter => {id: 1, count: 2, ratio: 0.5, active: true, name: "first"};
+
+function testRequiredPrimitiveFields() {
+    Counter counter = getCounter();
+    int id = counter.id;
+    int:Signed32 count = counter.count;
+    float ratio = counter.ratio;
+    boolean active = counter.active;
+    assertEquality(1, id);
+    assertEquality(2, count);
+    assertEquality(0.5, ratio);
+    assertEquality(true, active);
+
+    counter.id = -9223372036854775807;
+    counter.ratio = -1.25;
+    counter.active = false;
+    assertEquality(-9223372036854775807, counter.id);
+    assertEquality(-1.25, counter.ratio);
+    assertEquality(false, counter.active);
+}
+
+function testByteFieldReadAsInt() {
+    ByteCounter byteCounter = {id: 255, count: 3, ratio: 1.5, active: false, name: "byte"};
+    // the value is of a record type whose field is a byte, which is not stored as an int
+    Counter counter = byteCounter;
+    int id = counter.id;
+    assertEquality(255, id);
+    assertEquality(3, counter.count);
+    assertEquality(1.5, counter.ratio);
+    assertEquality(false, counter.active);
+
+    int sum = 0;
+    foreach int i in 0 ..< 3 {
+        sum += counter.id + i;
+    }
+    assertEquality(768, sum);
+}
+
+function testOpenRecordWithRestFields() {
+    OpenCounter counter = {id: 1, ratio: 2.5, "count": 3, "enabled": true};
+    int id = counter.id;
+    float ratio = counter.ratio;
+    assertEquality(1, id);
+    assertEquality(2.5, ratio);
+    assertEquality(3, counter["count"]);
+    assertEquality(true, counter["enabled"]);
+
+    IntRestCounter intRest = {id: 7, "total": 10};
+    int? total = intRest["total"];
+    assertEquality(10, total);
+    record {int id;} openCounter = intRest;
+    assertEquality(7, openCounter.id);
+
+    // a required field of the static type, which is a rest field of the value
+    IntRestCounter & readonly immutable = {id: 4, "total": 6};
+    any value = immutable;
+    if value is record {| int id; int total; |} {
+        int restTotal = value.total;
+        assertEquality(10, value.id + restTotal);
+        return;
+    }
+    panic error("expected the value to belong to the record type");
+}
+
+function getLargeRecord() returns LargeRecord {
+    LargeRecord largeRecord = {
+        f0: 0,
+        f1: 1,
+        f2: 2,
+        f3: 3,
+        f4: 4,
+        f5: 5,
+        f6: 6,
+        f7: 7,
+        f8: 8,
+        f9: 9,
+        f10: 10,
+        f11: 11,
+        f12: 12,
+        f13: 13,
+        f14: 14,
+        f15: 15,
+        f16: 16,
+        f17: 17,
+        f18: 18,
+        f19: 19,
+        f20: 20,
+        f21: 21,
+        f22: 22,
+        f23: 23,
+        f24: 24,
+        f25: 25,
+        f26: 26,
+        f27: 27,
+        f28: 28,
+        f29: 29,
+        f30: 30,
+        f31: 31,
+        f32: 32,
+        f33: 33,
+        f34: 34,
+        f35: 35,
+        f36: 36,
+        f37: 37,
+        f38: 38,
+        f39: 39,
+        f40: 40,
+        f41: 41,
+        f42: 42,
+        f43: 43,
+        f44: 44,
+        f45: 45,
+        f46: 46,
+        f47: 47,
+        f48: 48,
+        f49: 49,
+        f50: 50,
+        f51: 51,
+        f52: 52,
+        f53: 53,
+        f54: 54,
+        f55: 55,
+        f56: 56,
+        f57: 57,
+        f58: 58,
+        f59: 59,
+        f60: 60,
+        f61: 61,
+        f62: 62,
+        f63: 63,
+        f64: 64,
+        f65: 65,
+        f66: 66,
+        f67: 67,
+        f68: 68,
+        f69: 69,
+        f70: 70,
+        f71: 71,
+        f72: 72,
+        f73: 73,
+        f74: 74,
+        f75: 75,
+        f76: 76,
+        f77: 77,
+        f78: 78,
+        f79: 79,
+        f80: 80,
+        f81: 81,
+        f82: 82,
+        f83: 83,
+        f84: 84,
+        f85: 85,
+        f86: 86,
+        f87: 87,
+        f88: 88,
+        f89: 89,
+        f90: 90,
+        f91: 91,
+        f92: 92,
+        f93: 93,
+        f94: 94,
+        f95: 95,
+        f96: 96,
+        f97: 97,
+        f98: 98,
+        f99: 99,
+        f100: 100,
+        f101: 101,
+        f102: 102,
+        f103: 103,
+        f104: 104,
+        f105: 105,
+        f106: 106,
+        f107: 107,
+        f108: 108,
+        f109: 109,
+        f110: 110,
+        f111: 111,
+        f112: 112,
+        f113: 113,
+        f114: 114,
+        f115: 115,
+        f116: 116,
+        f117: 117,
+        f118: 118,
+        f119: 119,
+        f120: 120,
+        f121: 121,
+        f122: 122,
+        f123: 123,
+        f124: 124,
+        f125: 125,
+        f126: 126,
+        f127: 127,
+        f128: 128,
+        f129: 129,
+        f130: 130,
+        f131: 131,
+        f132: 132,
+        f133: 133,
+        f134: 134,
+        f135: 135,
+        f136: 136,
+        f137: 137,
+        f138: 138,
+        f139: 139,
+        f140: 140,
+        f141: 141,
+        f142: 142,
+        f143: 143,
+        f144: 144,
+        f145: 145,
+        f146: 146,
+        f147: 147,
+        f148: 148,
+        f149: 149,
+        f150: 150,
+        f151: 151,
+        f152: 152,
+        f153: 153,
+        f154: 154,
+        f155: 155,
+        f156: 156,
+        f157: 157,
+        f158: 158,
+        f159: 159,
+        f160: 160,
+        f161: 161,
+        f162: 162,
+        f163: 163,
+        f164: 164,
+        f165: 165,
+        f166: 166,
+        f167: 167,
+        f168: 168,
+        f169: 169,
+        f170: 170,
+        f171: 171,
+        f172: 172,
+        f173: 173,
+        f174: 174,
+        f175: 175,
+        f176: 176,
+        f177: 177,
+        f178: 178,
+        f179: 179,
+        f180: 180,
+        f181: 181,
+        f182: 182,
+        f183: 183,
+        f184: 184,
+        f185: 185,
+        f186: 186,
+        f187: 187,
+        f188: 188,
+        f189: 189,
+        f190: 190,
+        f191: 191,
+        f192: 192,
+        f193: 193,
+        f194: 194,
+        f195: 195,
+        f196: 196,
+        f197: 197,
+        f198: 198,
+        f199: 199,
+        f200: 200,
+        f201: 201,
+        f202: 202,
+        f203: 203,
+        f204: 204,
+        f205: 205,
+        f206: 206,
+        f207: 207,
+        f208: 208,
+        f209: 209,
+        f210: 210,
+        f211: 211,
+        f212: 212,
+        f213: 213,
+        f214: 214,
+        f215: 215,
+        f216: 216,
+        f217: 217,
+        f218: 218,
+        f219: 219,
+        f220: 220,
+        f221: 221,
+        f222: 222,
+        f223: 223,
+        f224: 224,
+        f225: 225,
+        f226: 226,
+        f227: 227,
+        f228: 228,
+        f229: 229,
+        f230: 230,
+        f231: 231,
+        f232: 232,
+        f233: 233,
+        f234: 234,
+        f235: 235,
+        f236: 236,
+        f237: 237,
+        f238: 238,
+        f239: 239,
+        f240: 240,
+        f241: 241,
+        f242: 242,
+        f243: 243,
+        f244: 244,
+        f245: 245,
+        f246: 246,
+        f247: 247,
+        f248: 248,
+        f249: 249,
+        f250: 250,
+        f251: 251,
+        f252: 252,
+        f253: 253,
+        f254: 254,
+        f255: 255,
+        f256: 256,
+        f257: 257,
+        f258: 258,
+        f259: 259,
+        f260: 260,
+        f261: 261,
+        f262: 262,
+        f263: 263,
+        f264: 264,
+        f265: 265,
+        f266: 266,
+        f267: 267,
+        f268: 268,
+        f269: 269,
+        f270: 270,
+        f271: 271,
+        f272: 272,
+        f273: 273,
+        f274: 274,
+        f275: 275,
+        f276: 276,
+        f277: 277,
+        f278: 278,
+        f279: 279,
+        f280: 280,
+        f281: 281,
+        f282: 282,
+        f283: 283,
+        f284: 284,
+        f285: 285,
+        f286: 286,
+        f287: 287,
+        f288: 288,
+        f289: 289,
+        f290: 290,
+        f291: 291,
+        f292: 292,
+        f293: 293,
+        f294: 294,
+        f295: 295,
+        f296: 296,
+        f297: 297,
+        f298: 298,
+        f299: 299,
+        f300: 300,
+        f301: 301,
+        f302: 302,
+        f303: 303,
+        f304: 304,
+        f305: 305,
+        f306: 306,
+        f307: 307,
+        f308: 308,
+        f309: 309,
+        f310: 310,
+        f311: 311,
+        f312: 312,
+        f313: 313,
+        f314: 314,
+        f315: 315,
+        f316: 316,
+        f317: 317,
+        f318: 318,
+        f319: 319,
+        f320: 320,
+        f321: 321,
+        f322: 322,
+        f323: 323,
+        f324: 324,
+        f325: 325,
+        f326: 326,
+        f327: 327,
+        f328: 328,
+        f329: 329,
+        f330: 330,
+        f331: 331,
+        f332: 332,
+        f333: 333,
+        f334: 334,
+        f335: 335,
+        f336: 336,
+        f337: 337,
+        f338: 338,
+        f339: 339,
+        f340: 340,
+        f341: 341,
+        f342: 342,
+        f343: 343,
+        f344: 344,
+        f345: 345,
+        f346: 346,
+        f347: 347,
+        f348: 348,
+        f349: 349,
+        f350: 350,
+        f351: 351,
+        f352: 352,
+        f353: 353,
+        f354: 354,
+        f355: 355,
+        f356: 356,
+        f357: 357,
+        f358: 358,
+        f359: 359,
+        f360: 360,
+        f361: 361,
+        f362: 362,
+        f363: 363,
+        f364: 364,
+        f365: 365,
+        f366: 366,
+        f367: 367,
+        f368: 368,
+        f369: 369,
+        f370: 370,
+        f371: 371,
+        f372: 372,
+        f373: 373,
+        f374: 374,
+        f375: 375,
+        f376: 376,
+        f377: 377,
+        f378: 378,
+        f379: 379,
+        f380: 380,
+        f381: 381,
+        f382: 382,
+        f383: 383,
+        f384: 384,
+        f385: 385,
+        f386: 386,
+        f387: 387,
+        f388: 388,
+        f389: 389,
+        f390: 390,
+        f391: 391,
+        f392: 392,
+        f393: 393,
+        f394: 394,
+        f395: 395,
+        f396: 396,
+        f397: 397,
+        f398: 398,
+        f399: 399,
+        f400: 400,
+        f401: 401,
+        f402: 402,
+        f403: 403,
+        f404: 404,
+        f405: 405,
+        f406: 406,
+        f407: 407,
+        f408: 408,
+        f409: 409,
+        f410: 410,
+        f411: 411,
+        f412: 412,
+        f413: 413,
+        f414: 414,
+        f415: 415,
+        f416: 416,
+        f417: 417,
+        f418: 418,
+        f419: 419,
+        f420: 420,
+        f421: 421,
+        f422: 422,
+        f423: 423,
+        f424: 424,
+        f425: 425,
+        f426: 426,
+        f427: 427,
+        f428: 428,
+        f429: 429,
+        f430: 430,
+        f431: 431,
+        f432: 432,
+        f433: 433,
+        f434: 434,
+        f435: 435,
+        f436: 436,
+        f437: 437,
+        f438: 438,
+        f439: 439,
+        f440: 440,
+        f441: 441,
+        f442: 442,
+        f443: 443,
+        f444: 444,
+        f445: 445,
+        f446: 446,
+        f447: 447,
+        f448: 448,
+        f449: 449,
+        f450: 450,
+        f451: 451,
+        f452: 452,
+        f453: 453,
+        f454: 454,
+        f455: 455,
+        f456: 456,
+        f457: 457,
+        f458: 458,
+        f459: 459,
+        f460: 460,
+        f461: 461,
+        f462: 462,
+        f463: 463,
+        f464: 464,
+        f465: 465,
+        f466: 466,
+        f467: 467,
+        f468: 468,
+        f469: 469,
+        f470: 470,
+        f471: 471,
+        f472: 472,
+        f473: 473,
+        f474: 474,
+        f475: 475,
+        f476: 476,
+        f477: 477,
+        f478: 478,
+        f479: 479,
+        f480: 480,
+        f481: 481,
+        f482: 482,
+        f483: 483,
+        f484: 484,
+        f485: 485,
+        f486: 486,
+        f487: 487,
+        f488: 488,
+        f489: 489,
+        f490: 490,
+        f491: 491,
+        f492: 492,
+        f493: 493,
+        f494: 494,
+        f495: 495,
+        f496: 496,
+        f497: 497,
+        f498: 498,
+        f499: 499,
+        f500: 500,
+        ratio: 0.25,
+        active: true
+    };
+    return largeRecord;
+}
+
+function testLargeRecordFields() {
+    LargeRecord largeRecord = getLargeRecord();
+    int first = largeRecord.f0;
+    int last = largeRecord.f500;
+    float ratio = largeRecord.ratio;
+    boolean active = largeRecord.active;
+    assertEquality(0, first);
+    assertEquality(500, last);
+    assertEquality(0.25, ratio);
+    assertEquality(true, active);
+
+    largeRecord.f250 = 1000;
+    assertEquality(1000, largeRecord.f250);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error(string `expected '${expected.toString()}', found '${actual.toString()}'`);
+}
+
+// more int fields than MAX_FIELDS_PER_SPLIT_METHOD, hence it is read through the default implementation
+type LargeRecord record {|
+    int f0;
+    int f1;
+    int f2;
+    int f3;
+    int f4;
+    int f5;
+    int f6;
+    int f7;
+    int f8;
+    int f9;
+    int f10;
+    int f11;
+    int f12;
+    int f13;
+    int f14;
+    int f15;
+    int f16;
+    int f17;
+    int f18;
+    int f19;
+    int f20;
+    int f21;
+    int f22;
+    int f23;
+    int f24;
+    int f25;
+    int f26;
+    int f27;
+    int f28;
+    int f29;
+    int f30;
+    int f31;
+    int f32;
+    int f33;
+    int f34;
+    int f35;
+    int f36;
+    int f37;
+    int f38;
+    int f39;
+    int f40;
+    int f41;
+    int f42;
+    int f43;
+    int f44;
+    int f45;
+    int f46;
+    int f47;
+    int f48;
+    int f49;
+    int f50;
+    int f51;
+    int f52;
+    int f53;
+    int f54;
+    int f55;
+    int f56;
+    int f57;
+    int f58;
+    int f59;
+    int f60;
+    int f61;
+    int f62;
+    int f63;
+    int f64;
+    int f65;
+    int f66;
+    int f67;
+    int f68;
+    int f69;
+    int f70;
+    int f71;
+    int f72;
+    int f73;
+    int f74;
+    int f75;
+    int f76;
+    int f77;
+    int f78;
+    int f79;
+    int f80;
+    int f81;
+    int f82;
+    int f83;
+    int f84;
+    int f85;
+    int f86;
+    int f87;
+    int f88;
+    int f89;
+    int f90;
+    int f91;
+    int f92;
+    int f93;
+    int f94;
+    int f95;
+    int f96;
+    int f97;
+    int f98;
+    int f99;
+    int f100;
+    int f101;
+    int f102;
+    int f103;
+    int f104;
+    int f105;
+    int f106;
+    int f107;
+    int f108;
+    int f109;
+    int f110;
+    int f111;
+    int f112;
+    int f113;
+    int f114;
+    int f115;
+    int f116;
+    int f117;
+    int f118;
+    int f119;
+    int f120;
+    int f121;
+    int f122;
+    int f123;
+    int f124;
+    int f125;
+    int f126;
+    int f127;
+    int f128;
+    int f129;
+    int f130;
+    int f131;
+    int f132;
+    int f133;
+    int f134;
+    int f135;
+    int f136;
+    int f137;
+    int f138;
+    int f139;
+    int f140;
+    int f141;
+    int f142;
+    int f143;
+    int f144;
+    int f145;
+    int f146;
+    int f147;
+    int f148;
+    int f149;
+    int f150;
+    int f151;
+    int f152;
+    int f153;
+    int f154;
+    int f155;
+    int f156;
+    int f157;
+    int f158;
+    int f159;
+    int f160;
+    int f161;
+    int f162;
+    int f163;
+    int f164;
+    int f165;
+    int f166;
+    int f167;
+    int f168;
+    int f169;
+    int f170;
+    int f171;
+    int f172;
+    int f173;
+    int f174;
+    int f175;
+    int f176;
+    int f177;
+    int f178;
+    int f179;
+    int f180;
+    int f181;
+    int f182;
+    int f183;
+    int f184;
+    int f185;
+    int f186;
+    int f187;
+    int f188;
+    int f189;
+    int f190;
+    int f191;
+    int f192;
+    int f193;
+    int f194;
+    int f195;
+    int f196;
+    int f197;
+    int f198;
+    int f199;
+    int f200;
+    int f201;
+    int f202;
+    int f203;
+    int f204;
+    int f205;
+    int f206;
+    int f207;
+    int f208;
+    int f209;
+    int f210;
+    int f211;
+    int f212;
+    int f213;
+    int f214;
+    int f215;
+    int f216;
+    int f217;
+    int f218;
+    int f219;
+    int f220;
+    int f221;
+    int f222;
+    int f223;
+    int f224;
+    int f225;
+    int f226;
+    int f227;
+    int f228;
+    int f229;
+    int f230;
+    int f231;
+    int f232;
+    int f233;
+    int f234;
+    int f235;
+    int f236;
+    int f237;
+    int f238;
+    int f239;
+    int f240;
+    int f241;
+    int f242;
+    int f243;
+    int f244;
+    int f245;
+    int f246;
+    int f247;
+    int f248;
+    int f249;
+    int f250;
+    int f251;
+    int f252;
+    int f253;
+    int f254;
+    int f255;
+    int f256;
+    int f257;
+    int f258;
+    int f259;
+    int f260;
+    int f261;
+    int f262;
+    int f263;
+    int f264;
+    int f265;
+    int f266;
+    int f267;
+    int f268;
+    int f269;
+    int f270;
+    int f271;
+    int f272;
+    int f273;
+    int f274;
+    int f275;
+    int f276;
+    int f277;
+    int f278;
+    int f279;
+    int f280;
+    int f281;
+    int f282;
+    int f283;
+    int f284;
+    int f285;
+    int f286;
+    int f287;
+    int f288;
+    int f289;
+    int f290;
+    int f291;
+    int f292;
+    int f293;
+    int f294;
+    int f295;
+    int f296;
+    int f297;
+    int f298;
+    int f299;
+    int f300;
+    int f301;
+    int f302;
+    int f303;
+    int f304;
+    int f305;
+    int f306;
+    int f307;
+    int f308;
+    int f309;
+    int f310;
+    int f311;
+    int f312;
+    int f313;
+    int f314;
+    int f315;
+    int f316;
+    int f317;
+    int f318;
+    int f319;
+    int f320;
+    int f321;
+    int f322;
+    int f323;
+    int f324;
+    int f325;
+    int f326;
+    int f327;
+    int f328;
+    int f329;
+    int f330;
+    int f331;
+    int f332;
+    int f333;
+    int f334;
+    int f335;
+    int f336;
+    int f337;
+    int f338;
+    int f339;
+    int f340;
+    int f341;
+    int f342;
+    int f343;
+    int f344;
+    int f345;
+    int f346;
+    int f347;
+    int f348;
+    int f349;
+    int f350;
+    int f351;
+    int f352;
+    int f353;
+    int f354;
+    int f355;
+    int f356;
+    int f357;
+    int f358;
+    int f359;
+    int f360;
+    int f361;
+    int f362;
+    int f363;
+    int f364;
+    int f365;
+    int f366;
+    int f367;
+    int f368;
+    int f369;
+    int f370;
+    int f371;
+    int f372;
+    int f373;
+    int f374;
+    int f375;
+    int f376;
+    int f377;
+    int f378;
+    int f379;
+    int f380;
+    int f381;
+    int f382;
+    int f383;
+    int f384;
+    int f385;
+    int f386;
+    int f387;
+    int f388;
+    int f389;
+    int f390;
+    int f391;
+    int f392;
+    int f393;
+    int f394;
+    int f395;
+    int f396;
+    int f397;
+    int f398;
+    int f399;
+    int f400;
+    int f401;
+    int f402;
+    int f403;
+    int f404;
+    int f405;
+    int f406;
+    int f407;
+    int f408;
+    int f409;
+    int f410;
+    int f411;
+    int f412;
+    int f413;
+    int f414;
+    int f415;
+    int f416;
+    int f417;
+    int f418;
+    int f419;
+    int f420;
+    int f421;
+    int f422;
+    int f423;
+    int f424;
+    int f425;
+    int f426;
+    int f427;
+    int f428;
+    int f429;
+    int f430;
+    int f431;
+    int f432;
+    int f433;
+    int f434;
+    int f435;
+    int f436;
+    int f437;
+    int f438;
+    int f439;
+    int f440;
+    int f441;
+    int f442;
+    int f443;
+    int f444;
+    int f445;
+    int f446;
+    int f447;
+    int f448;
+    int f449;
+    int f450;
+    int f451;
+    int f452;
+    int f453;
+    int f454;
+    int f455;
+    int f456;
+    int f457;
+    int f458;
+    int f459;
+    int f460;
+    int f461;
+    int f462;
+    int f463;
+    int f464;
+    int f465;
+    int f466;
+    int f467;
+    int f468;
+    int f469;
+    int f470;
+    int f471;
+    int f472;
+    int f473;
+    int f474;
+    int f475;
+    int f476;
+    int f477;
+    int f478;
+    int f479;
+    int f480;
+    int f481;
+    int f482;
+    int f483;
+    int f484;
+    int f485;
+    int f486;
+    int f487;
+    int f488;
+    int f489;
+    int f490;
+    int f491;
+    int f492;
+    int f493;
+    int f494;
+    int f495;
+    int f496;
+    int f497;
+    int f498;
+    int f499;
+    int f500;
+    float ratio;
+    boolean active;
+|};
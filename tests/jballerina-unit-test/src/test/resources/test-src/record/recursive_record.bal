@@ -144,6 +144,54 @@ type RecursiveRecordWithOptionalTypeB record {|
     RecursiveRecordWithOptionalTypeB f?;
 |};
 
+type MutuallyRecursiveRecordA record {|
+    int i;
+    MutuallyRecursiveRecordB? b;
+|};
+
+type MutuallyRecursiveRecordB record {|
+    string s;
+    MutuallyRecursiveRecordA[] a;
+|};
+
+function testMutuallyRecursiveRecordsAccessedConcurrently() {
+    worker w1 returns MutuallyRecursiveRecordA|error {
+        map<anydata> value = {i: 1, b: {s: "b", a: [{i: 2, b: ()}]}};
+        return value.cloneWithType();
+    }
+
+    worker w2 returns MutuallyRecursiveRecordB|error {
+        map<anydata> value = {s: "c", a: [{i: 3, b: {s: "d", a: []}}]};
+        return value.cloneWithType();
+    }
+
+    MutuallyRecursiveRecordA a = checkpanic wait w1;
+    MutuallyRecursiveRecordB b = checkpanic wait w2;
+
+    MutuallyRecursiveRecordB? ab = a.b;
+    assertTrue(ab is MutuallyRecursiveRecordB);
+    if ab is MutuallyRecursiveRecordB {
+        assertEquality("b", ab.s);
+        assertEquality(2, ab.a[0].i);
+        assertEquality((), ab.a[0].b);
+    }
+    assertEquality("c", b.s);
+    assertEquality(3, b.a[0].i);
+    assertTrue(b.a[0].b is MutuallyRecursiveRecordB);
+
+    map<anydata> invalidValue = {i: 1, b: {s: "b", a: [{i: "2", b: ()}]}};
+    assertTrue(invalidValue.cloneWithType(MutuallyRecursiveRecordA) is error);
+}
+
+type LazilyPopulatedRecord record {|
+    int id;
+    LazilyPopulatedRecord? next;
+|};
+
+function getLazilyPopulatedRecordType() returns typedesc<LazilyPopulatedRecord> {
+    return LazilyPopulatedRecord;
+}
+
 function checkRefEquality(anydata a, anydata b) returns boolean {
     return a === b;
 }
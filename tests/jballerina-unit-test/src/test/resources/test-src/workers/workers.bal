@@ -652,6 +652,74 @@ function testWorkerInteractionsAfterCheck() {
     validateError(e, "Error");
 }
 
+function testAsyncSendsAcrossQueueSegments() {
+    @strand{thread:"any"}
+    worker w1 returns error? {
+        1 -> w2;
+        () -> w2;
+        3 -> w2;
+        4 -> w2;
+        () -> w2;
+        6 -> w2;
+        7 -> w2;
+        8 -> w2;
+        9 -> w2;
+        () -> w2;
+        11 -> w2;
+        check bar(true);
+        12 -> w2;
+    }
+
+    @strand{thread:"any"}
+    worker w2 returns int?[]|error {
+        int? v1 = <- w1;
+        int? v2 = <- w1;
+        int? v3 = <- w1;
+        int? v4 = <- w1;
+        sleep(10);
+        int? v5 = <- w1;
+        int? v6 = <- w1;
+        int? v7 = <- w1;
+        int? v8 = <- w1;
+        int? v9 = <- w1;
+        int? v10 = <- w1;
+        int? v11 = <- w1;
+        int?[] values = [v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11];
+        if values != [1, (), 3, 4, (), 6, 7, 8, 9, (), 11] {
+            panic error("Assertion error: unexpected values: " + values.toString());
+        }
+        int v12 = check <- w1;
+        values.push(v12);
+        return values;
+    }
+
+    int?[]|error values = wait w2;
+    validateError(values, "Error");
+}
+
+function testAsyncAndSyncSendsToWorker() returns int {
+    worker w1 {
+        int a = 10;
+        a -> w2;
+        error? res = a ->> w2;
+        a -> w3;
+    }
+
+    worker w2 returns int {
+        int b = <- w1;
+        int c = <- w1;
+        return b + c;
+    }
+
+    worker w3 returns int {
+        return <- w1;
+    }
+
+    int x = wait w2;
+    int y = wait w3;
+    return x + y;
+}
+
 public function sleep(int millis) = @java:Method {
     'class: "org.ballerinalang.test.utils.interop.Utils"
 } external;